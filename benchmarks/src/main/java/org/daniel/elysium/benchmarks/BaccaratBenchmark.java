@@ -0,0 +1,80 @@
+package org.daniel.elysium.benchmarks;
+
+import org.daniel.elysium.baccarat.BaccaratGameEngine;
+import org.daniel.elysium.baccarat.constants.BacHandAction;
+import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.baccarat.models.BacCard;
+import org.daniel.elysium.baccarat.models.BacHand;
+import org.daniel.elysium.baccarat.sim.BaccaratSimulator;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.models.Shoe;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the resolution of a Baccarat round, both through the game engine used by the tables
+ * and through the int tableau used by the simulator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaccaratBenchmark {
+
+    private Shoe<Card> shoe;
+
+    /**
+     * Creates an eight-deck shoe.
+     */
+    @Setup
+    public void setup() {
+        shoe = Shoe.createShoe(8, LetterDeck::new);
+    }
+
+    /**
+     * Plays a round with {@link BacHand} objects and the drawing rules of {@link BaccaratGameEngine}.
+     */
+    @Benchmark
+    public BacHand engineRound() {
+        reshuffleIfNeeded();
+        BacHand player = new BacHand();
+        BacHand banker = new BacHand();
+        player.dealCard(BacCard.of(shoe.deal()));
+        banker.dealCard(BacCard.of(shoe.deal()));
+        player.dealCard(BacCard.of(shoe.deal()));
+        banker.dealCard(BacCard.of(shoe.deal()));
+
+        BaccaratGameEngine.evaluatePlayer(banker, player);
+        if (player.getAction() == BacHandAction.DRAW) {
+            player.dealCard(BacCard.of(shoe.deal()));
+        }
+        BaccaratGameEngine.evaluateBanker(banker, player);
+        if (banker.getAction() == BacHandAction.DRAW) {
+            banker.dealCard(BacCard.of(shoe.deal()));
+        }
+        BaccaratGameEngine.evaluateHands(banker, player);
+        return player;
+    }
+
+    /**
+     * Plays a round through {@link BaccaratSimulator#playRound(Shoe)}.
+     */
+    @Benchmark
+    public BacHandType tableauRound() {
+        reshuffleIfNeeded();
+        return BaccaratSimulator.playRound(shoe);
+    }
+
+    /**
+     * Reshuffles the shoe once the cut card is reached.
+     */
+    private void reshuffleIfNeeded() {
+        if (shoe.needsReshuffle()) {
+            shoe.reshuffle();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.daniel.elysium.benchmarks;
+
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Blackjack hand value calculation, which the engine and the UI query after every card.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlackjackBenchmark {
+
+    private static final int HANDS = 1024;
+
+    private final BJPlayerHand[] hands = new BJPlayerHand[HANDS];
+    private final BJCard[][] cards = new BJCard[HANDS][];
+    private int hand;
+
+    /**
+     * Deals the fixed set of hands from a seeded shuffle, drawing each one until it stands on 17 or busts.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < HANDS; i++) {
+            List<Card> deck = new ArrayList<>(new LetterDeck().getCards());
+            Collections.shuffle(deck, random);
+
+            BJPlayerHand playerHand = new BJPlayerHand();
+            int dealt = 0;
+            while (dealt < 2 || playerHand.getHandValue() < 17) {
+                playerHand.dealCard(BJCard.of(deck.get(dealt++)));
+            }
+            hands[i] = playerHand;
+            cards[i] = playerHand.getHand().toArray(new BJCard[0]);
+        }
+    }
+
+    /**
+     * Queries the value of a finished hand.
+     */
+    @Benchmark
+    public int handValue() {
+        return hands[next()].getHandValue();
+    }
+
+    /**
+     * Builds a hand card by card, querying its value after each card as a round does.
+     */
+    @Benchmark
+    public int dealAndValue() {
+        BJPlayerHand playerHand = new BJPlayerHand();
+        int value = 0;
+        for (BJCard card : cards[next()]) {
+            playerHand.dealCard(card);
+            value = playerHand.getHandValue();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the index of the next prepared hand.
+     */
+    private int next() {
+        hand = (hand + 1) & (HANDS - 1);
+        return hand;
+    }
+}
@@ -0,0 +1,122 @@
+package org.daniel.elysium.benchmarks;
+
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.ultimateTH.model.UthCard;
+import org.daniel.elysium.ultimateTH.model.UthHand;
+import org.daniel.elysium.ultimateTH.pokerCore.PokerHandComparator;
+import org.daniel.elysium.ultimateTH.pokerCore.PokerHandEvaluator;
+import org.daniel.elysium.ultimateTH.pokerCore.PokerLookupEvaluator;
+import org.daniel.elysium.ultimateTH.pokerCore.models.PokerEvaluatedHandModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Ultimate Texas Hold'em hand evaluation and showdown comparison.
+ * <p>
+ * A fixed set of random deals is prepared up front, and each invocation evaluates the next one,
+ * so the measurement covers a realistic mix of hand combinations.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PokerBenchmark {
+
+    private static final int DEALS = 1024;
+
+    private final List<List<UthCard>> boards = new ArrayList<>();
+    private final List<UthHand> playerHands = new ArrayList<>();
+    private final List<UthHand> dealerHands = new ArrayList<>();
+    private final int[][] encodedHands = new int[DEALS][7];
+    private int deal;
+
+    /**
+     * Deals the fixed set of boards and hands from a seeded shuffle.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < DEALS; i++) {
+            List<Card> deck = new ArrayList<>(new LetterDeck().getCards());
+            Collections.shuffle(deck, random);
+
+            List<UthCard> board = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                board.add(UthCard.of(deck.get(j)));
+            }
+            UthHand player = new UthHand();
+            player.dealCard(UthCard.of(deck.get(5)));
+            player.dealCard(UthCard.of(deck.get(6)));
+            UthHand dealer = new UthHand();
+            dealer.dealCard(UthCard.of(deck.get(7)));
+            dealer.dealCard(UthCard.of(deck.get(8)));
+
+            player.setEvaluatedHand(PokerHandEvaluator.evaluateHand(board, player));
+            dealer.setEvaluatedHand(PokerHandEvaluator.evaluateHand(board, dealer));
+            for (int j = 0; j < 7; j++) {
+                encodedHands[i][j] = PokerLookupEvaluator.encode(UthCard.of(deck.get(j)));
+            }
+
+            boards.add(board);
+            playerHands.add(player);
+            dealerHands.add(dealer);
+        }
+    }
+
+    /**
+     * Evaluates seven cards into a full hand model, as the game engine does.
+     */
+    @Benchmark
+    public PokerEvaluatedHandModel evaluateHand() {
+        int i = next();
+        return PokerHandEvaluator.evaluateHand(boards.get(i), playerHands.get(i));
+    }
+
+    /**
+     * Evaluates seven int-encoded cards into a hand strength only.
+     */
+    @Benchmark
+    public int evaluateStrength() {
+        return PokerLookupEvaluator.evaluate(encodedHands[next()], 7);
+    }
+
+    /**
+     * Compares two already evaluated hands.
+     */
+    @Benchmark
+    public int compareHands() {
+        int i = next();
+        return PokerHandComparator.compareHands(playerHands.get(i).getEvaluatedHand(),
+                dealerHands.get(i).getEvaluatedHand());
+    }
+
+    /**
+     * Evaluates both hands of a deal and determines the winner.
+     */
+    @Benchmark
+    public Boolean showdown() {
+        int i = next();
+        UthHand player = playerHands.get(i);
+        UthHand dealer = dealerHands.get(i);
+        player.setEvaluatedHand(PokerHandEvaluator.evaluateHand(boards.get(i), player));
+        dealer.setEvaluatedHand(PokerHandEvaluator.evaluateHand(boards.get(i), dealer));
+        return PokerHandComparator.determineWinner(player, dealer);
+    }
+
+    /**
+     * Returns the index of the next prepared deal.
+     */
+    private int next() {
+        deal = (deal + 1) & (DEALS - 1);
+        return deal;
+    }
+}
@@ -0,0 +1,95 @@
+package org.daniel.elysium.benchmarks;
+
+import org.daniel.elysium.blackjack.BlackjackEngine;
+import org.daniel.elysium.blackjack.SettlementBatch;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks settling the hands of a full Blackjack table, one hand object at a time through
+ * {@link BlackjackEngine#resolvePlayerResult} and in one batch through {@link BlackjackEngine#settleHands}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettlementBenchmark {
+
+    private static final String[][] HANDS = {{"10", "7"}, {"10", "9"}, {"A", "K"}, {"10", "6", "K"},
+            {"9", "9"}, {"A", "7"}, {"8", "3", "10"}};
+
+    @Param({"7", "64"})
+    private int hands;
+
+    private List<BJPlayerHand> playerHands;
+    private BJDealerHand dealerHand;
+    private SettlementBatch batch;
+
+    /**
+     * Deals the player hands and a dealer 18.
+     */
+    @Setup
+    public void setup() {
+        playerHands = new ArrayList<>(hands);
+        for (int i = 0; i < hands; i++) {
+            BJPlayerHand hand = new BJPlayerHand();
+            for (String rank : HANDS[i % HANDS.length]) {
+                hand.getHand().add(new BJCard(rank, "S"));
+            }
+            playerHands.add(hand);
+        }
+        dealerHand = new BJDealerHand();
+        dealerHand.getHand().add(new BJCard("10", "H"));
+        dealerHand.getHand().add(new BJCard("8", "H"));
+        batch = new SettlementBatch(hands);
+    }
+
+    /**
+     * Resets the bets and states settled by the previous invocation.
+     */
+    @Setup(Level.Invocation)
+    public void resetBets() {
+        for (BJPlayerHand hand : playerHands) {
+            hand.setBet(10);
+        }
+    }
+
+    /**
+     * Resolves every hand object on its own.
+     */
+    @Benchmark
+    public long perHand() {
+        long returned = 0;
+        for (BJPlayerHand hand : playerHands) {
+            BlackjackEngine.resolvePlayerResult(hand, dealerHand, CompiledRules.STANDARD);
+            returned += BlackjackEngine.getReturnedAmount(hand);
+        }
+        return returned;
+    }
+
+    /**
+     * Gathers the hands into a batch and settles them in one loop.
+     */
+    @Benchmark
+    public long batch() {
+        batch.clear();
+        for (BJPlayerHand hand : playerHands) {
+            batch.add(hand);
+        }
+        batch.settle(dealerHand, CompiledRules.STANDARD);
+        long returned = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            returned += batch.getReturned(i);
+        }
+        return returned;
+    }
+}
@@ -0,0 +1,63 @@
+package org.daniel.elysium.benchmarks;
+
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.models.Shoe;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating, shuffling and dealing out shoes of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShoeBenchmark {
+
+    @Param({"1", "6", "8"})
+    private int numOfDecks;
+
+    private Shoe<Card> shoe;
+
+    /**
+     * Creates the shoe reused by the shuffle and deal benchmarks.
+     */
+    @Setup
+    public void setup() {
+        shoe = Shoe.createShoe(numOfDecks, LetterDeck::new);
+    }
+
+    /**
+     * Builds and shuffles a new shoe from fresh decks.
+     */
+    @Benchmark
+    public Shoe<Card> createShoe() {
+        return Shoe.createShoe(numOfDecks, LetterDeck::new);
+    }
+
+    /**
+     * Reshuffles an existing shoe in place.
+     */
+    @Benchmark
+    public Shoe<Card> reshuffle() {
+        shoe.reshuffle();
+        return shoe;
+    }
+
+    /**
+     * Reshuffles the shoe and deals every card up to the cut card.
+     */
+    @Benchmark
+    public Card dealToCutCard() {
+        shoe.reshuffle();
+        Card card = null;
+        while (!shoe.needsReshuffle()) {
+            card = shoe.deal();
+        }
+        return card;
+    }
+}
@@ -0,0 +1,66 @@
+package org.daniel.elysium.benchmarks;
+
+import org.daniel.elysium.user.database.DatabaseConnection;
+import org.daniel.elysium.user.database.UserDAO;
+import org.daniel.elysium.user.profile.UserProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link UserDAO} operations performed while playing: loading a profile
+ * and persisting the balance after a round.
+ * <p>
+ * The database is created in the {@code data} directory of the working directory,
+ * which the {@code jmh} task points at its own build directory.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDAOBenchmark {
+
+    private static final String USERNAME = "benchmark_user";
+
+    private final UserDAO userDAO = new UserDAO();
+    private UserProfile profile;
+    private double balance;
+
+    /**
+     * Creates the database and the user the benchmarks operate on.
+     */
+    @Setup
+    public void setup() {
+        DatabaseConnection.initializeDatabase();
+        userDAO.deleteUser(USERNAME);
+        profile = userDAO.addUser(USERNAME, "password", 1000);
+    }
+
+    /**
+     * Removes the benchmark user.
+     */
+    @TearDown
+    public void tearDown() {
+        userDAO.deleteUser(USERNAME);
+    }
+
+    /**
+     * Loads the user's profile.
+     */
+    @Benchmark
+    public UserProfile getUser() {
+        return userDAO.getUserByUsername(USERNAME);
+    }
+
+    /**
+     * Persists a new balance.
+     */
+    @Benchmark
+    public UserProfile updateBalance() {
+        userDAO.updateBalance(profile, USERNAME, ++balance);
+        return profile;
+    }
+}
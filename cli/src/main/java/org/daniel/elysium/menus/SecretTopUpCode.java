@@ -2,6 +2,7 @@ package org.daniel.elysium.menus;
 
 import org.daniel.elysium.debugUtils.DebugPrint;
 import org.daniel.elysium.interfaces.MenuOptionCLI;
+import org.daniel.elysium.user.ledger.BalanceEventType;
 import org.daniel.elysium.user.profile.UserProfile;
 
 /**
@@ -23,7 +24,7 @@ public class SecretTopUpCode implements MenuOptionCLI {
     @Override
     public void start(UserProfile profile) {
         DebugPrint.println("Secret code entered successfully, balance increased by 10,000");
-        profile.increaseBalanceBy(10000);
+        profile.increaseBalanceBy(10000, BalanceEventType.TOP_UP);
         DebugPrint.println("Your new balance is: " + profile.getBalance());
     }
 
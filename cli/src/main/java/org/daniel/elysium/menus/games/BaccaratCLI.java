@@ -34,7 +34,7 @@ public class BaccaratCLI implements MenuOptionCLI {
 
     private UserProfile profile = null;
     private final Scanner scanner;
-    private List<Card> cards;
+    private Shoe<Card> shoe;
     private final String encoding;
 
     /**
@@ -61,20 +61,18 @@ public class BaccaratCLI implements MenuOptionCLI {
         this.profile = profile;
         CmdHelper.clearCMD();
 
-        Shoe<Card> shoe;
         if ("UTF-8".equalsIgnoreCase(encoding)){
             shoe = Shoe.createShoe(6, SymbolicDeck::new);
         } else {
             shoe = Shoe.createShoe(6, LetterDeck::new);
         }
-        cards = shoe.cards();
 
         DebugPrint.println("Welcome to Baccarat!");
         DebugPrint.println("Current balance: " + profile.getBalance());
         DebugPrint.println();
 
         while (true) {
-            if (isShoeEmpty(cards)) break;
+            if (isShoeEmpty()) break;
 
             int numberOfHands = getNumberOfHands();
             if (numberOfHands == 0) break;
@@ -307,11 +305,10 @@ public class BaccaratCLI implements MenuOptionCLI {
     /**
      * Checks if the shoe has enough cards for gameplay.
      *
-     * @param cards the deck of remaining cards
-     * @return true if the shoe has less than 15 cards, false otherwise
+     * @return true if the cut card has been reached, false otherwise
      */
-    private boolean isShoeEmpty(List<Card> cards) {
-        if (cards.size() < 15) {
+    private boolean isShoeEmpty() {
+        if (shoe.needsReshuffle()) {
             DebugPrint.println("Shoe ended, please start a new game");
             return true;
         }
@@ -324,7 +321,7 @@ public class BaccaratCLI implements MenuOptionCLI {
      * @return the next card as a {@code BacCard}
      */
     private BacCard getCardFromShoe() {
-        Card card = cards.remove(0);
-        return new BacCard(card.getRank(), card.getSuit());
+        Card card = shoe.deal();
+        return BacCard.of(card);
     }
 }
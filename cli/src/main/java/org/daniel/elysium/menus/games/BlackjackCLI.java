@@ -1,11 +1,15 @@
 package org.daniel.elysium.menus.games;
 
 import org.daniel.elysium.blackjack.BlackjackEngine;
+import org.daniel.elysium.blackjack.constants.BJAction;
 import org.daniel.elysium.blackjack.constants.BJHandState;
 import org.daniel.elysium.blackjack.models.BJCard;
 import org.daniel.elysium.blackjack.models.BJDealerHand;
 import org.daniel.elysium.blackjack.models.BJHand;
 import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+import org.daniel.elysium.blackjack.strategy.StrategyTable;
 import org.daniel.elysium.cliUtils.CmdHelper;
 import org.daniel.elysium.debugUtils.DebugPrint;
 import org.daniel.elysium.interfaces.MenuOptionCLI;
@@ -20,6 +24,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -36,8 +41,9 @@ public class BlackjackCLI implements MenuOptionCLI {
 
     private UserProfile profile = null;
     private final Scanner scanner;
-    private List<Card> cards;
+    private Shoe<Card> shoe;
     private final String encoding;
+    private CompletableFuture<StrategyTable> strategy;
 
     /**
      * Initializes the Blackjack CLI with a new Scanner instance.
@@ -63,20 +69,20 @@ public class BlackjackCLI implements MenuOptionCLI {
         this.profile = profile;
         CmdHelper.clearCMD();
 
-        Shoe<Card> shoe;
         if ("UTF-8".equalsIgnoreCase(encoding)){
             shoe = Shoe.createShoe(4, SymbolicDeck::new);
         } else {
             shoe = Shoe.createShoe(4, LetterDeck::new);
         }
-        cards = shoe.cards();
+        // Read or compute the basic strategy for hints while the player bets
+        strategy = StrategyTable.load(BlackjackRules.STANDARD.withDecks(4));
 
         DebugPrint.println("Welcome to BlackJack!");
         DebugPrint.println("Current balance: " + profile.getBalance());
         DebugPrint.println();
 
         while (true) {
-            if (isShoeEmpty(cards)) break;
+            if (isShoeEmpty()) break;
 
             int numberOfHands = getNumberOfHands();
             if (numberOfHands == 0) break;
@@ -387,13 +393,13 @@ public class BlackjackCLI implements MenuOptionCLI {
      *
      * @param hand  the player's hand
      * @param index the index of the player's hand
-     * @return the chosen action (1 = Hit, 2 = Stand, 3 = Double Down, 4 = Split)
+     * @return the chosen action (1 = Hit, 2 = Stand, 3 = Double Down, 4 = Split, 5 = Hint)
      */
     private int getPlayerActionChoice(BJPlayerHand hand, int index) {
         DebugPrint.print("Hand" + (index + 1) + ": (1) Hit, (2) Stand");
         if (hand.getHand().size() <= 2 && isValidBet(hand.getBet(), profile.getBalance())) DebugPrint.print(", (3) Double Down");
         if (hand.isSplittable() && isValidBet(hand.getBet(), profile.getBalance())) DebugPrint.print(", (4) Split");
-        DebugPrint.print("?: ");
+        DebugPrint.print(", (5) Hint?: ");
         return scanner.nextInt();
     }
 
@@ -427,11 +433,37 @@ public class BlackjackCLI implements MenuOptionCLI {
                     return true;
                 }
             }
-            default -> DebugPrint.println("Invalid choice. Please choose 1, 2, 3, or 4.");
+            case 5 -> showHint(hand, gameHands);
+            default -> DebugPrint.println("Invalid choice. Please choose 1, 2, 3, 4, or 5.");
         }
         return false;
     }
 
+    /**
+     * Prints the basic strategy play for a hand among the actions currently offered.
+     *
+     * @param hand      the player's hand
+     * @param gameHands the list of all hands in play, the dealer's last
+     */
+    private void showHint(BJPlayerHand hand, List<BJHand> gameHands) {
+        int options = CompiledRules.mask(BJAction.HIT) | CompiledRules.mask(BJAction.STAND);
+        if (hand.getHand().size() <= 2 && isValidBet(hand.getBet(), profile.getBalance())) {
+            options |= CompiledRules.mask(BJAction.DOUBLE);
+        }
+        if (hand.isSplittable() && isValidBet(hand.getBet(), profile.getBalance())) {
+            options |= CompiledRules.mask(BJAction.SPLIT);
+        }
+
+        BJCard upCard = gameHands.get(gameHands.size() - 1).getHand().get(0);
+        BJAction advice = strategy.join().getAction(hand, upCard, options);
+        DebugPrint.println("Basic strategy: " + switch (advice) {
+            case HIT -> "Hit";
+            case DOUBLE -> "Double Down";
+            case SPLIT -> "Split";
+            default -> "Stand";
+        });
+    }
+
     /**
      * Handles the player's decision to double down.
      * <p>
@@ -622,11 +654,10 @@ public class BlackjackCLI implements MenuOptionCLI {
     /**
      * Checks if the shoe has enough cards for gameplay.
      *
-     * @param cards the deck of remaining cards
-     * @return true if the shoe has less than 15 cards, false otherwise
+     * @return true if the cut card has been reached, false otherwise
      */
-    private boolean isShoeEmpty(List<Card> cards) {
-        if (cards.size() < 15) {
+    private boolean isShoeEmpty() {
+        if (shoe.needsReshuffle()) {
             DebugPrint.println("Shoe ended, please start a new game");
             return true;
         }
@@ -639,8 +670,8 @@ public class BlackjackCLI implements MenuOptionCLI {
      * @return the next card as a {@code BJCard}
      */
     private BJCard getCardFromShoe() {
-        Card card = cards.remove(0);
-        return new BJCard(card.getRank(), card.getSuit());
+        Card card = shoe.deal();
+        return BJCard.of(card);
     }
 
     /**
@@ -649,8 +680,8 @@ public class BlackjackCLI implements MenuOptionCLI {
      * @return the next card as a {@code BJCard}
      */
     private BJCard peekCardFromShoe() {
-        Card card = cards.get(0);
-        return new BJCard(card.getRank(), card.getSuit());
+        Card card = shoe.peek();
+        return BJCard.of(card);
     }
 
     /**
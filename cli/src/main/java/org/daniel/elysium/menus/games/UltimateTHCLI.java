@@ -7,6 +7,7 @@ import org.daniel.elysium.models.Card;
 import org.daniel.elysium.models.LetterDeck;
 import org.daniel.elysium.models.Shoe;
 import org.daniel.elysium.models.SymbolicDeck;
+import org.daniel.elysium.ultimateTH.UthEquityCalculator;
 import org.daniel.elysium.ultimateTH.UthGameEngine;
 import org.daniel.elysium.ultimateTH.constants.UthGameStage;
 import org.daniel.elysium.ultimateTH.constants.UthHandState;
@@ -34,7 +35,7 @@ public class UltimateTHCLI implements MenuOptionCLI {
 
     private UserProfile profile = null;
     private final Scanner scanner;
-    private List<Card> cards;
+    private Shoe<Card> shoe;
     private final String encoding;
 
     /** Returns Menu's exit code, default 0 */
@@ -61,6 +62,12 @@ public class UltimateTHCLI implements MenuOptionCLI {
         this.profile = profile;
         CmdHelper.clearCMD();
 
+        if ("UTF-8".equalsIgnoreCase(encoding)){
+            shoe = Shoe.createShoe(1, SymbolicDeck::new);
+        } else {
+            shoe = Shoe.createShoe(1, LetterDeck::new);
+        }
+
         DebugPrint.println("Welcome to Ultimate Texas Hold'em!");
         DebugPrint.println("Current balance: " + profile.getBalance());
         DebugPrint.println();
@@ -68,13 +75,8 @@ public class UltimateTHCLI implements MenuOptionCLI {
         while (true) {
             UthGameStage stage = UthGameStage.START;
 
-            Shoe<Card> shoe;
-            if ("UTF-8".equalsIgnoreCase(encoding)){
-                shoe = Shoe.createShoe(1, SymbolicDeck::new);
-            } else {
-                shoe = Shoe.createShoe(1, LetterDeck::new);
-            }
-            cards = shoe.cards();
+            // Every round is played from a freshly shuffled deck
+            shoe.reshuffle();
 
             int numberOfHands = getNumberOfHands();
             if (numberOfHands == 0) break;
@@ -433,7 +435,7 @@ public class UltimateTHCLI implements MenuOptionCLI {
         CmdHelper.clearCMD();
         printDealer(dealerHand, stage);
         printCommunityCards(communityCards, stage);
-        printPlayerHands(gameHands, stage);
+        printPlayerHands(gameHands, communityCards, stage);
     }
 
     /**
@@ -482,10 +484,13 @@ public class UltimateTHCLI implements MenuOptionCLI {
     /**
      * Prints all player hands, including their bets and the hand combinations if revealed.
      *
-     * @param gameHands The list of all player hands in play.
-     * @param stage     The current game stage.
+     * While a hand is still to act, its equity against the dealer is shown as well.
+     *
+     * @param gameHands      The list of all player hands in play.
+     * @param communityCards The shared community cards in play.
+     * @param stage          The current game stage.
      */
-    private void printPlayerHands(List<UthPlayerHand> gameHands, UthGameStage stage) {
+    private void printPlayerHands(List<UthPlayerHand> gameHands, List<UthCard> communityCards, UthGameStage stage) {
         for (int i = 0; i < gameHands.size(); i++) {
             UthPlayerHand hand = gameHands.get(i);
             DebugPrint.print("Hand" + (i + 1) + ": ");
@@ -504,6 +509,9 @@ public class UltimateTHCLI implements MenuOptionCLI {
                 if (stage.ordinal() >= UthGameStage.RIVER.ordinal() && hand.getEvaluatedHand() != null) {
                     DebugPrint.print(", Combination: " + hand.getEvaluatedHand().handCombination());
                 }
+                if (stage != UthGameStage.FINAL && hand.getPlay() == 0) {
+                    DebugPrint.print(", Equity: " + UthEquityCalculator.calculate(hand.getHand(), communityCards, stage));
+                }
             }
             DebugPrint.println();
         }
@@ -532,7 +540,7 @@ public class UltimateTHCLI implements MenuOptionCLI {
      * @return the next card as a {@code UthCard}
      */
     private UthCard getCardFromShoe() {
-        Card card = cards.remove(0);
-        return new UthCard(card.getRank(), card.getSuit());
+        Card card = shoe.deal();
+        return UthCard.of(card);
     }
 }
@@ -11,6 +11,8 @@ import org.daniel.elysium.baccarat.models.BacHand;
  */
 public class BaccaratGameEngine {
 
+    private static final BacHandType[] HAND_TYPES = BacHandType.values();
+
     /**
      * Evaluates the player's actions based on the current values of the player's and banker's hands.
      * Decides whether the player should draw a card or stand.
@@ -142,4 +144,32 @@ public class BaccaratGameEngine {
             }
         }
     }
+
+    /**
+     * Settles many bets in one loop, exactly as {@link #calculateResult} settles each of them. The bets are
+     * given as parallel arrays indexed by bet, so the loop touches only primitives; bets of several seats
+     * or of many simulated rounds can share a batch, each with the winner of its own round.
+     *
+     * @param count    The number of bets to settle, from index 0.
+     * @param bets     The amount of each bet.
+     * @param types    The ordinal of the {@link BacHandType} each bet is placed on.
+     * @param winners  The ordinal of the {@link BacHandType} winning each bet's round, {@code TIE} for a tie.
+     * @param returned Receives the amount returned for each bet, 0 for a lost bet.
+     * @throws IllegalArgumentException if an array holds fewer than {@code count} bets.
+     */
+    public static void settleBets(int count, double[] bets, byte[] types, byte[] winners, double[] returned) {
+        if (count < 0 || bets.length < count || types.length < count || winners.length < count
+                || returned.length < count) {
+            throw new IllegalArgumentException("The arrays hold fewer than " + count + " bets");
+        }
+        double[] payouts = new double[HAND_TYPES.length];
+        for (BacHandType type : HAND_TYPES) {
+            payouts[type.ordinal()] = type.getValue();
+        }
+
+        for (int i = 0; i < count; i++) {
+            double bet = bets[i];
+            returned[i] = types[i] == winners[i] ? bet + bet * payouts[types[i]] : 0;
+        }
+    }
 }
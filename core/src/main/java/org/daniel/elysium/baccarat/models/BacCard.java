@@ -8,6 +8,11 @@ import org.daniel.elysium.models.Card;
  */
 public class BacCard extends Card {
 
+    /** Baccarat values indexed by rank index (A, 2..10, J, Q, K). */
+    private static final int[] VALUES = {1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 0, 0, 0};
+
+    private static final BacCard[] CACHE = createFlyweights(BacCard::new, new BacCard[2 * DECK_SIZE]);
+
     /**
      * Constructs a Baccarat card with the specified rank and suit.
      *
@@ -18,20 +23,36 @@ public class BacCard extends Card {
         super(rank, suit);
     }
 
+    /**
+     * Returns the shared Baccarat card matching the given card.
+     *
+     * @param card The card to convert.
+     * @return The flyweight {@code BacCard} with the same rank and suit.
+     */
+    public static BacCard of(Card card) {
+        return card instanceof BacCard bacCard ? bacCard : CACHE[card.getCacheIndex()];
+    }
+
+    /**
+     * Returns the shared Baccarat card for the specified rank and suit.
+     *
+     * @param rank The rank of the card (e.g., "A", "2", "K").
+     * @param suit The suit of the card (e.g., "♠", "♥", "♦", "♣").
+     * @return The flyweight {@code BacCard}.
+     */
+    public static BacCard of(String rank, String suit) {
+        return CACHE[cacheIndexOf(rank, suit)];
+    }
+
     /**
      * Gets the Baccarat value of the card.
-     * Face cards (K, Q, J) are worth 0, Aces are worth 1, and numeric cards have their face value.
+     * Face cards (K, Q, J) and tens are worth 0, Aces are worth 1, and other numeric cards have their face value.
      *
      * @return The Baccarat value of the card.
      */
     @Override
     public int getValue() {
-        if (getRank().equals("A")) {
-            return 1;
-        } else if (getRank().equals("K") || getRank().equals("Q") || getRank().equals("J")) {
-            return 0;
-        } else {
-            return Integer.parseInt(getRank());
-        }
+        int rankIndex = getRankIndex();
+        return rankIndex >= 0 ? VALUES[rankIndex] : Integer.parseInt(getRank());
     }
 }
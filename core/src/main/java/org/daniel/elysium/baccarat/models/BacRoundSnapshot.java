@@ -0,0 +1,63 @@
+package org.daniel.elysium.baccarat.models;
+
+import org.daniel.elysium.baccarat.constants.BacHandState;
+import org.daniel.elysium.baccarat.constants.BacHandType;
+
+import java.util.List;
+
+/**
+ * An immutable view of a Baccarat round, safe to hand to any thread.
+ * <p>
+ * Snapshots are numbered by increasing versions, so a reader can tell a newer one apart and compare
+ * it with the one it has shown to find what changed.
+ * </p>
+ *
+ * @param version      increases with every change to the round
+ * @param round        the number of rounds dealt so far
+ * @param playerCards  the cards of the player hand, in the order they were dealt
+ * @param playerValue  the Baccarat value of the player hand
+ * @param playerState  the result of the player hand, {@link BacHandState#UNDEFINED} until the round is decided
+ * @param bankerCards  the cards of the banker hand, in the order they were dealt
+ * @param bankerValue  the Baccarat value of the banker hand
+ * @param bankerState  the result of the banker hand, {@link BacHandState#UNDEFINED} until the round is decided
+ * @param betType      the hand type bet on, {@link BacHandType#UNDEFINED} until the bet is placed
+ * @param bet          the amount bet, or the amount returned once the bet is settled
+ * @param betState     the result of the bet, {@link BacHandState#UNDEFINED} until it is settled
+ */
+public record BacRoundSnapshot(long version, long round, List<BacCard> playerCards, int playerValue,
+                               BacHandState playerState, List<BacCard> bankerCards, int bankerValue,
+                               BacHandState bankerState, BacHandType betType, double bet, BacHandState betState) {
+
+    /**
+     * Creates a snapshot, copying the cards into unmodifiable lists.
+     */
+    public BacRoundSnapshot {
+        playerCards = List.copyOf(playerCards);
+        bankerCards = List.copyOf(bankerCards);
+    }
+
+    /**
+     * Captures the current state of a round.
+     *
+     * @param version the version of the snapshot
+     * @param round   the number of rounds dealt so far
+     * @param player  the player hand
+     * @param banker  the banker hand
+     * @param bet     the player's bet
+     * @return a snapshot of the round
+     */
+    public static BacRoundSnapshot of(long version, long round, BacHand player, BacHand banker, BacBetHand bet) {
+        return new BacRoundSnapshot(version, round, player.getHand(), player.getHandValue(), player.getState(),
+                banker.getHand(), banker.getHandValue(), banker.getState(),
+                bet.getHandType(), bet.getBet(), bet.getState());
+    }
+
+    /**
+     * Returns whether the round has been decided.
+     *
+     * @return {@code true} once the player and banker hands have a result
+     */
+    public boolean isDecided() {
+        return playerState != BacHandState.UNDEFINED;
+    }
+}
@@ -0,0 +1,174 @@
+package org.daniel.elysium.baccarat.sim;
+
+import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.baccarat.models.BacCard;
+import org.daniel.elysium.models.Card;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes exact Baccarat odds for a given shoe composition.
+ * <p>
+ * Every draw sequence of up to six cards (player, banker, player, banker, then the optional third
+ * cards) is enumerated over the remaining count of each card value, weighting each card by its
+ * probability of being drawn. Ranks are folded into the ten Baccarat values first, so tens and
+ * faces are handled as one group. Partial deals are memoized on the multiset of cards already
+ * removed plus the hand totals, so deals that differ only in order are evaluated once.
+ * </p>
+ */
+public class BaccaratExactCalculator {
+
+    private static final int VALUE_COUNT = 10;
+    private static final int OUTCOMES = BacHandType.values().length;
+
+    private final int[] counts = new int[VALUE_COUNT];
+    private final Map<Long, double[]> memo = new HashMap<>();
+    private int remaining;
+    private long removed;
+
+    private BaccaratExactCalculator(int[] rankCounts) {
+        if (rankCounts.length != Card.RANKS.size()) {
+            throw new IllegalArgumentException("Expected " + Card.RANKS.size() + " rank counts");
+        }
+        for (int rank = 0; rank < rankCounts.length; rank++) {
+            if (rankCounts[rank] < 0) {
+                throw new IllegalArgumentException("Negative count for rank " + Card.RANKS.get(rank));
+            }
+            counts[BacCard.of(Card.RANKS.get(rank), "S").getValue()] += rankCounts[rank];
+            remaining += rankCounts[rank];
+        }
+        if (remaining < 6) {
+            throw new IllegalArgumentException("At least six cards are required: " + remaining);
+        }
+    }
+
+    /**
+     * Computes the exact odds of a full shoe.
+     *
+     * @param numOfDecks the number of decks in the shoe
+     * @return the exact odds
+     */
+    public static BaccaratOdds calculate(int numOfDecks) {
+        int[] rankCounts = new int[Card.RANKS.size()];
+        Arrays.fill(rankCounts, 4 * numOfDecks);
+        return calculate(rankCounts);
+    }
+
+    /**
+     * Computes the exact odds of the shoe composition described by a rank-count vector.
+     *
+     * @param rankCounts the number of remaining cards of each rank, indexed by {@link Card#getRankIndex()}
+     * @return the exact odds
+     * @throws IllegalArgumentException if the vector is malformed or holds fewer than six cards
+     */
+    public static BaccaratOdds calculate(int[] rankCounts) {
+        BaccaratExactCalculator calculator = new BaccaratExactCalculator(rankCounts);
+        return BaccaratOdds.fromOutcomes(calculator.expand(0, 0, 0, BaccaratTableau.NO_THIRD_CARD));
+    }
+
+    /**
+     * Counts the cards of each rank in a list of standard cards.
+     *
+     * @param cards the cards, for example the undealt part of a shoe
+     * @return the rank-count vector
+     */
+    public static int[] rankCounts(List<? extends Card> cards) {
+        int[] rankCounts = new int[Card.RANKS.size()];
+        for (Card card : cards) {
+            rankCounts[card.getRankIndex()]++;
+        }
+        return rankCounts;
+    }
+
+    /* ======================
+       Enumeration
+       ====================== */
+
+    /**
+     * Returns the outcome probabilities of the rest of a round.
+     *
+     * @param dealt       the number of cards dealt so far
+     * @param playerTotal the player's current total
+     * @param bankerTotal the banker's current total
+     * @param playerThird the value of the player's third card, or {@link BaccaratTableau#NO_THIRD_CARD}
+     * @return the probability of each winning side, indexed by {@link BacHandType#ordinal()}
+     */
+    private double[] expand(int dealt, int playerTotal, int bankerTotal, int playerThird) {
+        long key = removed << 15 | (long) dealt << 12 | playerTotal << 8 | bankerTotal << 4 | (playerThird + 1);
+        double[] cached = memo.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        double[] outcomes = new double[OUTCOMES];
+        if (dealt < 4) {
+            // Initial deal alternates between player and banker
+            boolean toPlayer = dealt % 2 == 0;
+            for (int value = 0; value < VALUE_COUNT; value++) {
+                double probability = take(value);
+                if (probability > 0) {
+                    accumulate(outcomes, probability, expand(dealt + 1,
+                            toPlayer ? (playerTotal + value) % 10 : playerTotal,
+                            toPlayer ? bankerTotal : (bankerTotal + value) % 10,
+                            playerThird));
+                    putBack(value);
+                }
+            }
+        } else if (dealt == 4 && BaccaratTableau.playerDraws(playerTotal, bankerTotal)) {
+            for (int value = 0; value < VALUE_COUNT; value++) {
+                double probability = take(value);
+                if (probability > 0) {
+                    accumulate(outcomes, probability, expand(dealt + 1, (playerTotal + value) % 10, bankerTotal, value));
+                    putBack(value);
+                }
+            }
+        } else if (BaccaratTableau.bankerDraws(bankerTotal, playerTotal, playerThird)) {
+            for (int value = 0; value < VALUE_COUNT; value++) {
+                if (counts[value] > 0) {
+                    double probability = (double) counts[value] / remaining;
+                    outcomes[BaccaratTableau.winner(playerTotal, (bankerTotal + value) % 10).ordinal()] += probability;
+                }
+            }
+        } else {
+            outcomes[BaccaratTableau.winner(playerTotal, bankerTotal).ordinal()] = 1;
+        }
+
+        memo.put(key, outcomes);
+        return outcomes;
+    }
+
+    /**
+     * Removes a card of the given value and returns the probability it had of being drawn, or 0 if none is left.
+     */
+    private double take(int value) {
+        if (counts[value] == 0) {
+            return 0;
+        }
+        double probability = (double) counts[value] / remaining;
+        counts[value]--;
+        remaining--;
+        removed += 1L << (value * 3);
+        return probability;
+    }
+
+    /**
+     * Puts back a card removed by {@link #take(int)}.
+     */
+    private void putBack(int value) {
+        counts[value]++;
+        remaining++;
+        removed -= 1L << (value * 3);
+    }
+
+    /**
+     * Adds weighted outcome probabilities to an accumulator.
+     */
+    private static void accumulate(double[] outcomes, double probability, double[] child) {
+        for (int i = 0; i < OUTCOMES; i++) {
+            outcomes[i] += probability * child[i];
+        }
+    }
+}
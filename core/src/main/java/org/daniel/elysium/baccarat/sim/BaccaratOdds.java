@@ -0,0 +1,69 @@
+package org.daniel.elysium.baccarat.sim;
+
+import org.daniel.elysium.baccarat.BaccaratGameEngine;
+import org.daniel.elysium.baccarat.constants.BacHandType;
+
+/**
+ * The probabilities of the three Baccarat outcomes, either exact or estimated by simulation.
+ *
+ * @param bankerWin the probability that the banker wins
+ * @param playerWin the probability that the player wins
+ * @param tie       the probability of a tie
+ */
+public record BaccaratOdds(double bankerWin, double playerWin, double tie) {
+
+    /**
+     * Builds the odds from probabilities indexed by {@link BacHandType#ordinal()}.
+     *
+     * @param probabilities the probability of each winning side
+     * @return the matching odds
+     */
+    static BaccaratOdds fromOutcomes(double[] probabilities) {
+        return new BaccaratOdds(probabilities[BacHandType.BANKER.ordinal()],
+                probabilities[BacHandType.PLAYER.ordinal()],
+                probabilities[BacHandType.TIE.ordinal()]);
+    }
+
+    /**
+     * Returns the probability that a bet on the given hand type wins.
+     *
+     * @param type the hand type bet on
+     * @return the winning probability
+     * @throws IllegalArgumentException if the hand type is {@link BacHandType#UNDEFINED}
+     */
+    public double probabilityOf(BacHandType type) {
+        return switch (type) {
+            case BANKER -> bankerWin;
+            case PLAYER -> playerWin;
+            case TIE -> tie;
+            default -> throw new IllegalArgumentException("No odds for hand type: " + type);
+        };
+    }
+
+    /**
+     * Returns the house edge of a bet as settled by {@link BaccaratGameEngine#calculateResult},
+     * where a tie loses banker and player bets.
+     *
+     * @param type the hand type bet on
+     * @return the expected loss per unit bet
+     */
+    public double houseEdge(BacHandType type) {
+        return houseEdge(type, false);
+    }
+
+    /**
+     * Returns the house edge of a bet, paying the multiplier of {@link BacHandType#getValue()} on a win.
+     *
+     * @param type      the hand type bet on
+     * @param tiePushes {@code true} to return banker and player bets on a tie, as most casinos do
+     * @return the expected loss per unit bet
+     */
+    public double houseEdge(BacHandType type, boolean tiePushes) {
+        double win = probabilityOf(type);
+        double lose = 1 - win;
+        if (tiePushes && type != BacHandType.TIE) {
+            lose -= tie;
+        }
+        return lose - win * type.getValue();
+    }
+}
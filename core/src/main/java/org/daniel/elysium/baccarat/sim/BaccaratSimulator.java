@@ -0,0 +1,156 @@
+package org.daniel.elysium.baccarat.sim;
+
+import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.baccarat.models.BacCard;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.models.Shoe;
+import org.daniel.elysium.models.Xoshiro256;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Estimates Baccarat odds by playing rounds from real shoes on a fork-join pool.
+ * <p>
+ * The requested rounds are split recursively until each task plays at most {@link #ROUNDS_PER_TASK}
+ * rounds. Every leaf task deals from its own shoe, reshuffled whenever the cut card is reached, and
+ * plays the rounds through {@link BaccaratTableau}. The outcome counts are summed on the way back up.
+ * Each task shuffles from its own generator, so tasks never contend on a shared random source.
+ * </p>
+ */
+public class BaccaratSimulator {
+
+    /** The largest number of rounds played by a single fork-join task. */
+    public static final long ROUNDS_PER_TASK = 100_000;
+
+    private static final int MAX_CARDS_PER_ROUND = 6;
+    private static final int OUTCOMES = BacHandType.values().length;
+
+    private final int numOfDecks;
+    private final double penetration;
+
+    /**
+     * Creates a simulator for a shoe configuration.
+     *
+     * @param numOfDecks  the number of decks in each shoe
+     * @param penetration the fraction of each shoe dealt before a reshuffle, between 0 and 1
+     */
+    public BaccaratSimulator(int numOfDecks, double penetration) {
+        this.numOfDecks = numOfDecks;
+        this.penetration = penetration;
+    }
+
+    /**
+     * Plays the given number of rounds on the common fork-join pool.
+     *
+     * @param rounds the number of rounds to play
+     * @return the observed frequency of each outcome
+     */
+    public BaccaratOdds run(long rounds) {
+        return run(rounds, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the given number of rounds on a fork-join pool.
+     *
+     * @param rounds the number of rounds to play
+     * @param pool   the pool running the simulation
+     * @return the observed frequency of each outcome
+     * @throws IllegalArgumentException if {@code rounds} is not positive
+     */
+    public BaccaratOdds run(long rounds, ForkJoinPool pool) {
+        return run(rounds, pool, Xoshiro256.randomSeed());
+    }
+
+    /**
+     * Plays the given number of rounds on a fork-join pool, shuffling every shoe from a generator
+     * {@link Xoshiro256#split() split} off the seed's. The same seed always produces the same odds.
+     *
+     * @param rounds the number of rounds to play
+     * @param pool   the pool running the simulation
+     * @param seed   the seed of every shoe's shuffles
+     * @return the observed frequency of each outcome
+     * @throws IllegalArgumentException if {@code rounds} is not positive
+     */
+    public BaccaratOdds run(long rounds, ForkJoinPool pool, long seed) {
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("At least one round is required: " + rounds);
+        }
+        long[] wins = pool.invoke(new SimulationTask(rounds, new Xoshiro256(seed)));
+        double[] frequencies = new double[OUTCOMES];
+        for (int i = 0; i < OUTCOMES; i++) {
+            frequencies[i] = (double) wins[i] / rounds;
+        }
+        return BaccaratOdds.fromOutcomes(frequencies);
+    }
+
+    /**
+     * Plays a single round from a shoe.
+     *
+     * @param shoe the shoe to deal from, holding at least six cards
+     * @return the winning side
+     */
+    public static BacHandType playRound(Shoe<Card> shoe) {
+        int player = value(shoe.deal());
+        int banker = value(shoe.deal());
+        player = (player + value(shoe.deal())) % 10;
+        banker = (banker + value(shoe.deal())) % 10;
+
+        int playerThird = BaccaratTableau.NO_THIRD_CARD;
+        if (BaccaratTableau.playerDraws(player, banker)) {
+            playerThird = value(shoe.deal());
+            player = (player + playerThird) % 10;
+        }
+        if (BaccaratTableau.bankerDraws(banker, player, playerThird)) {
+            banker = (banker + value(shoe.deal())) % 10;
+        }
+        return BaccaratTableau.winner(player, banker);
+    }
+
+    /**
+     * Returns the Baccarat value of a card.
+     */
+    private static int value(Card card) {
+        return BacCard.of(card).getValue();
+    }
+
+    /**
+     * Plays a share of the rounds, forking while the share is too large for one task.
+     */
+    private class SimulationTask extends RecursiveTask<long[]> {
+
+        private final long rounds;
+        private final Xoshiro256 random;
+
+        SimulationTask(long rounds, Xoshiro256 random) {
+            this.rounds = rounds;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (rounds > ROUNDS_PER_TASK) {
+                // Split before forking, so every task's stream depends only on its place in the tree
+                SimulationTask left = new SimulationTask(rounds / 2, random.split());
+                left.fork();
+                long[] wins = new SimulationTask(rounds - rounds / 2, random).compute();
+                long[] leftWins = left.join();
+                for (int i = 0; i < OUTCOMES; i++) {
+                    wins[i] += leftWins[i];
+                }
+                return wins;
+            }
+
+            long[] wins = new long[OUTCOMES];
+            Shoe<Card> shoe = Shoe.createShoe(numOfDecks, LetterDeck::new, penetration, random);
+            for (long i = 0; i < rounds; i++) {
+                if (shoe.needsReshuffle() || shoe.remaining() < MAX_CARDS_PER_ROUND) {
+                    shoe.reshuffle();
+                }
+                wins[playRound(shoe).ordinal()]++;
+            }
+            return wins;
+        }
+    }
+}
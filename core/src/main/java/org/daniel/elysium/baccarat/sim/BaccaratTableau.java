@@ -0,0 +1,88 @@
+package org.daniel.elysium.baccarat.sim;
+
+import org.daniel.elysium.baccarat.BaccaratGameEngine;
+import org.daniel.elysium.baccarat.constants.BacHandType;
+
+/**
+ * The Baccarat drawing rules of {@link BaccaratGameEngine}, precompiled into lookup tables over
+ * plain int totals.
+ * <p>
+ * The game engine works on {@code BacHand} objects and sets actions and states on them, which is
+ * convenient for the game flow but too heavy for simulations. This class answers the same questions
+ * from hand totals (0..9) and the value of the player's third card, without allocating anything.
+ * </p>
+ */
+public final class BaccaratTableau {
+
+    /** Marks that the player stood on two cards and has no third card. */
+    public static final int NO_THIRD_CARD = -1;
+
+    private static final boolean[][] PLAYER_DRAWS = new boolean[10][10];
+    private static final boolean[][] BANKER_DRAWS = new boolean[10][11];
+
+    static {
+        for (int playerTotal = 0; playerTotal < 10; playerTotal++) {
+            for (int bankerTotal = 0; bankerTotal < 10; bankerTotal++) {
+                PLAYER_DRAWS[playerTotal][bankerTotal] = bankerTotal < 8 && playerTotal <= 5;
+            }
+        }
+        for (int bankerTotal = 0; bankerTotal < 10; bankerTotal++) {
+            BANKER_DRAWS[bankerTotal][0] = bankerTotal <= 5;
+            for (int third = 0; third < 10; third++) {
+                BANKER_DRAWS[bankerTotal][third + 1] = switch (bankerTotal) {
+                    case 0, 1, 2 -> true;
+                    case 3 -> third != 8;
+                    case 4 -> third >= 2 && third <= 7;
+                    case 5 -> third >= 4 && third <= 7;
+                    case 6 -> third == 6 || third == 7;
+                    default -> false;
+                };
+            }
+        }
+    }
+
+    private BaccaratTableau() {
+    }
+
+    /**
+     * Determines whether the player draws a third card.
+     *
+     * @param playerTotal the player's two-card total
+     * @param bankerTotal the banker's two-card total
+     * @return {@code true} if the player draws
+     */
+    public static boolean playerDraws(int playerTotal, int bankerTotal) {
+        return PLAYER_DRAWS[playerTotal][bankerTotal];
+    }
+
+    /**
+     * Determines whether the banker draws a third card.
+     *
+     * @param bankerTotal the banker's two-card total
+     * @param playerTotal the player's current total
+     * @param playerThird the value of the player's third card, or {@link #NO_THIRD_CARD} if the player stood
+     * @return {@code true} if the banker draws
+     */
+    public static boolean bankerDraws(int bankerTotal, int playerTotal, int playerThird) {
+        if (playerThird == NO_THIRD_CARD && playerTotal >= 8) {
+            return false; // Player natural
+        }
+        return BANKER_DRAWS[bankerTotal][playerThird + 1];
+    }
+
+    /**
+     * Determines the winning side of a round.
+     *
+     * @param playerTotal the player's final total
+     * @param bankerTotal the banker's final total
+     * @return {@link BacHandType#PLAYER}, {@link BacHandType#BANKER} or {@link BacHandType#TIE}
+     */
+    public static BacHandType winner(int playerTotal, int bankerTotal) {
+        if (playerTotal > bankerTotal) {
+            return BacHandType.PLAYER;
+        } else if (playerTotal < bankerTotal) {
+            return BacHandType.BANKER;
+        }
+        return BacHandType.TIE;
+    }
+}
@@ -1,8 +1,12 @@
 package org.daniel.elysium.blackjack;
 
+import org.daniel.elysium.blackjack.constants.BJAction;
 import org.daniel.elysium.blackjack.constants.BJHandState;
 import org.daniel.elysium.blackjack.models.BJDealerHand;
 import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+import org.daniel.elysium.blackjack.strategy.DealerProbabilities;
+import org.daniel.elysium.blackjack.strategy.StrategyCalculator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,6 +14,14 @@ import java.util.List;
 /**
  * Handles the core game logic for Blackjack, including evaluating hand states,
  * determining available actions, and resolving player results.
+ * <p>
+ * The rule variant is given as {@link CompiledRules}; the methods without one play
+ * {@link CompiledRules#STANDARD}.
+ * </p>
+ * <p>
+ * Tables and simulators settling many hands at once use {@link #settleHands}, which takes the hands
+ * as parallel arrays instead of {@link BJPlayerHand} objects.
+ * </p>
  */
 public class BlackjackEngine {
 
@@ -25,56 +37,101 @@ public class BlackjackEngine {
     }
 
     /**
-     * Determines the available actions a player can take based on their hand.
+     * Determines if insurance is offered and worth taking given the cards left in the shoe,
+     * which is the case when more than a third of them are ten-valued.
+     *
+     * @param hand   The dealer's {@link BJDealerHand}.
+     * @param unseen The unseen cards per rank index, as counted by {@link StrategyCalculator#rankOf}.
+     * @return {@code true} if insurance has a positive expected value, otherwise {@code false}.
+     */
+    public static boolean isInsuranceFavourable(BJDealerHand hand, int[] unseen) {
+        return isInsurance(hand) && DealerProbabilities.insuranceValue(unseen) > 0;
+    }
+
+    /**
+     * Determines the available actions a player can take based on their hand, under the standard rules.
      *
      * @param hand The player's {@link BJPlayerHand}.
      * @return A list of available actions as strings (e.g., "HIT", "STAND", "DOUBLE", "SPLIT").
      */
     public static List<String> getAvailableHandOptions(BJPlayerHand hand) {
+        return getAvailableHandOptions(hand, CompiledRules.STANDARD, 1);
+    }
+
+    /**
+     * Determines the available actions a player can take based on their hand and the table's rules.
+     *
+     * @param hand      The player's {@link BJPlayerHand}.
+     * @param rules     The compiled rules of the table.
+     * @param seatHands The number of hands the player's seat currently plays, counting split hands.
+     * @return A list of available actions as strings, in the order of {@link BJAction}.
+     */
+    public static List<String> getAvailableHandOptions(BJPlayerHand hand, CompiledRules rules, int seatHands) {
+        int options = rules.getOptions(hand, seatHands);
         List<String> handOptions = new ArrayList<>();
-        if (!hand.didComeFromSplitAces()){
-            if (hand.getHandValue() < 21) {
-                handOptions.add("HIT");
-                handOptions.add("STAND");
-            }
-            if (hand.getHand().size() <= 2 && hand.getHandValue() != 21) {
-                handOptions.add("DOUBLE");
-            }
-            if (hand.isSplittable()) {
-                handOptions.add("SPLIT");
+        for (BJAction action : BJAction.values()) {
+            if (CompiledRules.allows(options, action)) {
+                handOptions.add(action.name());
             }
         }
         return handOptions;
     }
 
     /**
-     * Resolves the outcome of the player's hand by comparing it with the dealer's hand.
+     * Returns the amount paid back to the player for a hand resolved by {@link #resolvePlayerResult}:
+     * the insurance payout of an insured hand, otherwise what is left of the bet, which is 0 for a lost hand.
+     *
+     * @param hand The resolved {@link BJPlayerHand}.
+     * @return The amount returned to the player's balance.
+     */
+    public static int getReturnedAmount(BJPlayerHand hand) {
+        return hand.getState() == BJHandState.INSURED ? hand.getInsuranceBet() : hand.getBet();
+    }
+
+    /**
+     * Resolves the outcome of the player's hand by comparing it with the dealer's hand, under the standard rules.
      * Adjusts the player's bet based on the result.
      *
      * @param hand        The player's {@link BJPlayerHand}.
      * @param dealerHand  The dealer's {@link BJDealerHand}.
      */
     public static void resolvePlayerResult(BJPlayerHand hand, BJDealerHand dealerHand) {
-        float bet = hand.getBet();
+        resolvePlayerResult(hand, dealerHand, CompiledRules.STANDARD);
+    }
+
+    /**
+     * Resolves the outcome of the player's hand by comparing it with the dealer's hand.
+     * Adjusts the player's bet to the amount returned, using the blackjack payout of the table's rules.
+     *
+     * @param hand        The player's {@link BJPlayerHand}.
+     * @param dealerHand  The dealer's {@link BJDealerHand}.
+     * @param rules       The compiled rules of the table.
+     */
+    public static void resolvePlayerResult(BJPlayerHand hand, BJDealerHand dealerHand, CompiledRules rules) {
+        int bet = hand.getBet();
 
         // Handle insurance payout
         if (hand.getState() == BJHandState.INSURED) {
             hand.setInsuranceBet(hand.getInsuranceBet() * 3);
 
+            // A surrendered hand gets half its bet back
+        } else if (hand.getState() == BJHandState.SURRENDERED) {
+            hand.setBet(rules.surrenderReturn(bet));
+
             // Blackjack payout (unless the dealer also has Blackjack)
         } else if (hand.isBlackJack() && !dealerHand.isBlackJack()) {
-            hand.setBet((int) (bet * 2.5f));
+            hand.setBet(rules.blackjackReturn(bet));
             hand.setState(BJHandState.BLACKJACK);
 
             // Win conditions: Player has a higher valid hand OR dealer busts
         } else if ((hand.getHandValue() > dealerHand.getHandValue() && hand.getHandValue() <= 21)
                 || (dealerHand.getHandValue() > 21 && hand.getHandValue() <= 21)) {
-            hand.setBet((int) (bet * 2));
+            hand.setBet(bet * 2);
             hand.setState(BJHandState.WON);
 
             // Push (tie) condition
         } else if (hand.getHandValue() <= 21 && hand.getHandValue() == dealerHand.getHandValue()) {
-            hand.setBet((int) bet);
+            hand.setBet(bet);
             hand.setState(BJHandState.PUSH);
 
             // Loss condition
@@ -83,4 +140,77 @@ public class BlackjackEngine {
             hand.setBet(0);
         }
     }
+
+    /* ======================
+       Batch Settlement
+       ====================== */
+
+    /**
+     * Returns the state a hand enters {@link #settleHands} with: {@link BJHandState#INSURED} or
+     * {@link BJHandState#SURRENDERED} if the player chose so, {@link BJHandState#BLACKJACK} for a natural
+     * and {@link BJHandState#UNDEFINED} for any other hand.
+     *
+     * @param hand The player's {@link BJPlayerHand}.
+     * @return The ordinal of the hand's {@link BJHandState}.
+     */
+    public static byte settlementState(BJPlayerHand hand) {
+        BJHandState state = hand.getState();
+        if (state != BJHandState.INSURED && state != BJHandState.SURRENDERED) {
+            state = hand.isBlackJack() ? BJHandState.BLACKJACK : BJHandState.UNDEFINED;
+        }
+        return (byte) state.ordinal();
+    }
+
+    /**
+     * Resolves many hands against the same dealer hand in one loop, exactly as {@link #resolvePlayerResult}
+     * resolves each of them. The hands are given as parallel arrays indexed by hand, so the loop touches
+     * only primitives and the JIT can compile its branches into conditional moves.
+     *
+     * @param count           The number of hands to resolve, from index 0.
+     * @param bets            The bet on each hand.
+     * @param insuranceBets   The insurance bet on each hand, only read for an insured hand.
+     * @param totals          The value of each hand.
+     * @param states          The state of each hand as given by {@link #settlementState}, replaced by the
+     *                        ordinal of the hand's resulting {@link BJHandState}.
+     * @param dealerTotal     The value of the dealer's hand.
+     * @param dealerBlackjack Whether the dealer holds a blackjack.
+     * @param rules           The compiled rules of the table.
+     * @param returned        Receives the amount returned to the player for each hand, which is the
+     *                        insurance payout of an insured hand and 0 for a lost hand.
+     * @throws IllegalArgumentException if an array holds fewer than {@code count} hands.
+     */
+    public static void settleHands(int count, int[] bets, int[] insuranceBets, int[] totals, byte[] states,
+                                   int dealerTotal, boolean dealerBlackjack, CompiledRules rules, int[] returned) {
+        if (count < 0 || bets.length < count || insuranceBets.length < count || totals.length < count
+                || states.length < count || returned.length < count) {
+            throw new IllegalArgumentException("The arrays hold fewer than " + count + " hands");
+        }
+        byte insured = (byte) BJHandState.INSURED.ordinal();
+        byte surrendered = (byte) BJHandState.SURRENDERED.ordinal();
+        byte blackjack = (byte) BJHandState.BLACKJACK.ordinal();
+        byte won = (byte) BJHandState.WON.ordinal();
+        byte push = (byte) BJHandState.PUSH.ordinal();
+        byte lost = (byte) BJHandState.LOST.ordinal();
+        boolean dealerBust = dealerTotal > 21;
+
+        for (int i = 0; i < count; i++) {
+            byte state = states[i];
+            int bet = bets[i];
+            int total = totals[i];
+            boolean standing = total <= 21;
+            boolean wins = standing && (total > dealerTotal || dealerBust);
+            boolean pushes = standing && total == dealerTotal;
+
+            if (state == insured) {
+                returned[i] = insuranceBets[i] * 3;
+            } else if (state == surrendered) {
+                returned[i] = rules.surrenderReturn(bet);
+            } else if (state == blackjack && !dealerBlackjack) {
+                returned[i] = rules.blackjackReturn(bet);
+            } else {
+                returned[i] = wins ? bet * 2 : pushes ? bet : 0;
+                states[i] = wins ? won : pushes ? push : lost;
+            }
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package org.daniel.elysium.blackjack;
+
+import org.daniel.elysium.blackjack.constants.BJHandState;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+
+import java.util.Arrays;
+
+/**
+ * Reusable parallel arrays holding the hands of a round for {@link BlackjackEngine#settleHands}.
+ * <p>
+ * A table or simulator keeps one batch and refills it every round: the arrays only grow, so
+ * settling allocates nothing once the largest round has been seen. A batch is not thread safe.
+ * </p>
+ */
+public class SettlementBatch {
+
+    private static final BJHandState[] STATES = BJHandState.values();
+
+    private int count;
+    private int[] bets;
+    private int[] insuranceBets;
+    private int[] totals;
+    private byte[] states;
+    private int[] returned;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param capacity the number of hands the batch holds before growing
+     */
+    public SettlementBatch(int capacity) {
+        int size = Math.max(1, capacity);
+        bets = new int[size];
+        insuranceBets = new int[size];
+        totals = new int[size];
+        states = new byte[size];
+        returned = new int[size];
+    }
+
+    /**
+     * Empties the batch for the next round.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Adds a finished hand to the batch.
+     *
+     * @param hand the player's hand
+     * @return the index of the hand in the batch
+     */
+    public int add(BJPlayerHand hand) {
+        if (count == bets.length) {
+            int size = count * 2;
+            bets = Arrays.copyOf(bets, size);
+            insuranceBets = Arrays.copyOf(insuranceBets, size);
+            totals = Arrays.copyOf(totals, size);
+            states = Arrays.copyOf(states, size);
+            returned = Arrays.copyOf(returned, size);
+        }
+        bets[count] = hand.getBet();
+        insuranceBets[count] = hand.getInsuranceBet();
+        totals[count] = hand.getHandValue();
+        states[count] = BlackjackEngine.settlementState(hand);
+        return count++;
+    }
+
+    /**
+     * Resolves every hand of the batch against the dealer's hand.
+     *
+     * @param dealerHand the dealer's hand
+     * @param rules      the compiled rules of the table
+     */
+    public void settle(BJDealerHand dealerHand, CompiledRules rules) {
+        BlackjackEngine.settleHands(count, bets, insuranceBets, totals, states,
+                dealerHand.getHandValue(), dealerHand.isBlackJack(), rules, returned);
+    }
+
+    /**
+     * Returns the number of hands in the batch.
+     *
+     * @return the hand count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the amount returned to the player for a settled hand.
+     *
+     * @param index the index of the hand
+     * @return the amount returned, 0 for a lost hand
+     */
+    public int getReturned(int index) {
+        return returned[index];
+    }
+
+    /**
+     * Returns the resulting state of a settled hand.
+     *
+     * @param index the index of the hand
+     * @return the state of the hand
+     */
+    public BJHandState getState(int index) {
+        return STATES[states[index]];
+    }
+
+    /**
+     * Writes the result of a settled hand back to its hand object, leaving it as
+     * {@link BlackjackEngine#resolvePlayerResult} would.
+     *
+     * @param index the index of the hand
+     * @param hand  the hand added at that index
+     */
+    public void applyTo(int index, BJPlayerHand hand) {
+        BJHandState state = STATES[states[index]];
+        if (state == BJHandState.INSURED) {
+            hand.setInsuranceBet(returned[index]);
+        } else {
+            hand.setBet(returned[index]);
+            hand.setState(state);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.daniel.elysium.blackjack.constants;
+
+/**
+ * Represents the decisions a player can make on a Blackjack hand.
+ */
+public enum BJAction {
+
+    /**
+     * Take one more card.
+     */
+    HIT,
+
+    /**
+     * Keep the current hand and end the turn.
+     */
+    STAND,
+
+    /**
+     * Double the bet, take exactly one more card and end the turn.
+     */
+    DOUBLE,
+
+    /**
+     * Split a pair into two hands, each carrying the original bet.
+     */
+    SPLIT,
+
+    /**
+     * Give up the first two cards for half the bet, where the rules offer it.
+     */
+    SURRENDER
+}
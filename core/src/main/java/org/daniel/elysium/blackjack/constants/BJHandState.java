@@ -33,6 +33,11 @@ public enum BJHandState {
     /**
      * The hand has achieved a blackjack.
      */
-    BLACKJACK
+    BLACKJACK,
+
+    /**
+     * The hand was surrendered for half its bet.
+     */
+    SURRENDERED
 }
 
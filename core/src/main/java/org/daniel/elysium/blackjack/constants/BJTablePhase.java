@@ -0,0 +1,27 @@
+package org.daniel.elysium.blackjack.constants;
+
+/**
+ * Represents the phases a round passes through at a multi-seat Blackjack table.
+ */
+public enum BJTablePhase {
+
+    /**
+     * Bets are being placed and no cards are on the table.
+     */
+    BETTING,
+
+    /**
+     * The dealer shows an Ace and the seats are deciding whether to insure their hands.
+     */
+    INSURANCE,
+
+    /**
+     * The seats are acting on their hands one at a time.
+     */
+    PLAYING,
+
+    /**
+     * The dealer has played and every hand has been resolved.
+     */
+    SETTLED
+}
@@ -8,6 +8,11 @@ import org.daniel.elysium.models.Card;
  */
 public class BJCard extends Card {
 
+    /** Blackjack values indexed by rank index (A, 2..10, J, Q, K). */
+    private static final int[] VALUES = {11, 2, 3, 4, 5, 6, 7, 8, 9, 10, 10, 10, 10};
+
+    private static final BJCard[] CACHE = createFlyweights(BJCard::new, new BJCard[2 * DECK_SIZE]);
+
     /**
      * Constructs a Blackjack card with the specified rank and suit.
      *
@@ -18,6 +23,27 @@ public class BJCard extends Card {
         super(rank, suit);
     }
 
+    /**
+     * Returns the shared Blackjack card matching the given card.
+     *
+     * @param card The card to convert.
+     * @return The flyweight {@code BJCard} with the same rank and suit.
+     */
+    public static BJCard of(Card card) {
+        return card instanceof BJCard bjCard ? bjCard : CACHE[card.getCacheIndex()];
+    }
+
+    /**
+     * Returns the shared Blackjack card for the specified rank and suit.
+     *
+     * @param rank The rank of the card (e.g., "A", "2", "K").
+     * @param suit The suit of the card (e.g., "♠", "♥", "♦", "♣").
+     * @return The flyweight {@code BJCard}.
+     */
+    public static BJCard of(String rank, String suit) {
+        return CACHE[cacheIndexOf(rank, suit)];
+    }
+
     /**
      * Gets the Blackjack value of the card.
      * Face cards (K, Q, J) are worth 10, Aces are worth 11, and numeric cards have their face value.
@@ -26,14 +52,7 @@ public class BJCard extends Card {
      */
     @Override
     public int getValue() {
-        String rank = getRank();
-        if (rank.equals("A")) {
-            return 11;
-        } else if (rank.equals("K") || rank.equals("Q") || rank.equals("J")) {
-            return 10;
-        } else {
-            return Integer.parseInt(rank);
-        }
+        int rankIndex = getRankIndex();
+        return rankIndex >= 0 ? VALUES[rankIndex] : Integer.parseInt(getRank());
     }
 }
-
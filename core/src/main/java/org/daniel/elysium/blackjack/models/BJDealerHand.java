@@ -1,35 +1,54 @@
 package org.daniel.elysium.blackjack.models;
 
 import org.daniel.elysium.blackjack.constants.BJHandState;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
 
 /**
  * Represents the dealer's hand in a game of Blackjack.
- * The dealer follows predefined rules for drawing cards.
+ * The dealer draws according to the table's rules: below 17, and on a soft 17 where the dealer hits soft 17.
  */
 public class BJDealerHand extends BJHand {
 
+    private final CompiledRules rules;
+
+    /**
+     * Constructs an empty dealer hand playing the standard rules, on which the dealer hits soft 17.
+     */
+    public BJDealerHand() {
+        this(CompiledRules.STANDARD);
+    }
+
+    /**
+     * Constructs an empty dealer hand playing the given rules.
+     *
+     * @param rules The compiled rules of the table.
+     */
+    public BJDealerHand(CompiledRules rules) {
+        this.rules = rules;
+    }
+
     /**
      * Determines if the dealer is allowed to receive another card.
-     * The dealer must hit until their hand value is at least 17.
+     * The dealer must hit until their hand value is at least 17, and hits a soft 17 if the rules say so.
      *
      * @param card The {@link BJCard} to be considered for dealing.
-     * @return {@code true} if the dealer's hand value is less than 17, otherwise {@code false}.
+     * @return {@code true} if the dealer must draw, otherwise {@code false}.
      */
     @Override
     public boolean canDealCard(BJCard card) {
-        return getHandValue() < 17;
+        return rules.dealerHits(this);
     }
 
     /**
      * Attempts to deal a card to the dealer's hand.
-     * The dealer will take a card only if their hand value is below 17.
+     * The dealer will take a card only while the rules require it.
      *
      * @param card The {@link BJCard} to be added to the dealer's hand.
      * @return {@code true} if the card was successfully added, otherwise {@code false}.
      */
     @Override
     public boolean dealCard(BJCard card) {
-        if (getHandValue() < 17) {
+        if (canDealCard(card)) {
             getHand().add(card);
             return true;
         }
@@ -53,40 +72,13 @@ public class BJDealerHand extends BJHand {
     }
 
     /**
-     * Calculates the total value of the dealer's hand according to Blackjack rules.
+     * Returns the total value of the dealer's hand according to Blackjack rules.
      * Aces are counted as 11 unless they cause the hand value to exceed 21, in which case they count as 1.
-     * If the dealer has a soft 17 (Ace counted as 11 with a total value of 17), the value is adjusted to 7.
      *
      * @return The numerical value of the dealer's hand.
      */
     @Override
     public int getHandValue() {
-        int handValue = 0;
-        int aces = 0;
-
-        // Calculate the hand value while counting Aces separately
-        for (BJCard card : getHand()) {
-            int cardValue = card.getValue();
-            if (cardValue == 11) {
-                handValue += 11;
-                aces++;
-            } else {
-                handValue += cardValue;
-            }
-        }
-
-        // Adjust for Aces if the total value exceeds 21
-        while (handValue > 21 && aces > 0) {
-            handValue -= 10; // Convert an Ace from 11 to 1
-            aces--;
-        }
-
-        // Adjust for Soft 17 (if the dealer has a 17 with an Ace counted as 11)
-        if (handValue == 17 && aces > 0 && getHand().size() == 2) {
-            handValue -= 10; // Convert the soft 17 to a hard 7
-        }
-
-        return handValue;
+        return getBestTotal();
     }
 }
-
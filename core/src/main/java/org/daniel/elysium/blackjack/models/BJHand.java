@@ -2,27 +2,38 @@ package org.daniel.elysium.blackjack.models;
 
 import org.daniel.elysium.blackjack.constants.BJHandState;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * Represents a generic hand in Blackjack.
  * This abstract class provides common functionality for managing a hand of cards
  * and defining game-specific rules.
+ * <p>
+ * The hand keeps a running hard total, counting every Ace as 1, and the number of Aces,
+ * updated whenever a card is added to or removed from {@link #getHand()}. The value of the
+ * hand is therefore known without going over its cards, including after a split removes one.
+ * </p>
  */
 public abstract class BJHand {
-    protected List<BJCard> hand;
+    protected final List<BJCard> hand;
     private BJHandState state = BJHandState.UNDEFINED;
+    private int hardTotal;
+    private int aces;
 
     /**
      * Constructs an empty Blackjack hand.
      */
     public BJHand() {
-        this.hand = new ArrayList<>();
+        this.hand = new Cards();
     }
 
     /**
-     * Retrieves the list of cards in the hand.
+     * Retrieves the list of cards in the hand. Changes to the list, such as removing
+     * a card for a split, are reflected in the value of the hand.
      *
      * @return A list of {@link BJCard} objects in the hand.
      */
@@ -30,6 +41,43 @@ public abstract class BJHand {
         return hand;
     }
 
+    /**
+     * Returns the total of the hand with every Ace counted as 1.
+     *
+     * @return The hard total.
+     */
+    public int getHardTotal() {
+        return hardTotal;
+    }
+
+    /**
+     * Returns the number of Aces in the hand.
+     *
+     * @return The Ace count.
+     */
+    public int getAceCount() {
+        return aces;
+    }
+
+    /**
+     * Determines if the hand is soft, i.e. holds an Ace that counts as 11 without busting.
+     *
+     * @return {@code true} if the hand is soft, otherwise {@code false}.
+     */
+    public boolean isSoft() {
+        return aces > 0 && hardTotal + 10 <= 21;
+    }
+
+    /**
+     * Returns the best total of the hand: one Ace counts as 11 if that does not bust the hand,
+     * all others as 1.
+     *
+     * @return The best total.
+     */
+    protected int getBestTotal() {
+        return isSoft() ? hardTotal + 10 : hardTotal;
+    }
+
     /**
      * Gets the current state of the hand.
      *
@@ -77,5 +125,83 @@ public abstract class BJHand {
      * @return The numerical value of the hand.
      */
     public abstract int getHandValue();
-}
 
+    /* ======================
+       Card Tracking
+       ====================== */
+
+    /**
+     * Returns the contribution of a card to the hard total.
+     */
+    private static int hardValue(BJCard card) {
+        int value = card.getValue();
+        return value == 11 ? 1 : value;
+    }
+
+    private void cardAdded(BJCard card) {
+        hardTotal += hardValue(card);
+        if (card.getValue() == 11) {
+            aces++;
+        }
+    }
+
+    private void cardRemoved(BJCard card) {
+        hardTotal -= hardValue(card);
+        if (card.getValue() == 11) {
+            aces--;
+        }
+    }
+
+    /**
+     * The cards of the hand. Every change to the list, whether made directly or through its
+     * iterators and views, goes through {@link #add(int, BJCard)}, {@link #set(int, BJCard)}
+     * or {@link #remove(int)}, which keep the running totals of the hand in step.
+     */
+    private final class Cards extends AbstractList<BJCard> implements RandomAccess {
+        private BJCard[] cards = new BJCard[4];
+        private int size;
+
+        @Override
+        public BJCard get(int index) {
+            Objects.checkIndex(index, size);
+            return cards[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void add(int index, BJCard card) {
+            Objects.checkIndex(index, size + 1);
+            if (size == cards.length) {
+                cards = Arrays.copyOf(cards, size * 2);
+            }
+            System.arraycopy(cards, index, cards, index + 1, size - index);
+            cards[index] = card;
+            size++;
+            modCount++;
+            cardAdded(card);
+        }
+
+        @Override
+        public BJCard set(int index, BJCard card) {
+            BJCard previous = get(index);
+            cards[index] = card;
+            cardRemoved(previous);
+            cardAdded(card);
+            return previous;
+        }
+
+        @Override
+        public BJCard remove(int index) {
+            BJCard removed = get(index);
+            System.arraycopy(cards, index + 1, cards, index, size - index - 1);
+            cards[--size] = null;
+            modCount++;
+            cardRemoved(removed);
+            return removed;
+        }
+    }
+}
@@ -61,33 +61,14 @@ public class BJPlayerHand extends BJHand {
     }
 
     /**
-     * Calculates the total value of the player's hand according to Blackjack rules.
+     * Returns the total value of the player's hand according to Blackjack rules.
      * Aces are counted as 11 unless they cause the hand value to exceed 21, in which case they count as 1.
      *
      * @return The numerical value of the player's hand.
      */
     @Override
     public int getHandValue() {
-        int handValue = 0;
-        int aces = 0;
-
-        for (BJCard card : getHand()) {
-            int cardValue = card.getValue();
-            if (cardValue == 11) {
-                handValue += 11;
-                aces++;
-            } else {
-                handValue += cardValue;
-            }
-        }
-
-        // Adjust for Aces if the total value exceeds 21
-        while (handValue > 21 && aces > 0) {
-            handValue -= 10; // Convert an Ace from 11 to 1
-            aces--;
-        }
-
-        return handValue;
+        return getBestTotal();
     }
 
     /**
@@ -109,6 +90,15 @@ public class BJPlayerHand extends BJHand {
         this.isHandSplit = handSplit;
     }
 
+    /**
+     * Returns if the hand did come from a split.
+     *
+     * @return {@code true} if the hand has been split, otherwise {@code false}.
+     */
+    public boolean didComeFromSplit() {
+        return isHandSplit;
+    }
+
     /**
      * Checks if the hand is a split aces.
      * A hand is split aces if it contains exactly two cards and both are aces and did not split before.
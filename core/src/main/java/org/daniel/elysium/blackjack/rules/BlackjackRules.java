@@ -0,0 +1,289 @@
+package org.daniel.elysium.blackjack.rules;
+
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.models.Shoe;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The rule variant a Blackjack table plays: whether the dealer hits a soft 17, doubling after a
+ * split, how many hands a seat may split into, late surrender, the blackjack payout and the shoe.
+ * <p>
+ * Rules are immutable; every {@code with} method returns a copy with one rule changed, starting
+ * from {@link #STANDARD}. A table compiles its rules once with {@link #compile()} and then only
+ * consults the resulting {@link CompiledRules} during play.
+ * </p>
+ */
+public final class BlackjackRules {
+
+    /** The largest number of decks a shoe may hold. */
+    public static final int MAX_DECKS = 8;
+
+    /**
+     * The game's own rules: six decks dealt to 75%, the dealer hits soft 17, doubling after a split
+     * is allowed, a seat may split up to four hands, no surrender, and blackjack pays 3:2.
+     */
+    public static final BlackjackRules STANDARD = new BlackjackRules(true, true, 4, false, 3, 2, 6, 0.75);
+
+    private final boolean hitSoft17;
+    private final boolean doubleAfterSplit;
+    private final int maxHands;
+    private final boolean surrender;
+    private final int payoutNumerator;
+    private final int payoutDenominator;
+    private final int decks;
+    private final double penetration;
+
+    private BlackjackRules(boolean hitSoft17, boolean doubleAfterSplit, int maxHands, boolean surrender,
+                           int payoutNumerator, int payoutDenominator, int decks, double penetration) {
+        if (maxHands < 1) {
+            throw new IllegalArgumentException("A seat plays at least one hand: " + maxHands);
+        }
+        if (payoutNumerator <= 0 || payoutDenominator <= 0) {
+            throw new IllegalArgumentException("Invalid blackjack payout: " + payoutNumerator + ":" + payoutDenominator);
+        }
+        if (decks < 1 || decks > MAX_DECKS) {
+            throw new IllegalArgumentException("The shoe holds 1 to " + MAX_DECKS + " decks: " + decks);
+        }
+        if (!(penetration > 0 && penetration <= 1)) {
+            throw new IllegalArgumentException("Penetration must be above 0 and at most 1: " + penetration);
+        }
+        this.hitSoft17 = hitSoft17;
+        this.doubleAfterSplit = doubleAfterSplit;
+        this.maxHands = maxHands;
+        this.surrender = surrender;
+        this.payoutNumerator = payoutNumerator;
+        this.payoutDenominator = payoutDenominator;
+        this.decks = decks;
+        this.penetration = penetration;
+    }
+
+    /**
+     * Returns a copy in which the dealer hits (H17) or stands on (S17) a soft 17.
+     *
+     * @param hitSoft17 {@code true} for H17, {@code false} for S17
+     * @return the changed rules
+     */
+    public BlackjackRules withHitSoft17(boolean hitSoft17) {
+        return new BlackjackRules(hitSoft17, doubleAfterSplit, maxHands, surrender,
+                payoutNumerator, payoutDenominator, decks, penetration);
+    }
+
+    /**
+     * Returns a copy that does or does not allow doubling down on a hand created by a split.
+     *
+     * @param doubleAfterSplit {@code true} to allow doubling after a split
+     * @return the changed rules
+     */
+    public BlackjackRules withDoubleAfterSplit(boolean doubleAfterSplit) {
+        return new BlackjackRules(hitSoft17, doubleAfterSplit, maxHands, surrender,
+                payoutNumerator, payoutDenominator, decks, penetration);
+    }
+
+    /**
+     * Returns a copy with a different limit on the hands a seat may split into.
+     * A limit of 1 disallows splitting, 2 allows a single split without resplitting.
+     *
+     * @param maxHands the largest number of hands per seat
+     * @return the changed rules
+     * @throws IllegalArgumentException if {@code maxHands} is below 1
+     */
+    public BlackjackRules withMaxHands(int maxHands) {
+        return new BlackjackRules(hitSoft17, doubleAfterSplit, maxHands, surrender,
+                payoutNumerator, payoutDenominator, decks, penetration);
+    }
+
+    /**
+     * Returns a copy that does or does not offer late surrender, giving up the first two cards
+     * for half the bet once the dealer has checked for a blackjack.
+     *
+     * @param surrender {@code true} to offer surrender
+     * @return the changed rules
+     */
+    public BlackjackRules withSurrender(boolean surrender) {
+        return new BlackjackRules(hitSoft17, doubleAfterSplit, maxHands, surrender,
+                payoutNumerator, payoutDenominator, decks, penetration);
+    }
+
+    /**
+     * Returns a copy with a different blackjack payout, for example 3:2 or 6:5.
+     *
+     * @param numerator   the winnings per {@code denominator} units bet
+     * @param denominator the units bet
+     * @return the changed rules
+     * @throws IllegalArgumentException if either part is not positive
+     */
+    public BlackjackRules withBlackjackPayout(int numerator, int denominator) {
+        return new BlackjackRules(hitSoft17, doubleAfterSplit, maxHands, surrender,
+                numerator, denominator, decks, penetration);
+    }
+
+    /**
+     * Returns a copy dealing from a shoe of a different number of decks.
+     *
+     * @param decks the number of decks in the shoe
+     * @return the changed rules
+     * @throws IllegalArgumentException if {@code decks} is not between 1 and {@link #MAX_DECKS}
+     */
+    public BlackjackRules withDecks(int decks) {
+        return new BlackjackRules(hitSoft17, doubleAfterSplit, maxHands, surrender,
+                payoutNumerator, payoutDenominator, decks, penetration);
+    }
+
+    /**
+     * Returns a copy reshuffling the shoe after a different fraction of it is dealt.
+     *
+     * @param penetration the fraction of the shoe dealt before a reshuffle, above 0 and at most 1
+     * @return the changed rules
+     * @throws IllegalArgumentException if {@code penetration} is out of range
+     */
+    public BlackjackRules withPenetration(double penetration) {
+        return new BlackjackRules(hitSoft17, doubleAfterSplit, maxHands, surrender,
+                payoutNumerator, payoutDenominator, decks, penetration);
+    }
+
+    /**
+     * Compiles these rules into the lookup tables used during play.
+     *
+     * @return the compiled rules
+     */
+    public CompiledRules compile() {
+        return new CompiledRules(this);
+    }
+
+    /**
+     * Creates a newly shuffled shoe of {@link #getDecks()} decks, reshuffled at {@link #getPenetration()}.
+     *
+     * @return the new shoe
+     */
+    public Shoe<Card> createShoe() {
+        return Shoe.createShoe(decks, LetterDeck::new, penetration);
+    }
+
+    /**
+     * Creates a shoe of {@link #getDecks()} decks, reshuffled at {@link #getPenetration()},
+     * whose every shuffle is drawn from the given generator.
+     *
+     * @param seeds the generator of shuffle seeds, owned by the shoe from now on
+     * @return the new shoe
+     */
+    public Shoe<Card> createShoe(RandomGenerator seeds) {
+        return Shoe.createShoe(decks, LetterDeck::new, penetration, seeds);
+    }
+
+    /**
+     * Returns whether the dealer hits a soft 17.
+     *
+     * @return {@code true} for H17, {@code false} for S17
+     */
+    public boolean isHitSoft17() {
+        return hitSoft17;
+    }
+
+    /**
+     * Returns whether a hand created by a split may double down.
+     *
+     * @return {@code true} if doubling after a split is allowed
+     */
+    public boolean isDoubleAfterSplit() {
+        return doubleAfterSplit;
+    }
+
+    /**
+     * Returns the largest number of hands a seat may split into.
+     *
+     * @return the hand limit per seat
+     */
+    public int getMaxHands() {
+        return maxHands;
+    }
+
+    /**
+     * Returns whether late surrender is offered.
+     *
+     * @return {@code true} if a hand may surrender
+     */
+    public boolean isSurrender() {
+        return surrender;
+    }
+
+    /**
+     * Returns the winnings of a blackjack per {@link #getPayoutDenominator()} units bet.
+     *
+     * @return the payout numerator
+     */
+    public int getPayoutNumerator() {
+        return payoutNumerator;
+    }
+
+    /**
+     * Returns the units bet for {@link #getPayoutNumerator()} units of blackjack winnings.
+     *
+     * @return the payout denominator
+     */
+    public int getPayoutDenominator() {
+        return payoutDenominator;
+    }
+
+    /**
+     * Returns the number of decks in the shoe.
+     *
+     * @return the deck count
+     */
+    public int getDecks() {
+        return decks;
+    }
+
+    /**
+     * Returns the fraction of the shoe dealt before a reshuffle.
+     *
+     * @return the penetration, above 0 and at most 1
+     */
+    public double getPenetration() {
+        return penetration;
+    }
+
+    /**
+     * Returns a short description of the variant, for example
+     * {@code "6 decks, H17, DAS, 4 hands, 3:2, 75%"}.
+     *
+     * @return the description
+     */
+    @Override
+    public String toString() {
+        return decks + (decks == 1 ? " deck, " : " decks, ")
+                + (hitSoft17 ? "H17" : "S17")
+                + (doubleAfterSplit ? ", DAS" : ", no DAS")
+                + ", " + maxHands + (maxHands == 1 ? " hand" : " hands")
+                + (surrender ? ", surrender" : "")
+                + ", " + payoutNumerator + ":" + payoutDenominator
+                + ", " + Math.round(penetration * 100) + "%";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BlackjackRules other)) {
+            return false;
+        }
+        return hitSoft17 == other.hitSoft17 && doubleAfterSplit == other.doubleAfterSplit
+                && maxHands == other.maxHands && surrender == other.surrender
+                && payoutNumerator == other.payoutNumerator && payoutDenominator == other.payoutDenominator
+                && decks == other.decks && Double.compare(penetration, other.penetration) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(hitSoft17);
+        result = 31 * result + Boolean.hashCode(doubleAfterSplit);
+        result = 31 * result + maxHands;
+        result = 31 * result + Boolean.hashCode(surrender);
+        result = 31 * result + payoutNumerator;
+        result = 31 * result + payoutDenominator;
+        result = 31 * result + decks;
+        return 31 * result + Double.hashCode(penetration);
+    }
+}
@@ -0,0 +1,168 @@
+package org.daniel.elysium.blackjack.rules;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.models.BJHand;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+
+/**
+ * {@link BlackjackRules} compiled into flat lookup tables, so the checks made on every decision
+ * are a few array reads instead of a chain of rule conditions.
+ * <p>
+ * The actions available on a hand are precomputed as bit masks, one per combination of the hand's
+ * stage (first two cards, later cards, or split Aces), whether it came from a split, whether it is a
+ * pair, whether its seat may still split, and its best total. Whether the dealer draws is likewise
+ * one entry per best total and softness. Compiled rules are immutable and may be shared by any
+ * number of tables and threads.
+ * </p>
+ */
+public final class CompiledRules {
+
+    /* Best totals above 21 share the last slot, since a bust hand has no options */
+    private static final int TOTALS = 23;
+    private static final int STAGE_FIRST_CARDS = 0;
+    private static final int STAGE_LATER_CARDS = 1;
+    private static final int STAGE_SPLIT_ACES = 2;
+
+    private static final int HIT = mask(BJAction.HIT);
+    private static final int STAND = mask(BJAction.STAND);
+    private static final int DOUBLE = mask(BJAction.DOUBLE);
+    private static final int SPLIT = mask(BJAction.SPLIT);
+    private static final int SURRENDER = mask(BJAction.SURRENDER);
+
+    /** The compiled {@link BlackjackRules#STANDARD} rules; declared after the masks it is built from. */
+    public static final CompiledRules STANDARD = BlackjackRules.STANDARD.compile();
+
+    private final BlackjackRules rules;
+    private final int[] options = new int[3 * 2 * 2 * 2 * TOTALS];
+    private final boolean[] dealerHits = new boolean[2 * TOTALS];
+
+    CompiledRules(BlackjackRules rules) {
+        this.rules = rules;
+        for (int stage = 0; stage < 3; stage++) {
+            for (int split = 0; split < 2; split++) {
+                for (int pair = 0; pair < 2; pair++) {
+                    for (int room = 0; room < 2; room++) {
+                        for (int total = 0; total < TOTALS; total++) {
+                            options[optionIndex(stage, split, pair, room, total)] =
+                                    compileOptions(stage, split == 1, pair == 1, room == 1, total);
+                        }
+                    }
+                }
+            }
+        }
+        for (int total = 0; total < TOTALS; total++) {
+            dealerHits[total] = total < 17;
+            dealerHits[TOTALS + total] = total < 17 || (total == 17 && rules.isHitSoft17());
+        }
+    }
+
+    /**
+     * Returns the rules these tables were compiled from.
+     *
+     * @return the source rules
+     */
+    public BlackjackRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the actions available on a player's hand as a bit mask; test it with {@link #allows(int, BJAction)}.
+     *
+     * @param hand      the player's hand
+     * @param seatHands the number of hands its seat currently plays, counting split hands
+     * @return the mask of available actions, 0 if the hand is finished
+     */
+    public int getOptions(BJPlayerHand hand, int seatHands) {
+        int stage = hand.didComeFromSplitAces() ? STAGE_SPLIT_ACES
+                : hand.getHand().size() <= 2 ? STAGE_FIRST_CARDS : STAGE_LATER_CARDS;
+        return options[optionIndex(stage,
+                hand.didComeFromSplit() ? 1 : 0,
+                hand.isSplittable() ? 1 : 0,
+                seatHands < rules.getMaxHands() ? 1 : 0,
+                Math.min(hand.getHandValue(), TOTALS - 1))];
+    }
+
+    /**
+     * Returns whether the dealer draws another card to a hand under these rules.
+     *
+     * @param dealerHand the dealer's hand
+     * @return {@code true} below 17, and on a soft 17 when the dealer hits soft 17
+     */
+    public boolean dealerHits(BJHand dealerHand) {
+        int total = dealerHand.isSoft() ? dealerHand.getHardTotal() + 10 : dealerHand.getHardTotal();
+        return dealerHits[(dealerHand.isSoft() ? TOTALS : 0) + Math.min(total, TOTALS - 1)];
+    }
+
+    /**
+     * Returns the amount returned on a winning blackjack, the bet included.
+     *
+     * @param bet the bet on the hand
+     * @return the bet plus the blackjack winnings, rounded down
+     */
+    public int blackjackReturn(int bet) {
+        return bet + bet * rules.getPayoutNumerator() / rules.getPayoutDenominator();
+    }
+
+    /**
+     * Returns the amount returned on a surrendered hand: half the bet, rounded down.
+     *
+     * @param bet the bet on the hand
+     * @return the refunded amount
+     */
+    public int surrenderReturn(int bet) {
+        return bet / 2;
+    }
+
+    /**
+     * Returns whether an action is part of an options mask.
+     *
+     * @param options the mask returned by {@link #getOptions(BJPlayerHand, int)}
+     * @param action  the action to test
+     * @return {@code true} if the action is available
+     */
+    public static boolean allows(int options, BJAction action) {
+        return (options & mask(action)) != 0;
+    }
+
+    /**
+     * Returns the bit an action takes in an options mask, for building masks by hand.
+     *
+     * @param action the action
+     * @return the action's bit
+     */
+    public static int mask(BJAction action) {
+        return 1 << action.ordinal();
+    }
+
+    /* ======================
+       Table Compilation
+       ====================== */
+
+    /**
+     * Applies the rules to one combination of hand properties.
+     */
+    private int compileOptions(int stage, boolean split, boolean pair, boolean room, int total) {
+        if (stage == STAGE_SPLIT_ACES) {
+            // Split Aces receive a single card and have no decision to make
+            return 0;
+        }
+        int mask = 0;
+        if (total < 21) {
+            mask |= HIT | STAND;
+            if (stage == STAGE_FIRST_CARDS && (!split || rules.isDoubleAfterSplit())) {
+                mask |= DOUBLE;
+            }
+            if (stage == STAGE_FIRST_CARDS && !split && rules.isSurrender()) {
+                mask |= SURRENDER;
+            }
+        }
+        if (pair && room) {
+            mask |= SPLIT;
+        }
+        return mask;
+    }
+
+    private static int optionIndex(int stage, int split, int pair, int room, int total) {
+        return (((stage * 2 + split) * 2 + pair) * 2 + room) * TOTALS + total;
+    }
+}
@@ -0,0 +1,355 @@
+package org.daniel.elysium.blackjack.sim;
+
+import org.daniel.elysium.blackjack.BlackjackEngine;
+import org.daniel.elysium.blackjack.SettlementBatch;
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.constants.BJHandState;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.Shoe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays complete Blackjack rounds without any user interface, on a single shoe and thread.
+ * <p>
+ * A round follows the same flow as the game itself: two cards to every seat and the dealer,
+ * insurance when the dealer shows an Ace, an immediate end on a dealer blackjack, the player turns
+ * with hit, stand, double, split and surrender, the dealer drawing through {@link BJDealerHand#canDealCard},
+ * and settlement of all hands at once through {@link BlackjackEngine#settleHands}. Split hands are flagged so
+ * they cannot count as a blackjack, and split Aces receive a single card each. Which actions are
+ * allowed, when the dealer draws and what a blackjack pays follow the simulator's {@link CompiledRules}.
+ * </p>
+ * <p>
+ * The shoe is reshuffled between rounds once its cut card is reached. Should a round run out of
+ * cards anyway, the shoe is reshuffled mid-round rather than aborting the simulation.
+ * </p>
+ */
+public class BlackjackRoundSimulator {
+
+    /**
+     * The initial bet of every seat, the smallest one for which the 3:2 blackjack payout
+     * and the half-bet insurance stay whole chip amounts.
+     */
+    public static final int UNIT_BET = 2;
+
+    private final Shoe<Card> shoe;
+    private final PlayerStrategy strategy;
+    private final int seats;
+    private final CompiledRules rules;
+    private final List<BJPlayerHand> hands = new ArrayList<>();
+    private final SettlementBatch settlement;
+
+    private long seatRounds;
+    private long handCount;
+    private long wins;
+    private long losses;
+    private long pushes;
+    private long blackjacks;
+    private long wagered;
+    private long net;
+    private long netSquares;
+
+    /**
+     * Creates a round simulator playing the standard rules.
+     *
+     * @param shoe     the shoe to deal from, owned by this simulator
+     * @param strategy the strategy playing every seat
+     * @param seats    the number of seats played each round
+     * @throws IllegalArgumentException if {@code seats} is not positive
+     */
+    public BlackjackRoundSimulator(Shoe<Card> shoe, PlayerStrategy strategy, int seats) {
+        this(shoe, strategy, seats, CompiledRules.STANDARD);
+    }
+
+    /**
+     * Creates a round simulator playing the given rules.
+     *
+     * @param shoe     the shoe to deal from, owned by this simulator
+     * @param strategy the strategy playing every seat
+     * @param seats    the number of seats played each round
+     * @param rules    the compiled rules of the simulated table
+     * @throws IllegalArgumentException if {@code seats} is not positive
+     */
+    public BlackjackRoundSimulator(Shoe<Card> shoe, PlayerStrategy strategy, int seats, CompiledRules rules) {
+        if (seats <= 0) {
+            throw new IllegalArgumentException("At least one seat is required: " + seats);
+        }
+        this.shoe = shoe;
+        this.strategy = strategy;
+        this.seats = seats;
+        this.rules = rules;
+        this.settlement = new SettlementBatch(seats * 2);
+    }
+
+    /**
+     * Plays the given number of rounds.
+     *
+     * @param rounds the number of rounds to play
+     */
+    public void playRounds(long rounds) {
+        for (long i = 0; i < rounds; i++) {
+            playRound();
+        }
+    }
+
+    /**
+     * Plays a single round for every seat and records its outcome.
+     */
+    public void playRound() {
+        if (shoe.needsReshuffle()) {
+            reshuffle();
+        }
+
+        // Initial deal, one card at a time around the table
+        hands.clear();
+        for (int seat = 0; seat < seats; seat++) {
+            BJPlayerHand hand = new BJPlayerHand();
+            hand.setBet(UNIT_BET);
+            hands.add(hand);
+        }
+        BJDealerHand dealerHand = new BJDealerHand(rules);
+        for (int i = 0; i < 2; i++) {
+            for (BJPlayerHand hand : hands) {
+                hand.dealCard(dealVisible());
+            }
+            dealerHand.dealCard(i == 0 ? dealVisible() : deal());
+        }
+        BJCard upCard = dealerHand.getHand().get(0);
+
+        // Stakes are tracked per seat, so split hands are attributed to the seat they came from
+        long[] staked = new long[seats];
+        List<Integer> handSeats = new ArrayList<>(seats);
+        for (int seat = 0; seat < seats; seat++) {
+            staked[seat] = UNIT_BET;
+            handSeats.add(seat);
+        }
+
+        if (BlackjackEngine.isInsurance(dealerHand)) {
+            offerInsurance(dealerHand, staked);
+        }
+
+        if (!dealerHand.isBlackJack()) {
+            playPlayerTurns(upCard, handSeats, staked);
+            playDealerTurn(dealerHand);
+        }
+        strategy.onCardDealt(dealerHand.getHand().get(1));
+
+        settle(dealerHand, handSeats, staked);
+    }
+
+    /**
+     * Returns the outcome of every round played so far.
+     *
+     * @return the aggregated result
+     */
+    public SimulationResult getResult() {
+        return new SimulationResult(UNIT_BET, seatRounds, handCount, wins, losses, pushes,
+                blackjacks, wagered, net, netSquares);
+    }
+
+    /* ======================
+       Round Phases
+       ====================== */
+
+    /**
+     * Offers insurance to every seat without a blackjack and resolves the insurance bets
+     * that lose to a dealer without a blackjack.
+     */
+    private void offerInsurance(BJDealerHand dealerHand, long[] staked) {
+        for (int seat = 0; seat < seats; seat++) {
+            BJPlayerHand hand = hands.get(seat);
+            if (!hand.isBlackJack() && strategy.takeInsurance(hand)) {
+                hand.setInsuranceBet(hand.getBet() / 2);
+                hand.setState(BJHandState.INSURED);
+                staked[seat] += hand.getInsuranceBet();
+            }
+        }
+
+        if (!dealerHand.isBlackJack()) {
+            for (BJPlayerHand hand : hands) {
+                if (hand.getState() == BJHandState.INSURED) {
+                    hand.setState(BJHandState.UNDEFINED);
+                }
+            }
+        }
+    }
+
+    /**
+     * Plays every player hand in order, inserting split hands right after the hand they came from.
+     */
+    private void playPlayerTurns(BJCard upCard, List<Integer> handSeats, long[] staked) {
+        for (int i = 0; i < hands.size(); i++) {
+            BJPlayerHand hand = hands.get(i);
+            if (hand.getHand().size() == 2 && hand.isBlackJack()) {
+                continue;
+            }
+            if (hand.getHand().size() < 2) {
+                hand.dealCard(dealVisible());
+            }
+            if (hand.didComeFromSplitAces()) {
+                continue;
+            }
+
+            while (hand.getHandValue() < 21) {
+                int options = rules.getOptions(hand, seatHands(handSeats, handSeats.get(i)));
+                BJAction action = strategy.decide(hand, upCard, options);
+                if (action == BJAction.STAND) {
+                    break;
+                } else if (action == BJAction.DOUBLE && CompiledRules.allows(options, BJAction.DOUBLE)) {
+                    staked[handSeats.get(i)] += hand.getBet();
+                    hand.setBet(hand.getBet() * 2);
+                    hand.dealCard(dealVisible());
+                    break;
+                } else if (action == BJAction.SURRENDER && CompiledRules.allows(options, BJAction.SURRENDER)) {
+                    hand.setState(BJHandState.SURRENDERED);
+                    break;
+                } else if (action == BJAction.SPLIT && CompiledRules.allows(options, BJAction.SPLIT)) {
+                    staked[handSeats.get(i)] += hand.getBet();
+                    hands.add(i + 1, split(hand));
+                    handSeats.add(i + 1, handSeats.get(i));
+                    hand.dealCard(dealVisible());
+                    if (hand.didComeFromSplitAces()) {
+                        break;
+                    }
+                } else {
+                    hand.dealCard(dealVisible());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of hands a seat currently plays.
+     */
+    private static int seatHands(List<Integer> handSeats, int seat) {
+        int count = 0;
+        for (int handSeat : handSeats) {
+            if (handSeat == seat) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Splits the second card of a pair into a new hand carrying the same bet.
+     */
+    private BJPlayerHand split(BJPlayerHand hand) {
+        BJPlayerHand splitHand = new BJPlayerHand();
+        splitHand.setBet(hand.getBet());
+        if (hand.isSplitAces()) {
+            hand.setSplitAces(true);
+            splitHand.setSplitAces(true);
+        }
+        hand.setHandSplit(true);
+        splitHand.setHandSplit(true);
+        splitHand.dealCard(hand.getHand().remove(1));
+        return splitHand;
+    }
+
+    /**
+     * Draws dealer cards, unless every player hand has already busted, holds a blackjack or surrendered.
+     */
+    private void playDealerTurn(BJDealerHand dealerHand) {
+        boolean handsInPlay = false;
+        for (BJPlayerHand hand : hands) {
+            if (hand.getHandValue() <= 21 && hand.getState() != BJHandState.BLACKJACK
+                    && hand.getState() != BJHandState.SURRENDERED) {
+                handsInPlay = true;
+                break;
+            }
+        }
+        if (!handsInPlay) {
+            return;
+        }
+        while (dealerHand.canDealCard(peek())) {
+            dealerHand.dealCard(dealVisible());
+        }
+    }
+
+    /**
+     * Resolves every hand in one batch and records the net result of each seat.
+     */
+    private void settle(BJDealerHand dealerHand, List<Integer> handSeats, long[] staked) {
+        settlement.clear();
+        for (BJPlayerHand hand : hands) {
+            settlement.add(hand);
+        }
+        settlement.settle(dealerHand, rules);
+
+        long[] returned = new long[seats];
+        for (int i = 0; i < hands.size(); i++) {
+            BJPlayerHand hand = hands.get(i);
+            long handStake = hand.getBet() + hand.getInsuranceBet();
+            long handReturn = settlement.getReturned(i);
+            returned[handSeats.get(i)] += handReturn;
+
+            long handNet = handReturn - handStake;
+            if (handNet > 0) {
+                wins++;
+            } else if (handNet < 0) {
+                losses++;
+            } else {
+                pushes++;
+            }
+            if (settlement.getState(i) == BJHandState.BLACKJACK) {
+                blackjacks++;
+            }
+        }
+
+        for (int seat = 0; seat < seats; seat++) {
+            long seatNet = returned[seat] - staked[seat];
+            wagered += staked[seat];
+            net += seatNet;
+            netSquares += seatNet * seatNet;
+        }
+        seatRounds += seats;
+        handCount += hands.size();
+    }
+
+    /* ======================
+       Shoe Helpers
+       ====================== */
+
+    /**
+     * Deals a card face down, reshuffling first if the shoe ran out mid-round.
+     */
+    private BJCard deal() {
+        if (shoe.remaining() == 0) {
+            reshuffle();
+        }
+        return BJCard.of(shoe.deal());
+    }
+
+    /**
+     * Deals a card face up and shows it to the strategy.
+     */
+    private BJCard dealVisible() {
+        BJCard card = deal();
+        strategy.onCardDealt(card);
+        return card;
+    }
+
+    /**
+     * Returns the next card without dealing it, reshuffling first if the shoe ran out mid-round.
+     */
+    private BJCard peek() {
+        if (shoe.remaining() == 0) {
+            reshuffle();
+        }
+        return BJCard.of(shoe.peek());
+    }
+
+    /**
+     * Reshuffles the shoe and tells the strategy about it.
+     */
+    private void reshuffle() {
+        shoe.reshuffle();
+        strategy.onReshuffle();
+    }
+}
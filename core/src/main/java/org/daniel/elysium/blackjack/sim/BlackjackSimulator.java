@@ -0,0 +1,129 @@
+package org.daniel.elysium.blackjack.sim;
+
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+import org.daniel.elysium.models.Xoshiro256;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs headless Blackjack simulations across all available cores.
+ * <p>
+ * The requested rounds are split evenly between worker threads. Each worker owns an independent
+ * shoe, a {@link BlackjackRoundSimulator} and its own {@link PlayerStrategy} instance, so workers
+ * share nothing while playing. Their results are combined once every worker has finished.
+ * </p>
+ */
+public class BlackjackSimulator {
+
+    private final BlackjackRules rules;
+    private final CompiledRules compiledRules;
+    private final int seats;
+
+    /**
+     * Creates a simulator for a table playing the standard rules.
+     *
+     * @param numOfDecks  the number of decks in each shoe
+     * @param penetration the fraction of each shoe dealt before a reshuffle, between 0 and 1
+     * @param seats       the number of seats played each round
+     */
+    public BlackjackSimulator(int numOfDecks, double penetration, int seats) {
+        this(BlackjackRules.STANDARD.withDecks(numOfDecks).withPenetration(penetration), seats);
+    }
+
+    /**
+     * Creates a simulator for a table playing the given rules, which also set the size of each shoe.
+     *
+     * @param rules the rule variant of the table
+     * @param seats the number of seats played each round
+     */
+    public BlackjackSimulator(BlackjackRules rules, int seats) {
+        this.rules = rules;
+        this.compiledRules = rules.compile();
+        this.seats = seats;
+    }
+
+    /**
+     * Simulates rounds on one worker thread per available processor.
+     *
+     * @param rounds     the total number of rounds to play
+     * @param strategies supplies one strategy instance per worker thread
+     * @return the combined result of all workers
+     */
+    public SimulationResult run(long rounds, Supplier<? extends PlayerStrategy> strategies) {
+        return run(rounds, strategies, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Simulates rounds on the given number of worker threads, with freshly seeded shoes.
+     *
+     * @param rounds     the total number of rounds to play
+     * @param strategies supplies one strategy instance per worker thread
+     * @param threads    the number of worker threads
+     * @return the combined result of all workers
+     * @throws IllegalArgumentException if {@code threads} is not positive
+     * @throws IllegalStateException if a worker fails or the simulation is interrupted
+     */
+    public SimulationResult run(long rounds, Supplier<? extends PlayerStrategy> strategies, int threads) {
+        return run(rounds, strategies, threads, Xoshiro256.randomSeed());
+    }
+
+    /**
+     * Simulates rounds on the given number of worker threads, each shuffling from its own
+     * {@link Xoshiro256#stream(int) stream} of the seed. With deterministic strategies, the same seed
+     * and thread count always produce the same result.
+     *
+     * @param rounds     the total number of rounds to play
+     * @param strategies supplies one strategy instance per worker thread
+     * @param threads    the number of worker threads
+     * @param seed       the seed of every worker's shuffles
+     * @return the combined result of all workers
+     * @throws IllegalArgumentException if {@code threads} is not positive
+     * @throws IllegalStateException if a worker fails or the simulation is interrupted
+     */
+    public SimulationResult run(long rounds, Supplier<? extends PlayerStrategy> strategies, int threads, long seed) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("At least one thread is required: " + threads);
+        }
+
+        Xoshiro256 random = new Xoshiro256(seed);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<SimulationResult>> futures = new ArrayList<>(threads);
+            for (int worker = 0; worker < threads; worker++) {
+                long workerRounds = rounds / threads + (worker < rounds % threads ? 1 : 0);
+                PlayerStrategy strategy = strategies.get();
+                Xoshiro256 stream = random.stream(worker);
+                futures.add(executor.submit(() -> simulate(workerRounds, strategy, stream)));
+            }
+
+            SimulationResult result = SimulationResult.empty(BlackjackRoundSimulator.UNIT_BET);
+            for (Future<SimulationResult> future : futures) {
+                result = result.combine(future.get());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays the rounds of a single worker on its own shoe.
+     */
+    private SimulationResult simulate(long rounds, PlayerStrategy strategy, Xoshiro256 random) {
+        BlackjackRoundSimulator simulator = new BlackjackRoundSimulator(rules.createShoe(random), strategy, seats, compiledRules);
+        simulator.playRounds(rounds);
+        return simulator.getResult();
+    }
+}
@@ -0,0 +1,64 @@
+package org.daniel.elysium.blackjack.sim;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+
+/**
+ * Decides how a simulated player plays its hands.
+ * <p>
+ * Every simulation worker thread gets its own strategy instance, so an implementation may keep
+ * state (for example a running count) without synchronization.
+ * </p>
+ */
+public interface PlayerStrategy {
+
+    /**
+     * Chooses the next action for a hand.
+     * An action that the table's rules do not allow on the hand (a double after the first two cards,
+     * a split of a hand that is not a pair, or a surrender where none is offered) is played as {@link BJAction#HIT}.
+     *
+     * @param hand         the player's hand, holding at least two cards and a value below 21
+     * @param dealerUpCard the dealer's face-up card
+     * @return the action to play
+     */
+    BJAction decide(BJPlayerHand hand, BJCard dealerUpCard);
+
+    /**
+     * Chooses the next action for a hand knowing which actions the table's rules allow on it.
+     * The simulator calls this method; by default it ignores the options and calls {@link #decide(BJPlayerHand, BJCard)}.
+     *
+     * @param hand         the player's hand, holding at least two cards and a value below 21
+     * @param dealerUpCard the dealer's face-up card
+     * @param options      the allowed actions, as returned by {@link CompiledRules#getOptions}
+     * @return the action to play
+     */
+    default BJAction decide(BJPlayerHand hand, BJCard dealerUpCard, int options) {
+        return decide(hand, dealerUpCard);
+    }
+
+    /**
+     * Decides whether to insure a hand when the dealer shows an Ace.
+     *
+     * @param hand the player's hand, holding its first two cards
+     * @return {@code true} to place an insurance bet of half the original bet
+     */
+    default boolean takeInsurance(BJPlayerHand hand) {
+        return false;
+    }
+
+    /**
+     * Observes a card as it is dealt face up, including the dealer's cards once exposed.
+     *
+     * @param card the dealt card
+     */
+    default void onCardDealt(BJCard card) {
+    }
+
+    /**
+     * Observes a reshuffle of the shoe.
+     */
+    default void onReshuffle() {
+    }
+}
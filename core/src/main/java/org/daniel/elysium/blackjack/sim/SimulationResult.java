@@ -0,0 +1,99 @@
+package org.daniel.elysium.blackjack.sim;
+
+/**
+ * Aggregated outcome of a Blackjack simulation.
+ * <p>
+ * A seat round is one initial bet of {@code unitBet} chips played to the end, including every hand
+ * split from it. Hands are counted after splitting and classified by their net result, so an insured
+ * hand that loses to a dealer blackjack counts as a push. All amounts are in chips.
+ * </p>
+ *
+ * @param unitBet     the initial bet of every seat round
+ * @param seatRounds  the number of seat rounds played
+ * @param hands       the number of hands settled, splits included
+ * @param wins        the number of hands with a positive net result
+ * @param losses      the number of hands with a negative net result
+ * @param pushes      the number of hands with a zero net result
+ * @param blackjacks  the number of player blackjacks
+ * @param wagered     the total amount staked, doubles, splits and insurance included
+ * @param net         the total net result for the player
+ * @param netSquares  the sum of the squared net result of every seat round
+ */
+public record SimulationResult(int unitBet, long seatRounds, long hands, long wins, long losses, long pushes,
+                               long blackjacks, long wagered, long net, long netSquares) {
+
+    /**
+     * Creates an empty result.
+     *
+     * @param unitBet the initial bet of every seat round
+     * @return a result with every counter at zero
+     */
+    public static SimulationResult empty(int unitBet) {
+        return new SimulationResult(unitBet, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Combines this result with another one played at the same unit bet.
+     *
+     * @param other the result to add
+     * @return the combined result
+     * @throws IllegalArgumentException if the unit bets differ
+     */
+    public SimulationResult combine(SimulationResult other) {
+        if (other.unitBet != unitBet) {
+            throw new IllegalArgumentException("Cannot combine results of different unit bets");
+        }
+        return new SimulationResult(unitBet,
+                seatRounds + other.seatRounds,
+                hands + other.hands,
+                wins + other.wins,
+                losses + other.losses,
+                pushes + other.pushes,
+                blackjacks + other.blackjacks,
+                wagered + other.wagered,
+                net + other.net,
+                netSquares + other.netSquares);
+    }
+
+    /**
+     * Returns the expected value of a seat round, in initial bets.
+     * A negative value is the house edge.
+     *
+     * @return the mean net result per initial bet
+     */
+    public double expectedValue() {
+        return seatRounds == 0 ? 0 : (double) net / seatRounds / unitBet;
+    }
+
+    /**
+     * Returns the standard deviation of the net result of a seat round, in initial bets.
+     *
+     * @return the standard deviation per initial bet
+     */
+    public double standardDeviation() {
+        if (seatRounds == 0) {
+            return 0;
+        }
+        double mean = (double) net / seatRounds;
+        double variance = (double) netSquares / seatRounds - mean * mean;
+        return Math.sqrt(Math.max(0, variance)) / unitBet;
+    }
+
+    /**
+     * Returns the standard error of {@link #expectedValue()}.
+     *
+     * @return the standard deviation divided by the square root of the seat rounds played
+     */
+    public double standardError() {
+        return seatRounds == 0 ? 0 : standardDeviation() / Math.sqrt(seatRounds);
+    }
+
+    /**
+     * Returns the net result relative to the total amount staked.
+     *
+     * @return the net result per chip wagered
+     */
+    public double returnOnWagered() {
+        return wagered == 0 ? 0 : (double) net / wagered;
+    }
+}
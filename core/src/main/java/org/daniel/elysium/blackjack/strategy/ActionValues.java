@@ -0,0 +1,52 @@
+package org.daniel.elysium.blackjack.strategy;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+
+/**
+ * The expected value of every action on a hand, in units of the hand's original bet.
+ * Actions that were not evaluated, because the rules or the hand do not allow them, are {@link Double#NaN}.
+ *
+ * @param stand      the expected value of standing
+ * @param hit        the expected value of hitting and then playing on optimally
+ * @param doubleDown the expected value of doubling down
+ * @param split      the expected value of splitting, both hands together
+ * @param surrender  the expected value of surrendering
+ */
+public record ActionValues(double stand, double hit, double doubleDown, double split, double surrender) {
+
+    /**
+     * Returns the expected value of an action.
+     *
+     * @param action the action
+     * @return its expected value, or {@link Double#NaN} if it was not evaluated
+     */
+    public double get(BJAction action) {
+        return switch (action) {
+            case STAND -> stand;
+            case HIT -> hit;
+            case DOUBLE -> doubleDown;
+            case SPLIT -> split;
+            case SURRENDER -> surrender;
+        };
+    }
+
+    /**
+     * Returns the evaluated action with the highest expected value among the allowed ones.
+     *
+     * @param options the allowed actions, as returned by {@link CompiledRules#getOptions}
+     * @return the best action, or {@link BJAction#STAND} if none of the allowed actions was evaluated
+     */
+    public BJAction best(int options) {
+        BJAction best = BJAction.STAND;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (BJAction action : BJAction.values()) {
+            double value = get(action);
+            if (CompiledRules.allows(options, action) && !Double.isNaN(value) && value > bestValue) {
+                best = action;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+}
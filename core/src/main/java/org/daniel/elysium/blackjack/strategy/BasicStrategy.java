@@ -0,0 +1,60 @@
+package org.daniel.elysium.blackjack.strategy;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.sim.PlayerStrategy;
+
+/**
+ * A simulated player following a {@link StrategyTable} and never taking insurance.
+ * The table is read-only, so one instance may be shared by every simulation worker.
+ */
+public class BasicStrategy implements PlayerStrategy {
+
+    private final StrategyTable table;
+
+    /**
+     * Creates a strategy following the table of a rule variant, reading or computing it first.
+     *
+     * @param rules the rule variant
+     */
+    public BasicStrategy(BlackjackRules rules) {
+        this(StrategyTable.forRules(rules));
+    }
+
+    /**
+     * Creates a strategy following a table.
+     *
+     * @param table the strategy table
+     */
+    public BasicStrategy(StrategyTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Returns the table's action for a hand that is allowed to play its first two cards in any way,
+     * played as {@link BJAction#HIT} by the simulator where the rules forbid it.
+     *
+     * @param hand         the player's hand
+     * @param dealerUpCard the dealer's face-up card
+     * @return the action to play
+     */
+    @Override
+    public BJAction decide(BJPlayerHand hand, BJCard dealerUpCard) {
+        return decide(hand, dealerUpCard, ~0);
+    }
+
+    /**
+     * Returns the table's action for a hand among the allowed actions.
+     *
+     * @param hand         the player's hand
+     * @param dealerUpCard the dealer's face-up card
+     * @param options      the allowed actions
+     * @return the action to play
+     */
+    @Override
+    public BJAction decide(BJPlayerHand hand, BJCard dealerUpCard, int options) {
+        return table.getAction(hand, dealerUpCard, options);
+    }
+}
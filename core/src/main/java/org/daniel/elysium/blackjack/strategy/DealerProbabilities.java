@@ -0,0 +1,248 @@
+package org.daniel.elysium.blackjack.strategy;
+
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.daniel.elysium.blackjack.strategy.StrategyCalculator.ACE;
+import static org.daniel.elysium.blackjack.strategy.StrategyCalculator.RANKS;
+import static org.daniel.elysium.blackjack.strategy.StrategyCalculator.TEN;
+
+/**
+ * Computes the exact distribution of the dealer's final total for an up card and the cards left in the shoe.
+ * <p>
+ * The dealer's play only depends on which cards it holds, not on their order, so every hand the dealer
+ * can hold before standing is one state of a small graph, built once per up card and soft 17 rule
+ * and shared by all instances. A query walks the graph backwards from the longest hands, weighting each
+ * draw by the cards still left once the state's own cards are taken out, which accounts for depletion
+ * exactly. Queries reuse the instance's scratch arrays, so an instance must be confined to one thread.
+ * </p>
+ */
+public final class DealerProbabilities {
+
+    /** The number of outcomes: final totals 17 to 21, then a bust. */
+    public static final int OUTCOMES = 6;
+
+    /** The index of a bust among the outcomes; a final total {@code t} has index {@code t - 17}. */
+    public static final int BUST = 5;
+
+    private static final Graph[] HIT_SOFT_17 = Graph.build(true);
+    private static final Graph[] STAND_SOFT_17 = Graph.build(false);
+
+    private final Graph[] graphs;
+    private final double[] values;
+
+    /**
+     * Creates a calculator for the dealer's soft 17 rule of a rule variant.
+     *
+     * @param rules the rule variant
+     */
+    public DealerProbabilities(BlackjackRules rules) {
+        this.graphs = rules.isHitSoft17() ? HIT_SOFT_17 : STAND_SOFT_17;
+        int states = 0;
+        for (Graph graph : graphs) {
+            states = Math.max(states, graph.size());
+        }
+        this.values = new double[states * OUTCOMES];
+    }
+
+    /**
+     * Returns the number of dealer hands the graph of an up card holds, for diagnostics.
+     *
+     * @param up the rank index of the up card
+     * @return the number of states
+     */
+    public int getStateCount(int up) {
+        return graphs[up].size();
+    }
+
+    /**
+     * Computes the probabilities of the dealer's final totals into a caller-provided array.
+     *
+     * @param up      the rank index of the up card
+     * @param counts  the cards left per rank index, excluding the up card and including the hole card
+     * @param peeked  {@code true} if the dealer is known not to hold a blackjack, as once the players act
+     * @param outcomes receives the probability of each outcome, indexed as described at {@link #OUTCOMES}
+     * @throws IllegalArgumentException if an array has the wrong length
+     */
+    public void compute(int up, int[] counts, boolean peeked, double[] outcomes) {
+        if (counts.length != RANKS || outcomes.length != OUTCOMES) {
+            throw new IllegalArgumentException("Expected " + RANKS + " counts and " + OUTCOMES + " outcomes");
+        }
+        Graph graph = graphs[up];
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        int excluded = !peeked ? -1 : up == ACE ? TEN : up == TEN ? ACE : -1;
+
+        for (int state = graph.size() - 1; state >= 0; state--) {
+            int base = state * OUTCOMES;
+            Arrays.fill(values, base, base + OUTCOMES, 0);
+            int drawable = total - graph.drawn[state];
+            if (state == 0 && excluded >= 0) {
+                drawable -= counts[excluded];
+            }
+            if (drawable <= 0) {
+                continue;
+            }
+            for (int rank = 0; rank < RANKS; rank++) {
+                int left = counts[rank] - graph.cards[state * RANKS + rank];
+                if (left <= 0 || (state == 0 && rank == excluded)) {
+                    continue;
+                }
+                double p = (double) left / drawable;
+                int next = graph.next[state * RANKS + rank];
+                if (next < 0) {
+                    values[base - next - 1] += p;
+                } else {
+                    int from = next * OUTCOMES;
+                    for (int outcome = 0; outcome < OUTCOMES; outcome++) {
+                        values[base + outcome] += p * values[from + outcome];
+                    }
+                }
+            }
+        }
+        System.arraycopy(values, 0, outcomes, 0, OUTCOMES);
+    }
+
+    /**
+     * Computes the probabilities of the dealer's final totals.
+     *
+     * @param up     the rank index of the up card
+     * @param counts the cards left per rank index, excluding the up card and including the hole card
+     * @param peeked {@code true} if the dealer is known not to hold a blackjack
+     * @return the probability of each outcome
+     */
+    public double[] compute(int up, int[] counts, boolean peeked) {
+        double[] outcomes = new double[OUTCOMES];
+        compute(up, counts, peeked, outcomes);
+        return outcomes;
+    }
+
+    /**
+     * Returns the probability that the hole card completes a blackjack.
+     *
+     * @param up     the rank index of the up card
+     * @param counts the cards left per rank index, excluding the up card and including the hole card
+     * @return the blackjack probability, 0 unless the up card is an Ace or ten-valued
+     */
+    public static double blackjackProbability(int up, int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        if (total == 0 || (up != ACE && up != TEN)) {
+            return 0;
+        }
+        return (double) counts[up == ACE ? TEN : ACE] / total;
+    }
+
+    /**
+     * Returns the expected value of an insurance bet against an Ace, per unit insured:
+     * it pays 2:1 when the hole card is ten-valued and is lost otherwise.
+     *
+     * @param counts the cards left per rank index, excluding the Ace and including the hole card
+     * @return the expected value, positive when insurance is worth taking
+     */
+    public static double insuranceValue(int[] counts) {
+        double blackjack = blackjackProbability(ACE, counts);
+        return 3 * blackjack - 1;
+    }
+
+    /* ======================
+       State Graph
+       ====================== */
+
+    /**
+     * The dealer hands reachable from one up card before the dealer stands, in order of their card
+     * count, so every successor of a state comes after it.
+     */
+    private static final class Graph {
+        /* Cards held per state and rank, the up card excluded */
+        private final byte[] cards;
+        /* Cards drawn per state */
+        private final int[] drawn;
+        /* Successor per state and rank: a state index, or -(outcome + 1) once the dealer stands or busts */
+        private final int[] next;
+
+        private Graph(byte[] cards, int[] drawn, int[] next) {
+            this.cards = cards;
+            this.drawn = drawn;
+            this.next = next;
+        }
+
+        int size() {
+            return drawn.length;
+        }
+
+        static Graph[] build(boolean hitSoft17) {
+            Graph[] graphs = new Graph[RANKS];
+            for (int up = 0; up < RANKS; up++) {
+                graphs[up] = build(up, hitSoft17);
+            }
+            return graphs;
+        }
+
+        /**
+         * Builds the graph of one up card breadth first, merging hands that hold the same cards.
+         */
+        private static Graph build(int up, boolean hitSoft17) {
+            List<byte[]> states = new ArrayList<>();
+            Map<String, Integer> index = new HashMap<>();
+            List<int[]> successors = new ArrayList<>();
+            states.add(new byte[RANKS]);
+            index.put(Arrays.toString(states.get(0)), 0);
+
+            for (int state = 0; state < states.size(); state++) {
+                byte[] held = states.get(state);
+                int hard = up + 1;
+                for (int rank = 0; rank < RANKS; rank++) {
+                    hard += held[rank] * (rank + 1);
+                }
+                boolean ace = up == ACE || held[ACE] > 0;
+
+                int[] next = new int[RANKS];
+                for (int rank = 0; rank < RANKS; rank++) {
+                    int newHard = hard + rank + 1;
+                    int total = (ace || rank == ACE) && newHard + 10 <= 21 ? newHard + 10 : newHard;
+                    boolean soft = total != newHard;
+                    if (total > 21) {
+                        next[rank] = -(BUST + 1);
+                    } else if (total >= 17 && !(total == 17 && soft && hitSoft17)) {
+                        next[rank] = -(total - 17 + 1);
+                    } else {
+                        byte[] child = held.clone();
+                        child[rank]++;
+                        String key = Arrays.toString(child);
+                        Integer existing = index.get(key);
+                        if (existing == null) {
+                            existing = states.size();
+                            states.add(child);
+                            index.put(key, existing);
+                        }
+                        next[rank] = existing;
+                    }
+                }
+                successors.add(next);
+            }
+
+            byte[] cards = new byte[states.size() * RANKS];
+            int[] drawn = new int[states.size()];
+            int[] next = new int[states.size() * RANKS];
+            for (int state = 0; state < states.size(); state++) {
+                byte[] held = states.get(state);
+                System.arraycopy(held, 0, cards, state * RANKS, RANKS);
+                System.arraycopy(successors.get(state), 0, next, state * RANKS, RANKS);
+                for (byte count : held) {
+                    drawn[state] += count;
+                }
+            }
+            return new Graph(cards, drawn, next);
+        }
+    }
+}
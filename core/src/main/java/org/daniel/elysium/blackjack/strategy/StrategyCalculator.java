@@ -0,0 +1,391 @@
+package org.daniel.elysium.blackjack.strategy;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Computes the exact expected value of every Blackjack action by recursion over the cards left in the shoe.
+ * <p>
+ * Cards are counted per rank index, {@code 0} for an Ace, {@code 1} to {@code 8} for Two to Nine
+ * and {@code 9} for every ten-valued card. For one dealer up card, the dealer's final totals are
+ * computed by {@link DealerProbabilities} for every composition the player's cards can leave in the
+ * shoe, conditioned on the dealer not holding a blackjack, as play only reaches a decision then.
+ * The player's values follow by recursion over every card they may draw. Both are memoized by the
+ * cards removed from the shoe, which under a fixed starting composition identifies the remaining composition.
+ * </p>
+ * <p>
+ * Two simplifications keep the recursion small: a split is valued as twice one split hand playing
+ * against the shoe without both pair cards, without resplitting, and the player's draws ignore the
+ * dealer's hole card other than knowing it makes no blackjack.
+ * </p>
+ */
+public class StrategyCalculator {
+
+    /** The number of rank indices, the ten-valued cards sharing one. */
+    public static final int RANKS = 10;
+
+    static final int ACE = 0;
+    static final int TEN = 9;
+
+    /* Five bits per rank hold any hand of at most 21, then four bits for the other split card */
+    private static final int KEY_BITS = 5;
+    private static final int EXTRA_SHIFT = RANKS * KEY_BITS;
+
+    private final BlackjackRules rules;
+
+    /**
+     * Creates a calculator for a rule variant.
+     *
+     * @param rules the rules deciding the shoe, the dealer's soft 17, doubling after splits, splitting and surrender
+     */
+    public StrategyCalculator(BlackjackRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Returns the rank index of a card.
+     *
+     * @param card the card
+     * @return {@code 0} for an Ace, the value minus one for every other card
+     */
+    public static int rankOf(BJCard card) {
+        return card.getValue() == 11 ? ACE : card.getValue() - 1;
+    }
+
+    /**
+     * Returns the composition of a full shoe under the calculator's rules.
+     *
+     * @return the number of cards per rank index
+     */
+    public int[] getFullShoe() {
+        int[] counts = new int[RANKS];
+        for (int rank = 0; rank < RANKS; rank++) {
+            counts[rank] = rules.getDecks() * (rank == TEN ? 16 : 4);
+        }
+        return counts;
+    }
+
+    /**
+     * Computes the basic strategy for a full shoe, one dealer up card per parallel task.
+     *
+     * @return the strategy table
+     */
+    public StrategyTable computeBasicStrategy() {
+        StrategyTable table = new StrategyTable(rules);
+        IntStream.range(0, RANKS).parallel().forEach(up -> computeColumn(table, up));
+        return table;
+    }
+
+    /**
+     * Computes the values of a hand against the cards actually left in the shoe.
+     *
+     * @param hand    the player's hand, holding at least two cards
+     * @param upCard  the dealer's up card
+     * @param unseen  the number of unseen cards per rank index, excluding the hand and the up card
+     * @param options the allowed actions, as returned by {@link CompiledRules#getOptions}
+     * @return the value of every allowed action
+     * @throws IllegalArgumentException if {@code unseen} does not hold one count per rank index
+     */
+    public ActionValues evaluate(BJPlayerHand hand, BJCard upCard, int[] unseen, int options) {
+        if (unseen.length != RANKS) {
+            throw new IllegalArgumentException("Expected " + RANKS + " rank counts: " + unseen.length);
+        }
+        // The evaluation removes the hand's cards itself, so they are put back first
+        int[] shoe = unseen.clone();
+        int[] cards = new int[RANKS];
+        List<BJCard> handCards = hand.getHand();
+        for (BJCard card : handCards) {
+            shoe[rankOf(card)]++;
+            cards[rankOf(card)]++;
+        }
+        boolean split = CompiledRules.allows(options, BJAction.SPLIT) && hand.isSplittable();
+        return new Evaluation(shoe, rankOf(upCard)).values(cards, options,
+                split ? rankOf(handCards.get(0)) : -1);
+    }
+
+    /* ======================
+       Basic Strategy
+       ====================== */
+
+    /**
+     * Fills one up card's column of the table from the values of every two-card starting hand,
+     * each weighted by its probability of being dealt.
+     */
+    private void computeColumn(StrategyTable table, int up) {
+        int[] shoe = getFullShoe();
+        shoe[up]--;
+        Evaluation evaluation = new Evaluation(shoe, up);
+        int firstCards = CompiledRules.mask(BJAction.HIT) | CompiledRules.mask(BJAction.STAND)
+                | CompiledRules.mask(BJAction.DOUBLE) | (rules.isSurrender() ? CompiledRules.mask(BJAction.SURRENDER) : 0);
+
+        double[][] hard = new double[22][BJAction.values().length];
+        double[][] soft = new double[22][BJAction.values().length];
+        double[] hardWeight = new double[22];
+        double[] softWeight = new double[22];
+        double[][] pairHard = new double[22][BJAction.values().length];
+        double[][] pairSoft = new double[22][BJAction.values().length];
+
+        for (int first = 0; first < RANKS; first++) {
+            for (int second = first; second < RANKS; second++) {
+                int hardTotal = first + second + 2;
+                boolean isSoft = first == ACE && hardTotal + 10 <= 21;
+                if (isSoft && hardTotal + 10 == 21) {
+                    // A blackjack is paid at once
+                    continue;
+                }
+                int[] cards = new int[RANKS];
+                cards[first]++;
+                cards[second]++;
+                boolean pair = first == second;
+                ActionValues values = evaluation.values(cards, firstCards,
+                        pair && rules.getMaxHands() > 1 ? first : -1);
+
+                table.setCombination(first, second, up, cell(values, firstCards));
+                if (pair) {
+                    table.setSplit(first, up, values.split() > values.get(values.best(firstCards)));
+                }
+
+                // Pairs only count towards a total no other two cards make
+                int total = isSoft ? hardTotal + 10 : hardTotal;
+                if (pair) {
+                    accumulate(isSoft ? pairSoft[total] : pairHard[total], values, 1);
+                } else {
+                    double weight = 2.0 * shoe[first] * shoe[second];
+                    accumulate(isSoft ? soft[total] : hard[total], values, weight);
+                    (isSoft ? softWeight : hardWeight)[total] += weight;
+                }
+            }
+        }
+
+        for (int total = StrategyTable.HARD_MIN; total <= 21; total++) {
+            table.setHard(total, up, total == 21 ? StrategyTable.cell(BJAction.STAND, BJAction.STAND)
+                    : cell(hardWeight[total] > 0 ? hard[total] : pairHard[total], firstCards));
+        }
+        for (int total = StrategyTable.SOFT_MIN; total <= 21; total++) {
+            table.setSoft(total, up, total == 21 ? StrategyTable.cell(BJAction.STAND, BJAction.STAND)
+                    : cell(softWeight[total] > 0 ? soft[total] : pairSoft[total], firstCards));
+        }
+    }
+
+    /**
+     * Adds the weighted values of a hand to the sums of its table cell, indexed by action.
+     * Only the ratios between the sums of one cell matter, so they are never normalized.
+     */
+    private static void accumulate(double[] sums, ActionValues values, double weight) {
+        for (BJAction action : BJAction.values()) {
+            double value = values.get(action);
+            if (!Double.isNaN(value)) {
+                sums[action.ordinal()] += value * weight;
+            }
+        }
+    }
+
+    /**
+     * Returns the cell of the best action, and of the better of hitting and standing for when it is not allowed.
+     */
+    private static int cell(ActionValues values, int options) {
+        BJAction primary = values.best(options);
+        BJAction fallback = values.best(CompiledRules.mask(BJAction.HIT) | CompiledRules.mask(BJAction.STAND));
+        return StrategyTable.cell(primary, fallback);
+    }
+
+    private static int cell(double[] sums, int options) {
+        return cell(new ActionValues(sums[BJAction.STAND.ordinal()], sums[BJAction.HIT.ordinal()],
+                sums[BJAction.DOUBLE.ordinal()], Double.NaN, sums[BJAction.SURRENDER.ordinal()]), options);
+    }
+
+    /* ======================
+       Recursion
+       ====================== */
+
+    /**
+     * The memoized values against one dealer up card and one starting composition.
+     * An evaluation is confined to the thread that created it.
+     */
+    private final class Evaluation {
+        private final int[] shoe;
+        private final int up;
+        private final Map<Long, double[]> dealer = new HashMap<>();
+        private final Map<Long, Double> best = new HashMap<>();
+        private final int[] remaining = new int[RANKS];
+        private final DealerProbabilities dealerProbabilities = new DealerProbabilities(rules);
+
+        /**
+         * @param shoe the composition before the player's cards are removed, excluding the up card
+         * @param up   the rank index of the dealer's up card
+         */
+        Evaluation(int[] shoe, int up) {
+            this.shoe = shoe;
+            this.up = up;
+        }
+
+        /**
+         * Returns the values of a hand at a decision, with the split valued as splitting {@code splitRank}.
+         */
+        ActionValues values(int[] cards, int options, int splitRank) {
+            double stand = stand(cards, -1);
+            if (total(cards) >= 21) {
+                return new ActionValues(stand, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+            }
+            double hit = CompiledRules.allows(options, BJAction.HIT) ? hit(cards, -1) : Double.NaN;
+            double doubleDown = CompiledRules.allows(options, BJAction.DOUBLE) ? doubleDown(cards, -1) : Double.NaN;
+            double surrender = CompiledRules.allows(options, BJAction.SURRENDER) ? -0.5 : Double.NaN;
+            double split = splitRank >= 0 ? split(splitRank) : Double.NaN;
+            return new ActionValues(stand, hit, doubleDown, split, surrender);
+        }
+
+        /**
+         * Returns the value of standing, from the dealer's outcomes against the remaining shoe.
+         */
+        private double stand(int[] cards, int extra) {
+            int total = total(cards);
+            if (total > 21) {
+                return -1;
+            }
+            double[] outcomes = dealerOutcomes(cards, extra);
+            double value = outcomes[DealerProbabilities.BUST];
+            for (int dealerTotal = 17; dealerTotal <= 21; dealerTotal++) {
+                value += Integer.signum(total - dealerTotal) * outcomes[dealerTotal - 17];
+            }
+            return value;
+        }
+
+        /**
+         * Returns the value of drawing a card and then playing on optimally.
+         */
+        private double hit(int[] cards, int extra) {
+            int count = remaining(cards, extra);
+            int[] draw = remaining.clone();
+            double value = 0;
+            for (int rank = 0; rank < RANKS; rank++) {
+                if (draw[rank] == 0) {
+                    continue;
+                }
+                cards[rank]++;
+                value += (double) draw[rank] / count * best(cards, extra);
+                cards[rank]--;
+            }
+            return value;
+        }
+
+        /**
+         * Returns the value of doubling: twice the value of standing after exactly one card.
+         */
+        private double doubleDown(int[] cards, int extra) {
+            int count = remaining(cards, extra);
+            int[] draw = remaining.clone();
+            double value = 0;
+            for (int rank = 0; rank < RANKS; rank++) {
+                if (draw[rank] == 0) {
+                    continue;
+                }
+                cards[rank]++;
+                value += (double) draw[rank] / count * stand(cards, extra);
+                cards[rank]--;
+            }
+            return 2 * value;
+        }
+
+        /**
+         * Returns the value of splitting a pair: twice one hand that holds one pair card, with the other
+         * pair card out of the shoe. Split Aces take one card each; other hands play on, doubling if allowed.
+         */
+        private double split(int rank) {
+            int[] cards = new int[RANKS];
+            cards[rank] = 1;
+            int count = remaining(cards, rank);
+            int[] draw = remaining.clone();
+            double value = 0;
+            for (int next = 0; next < RANKS; next++) {
+                if (draw[next] == 0) {
+                    continue;
+                }
+                cards[next]++;
+                double hand;
+                if (rank == ACE) {
+                    hand = stand(cards, rank);
+                } else {
+                    hand = best(cards, rank);
+                    if (rules.isDoubleAfterSplit() && total(cards) < 21) {
+                        hand = Math.max(hand, doubleDown(cards, rank));
+                    }
+                }
+                value += (double) draw[next] / count * hand;
+                cards[next]--;
+            }
+            return 2 * value;
+        }
+
+        /**
+         * Returns the value of the better of standing and hitting.
+         */
+        private double best(int[] cards, int extra) {
+            int total = total(cards);
+            if (total > 21) {
+                return -1;
+            }
+            long key = key(cards, extra);
+            Double value = best.get(key);
+            if (value == null) {
+                value = total == 21 ? stand(cards, extra) : Math.max(stand(cards, extra), hit(cards, extra));
+                best.put(key, value);
+            }
+            return value;
+        }
+
+        /**
+         * Returns the probabilities of the dealer's final totals 17 to 21 and of a bust.
+         */
+        private double[] dealerOutcomes(int[] cards, int extra) {
+            long key = key(cards, extra);
+            double[] outcomes = dealer.get(key);
+            if (outcomes == null) {
+                remaining(cards, extra);
+                outcomes = new double[DealerProbabilities.OUTCOMES];
+                dealerProbabilities.compute(up, remaining, true, outcomes);
+                dealer.put(key, outcomes);
+            }
+            return outcomes;
+        }
+
+        /**
+         * Fills the scratch counts with the shoe minus the hand and the other split card,
+         * returning the number of cards left.
+         */
+        private int remaining(int[] cards, int extra) {
+            int count = 0;
+            for (int rank = 0; rank < RANKS; rank++) {
+                remaining[rank] = shoe[rank] - cards[rank] - (rank == extra ? 1 : 0);
+                count += remaining[rank];
+            }
+            return count;
+        }
+
+        private long key(int[] cards, int extra) {
+            long key = (long) (extra + 1) << EXTRA_SHIFT;
+            for (int rank = 0; rank < RANKS; rank++) {
+                key |= (long) cards[rank] << (rank * KEY_BITS);
+            }
+            return key;
+        }
+    }
+
+    /**
+     * Returns the best total of a hand's rank counts, counting one Ace as 11 where it does not bust.
+     */
+    private static int total(int[] cards) {
+        int hard = 0;
+        for (int rank = 0; rank < RANKS; rank++) {
+            hard += cards[rank] * (rank + 1);
+        }
+        return cards[ACE] > 0 && hard + 10 <= 21 ? hard + 10 : hard;
+    }
+}
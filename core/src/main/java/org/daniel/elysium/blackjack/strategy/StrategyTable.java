@@ -0,0 +1,399 @@
+package org.daniel.elysium.blackjack.strategy;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+import org.daniel.elysium.debugUtils.DebugPrint;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.daniel.elysium.blackjack.strategy.StrategyCalculator.RANKS;
+
+/**
+ * A Blackjack strategy chart for one rule variant, as computed by {@link StrategyCalculator}.
+ * <p>
+ * Unsplit two-card hands are looked up by their exact cards, a composition-dependent strategy,
+ * and every other hand by its total, hard or soft. Pairs have a separate row deciding whether to
+ * split. Each cell holds the best action and the better of hitting and standing, played when the
+ * best action is not allowed, such as a double after the first two cards.
+ * </p>
+ * <p>
+ * Tables are written as plain text charts under {@link #CACHE_DIRECTORY}, one file per variant,
+ * so they are computed once per installation and then only read.
+ * </p>
+ */
+public final class StrategyTable {
+
+    /** The smallest hard total in the chart, a pair of Twos. */
+    public static final int HARD_MIN = 4;
+
+    /** The smallest soft total in the chart, a pair of Aces. */
+    public static final int SOFT_MIN = 12;
+
+    /** The directory holding computed tables, relative to the working directory. */
+    public static final Path CACHE_DIRECTORY = Paths.get("data", "strategy");
+
+    private static final Map<String, CompletableFuture<StrategyTable>> CACHE = new ConcurrentHashMap<>();
+    private static final String LABELS = "A23456789T";
+    private static final int UNSET = -1;
+
+    private final BlackjackRules rules;
+    private final int[][] hard = new int[22][RANKS];
+    private final int[][] soft = new int[22][RANKS];
+    private final int[][] combinations = new int[RANKS * RANKS][RANKS];
+    private final boolean[][] splits = new boolean[RANKS][RANKS];
+
+    StrategyTable(BlackjackRules rules) {
+        this.rules = rules;
+        for (int[][] rows : new int[][][]{hard, soft, combinations}) {
+            for (int[] row : rows) {
+                Arrays.fill(row, UNSET);
+            }
+        }
+    }
+
+    /**
+     * Returns the table for a rule variant, reading or computing it on first use.
+     *
+     * @param rules the rule variant
+     * @return the strategy table
+     */
+    public static StrategyTable forRules(BlackjackRules rules) {
+        return load(rules).join();
+    }
+
+    /**
+     * Loads the table for a rule variant in the background: from memory if it was loaded before,
+     * otherwise from its file under {@link #CACHE_DIRECTORY}, otherwise by computing and saving it.
+     * A load that fails is forgotten, so the next call tries again.
+     *
+     * @param rules the rule variant
+     * @return a future completed with the strategy table
+     */
+    public static CompletableFuture<StrategyTable> load(BlackjackRules rules) {
+        String name = getCacheName(rules);
+        CompletableFuture<StrategyTable> future = CACHE.computeIfAbsent(name,
+                n -> CompletableFuture.supplyAsync(() -> readOrCompute(rules, CACHE_DIRECTORY.resolve(n + ".txt"))));
+        // Attached outside computeIfAbsent, which must not see the map change if the load already failed
+        future.whenComplete((table, e) -> {
+            if (e != null) {
+                CACHE.remove(name, future);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns the name a variant's table is cached under. Only the rules that change the strategy
+     * are part of it, for example {@code "basic-6d-h17-das-split-nosur"}.
+     *
+     * @param rules the rule variant
+     * @return the cache name
+     */
+    public static String getCacheName(BlackjackRules rules) {
+        return "basic-" + rules.getDecks() + "d"
+                + (rules.isHitSoft17() ? "-h17" : "-s17")
+                + (rules.isDoubleAfterSplit() ? "-das" : "-nodas")
+                + (rules.getMaxHands() > 1 ? "-split" : "-nosplit")
+                + (rules.isSurrender() ? "-sur" : "-nosur");
+    }
+
+    /**
+     * Returns the rules the table was computed for.
+     *
+     * @return the rule variant
+     */
+    public BlackjackRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the recommended action for a hand among the allowed ones.
+     *
+     * @param hand    the player's hand, holding at least two cards
+     * @param upCard  the dealer's up card
+     * @param options the allowed actions, as returned by {@link CompiledRules#getOptions}
+     * @return the action to play
+     */
+    public BJAction getAction(BJPlayerHand hand, BJCard upCard, int options) {
+        int up = StrategyCalculator.rankOf(upCard);
+        int total = hand.getHandValue();
+        if (total >= 21) {
+            return BJAction.STAND;
+        }
+        if (CompiledRules.allows(options, BJAction.SPLIT) && hand.isSplittable()
+                && splits[StrategyCalculator.rankOf(hand.getHand().get(0))][up]) {
+            return BJAction.SPLIT;
+        }
+
+        int cell;
+        if (hand.getHand().size() == 2 && !hand.didComeFromSplit()) {
+            cell = combinations[combination(StrategyCalculator.rankOf(hand.getHand().get(0)),
+                    StrategyCalculator.rankOf(hand.getHand().get(1)))][up];
+        } else if (hand.isSoft()) {
+            cell = soft[total][up];
+        } else {
+            cell = hard[Math.max(total, HARD_MIN)][up];
+        }
+
+        BJAction primary = BJAction.values()[cell & 0xF];
+        if (CompiledRules.allows(options, primary)) {
+            return primary;
+        }
+        BJAction fallback = BJAction.values()[cell >>> 4];
+        return CompiledRules.allows(options, fallback) ? fallback : BJAction.STAND;
+    }
+
+    /* ======================
+       Persistence
+       ====================== */
+
+    /**
+     * Writes the table as a text chart: a row per hard total, soft total, pair and two-card hand,
+     * and a column per dealer up card from Two to Ace.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# Blackjack strategy for " + rules);
+            writer.newLine();
+            writer.write("# H hit, S stand, Dh/Ds double else hit/stand, Rh/Rs surrender else hit/stand, P split");
+            writer.newLine();
+            StringBuilder header = new StringBuilder("#        ");
+            for (int column = 0; column < RANKS; column++) {
+                header.append(String.format("%-3s", LABELS.charAt(upRank(column))));
+            }
+            writer.write(header.toString().stripTrailing());
+            writer.newLine();
+
+            for (int total = HARD_MIN; total <= 21; total++) {
+                writeRow(writer, "hard", String.valueOf(total), hard[total]);
+            }
+            for (int total = SOFT_MIN; total <= 21; total++) {
+                writeRow(writer, "soft", String.valueOf(total), soft[total]);
+            }
+            for (int rank = 0; rank < RANKS; rank++) {
+                StringBuilder line = new StringBuilder(String.format("%-4s %-4s", "pair", LABELS.charAt(rank)));
+                for (int column = 0; column < RANKS; column++) {
+                    line.append(String.format("%-3s", splits[rank][upRank(column)] ? "P" : "-"));
+                }
+                writer.write(line.toString().stripTrailing());
+                writer.newLine();
+            }
+            for (int first = 0; first < RANKS; first++) {
+                for (int second = first; second < RANKS; second++) {
+                    if (first == StrategyCalculator.ACE && second == StrategyCalculator.TEN) {
+                        continue;
+                    }
+                    writeRow(writer, "hand", LABELS.charAt(first) + "," + LABELS.charAt(second),
+                            combinations[combination(first, second)]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a table written by {@link #write(Path)}.
+     *
+     * @param file  the file to read
+     * @param rules the rules the table was computed for
+     * @return the strategy table
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a complete strategy chart
+     */
+    public static StrategyTable read(Path file, BlackjackRules rules) throws IOException {
+        StrategyTable table = new StrategyTable(rules);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\\s+");
+                if (fields.length != RANKS + 2) {
+                    throw new IllegalArgumentException("Malformed strategy row: " + line);
+                }
+                table.readRow(fields);
+            }
+        }
+        table.checkComplete();
+        return table;
+    }
+
+    /**
+     * Reads the table from its file if there is a valid one, otherwise computes it and tries to save it.
+     */
+    private static StrategyTable readOrCompute(BlackjackRules rules, Path file) {
+        if (Files.exists(file)) {
+            try {
+                return read(file, rules);
+            } catch (IOException | IllegalArgumentException e) {
+                DebugPrint.println(e, true);
+            }
+        }
+        StrategyTable table = new StrategyCalculator(rules).computeBasicStrategy();
+        try {
+            Files.createDirectories(file.getParent());
+            table.write(file);
+        } catch (IOException e) {
+            DebugPrint.println(e, true);
+        }
+        return table;
+    }
+
+    private void writeRow(BufferedWriter writer, String type, String label, int[] cells) throws IOException {
+        StringBuilder line = new StringBuilder(String.format("%-4s %-4s", type, label));
+        for (int column = 0; column < RANKS; column++) {
+            line.append(String.format("%-3s", code(cells[upRank(column)])));
+        }
+        writer.write(line.toString().stripTrailing());
+        writer.newLine();
+    }
+
+    private void readRow(String[] fields) {
+        String label = fields[1];
+        for (int column = 0; column < RANKS; column++) {
+            String code = fields[column + 2];
+            int up = upRank(column);
+            switch (fields[0]) {
+                case "hard" -> hard[total(label, HARD_MIN)][up] = parse(code);
+                case "soft" -> soft[total(label, SOFT_MIN)][up] = parse(code);
+                case "pair" -> splits[rank(label)][up] = switch (code) {
+                    case "P" -> true;
+                    case "-" -> false;
+                    default -> throw new IllegalArgumentException("Unknown split code: " + code);
+                };
+                case "hand" -> {
+                    String[] cards = label.split(",");
+                    if (cards.length != 2) {
+                        throw new IllegalArgumentException("Malformed two-card hand: " + label);
+                    }
+                    combinations[combination(rank(cards[0]), rank(cards[1]))][up] = parse(code);
+                }
+                default -> throw new IllegalArgumentException("Unknown strategy row: " + fields[0]);
+            }
+        }
+    }
+
+    private void checkComplete() {
+        for (int total = HARD_MIN; total <= 21; total++) {
+            checkComplete(hard[total], "hard " + total);
+        }
+        for (int total = SOFT_MIN; total <= 21; total++) {
+            checkComplete(soft[total], "soft " + total);
+        }
+        for (int first = 0; first < RANKS; first++) {
+            for (int second = first; second < RANKS; second++) {
+                if (first != StrategyCalculator.ACE || second != StrategyCalculator.TEN) {
+                    checkComplete(combinations[combination(first, second)],
+                            "hand " + LABELS.charAt(first) + "," + LABELS.charAt(second));
+                }
+            }
+        }
+    }
+
+    private static void checkComplete(int[] cells, String row) {
+        for (int cell : cells) {
+            if (cell == UNSET) {
+                throw new IllegalArgumentException("Incomplete strategy row: " + row);
+            }
+        }
+    }
+
+    /* ======================
+       Cells
+       ====================== */
+
+    /**
+     * Encodes a cell: the best action, and the one played when it is not allowed.
+     */
+    static int cell(BJAction primary, BJAction fallback) {
+        return primary.ordinal() | fallback.ordinal() << 4;
+    }
+
+    void setHard(int total, int up, int cell) {
+        hard[total][up] = cell;
+    }
+
+    void setSoft(int total, int up, int cell) {
+        soft[total][up] = cell;
+    }
+
+    void setCombination(int first, int second, int up, int cell) {
+        combinations[combination(first, second)][up] = cell;
+    }
+
+    void setSplit(int rank, int up, boolean split) {
+        splits[rank][up] = split;
+    }
+
+    private static String code(int cell) {
+        BJAction primary = BJAction.values()[cell & 0xF];
+        String fallback = BJAction.values()[cell >>> 4] == BJAction.STAND ? "s" : "h";
+        return switch (primary) {
+            case HIT -> "H";
+            case STAND -> "S";
+            case DOUBLE -> "D" + fallback;
+            case SURRENDER -> "R" + fallback;
+            case SPLIT -> "P";
+        };
+    }
+
+    private static int parse(String code) {
+        return switch (code) {
+            case "H" -> cell(BJAction.HIT, BJAction.HIT);
+            case "S" -> cell(BJAction.STAND, BJAction.STAND);
+            case "Dh" -> cell(BJAction.DOUBLE, BJAction.HIT);
+            case "Ds" -> cell(BJAction.DOUBLE, BJAction.STAND);
+            case "Rh" -> cell(BJAction.SURRENDER, BJAction.HIT);
+            case "Rs" -> cell(BJAction.SURRENDER, BJAction.STAND);
+            default -> throw new IllegalArgumentException("Unknown strategy code: " + code);
+        };
+    }
+
+    /**
+     * Returns the up card rank of a chart column, which run from Two to Ten and then Ace.
+     */
+    private static int upRank(int column) {
+        return (column + 1) % RANKS;
+    }
+
+    private static int combination(int first, int second) {
+        return Math.min(first, second) * RANKS + Math.max(first, second);
+    }
+
+    private static int rank(String label) {
+        int rank = label.length() == 1 ? LABELS.indexOf(label.charAt(0)) : -1;
+        if (rank < 0) {
+            throw new IllegalArgumentException("Unknown rank: " + label);
+        }
+        return rank;
+    }
+
+    private static int total(String label, int min) {
+        try {
+            int total = Integer.parseInt(label);
+            if (total >= min && total <= 21) {
+                return total;
+            }
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Total out of range: " + label);
+    }
+}
@@ -0,0 +1,580 @@
+package org.daniel.elysium.blackjack.table;
+
+import org.daniel.elysium.blackjack.BlackjackEngine;
+import org.daniel.elysium.blackjack.SettlementBatch;
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.constants.BJHandState;
+import org.daniel.elysium.blackjack.constants.BJTablePhase;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.Shoe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Blackjack table with several seats playing against one dealer hand from a shared shoe,
+ * independent of any user interface.
+ * <p>
+ * The table is driven by commands: seats place bets, the round is dealt, eligible seats decide
+ * on insurance when the dealer shows an Ace, and the seats then act on their hands one at a time
+ * through {@link #act(int, BJAction)}. Once the last hand is finished the dealer draws and every
+ * hand is resolved in one batch through {@link BlackjackEngine#settleHands}. Split hands cannot count as
+ * a blackjack and split Aces receive a single card each; everything else that varies between tables,
+ * from soft 17 to the blackjack payout, is set by the table's {@link BlackjackRules}, compiled once
+ * when the table is created.
+ * </p>
+ * <p>
+ * A table is not thread safe. It is meant to be confined to one thread at a time, for example by
+ * a {@link TableScheduler}, while other threads observe it through its immutable
+ * {@link TableSnapshot}s.
+ * </p>
+ */
+public class BlackjackTable {
+
+    private final int tableId;
+    private final CompiledRules rules;
+    private final Shoe<Card> shoe;
+    private final Seat[] seats;
+    private final SettlementBatch settlement;
+
+    private BJDealerHand dealerHand;
+    private BJTablePhase phase = BJTablePhase.BETTING;
+    private int activeSeat = -1;
+    private int activeHand = -1;
+    private long round;
+    private long version;
+    private TableSnapshot snapshot;
+
+    /**
+     * Creates a table playing the standard rules from a newly shuffled shoe.
+     *
+     * @param tableId     the identifier of the table
+     * @param seats       the number of seats at the table
+     * @param numOfDecks  the number of decks in the shoe
+     * @param penetration the fraction of the shoe dealt before a reshuffle, between 0 and 1
+     */
+    public BlackjackTable(int tableId, int seats, int numOfDecks, double penetration) {
+        this(tableId, seats, BlackjackRules.STANDARD.withDecks(numOfDecks).withPenetration(penetration));
+    }
+
+    /**
+     * Creates a table playing the given rules from a newly shuffled shoe of the rules' size.
+     *
+     * @param tableId the identifier of the table
+     * @param seats   the number of seats at the table
+     * @param rules   the rule variant of the table
+     */
+    public BlackjackTable(int tableId, int seats, BlackjackRules rules) {
+        this(tableId, seats, rules.compile(), rules.createShoe());
+    }
+
+    /**
+     * Creates a table playing the standard rules from the given shoe.
+     *
+     * @param tableId the identifier of the table
+     * @param seats   the number of seats at the table
+     * @param shoe    the shoe to deal from, owned by this table
+     * @throws IllegalArgumentException if {@code seats} is not positive
+     */
+    public BlackjackTable(int tableId, int seats, Shoe<Card> shoe) {
+        this(tableId, seats, CompiledRules.STANDARD, shoe);
+    }
+
+    /**
+     * Creates a table playing the given compiled rules from the given shoe.
+     *
+     * @param tableId the identifier of the table
+     * @param seats   the number of seats at the table
+     * @param rules   the compiled rules of the table
+     * @param shoe    the shoe to deal from, owned by this table
+     * @throws IllegalArgumentException if {@code seats} is not positive
+     */
+    public BlackjackTable(int tableId, int seats, CompiledRules rules, Shoe<Card> shoe) {
+        if (seats <= 0) {
+            throw new IllegalArgumentException("At least one seat is required: " + seats);
+        }
+        this.tableId = tableId;
+        this.rules = rules;
+        this.shoe = shoe;
+        this.dealerHand = new BJDealerHand(rules);
+        this.seats = new Seat[seats];
+        this.settlement = new SettlementBatch(seats * 2);
+        for (int seat = 0; seat < seats; seat++) {
+            this.seats[seat] = new Seat();
+        }
+    }
+
+    /* ======================
+       Commands
+       ====================== */
+
+    /**
+     * Places or replaces the bet of a seat for the next round.
+     * Placing a bet after a settled round clears the table for a new one.
+     *
+     * @param seat   the seat placing the bet
+     * @param amount the bet amount
+     * @throws IllegalArgumentException if the seat does not exist or the amount is not positive
+     * @throws IllegalStateException if a round is in progress
+     */
+    public void placeBet(int seat, int amount) {
+        checkSeat(seat);
+        if (amount <= 0) {
+            throw new IllegalArgumentException("A bet must be positive: " + amount);
+        }
+        if (phase == BJTablePhase.SETTLED) {
+            clearRound();
+        }
+        checkPhase(BJTablePhase.BETTING);
+        seats[seat].bet = amount;
+        changed();
+    }
+
+    /**
+     * Removes the bet of a seat, so it sits out the following rounds.
+     *
+     * @param seat the seat leaving the game
+     * @throws IllegalArgumentException if the seat does not exist
+     * @throws IllegalStateException if a round is in progress
+     */
+    public void clearBet(int seat) {
+        checkSeat(seat);
+        if (phase == BJTablePhase.SETTLED) {
+            clearRound();
+        }
+        checkPhase(BJTablePhase.BETTING);
+        seats[seat].bet = 0;
+        changed();
+    }
+
+    /**
+     * Deals two cards to every seat with a bet and to the dealer.
+     * The round moves on to insurance, to the first seat's turn, or straight to settlement
+     * when nobody is left to act.
+     *
+     * @throws IllegalStateException if no bet has been placed or a round is in progress
+     */
+    public void deal() {
+        if (phase == BJTablePhase.SETTLED) {
+            clearRound();
+        }
+        checkPhase(BJTablePhase.BETTING);
+        boolean anyBet = false;
+        for (Seat seat : seats) {
+            anyBet |= seat.bet > 0;
+        }
+        if (!anyBet) {
+            throw new IllegalStateException("No bets have been placed");
+        }
+        if (shoe.needsReshuffle()) {
+            shoe.reshuffle();
+        }
+
+        // Initial deal, one card at a time around the table
+        for (Seat seat : seats) {
+            if (seat.bet > 0) {
+                BJPlayerHand hand = new BJPlayerHand();
+                hand.setBet(seat.bet);
+                seat.hands.add(hand);
+                seat.staked = seat.bet;
+            }
+        }
+        for (int i = 0; i < 2; i++) {
+            for (Seat seat : seats) {
+                if (seat.isActive()) {
+                    seat.hands.get(0).dealCard(dealCard());
+                }
+            }
+            dealerHand.dealCard(dealCard());
+        }
+        round++;
+
+        if (BlackjackEngine.isInsurance(dealerHand)) {
+            phase = BJTablePhase.INSURANCE;
+            for (Seat seat : seats) {
+                seat.insuranceDecided = !seat.isActive() || seat.hands.get(0).isBlackJack();
+            }
+            resolveInsurance();
+        } else {
+            afterInsurance();
+        }
+        changed();
+    }
+
+    /**
+     * Records the insurance decision of a seat. Once every eligible seat has decided,
+     * the insurance bets are resolved and the round continues.
+     *
+     * @param seat   the deciding seat
+     * @param insure {@code true} to insure the hand for half its bet
+     * @throws IllegalArgumentException if the seat does not exist
+     * @throws IllegalStateException if insurance is not being offered to the seat
+     */
+    public void insure(int seat, boolean insure) {
+        checkSeat(seat);
+        checkPhase(BJTablePhase.INSURANCE);
+        Seat current = seats[seat];
+        if (current.insuranceDecided) {
+            throw new IllegalStateException("Seat " + seat + " is not deciding on insurance");
+        }
+        if (insure) {
+            BJPlayerHand hand = current.hands.get(0);
+            hand.setInsuranceBet(hand.getBet() / 2);
+            hand.setState(BJHandState.INSURED);
+            current.insuranceBet = hand.getInsuranceBet();
+            current.staked += current.insuranceBet;
+        }
+        current.insuranceDecided = true;
+        resolveInsurance();
+        changed();
+    }
+
+    /**
+     * Performs an action on the hand whose turn it is.
+     *
+     * @param seat   the acting seat
+     * @param action the action to perform
+     * @throws IllegalArgumentException if the seat does not exist
+     * @throws IllegalStateException if it is not the seat's turn or the action is not available on the hand
+     */
+    public void act(int seat, BJAction action) {
+        checkSeat(seat);
+        checkPhase(BJTablePhase.PLAYING);
+        if (seat != activeSeat) {
+            throw new IllegalStateException("It is not the turn of seat " + seat);
+        }
+        Seat current = seats[seat];
+        BJPlayerHand hand = current.hands.get(activeHand);
+        if (!CompiledRules.allows(rules.getOptions(hand, current.hands.size()), action)) {
+            throw new IllegalStateException(action + " is not available on " + hand.getHand());
+        }
+
+        switch (action) {
+            case HIT -> {
+                hand.dealCard(dealCard());
+                if (hand.getHandValue() >= 21) {
+                    advance(activeSeat, activeHand + 1);
+                }
+            }
+            case STAND -> advance(activeSeat, activeHand + 1);
+            case DOUBLE -> {
+                current.staked += hand.getBet();
+                hand.setBet(hand.getBet() * 2);
+                hand.dealCard(dealCard());
+                advance(activeSeat, activeHand + 1);
+            }
+            case SPLIT -> {
+                current.staked += hand.getBet();
+                current.hands.add(activeHand + 1, split(hand));
+                hand.dealCard(dealCard());
+                if (hand.didComeFromSplitAces() || hand.getHandValue() >= 21) {
+                    advance(activeSeat, activeHand + 1);
+                }
+            }
+            case SURRENDER -> {
+                hand.setState(BJHandState.SURRENDERED);
+                advance(activeSeat, activeHand + 1);
+            }
+        }
+        changed();
+    }
+
+    /**
+     * Returns an immutable view of the table. The same snapshot is returned
+     * until the table changes again.
+     *
+     * @return the current snapshot
+     */
+    public TableSnapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = createSnapshot();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the identifier of this table.
+     *
+     * @return the table identifier
+     */
+    public int getTableId() {
+        return tableId;
+    }
+
+    /**
+     * Returns the compiled rules this table plays.
+     *
+     * @return the table's rules
+     */
+    public CompiledRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the number of seats at this table.
+     *
+     * @return the seat count
+     */
+    public int getSeatCount() {
+        return seats.length;
+    }
+
+    /**
+     * Returns the phase of the current round.
+     *
+     * @return the round phase
+     */
+    public BJTablePhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Returns the seat expected to act.
+     *
+     * @return the active seat, or -1 if no seat is playing a hand
+     */
+    public int getActiveSeat() {
+        return activeSeat;
+    }
+
+    /**
+     * Returns the hand expected to act.
+     *
+     * @return the active hand, or {@code null} if no seat is playing a hand
+     */
+    public BJPlayerHand getActiveHand() {
+        return activeSeat < 0 ? null : seats[activeSeat].hands.get(activeHand);
+    }
+
+    /**
+     * Returns the dealer's face-up card.
+     *
+     * @return the up card, or {@code null} before the round is dealt
+     */
+    public BJCard getDealerUpCard() {
+        return dealerHand.getHand().isEmpty() ? null : dealerHand.getHand().get(0);
+    }
+
+    /* ======================
+       Round Phases
+       ====================== */
+
+    /**
+     * Resolves the insurance bets once every eligible seat has decided.
+     */
+    private void resolveInsurance() {
+        for (Seat seat : seats) {
+            if (!seat.insuranceDecided) {
+                return;
+            }
+        }
+        if (!dealerHand.isBlackJack()) {
+            for (Seat seat : seats) {
+                if (seat.isActive() && seat.hands.get(0).getState() == BJHandState.INSURED) {
+                    seat.hands.get(0).setState(BJHandState.UNDEFINED);
+                }
+            }
+        }
+        afterInsurance();
+    }
+
+    /**
+     * Ends the round on a dealer blackjack, or hands the turn to the first seat.
+     */
+    private void afterInsurance() {
+        if (dealerHand.isBlackJack()) {
+            settle();
+        } else {
+            phase = BJTablePhase.PLAYING;
+            advance(0, 0);
+        }
+    }
+
+    /**
+     * Moves the turn to the first hand at or after the given position that still needs a decision,
+     * dealing the second card of split hands on the way. Plays the dealer once no hand is left.
+     */
+    private void advance(int fromSeat, int fromHand) {
+        for (int seat = fromSeat; seat < seats.length; seat++) {
+            List<BJPlayerHand> hands = seats[seat].hands;
+            for (int index = seat == fromSeat ? fromHand : 0; index < hands.size(); index++) {
+                BJPlayerHand hand = hands.get(index);
+                if (hand.getHand().size() == 2 && hand.isBlackJack()) {
+                    continue;
+                }
+                if (hand.getHand().size() < 2) {
+                    hand.dealCard(dealCard());
+                }
+                if (hand.didComeFromSplitAces() || hand.getHandValue() >= 21) {
+                    continue;
+                }
+                activeSeat = seat;
+                activeHand = index;
+                return;
+            }
+        }
+        activeSeat = -1;
+        activeHand = -1;
+        playDealerTurn();
+        settle();
+    }
+
+    /**
+     * Splits the second card of a pair into a new hand carrying the same bet.
+     */
+    private BJPlayerHand split(BJPlayerHand hand) {
+        BJPlayerHand splitHand = new BJPlayerHand();
+        splitHand.setBet(hand.getBet());
+        if (hand.isSplitAces()) {
+            hand.setSplitAces(true);
+            splitHand.setSplitAces(true);
+        }
+        hand.setHandSplit(true);
+        splitHand.setHandSplit(true);
+        splitHand.dealCard(hand.getHand().remove(1));
+        return splitHand;
+    }
+
+    /**
+     * Draws dealer cards, unless every player hand has already busted, holds a blackjack or surrendered.
+     */
+    private void playDealerTurn() {
+        boolean handsInPlay = false;
+        for (Seat seat : seats) {
+            for (BJPlayerHand hand : seat.hands) {
+                if (hand.getHandValue() <= 21 && hand.getState() != BJHandState.BLACKJACK
+                        && hand.getState() != BJHandState.SURRENDERED) {
+                    handsInPlay = true;
+                    break;
+                }
+            }
+        }
+        if (!handsInPlay) {
+            return;
+        }
+        while (dealerHand.canDealCard(peekCard())) {
+            dealerHand.dealCard(dealCard());
+        }
+    }
+
+    /**
+     * Resolves every hand and records the amount returned to each seat.
+     */
+    private void settle() {
+        settlement.clear();
+        for (Seat seat : seats) {
+            for (BJPlayerHand hand : seat.hands) {
+                settlement.add(hand);
+            }
+        }
+        settlement.settle(dealerHand, rules);
+
+        int index = 0;
+        for (Seat seat : seats) {
+            for (BJPlayerHand hand : seat.hands) {
+                settlement.applyTo(index, hand);
+                seat.payout += settlement.getReturned(index++);
+            }
+        }
+        phase = BJTablePhase.SETTLED;
+    }
+
+    /**
+     * Clears the cards and stakes of the previous round, keeping the bets of the seats.
+     */
+    private void clearRound() {
+        for (Seat seat : seats) {
+            seat.hands.clear();
+            seat.staked = 0;
+            seat.payout = 0;
+            seat.insuranceBet = 0;
+            seat.insuranceDecided = false;
+        }
+        dealerHand = new BJDealerHand(rules);
+        phase = BJTablePhase.BETTING;
+        activeSeat = -1;
+        activeHand = -1;
+    }
+
+    /* ======================
+       Helper Methods
+       ====================== */
+
+    /**
+     * Deals a card, reshuffling first if the shoe ran out mid-round.
+     */
+    private BJCard dealCard() {
+        if (shoe.remaining() == 0) {
+            shoe.reshuffle();
+        }
+        return BJCard.of(shoe.deal());
+    }
+
+    /**
+     * Returns the next card without dealing it, reshuffling first if the shoe ran out mid-round.
+     */
+    private BJCard peekCard() {
+        if (shoe.remaining() == 0) {
+            shoe.reshuffle();
+        }
+        return BJCard.of(shoe.peek());
+    }
+
+    /**
+     * Marks the table as changed, so the next snapshot reflects the new state.
+     */
+    private void changed() {
+        version++;
+        snapshot = null;
+    }
+
+    /**
+     * Builds a snapshot of the current state, hiding the dealer's hole card until the round is settled.
+     */
+    private TableSnapshot createSnapshot() {
+        List<SeatSnapshot> seatSnapshots = new ArrayList<>(seats.length);
+        for (int index = 0; index < seats.length; index++) {
+            Seat seat = seats[index];
+            List<HandSnapshot> hands = new ArrayList<>(seat.hands.size());
+            for (BJPlayerHand hand : seat.hands) {
+                hands.add(HandSnapshot.of(hand));
+            }
+            seatSnapshots.add(new SeatSnapshot(index, seat.bet, seat.staked, seat.insuranceBet, seat.payout, hands));
+        }
+        return TableSnapshot.of(tableId, version, round, phase, activeSeat, activeHand,
+                dealerHand, phase == BJTablePhase.SETTLED, seatSnapshots);
+    }
+
+    private void checkSeat(int seat) {
+        if (seat < 0 || seat >= seats.length) {
+            throw new IllegalArgumentException("No such seat: " + seat);
+        }
+    }
+
+    private void checkPhase(BJTablePhase expected) {
+        if (phase != expected) {
+            throw new IllegalStateException("Expected phase " + expected + " but the table is in " + phase);
+        }
+    }
+
+    /**
+     * The mutable state of one seat during a round.
+     */
+    private static class Seat {
+        private final List<BJPlayerHand> hands = new ArrayList<>();
+        private int bet;
+        private int staked;
+        private int payout;
+        private int insuranceBet;
+        private boolean insuranceDecided;
+
+        private boolean isActive() {
+            return !hands.isEmpty();
+        }
+    }
+}
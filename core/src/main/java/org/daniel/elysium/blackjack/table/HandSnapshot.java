@@ -0,0 +1,35 @@
+package org.daniel.elysium.blackjack.table;
+
+import org.daniel.elysium.blackjack.constants.BJHandState;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+
+import java.util.List;
+
+/**
+ * An immutable view of one player hand at a {@link BlackjackTable}.
+ *
+ * @param cards the cards of the hand, in the order they were dealt
+ * @param value the Blackjack value of the hand
+ * @param bet   the bet on the hand, or the amount it returned once the round is settled
+ * @param state the state of the hand
+ */
+public record HandSnapshot(List<BJCard> cards, int value, int bet, BJHandState state) {
+
+    /**
+     * Creates a snapshot, copying the cards into an unmodifiable list.
+     */
+    public HandSnapshot {
+        cards = List.copyOf(cards);
+    }
+
+    /**
+     * Captures the current state of a player hand.
+     *
+     * @param hand the hand
+     * @return a snapshot of the hand
+     */
+    public static HandSnapshot of(BJPlayerHand hand) {
+        return new HandSnapshot(hand.getHand(), hand.getHandValue(), hand.getBet(), hand.getState());
+    }
+}
@@ -0,0 +1,42 @@
+package org.daniel.elysium.blackjack.table;
+
+import java.util.List;
+
+/**
+ * An immutable view of one seat at a {@link BlackjackTable}.
+ *
+ * @param seat         the index of the seat
+ * @param bet          the bet the seat places each round, or 0 if it sits out
+ * @param staked       the total amount the seat has put at risk this round, including doubles,
+ *                     splits and insurance
+ * @param insuranceBet the insurance bet of the seat, or 0 if it did not insure
+ * @param payout       the total amount returned to the seat, known once the round is settled
+ * @param hands        the hands of the seat, split hands following the hand they came from
+ */
+public record SeatSnapshot(int seat, int bet, int staked, int insuranceBet, int payout, List<HandSnapshot> hands) {
+
+    /**
+     * Creates a snapshot, copying the hands into an unmodifiable list.
+     */
+    public SeatSnapshot {
+        hands = List.copyOf(hands);
+    }
+
+    /**
+     * Returns whether the seat takes part in the current round.
+     *
+     * @return {@code true} if the seat has been dealt a hand
+     */
+    public boolean isActive() {
+        return !hands.isEmpty();
+    }
+
+    /**
+     * Returns the net result of the seat for the round.
+     *
+     * @return the payout minus the amount staked
+     */
+    public int net() {
+        return payout - staked;
+    }
+}
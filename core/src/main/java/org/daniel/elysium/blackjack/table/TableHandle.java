@@ -0,0 +1,121 @@
+package org.daniel.elysium.blackjack.table;
+
+import org.daniel.elysium.models.SerialExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Gives any thread access to a {@link BlackjackTable} hosted by a {@link TableScheduler}.
+ * <p>
+ * Commands are queued and run in submission order, never two at a time, so the table itself
+ * needs no locking. After every command the table's snapshot is published, and
+ * {@link #snapshot()} returns the latest one without waiting for the queue.
+ * </p>
+ */
+public class TableHandle {
+
+    private final TableScheduler scheduler;
+    private final BlackjackTable table;
+    private final SerialExecutor commands;
+    private volatile TableSnapshot snapshot;
+
+    TableHandle(TableScheduler scheduler, BlackjackTable table) {
+        this.scheduler = scheduler;
+        this.table = table;
+        this.commands = new SerialExecutor(scheduler.getLoop(), TableScheduler.BATCH_SIZE);
+        this.snapshot = table.snapshot();
+    }
+
+    /**
+     * Queues a command that reads or changes the table and produces a result.
+     * The command must not keep a reference to the table once it returns.
+     *
+     * @param command the command to run on the table
+     * @param <T>     the type of the result
+     * @return a future completed with the result, or exceptionally if the command failed
+     * @throws IllegalStateException if the scheduler has been closed
+     */
+    public <T> CompletableFuture<T> submit(Function<BlackjackTable, T> command) {
+        return enqueue(command, (result, published) -> result);
+    }
+
+    /**
+     * Queues a command that changes the table.
+     *
+     * @param command the command to run on the table
+     * @return a future completed with the snapshot published right after the command
+     * @throws IllegalStateException if the scheduler has been closed
+     */
+    public CompletableFuture<TableSnapshot> execute(Consumer<BlackjackTable> command) {
+        return enqueue(t -> {
+            command.accept(t);
+            return null;
+        }, (result, published) -> published);
+    }
+
+    /**
+     * Returns the snapshot published after the most recent command.
+     *
+     * @return the latest snapshot of the table
+     */
+    public TableSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the identifier of the hosted table.
+     *
+     * @return the table identifier
+     */
+    public int getTableId() {
+        return table.getTableId();
+    }
+
+    /**
+     * Queues a command and completes its future from the command's result and the one snapshot
+     * published after it, which is also published if the command fails.
+     */
+    private <T, R> CompletableFuture<R> enqueue(Function<BlackjackTable, T> command,
+                                                BiFunction<T, TableSnapshot, R> completion) {
+        scheduler.checkOpen();
+        CompletableFuture<R> future = new CompletableFuture<>();
+        SerialExecutor.Task task = new SerialExecutor.Task() {
+            @Override
+            public void run() {
+                T result;
+                try {
+                    result = command.apply(table);
+                } catch (RuntimeException e) {
+                    publish();
+                    future.completeExceptionally(e);
+                    return;
+                }
+                future.complete(completion.apply(result, publish()));
+            }
+
+            @Override
+            public void reject(RejectedExecutionException cause) {
+                future.completeExceptionally(new IllegalStateException("The table scheduler is closed", cause));
+            }
+        };
+        try {
+            commands.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.reject(e);
+        }
+        return future;
+    }
+
+    /**
+     * Takes the table's snapshot and makes it the latest one.
+     */
+    private TableSnapshot publish() {
+        TableSnapshot published = table.snapshot();
+        snapshot = published;
+        return published;
+    }
+}
@@ -0,0 +1,112 @@
+package org.daniel.elysium.blackjack.table;
+
+import org.daniel.elysium.models.SerialExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hosts many {@link BlackjackTable}s on a small, fixed pool of event-loop threads.
+ * <p>
+ * Every table opened here gets a {@link TableHandle} that queues the commands for that table in a
+ * {@link SerialExecutor} running on these threads, so each table only ever sees one thread at
+ * a time while thousands of tables share a handful of threads. A table
+ * gives its thread to the next one after {@link #BATCH_SIZE} commands.
+ * </p>
+ */
+public class TableScheduler implements AutoCloseable {
+
+    /** Number of queued commands a table runs before giving its thread to the next table. */
+    public static final int BATCH_SIZE = 32;
+
+    private final ExecutorService loop;
+    private volatile boolean closed;
+
+    /**
+     * Creates a scheduler with one loop thread per available processor.
+     */
+    public TableScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a scheduler with the given number of loop threads.
+     *
+     * @param threads the number of loop threads
+     * @throws IllegalArgumentException if {@code threads} is not positive
+     */
+    public TableScheduler(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("At least one thread is required: " + threads);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        this.loop = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "table-loop-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts hosting a table. From now on the table must only be used through the returned handle.
+     *
+     * @param table the table to host
+     * @return the handle queuing commands for the table
+     * @throws IllegalStateException if the scheduler has been closed
+     */
+    public TableHandle open(BlackjackTable table) {
+        checkOpen();
+        return new TableHandle(this, table);
+    }
+
+    /**
+     * Stops accepting commands and waits briefly for the tables already running to finish.
+     * Commands that have not run by then never will; their futures complete exceptionally with an
+     * {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        loop.shutdown();
+        try {
+            if (!loop.awaitTermination(5, TimeUnit.SECONDS)) {
+                stopNow();
+            }
+        } catch (InterruptedException e) {
+            stopNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Interrupts the loop threads and rejects the batches of commands still waiting for one.
+     */
+    private void stopNow() {
+        RejectedExecutionException cause = new RejectedExecutionException("The table scheduler is closed");
+        for (Runnable batch : loop.shutdownNow()) {
+            if (batch instanceof SerialExecutor.Task task) {
+                task.reject(cause);
+            }
+        }
+    }
+
+    /**
+     * Returns the loop threads the tables' queued commands run on.
+     */
+    Executor getLoop() {
+        return loop;
+    }
+
+    /**
+     * Rejects work once the scheduler has been closed.
+     */
+    void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The table scheduler is closed");
+        }
+    }
+}
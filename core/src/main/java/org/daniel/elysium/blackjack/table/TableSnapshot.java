@@ -0,0 +1,73 @@
+package org.daniel.elysium.blackjack.table;
+
+import org.daniel.elysium.blackjack.constants.BJTablePhase;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+
+import java.util.List;
+
+/**
+ * An immutable view of a {@link BlackjackTable}, safe to hand to any thread.
+ * <p>
+ * The dealer's hole card is left out until the round is settled, so a snapshot never reveals
+ * more than a player at the table could see. Tables played elsewhere, such as the single seat of
+ * the game screen, describe their rounds with the same snapshots through {@link #of}.
+ * </p>
+ *
+ * @param tableId     the identifier of the table
+ * @param version     increases with every change to the table, so newer snapshots are easy to recognize
+ * @param round       the number of rounds dealt at the table so far
+ * @param phase       the phase of the current round
+ * @param activeSeat  the seat expected to act, or -1 if no seat is
+ * @param activeHand  the hand of the active seat expected to act, or -1 if no seat is
+ * @param dealerCards the dealer cards visible to the players
+ * @param dealerValue the value of the visible dealer cards
+ * @param seats       every seat of the table, in seat order
+ */
+public record TableSnapshot(int tableId, long version, long round, BJTablePhase phase, int activeSeat,
+                            int activeHand, List<BJCard> dealerCards, int dealerValue, List<SeatSnapshot> seats) {
+
+    /**
+     * Creates a snapshot, copying the cards and seats into unmodifiable lists.
+     */
+    public TableSnapshot {
+        dealerCards = List.copyOf(dealerCards);
+        seats = List.copyOf(seats);
+    }
+
+    /**
+     * Creates a snapshot showing the dealer's hand as the players see it.
+     *
+     * @param tableId         the identifier of the table
+     * @param version         the version of the snapshot
+     * @param round           the number of rounds dealt at the table so far
+     * @param phase           the phase of the current round
+     * @param activeSeat      the seat expected to act, or -1 if no seat is
+     * @param activeHand      the hand of the active seat expected to act, or -1 if no seat is
+     * @param dealerHand      the dealer's hand
+     * @param holeCardVisible whether the dealer's second card has been turned over
+     * @param seats           every seat of the table, in seat order
+     * @return the snapshot
+     */
+    public static TableSnapshot of(int tableId, long version, long round, BJTablePhase phase, int activeSeat,
+                                   int activeHand, BJDealerHand dealerHand, boolean holeCardVisible,
+                                   List<SeatSnapshot> seats) {
+        List<BJCard> dealerCards = dealerHand.getHand();
+        int dealerValue = dealerHand.getHandValue();
+        if (!holeCardVisible && !dealerCards.isEmpty()) {
+            dealerCards = dealerCards.subList(0, 1);
+            dealerValue = dealerCards.get(0).getValue();
+        }
+        return new TableSnapshot(tableId, version, round, phase, activeSeat, activeHand,
+                dealerCards, dealerValue, seats);
+    }
+
+    /**
+     * Returns whether the visible dealer hand is a blackjack, which is only known once the hole card is shown.
+     *
+     * @return {@code true} if the dealer shows two cards worth 21
+     */
+    public boolean isDealerBlackjack() {
+        return dealerCards.size() == 2 && dealerValue == 21;
+    }
+}
@@ -0,0 +1,27 @@
+package org.daniel.elysium.journal;
+
+/**
+ * Represents a single event read back from a {@link RoundJournal}.
+ * <p>
+ * The meaning of the target, argument and value depends on the {@link JournalEventType}; amounts are
+ * stored in the value as the bits of a {@code double} and read through {@link #amount()}.
+ * </p>
+ *
+ * @param round  the round the event belongs to
+ * @param game   the game the round was played at
+ * @param type   the kind of event
+ * @param target the hand or betting spot the event applies to
+ * @param arg    the card code or action code
+ * @param value  the shuffle seed, or the bits of an amount
+ */
+public record JournalEvent(long round, JournalGame game, JournalEventType type, int target, int arg, long value) {
+
+    /**
+     * Returns the amount carried by a bet, action or settlement.
+     *
+     * @return the amount
+     */
+    public double amount() {
+        return Double.longBitsToDouble(value);
+    }
+}
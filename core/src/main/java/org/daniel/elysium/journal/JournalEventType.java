@@ -0,0 +1,20 @@
+package org.daniel.elysium.journal;
+
+/**
+ * Enum representing the kind of a journal event, which decides how its fields are read.
+ * Targets, bet spots and action codes of each game are listed in {@link RoundReplayer}.
+ */
+public enum JournalEventType {
+    /** A round begins: the target holds the shoe's decks, the argument its cursor and the value its shuffle seed. */
+    ROUND_START,
+    /** A card is dealt from the shoe: the target is the hand receiving it and the argument its {@code Card} code. */
+    CARD,
+    /** A bet is placed: the target is the betting spot or hand and the value the amount staked. */
+    BET,
+    /** A player acts: the target is the hand, the argument the action code and the value any amount the action stakes. */
+    ACTION,
+    /** A bet is settled: the target is the betting spot or hand and the value the amount paid back to the player. */
+    SETTLEMENT,
+    /** A round is over. */
+    ROUND_END
+}
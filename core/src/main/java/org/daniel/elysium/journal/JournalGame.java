@@ -0,0 +1,13 @@
+package org.daniel.elysium.journal;
+
+/**
+ * Enum representing the game a journaled round was played at.
+ */
+public enum JournalGame {
+    /** A round of Blackjack. */
+    BLACKJACK,
+    /** A round of Baccarat. */
+    BACCARAT,
+    /** A round of Ultimate Texas Hold'em. */
+    ULTIMATE_TH
+}
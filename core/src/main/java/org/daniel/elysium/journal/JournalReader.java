@@ -0,0 +1,110 @@
+package org.daniel.elysium.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the events of a {@link RoundJournal} file back, one mapped region at a time.
+ * The file may still be open for appending; reading stops at the first unused slot.
+ */
+public final class JournalReader {
+
+    private static final JournalGame[] GAMES = JournalGame.values();
+    private static final JournalEventType[] TYPES = JournalEventType.values();
+
+    private JournalReader() {
+    }
+
+    /**
+     * Reads every event of a journal in the order it was appended.
+     *
+     * @param path the journal file
+     * @return the events
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a round journal or holds an unknown event
+     */
+    public static List<JournalEvent> readEvents(Path path) throws IOException {
+        List<JournalEvent> events = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            RoundJournal.checkHeader(channel, path);
+            long count = (channel.size() - RoundJournal.HEADER_SIZE) / RoundJournal.EVENT_SIZE;
+            for (long first = 0; first < count; first += RoundJournal.REGION_EVENTS) {
+                int length = (int) Math.min(RoundJournal.REGION_EVENTS, count - first);
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY,
+                        RoundJournal.offsetOf(first), (long) length * RoundJournal.EVENT_SIZE);
+                for (int slot = 0; slot < length; slot++) {
+                    int offset = slot * RoundJournal.EVENT_SIZE;
+                    int type = region.get(offset + 8);
+                    if (type == 0) {
+                        return events;
+                    }
+                    int game = region.get(offset + 9);
+                    if (type > TYPES.length || game < 0 || game >= GAMES.length) {
+                        throw new IllegalArgumentException("Malformed event " + (first + slot) + " in " + path);
+                    }
+                    events.add(new JournalEvent(region.getLong(offset), GAMES[game], TYPES[type - 1],
+                            region.getShort(offset + 10), region.getInt(offset + 12), region.getLong(offset + 16)));
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Reads a journal and groups its events by round, in the order the rounds started.
+     * Events of rounds whose start is missing are skipped.
+     *
+     * @param path the journal file
+     * @return the recorded rounds
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a round journal or holds an unknown event
+     */
+    public static List<RecordedRound> readRounds(Path path) throws IOException {
+        Map<Long, JournalEvent> starts = new LinkedHashMap<>();
+        Map<Long, List<JournalEvent>> events = new LinkedHashMap<>();
+        for (JournalEvent event : readEvents(path)) {
+            if (event.type() == JournalEventType.ROUND_START) {
+                starts.put(event.round(), event);
+                events.put(event.round(), new ArrayList<>());
+            } else if (events.containsKey(event.round())) {
+                events.get(event.round()).add(event);
+            }
+        }
+
+        List<RecordedRound> rounds = new ArrayList<>(starts.size());
+        for (JournalEvent start : starts.values()) {
+            List<JournalEvent> roundEvents = events.get(start.round());
+            boolean complete = !roundEvents.isEmpty()
+                    && roundEvents.get(roundEvents.size() - 1).type() == JournalEventType.ROUND_END;
+            rounds.add(new RecordedRound(start.round(), start.game(), start.target(), start.arg(), start.value(),
+                    Collections.unmodifiableList(roundEvents), complete));
+        }
+        return rounds;
+    }
+
+    /**
+     * Reads one round of a journal.
+     *
+     * @param path  the journal file
+     * @param round the round number
+     * @return the recorded round
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the journal holds no such round
+     */
+    public static RecordedRound readRound(Path path, long round) throws IOException {
+        for (RecordedRound recorded : readRounds(path)) {
+            if (recorded.round() == round) {
+                return recorded;
+            }
+        }
+        throw new IllegalArgumentException("No round " + round + " in " + path);
+    }
+}
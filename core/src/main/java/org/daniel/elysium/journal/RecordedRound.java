@@ -0,0 +1,18 @@
+package org.daniel.elysium.journal;
+
+import java.util.List;
+
+/**
+ * Represents the events of one round read back from a {@link RoundJournal}, in the order they were written.
+ *
+ * @param round       the round's number, unique within its journal
+ * @param game        the game the round was played at
+ * @param decks       the number of decks in the shoe
+ * @param cursor      the number of cards dealt from the shoe before the round
+ * @param shuffleSeed the seed of the shoe's latest shuffle
+ * @param events      the events after the round's start, including its end if it was reached
+ * @param complete    {@code true} if the round ended, {@code false} if it was abandoned or cut short
+ */
+public record RecordedRound(long round, JournalGame game, int decks, int cursor, long shuffleSeed,
+                            List<JournalEvent> events, boolean complete) {
+}
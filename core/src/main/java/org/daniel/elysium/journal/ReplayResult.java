@@ -0,0 +1,28 @@
+package org.daniel.elysium.journal;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the outcome of replaying a recorded round: the settlements the journal holds,
+ * the settlements the game engine arrives at, and every discrepancy found on the way.
+ *
+ * @param round      the round number
+ * @param game       the game the round was played at
+ * @param recorded   the amount paid back per betting spot or hand, as recorded
+ * @param replayed   the amount paid back per betting spot or hand, as replayed
+ * @param mismatches a description of every discrepancy besides the settlements, such as a card
+ *                   the shoe would not have dealt
+ */
+public record ReplayResult(long round, JournalGame game, Map<Integer, Double> recorded,
+                           Map<Integer, Double> replayed, List<String> mismatches) {
+
+    /**
+     * Returns whether the replay reproduced the round exactly.
+     *
+     * @return {@code true} if the cards and settlements all match
+     */
+    public boolean matches() {
+        return mismatches.isEmpty() && recorded.equals(replayed);
+    }
+}
@@ -0,0 +1,345 @@
+package org.daniel.elysium.journal;
+
+import org.daniel.elysium.debugUtils.DebugPrint;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only binary journal of the rounds played, written through a memory-mapped file.
+ * <p>
+ * Every event takes {@link #EVENT_SIZE} bytes after a short header: the round number, the event type,
+ * the game, a target, an argument and a 64-bit value (see {@link JournalEventType}). Appending an event
+ * only stores these fields into the mapped region of the file, so it takes nanoseconds and never waits
+ * for the disk; the operating system writes the pages back in the background, and {@link #flush()}
+ * forces them out. The file grows by one mapped region of {@link #REGION_EVENTS} events at a time.
+ * </p>
+ * <p>
+ * The type is stored last and an unused slot reads as zero, so a reopened journal continues at the
+ * first unused slot. Pages can reach the disk in any order, so after a crash some events may survive
+ * past that slot; they are written over, as the events just before them are lost. Together with the shoe's shuffle seed recorded at the start of each round, the
+ * journal holds everything {@link RoundReplayer} needs to play a round again.
+ * </p>
+ */
+public class RoundJournal implements AutoCloseable {
+
+    /** The number of bytes of every event. */
+    public static final int EVENT_SIZE = 24;
+
+    /** The number of events of each mapped region of the file. */
+    public static final int REGION_EVENTS = 1 << 16;
+
+    /** The journal of the application, relative to the working directory. */
+    public static final Path DEFAULT_PATH = Paths.get("data", "journal", "rounds.journal");
+
+    static final int MAGIC = 0x454C524A;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final long REGION_SIZE = (long) REGION_EVENTS * EVENT_SIZE;
+    // The number of events read at a time while counting them on open
+    private static final int SCAN_EVENTS = 4096;
+
+    private static volatile RoundJournal instance;
+
+    private final Path path;
+    private final FileChannel channel;
+
+    // Only accessed while holding lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private MappedByteBuffer region;
+    private long eventCount;
+    private long lastRound;
+    private boolean closed;
+
+    /**
+     * Opens a journal, creating the file if needed and continuing after its last event otherwise.
+     * The file stays locked until the journal is closed, so two processes, such as the GUI and the
+     * CLI, never write over each other's events.
+     *
+     * @param path the journal file
+     * @throws IOException if the file cannot be opened or mapped, or another journal has it open
+     * @throws IllegalArgumentException if the file exists but is not a round journal
+     */
+    public RoundJournal(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            lockFile(channel, path);
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putInt(EVENT_SIZE);
+                channel.write(header.flip(), 0);
+            } else {
+                checkHeader(channel, path);
+            }
+            eventCount = countEvents();
+            lastRound = findLastRound();
+            region = map(eventCount / REGION_EVENTS);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the application's journal, opening {@link #DEFAULT_PATH} on first use.
+     * The journal is flushed and closed when the application exits.
+     *
+     * @return the shared {@code RoundJournal}
+     * @throws IOException if the journal cannot be opened
+     */
+    public static RoundJournal getInstance() throws IOException {
+        RoundJournal journal = instance;
+        if (journal == null) {
+            synchronized (RoundJournal.class) {
+                journal = instance;
+                if (journal == null) {
+                    Files.createDirectories(DEFAULT_PATH.getParent());
+                    instance = journal = new RoundJournal(DEFAULT_PATH);
+                    Runtime.getRuntime().addShutdownHook(new Thread(journal::close, "round-journal-shutdown"));
+                }
+            }
+        }
+        return journal;
+    }
+
+    /**
+     * Returns a recorder for one table writing to the application's journal. If the journal cannot
+     * be opened, for example because another process has it open, the error is logged and the
+     * recorder drops its events, so a game is never blocked by it.
+     *
+     * @param game the game played at the table
+     * @return the table's recorder
+     */
+    public static RoundRecorder recorderFor(JournalGame game) {
+        try {
+            return getInstance().recorder(game);
+        } catch (IOException | IllegalArgumentException e) {
+            DebugPrint.println(e, true);
+            return new RoundRecorder(null, game);
+        }
+    }
+
+    /**
+     * Returns a new recorder for one table writing to this journal.
+     *
+     * @param game the game played at the table
+     * @return the table's recorder
+     */
+    public RoundRecorder recorder(JournalGame game) {
+        return new RoundRecorder(this, game);
+    }
+
+    /**
+     * Numbers a new round and appends its {@link JournalEventType#ROUND_START} event.
+     *
+     * @param game        the game the round is played at
+     * @param decks       the number of decks in the shoe
+     * @param cursor      the number of cards dealt from the shoe so far
+     * @param shuffleSeed the seed of the shoe's latest shuffle
+     * @return the round number, unique within this journal
+     * @throws IllegalStateException if the journal is closed or cannot grow
+     */
+    public long startRound(JournalGame game, int decks, int cursor, long shuffleSeed) {
+        lock.lock();
+        try {
+            long round = lastRound + 1;
+            append(round, game, JournalEventType.ROUND_START, decks, cursor, shuffleSeed);
+            lastRound = round;
+            return round;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends an event.
+     *
+     * @param round  the round the event belongs to
+     * @param game   the game the round is played at
+     * @param type   the kind of event
+     * @param target the hand or betting spot
+     * @param arg    the card or action code
+     * @param value  the shuffle seed or the bits of an amount
+     * @throws IllegalStateException if the journal is closed or cannot grow
+     */
+    public void append(long round, JournalGame game, JournalEventType type, int target, int arg, long value) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The journal is closed: " + path);
+            }
+            int slot = (int) (eventCount % REGION_EVENTS);
+            if (slot == 0 && eventCount > 0) {
+                region = map(eventCount / REGION_EVENTS);
+            }
+            int offset = slot * EVENT_SIZE;
+            region.putLong(offset, round);
+            region.put(offset + 9, (byte) game.ordinal());
+            region.putShort(offset + 10, (short) target);
+            region.putInt(offset + 12, arg);
+            region.putLong(offset + 16, value);
+            // The type goes last, marking the slot as used
+            region.put(offset + 8, (byte) (type.ordinal() + 1));
+            eventCount++;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot extend the journal: " + path, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of events in the journal.
+     *
+     * @return the event count
+     */
+    public long getEventCount() {
+        lock.lock();
+        try {
+            return eventCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the journal file.
+     *
+     * @return the path of the file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Forces the events appended so far out to the disk.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            if (!closed) {
+                region.force();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the journal and closes the file. Further appends fail.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            region.force();
+            closed = true;
+            channel.close();
+        } catch (IOException e) {
+            DebugPrint.println(e, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* ======================
+       File Layout
+       ====================== */
+
+    /**
+     * Takes the exclusive lock on a journal file, failing if another journal, in this or another
+     * process, already holds it. The lock is released when the channel is closed.
+     */
+    static void lockFile(FileChannel channel, Path path) throws IOException {
+        try {
+            if (channel.tryLock() != null) {
+                return;
+            }
+        } catch (OverlappingFileLockException e) {
+            // Already locked by another journal of this process
+        }
+        throw new IOException("The journal is already open elsewhere: " + path);
+    }
+
+    /**
+     * Verifies the header of an existing journal file.
+     */
+    static void checkHeader(FileChannel channel, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a round journal: " + path);
+        }
+        int version = header.getInt();
+        if (version != VERSION || header.getInt() != EVENT_SIZE) {
+            throw new IllegalArgumentException("Unsupported journal version " + version + ": " + path);
+        }
+    }
+
+    /**
+     * Returns the file offset of an event.
+     */
+    static long offsetOf(long event) {
+        return HEADER_SIZE + event * EVENT_SIZE;
+    }
+
+    /**
+     * Maps one region of the file for writing, extending the file if needed.
+     */
+    private MappedByteBuffer map(long index) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, offsetOf(index * REGION_EVENTS), REGION_SIZE);
+    }
+
+    /**
+     * Finds the number of events by scanning forward to the first unused slot. A binary search would
+     * rely on the used slots preceding the unused ones, which a crash does not guarantee.
+     */
+    private long countEvents() throws IOException {
+        long slots = Math.max(0, (channel.size() - HEADER_SIZE) / EVENT_SIZE);
+        ByteBuffer chunk = ByteBuffer.allocate(SCAN_EVENTS * EVENT_SIZE);
+        long count = 0;
+        while (count < slots) {
+            chunk.clear();
+            int read = channel.read(chunk, offsetOf(count));
+            if (read < EVENT_SIZE) {
+                break;
+            }
+            for (int offset = 0; offset + EVENT_SIZE <= read && count < slots; offset += EVENT_SIZE) {
+                if (chunk.get(offset + 8) == 0) {
+                    return count;
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the number of the latest round. Rounds start in the order of their numbers, so it is
+     * the round of the last {@link JournalEventType#ROUND_START} event.
+     */
+    private long findLastRound() throws IOException {
+        ByteBuffer event = ByteBuffer.allocate(EVENT_SIZE);
+        for (long index = eventCount - 1; index >= 0; index--) {
+            event.clear();
+            channel.read(event, offsetOf(index));
+            if (event.get(8) == JournalEventType.ROUND_START.ordinal() + 1) {
+                return event.getLong(0);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,107 @@
+package org.daniel.elysium.journal;
+
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.Shoe;
+
+/**
+ * Records the rounds of one table into a {@link RoundJournal}.
+ * <p>
+ * A recorder keeps the number of the table's current round, so the game code only reports what
+ * happens. Events reported outside a round, or by a recorder without a journal, are dropped.
+ * A recorder belongs to the thread running its table; the journal itself may be shared.
+ * </p>
+ */
+public class RoundRecorder {
+
+    private final RoundJournal journal;
+    private final JournalGame game;
+    private long round;
+
+    /**
+     * Creates a recorder for one table.
+     *
+     * @param journal the journal written to, or {@code null} to drop every event
+     * @param game    the game played at the table
+     */
+    public RoundRecorder(RoundJournal journal, JournalGame game) {
+        this.journal = journal;
+        this.game = game;
+    }
+
+    /**
+     * Starts a new round dealt from a shoe of standard decks, recording the shoe's shuffle seed and cursor.
+     * A round still open is left incomplete.
+     *
+     * @param shoe the shoe the round is dealt from
+     * @return the round number, or 0 if events are dropped
+     */
+    public long startRound(Shoe<?> shoe) {
+        round = journal == null ? 0
+                : journal.startRound(game, shoe.size() / Card.DECK_SIZE, shoe.size() - shoe.remaining(), shoe.getShuffleSeed());
+        return round;
+    }
+
+    /**
+     * Records a card dealt from the shoe.
+     *
+     * @param target the hand receiving the card
+     * @param card   the card
+     */
+    public void card(int target, Card card) {
+        append(JournalEventType.CARD, target, card.getCode(), 0);
+    }
+
+    /**
+     * Records a bet placed.
+     *
+     * @param target the betting spot or hand
+     * @param amount the amount staked
+     */
+    public void bet(int target, double amount) {
+        append(JournalEventType.BET, target, 0, Double.doubleToLongBits(amount));
+    }
+
+    /**
+     * Records a player's action.
+     *
+     * @param target the hand acting
+     * @param code   the action code
+     * @param amount the amount the action stakes, 0 if none
+     */
+    public void action(int target, int code, double amount) {
+        append(JournalEventType.ACTION, target, code, Double.doubleToLongBits(amount));
+    }
+
+    /**
+     * Records a settled bet.
+     *
+     * @param target the betting spot or hand
+     * @param amount the amount paid back to the player, 0 for a lost bet
+     */
+    public void settlement(int target, double amount) {
+        append(JournalEventType.SETTLEMENT, target, 0, Double.doubleToLongBits(amount));
+    }
+
+    /**
+     * Ends the current round.
+     */
+    public void endRound() {
+        append(JournalEventType.ROUND_END, 0, 0, 0);
+        round = 0;
+    }
+
+    /**
+     * Returns the number of the current round.
+     *
+     * @return the round number, 0 outside a round
+     */
+    public long getRound() {
+        return round;
+    }
+
+    private void append(JournalEventType type, int target, int arg, long value) {
+        if (round != 0) {
+            journal.append(round, game, type, target, arg, value);
+        }
+    }
+}
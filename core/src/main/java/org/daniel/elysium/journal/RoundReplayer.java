@@ -0,0 +1,353 @@
+package org.daniel.elysium.journal;
+
+import org.daniel.elysium.baccarat.BaccaratGameEngine;
+import org.daniel.elysium.baccarat.constants.BacHandAction;
+import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.baccarat.models.BacBetHand;
+import org.daniel.elysium.baccarat.models.BacCard;
+import org.daniel.elysium.baccarat.models.BacHand;
+import org.daniel.elysium.blackjack.BlackjackEngine;
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.constants.BJHandState;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.models.Shoe;
+import org.daniel.elysium.models.Xoshiro256;
+import org.daniel.elysium.ultimateTH.UthGameEngine;
+import org.daniel.elysium.ultimateTH.constants.UthHandState;
+import org.daniel.elysium.ultimateTH.model.UthCard;
+import org.daniel.elysium.ultimateTH.model.UthHand;
+import org.daniel.elysium.ultimateTH.model.UthPlayerHand;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plays recorded rounds again through the game engines and compares the outcome with the journal.
+ * <p>
+ * The shoe is rebuilt from the letter decks, reshuffled with the recorded shuffle seed and advanced
+ * to the recorded cursor, so every card is dealt from the reconstructed shoe and checked against the
+ * card the journal holds. Blackjack and Ultimate Texas Hold'em rounds then follow the recorded bets
+ * and decisions; a Baccarat round has none and is re-simulated by {@link BaccaratGameEngine} alone.
+ * The bets are finally settled by the game engine, as the tables do, and compared with the recorded
+ * settlements. Blackjack rounds are settled under the standard rules.
+ * </p>
+ * <p>
+ * The constants below are the targets and codes the tables record with a {@link RoundRecorder}.
+ * </p>
+ */
+public final class RoundReplayer {
+
+    /* ======================
+       Blackjack
+       ====================== */
+
+    /** The card target of the Blackjack dealer; player hands are numbered from 0 in the order they are played. */
+    public static final int BLACKJACK_DEALER = -1;
+
+    /** The action code of insurance, staking the action's amount; other actions are coded by {@link BJAction} ordinal. */
+    public static final int BLACKJACK_INSURE = BJAction.values().length;
+
+    /* ======================
+       Baccarat
+       ====================== */
+
+    /** The card target of the Baccarat player hand; bets are placed on spots numbered by {@link BacHandType} ordinal. */
+    public static final int BACCARAT_PLAYER = 0;
+
+    /** The card target of the Baccarat banker hand. */
+    public static final int BACCARAT_BANKER = 1;
+
+    /* ======================
+       Ultimate Texas Hold'em
+       ====================== */
+
+    /** The card target of the Ultimate Texas Hold'em player hand. */
+    public static final int UTH_PLAYER = 0;
+
+    /** The card target of the Ultimate Texas Hold'em dealer hand. */
+    public static final int UTH_DEALER = 1;
+
+    /** The card target of the community cards. */
+    public static final int UTH_COMMUNITY = 2;
+
+    /** The betting spot of the Ante. */
+    public static final int UTH_ANTE = 0;
+
+    /** The betting spot of the Blind. */
+    public static final int UTH_BLIND = 1;
+
+    /** The betting spot of the Play bet. */
+    public static final int UTH_PLAY = 2;
+
+    /** The betting spot of the Trips side bet. */
+    public static final int UTH_TRIPS = 3;
+
+    /** The action code of a fold; a check is 0 and a Play bet is coded by its multiple of the Ante. */
+    public static final int UTH_FOLD = -1;
+
+    private RoundReplayer() {
+    }
+
+    /**
+     * Replays a recorded round.
+     *
+     * @param round the recorded round
+     * @return the comparison of the replay with the journal
+     */
+    public static ReplayResult replay(RecordedRound round) {
+        Replay replay = new Replay(round);
+        try {
+            replay.prepareShoe();
+            switch (round.game()) {
+                case BLACKJACK -> replayBlackjack(replay);
+                case BACCARAT -> replayBaccarat(replay);
+                case ULTIMATE_TH -> replayUltimate(replay);
+            }
+        } catch (IllegalArgumentException | IllegalStateException | IndexOutOfBoundsException e) {
+            replay.mismatch("The replay failed: " + e.getMessage());
+        }
+        if (!round.complete()) {
+            replay.mismatch("The round did not end");
+        }
+        return new ReplayResult(round.round(), round.game(), replay.recorded, replay.replayed, replay.mismatches);
+    }
+
+    /**
+     * Plays the recorded cards and decisions of a Blackjack round, then resolves every hand.
+     */
+    private static void replayBlackjack(Replay replay) {
+        List<BJPlayerHand> hands = new ArrayList<>();
+        hands.add(new BJPlayerHand());
+        BJDealerHand dealer = new BJDealerHand();
+
+        for (JournalEvent event : replay.round.events()) {
+            switch (event.type()) {
+                case CARD -> {
+                    BJCard card = BJCard.of(replay.deal(event));
+                    if (event.target() == BLACKJACK_DEALER) {
+                        dealer.getHand().add(card);
+                    } else {
+                        hands.get(event.target()).getHand().add(card);
+                    }
+                }
+                case BET -> hands.get(event.target()).setBet((int) event.amount());
+                case ACTION -> {
+                    BJPlayerHand hand = hands.get(event.target());
+                    if (event.arg() == BLACKJACK_INSURE) {
+                        hand.setInsuranceBet((int) event.amount());
+                    } else if (event.arg() == BJAction.DOUBLE.ordinal()) {
+                        hand.setBet(hand.getBet() * 2);
+                    } else if (event.arg() == BJAction.SPLIT.ordinal()) {
+                        hands.add(event.target() + 1, split(hand));
+                    } else if (event.arg() == BJAction.SURRENDER.ordinal()) {
+                        hand.setState(BJHandState.SURRENDERED);
+                    }
+                }
+                case SETTLEMENT -> replay.recorded.put(event.target(), event.amount());
+                default -> {
+                }
+            }
+        }
+
+        for (int index = 0; index < hands.size(); index++) {
+            BJPlayerHand hand = hands.get(index);
+            // Insurance is settled as soon as the dealer's hole card is known
+            if (hand.getInsuranceBet() > 0) {
+                if (dealer.isBlackJack()) {
+                    hand.setState(BJHandState.INSURED);
+                } else {
+                    hand.setInsuranceBet(0);
+                }
+            }
+            BlackjackEngine.resolvePlayerResult(hand, dealer);
+            replay.replayed.put(index, (double) BlackjackEngine.getReturnedAmount(hand));
+        }
+    }
+
+    /**
+     * Splits the second card of a pair into a new hand carrying the same bet.
+     */
+    private static BJPlayerHand split(BJPlayerHand hand) {
+        BJPlayerHand splitHand = new BJPlayerHand();
+        splitHand.setBet(hand.getBet());
+        if (hand.isSplitAces()) {
+            hand.setSplitAces(true);
+            splitHand.setSplitAces(true);
+        }
+        hand.setHandSplit(true);
+        splitHand.setHandSplit(true);
+        splitHand.getHand().add(hand.getHand().remove(1));
+        return splitHand;
+    }
+
+    /**
+     * Re-simulates a Baccarat round from the shoe, checks that the same cards were dealt to the same
+     * hands, then settles every recorded bet.
+     */
+    private static void replayBaccarat(Replay replay) {
+        List<JournalEvent> cards = new ArrayList<>();
+        for (JournalEvent event : replay.round.events()) {
+            switch (event.type()) {
+                case CARD -> cards.add(event);
+                case SETTLEMENT -> replay.recorded.put(event.target(), event.amount());
+                default -> {
+                }
+            }
+        }
+
+        BacHand player = new BacHand();
+        BacHand banker = new BacHand();
+        List<int[]> dealt = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            dealBaccarat(replay, i % 2 == 0 ? player : banker, i % 2 == 0 ? BACCARAT_PLAYER : BACCARAT_BANKER, dealt);
+        }
+        BaccaratGameEngine.evaluatePlayer(banker, player);
+        if (player.getAction() == BacHandAction.DRAW) {
+            dealBaccarat(replay, player, BACCARAT_PLAYER, dealt);
+        }
+        BaccaratGameEngine.evaluateBanker(banker, player);
+        if (banker.getAction() == BacHandAction.DRAW) {
+            dealBaccarat(replay, banker, BACCARAT_BANKER, dealt);
+        }
+        BaccaratGameEngine.evaluateHands(banker, player);
+
+        if (cards.size() != dealt.size()) {
+            replay.mismatch("Recorded " + cards.size() + " cards, the engine dealt " + dealt.size());
+        }
+        for (int i = 0; i < Math.min(cards.size(), dealt.size()); i++) {
+            JournalEvent card = cards.get(i);
+            if (card.target() != dealt.get(i)[0] || card.arg() != dealt.get(i)[1]) {
+                replay.mismatch("Card " + i + " went to hand " + card.target() + " as code " + card.arg()
+                        + ", the engine deals code " + dealt.get(i)[1] + " to hand " + dealt.get(i)[0]);
+            }
+        }
+
+        for (JournalEvent event : replay.round.events()) {
+            if (event.type() == JournalEventType.BET) {
+                BacBetHand bet = new BacBetHand();
+                bet.setHandType(BacHandType.values()[event.target()]);
+                bet.setBet(event.amount());
+                BaccaratGameEngine.calculateResult(banker, player, bet);
+                replay.replayed.put(event.target(), bet.getBet());
+            }
+        }
+    }
+
+    private static void dealBaccarat(Replay replay, BacHand hand, int target, List<int[]> dealt) {
+        Card card = replay.shoe.deal();
+        hand.dealCard(BacCard.of(card));
+        dealt.add(new int[]{target, card.getCode()});
+    }
+
+    /**
+     * Plays the recorded cards, bets and fold of an Ultimate Texas Hold'em round, then evaluates
+     * and settles it.
+     */
+    private static void replayUltimate(Replay replay) {
+        UthPlayerHand player = new UthPlayerHand();
+        UthHand dealer = new UthHand();
+        List<UthCard> community = new ArrayList<>();
+
+        for (JournalEvent event : replay.round.events()) {
+            switch (event.type()) {
+                case CARD -> {
+                    UthCard card = UthCard.of(replay.deal(event));
+                    switch (event.target()) {
+                        case UTH_PLAYER -> player.dealCard(card);
+                        case UTH_DEALER -> dealer.dealCard(card);
+                        case UTH_COMMUNITY -> community.add(card);
+                        default -> replay.mismatch("Unknown card target " + event.target());
+                    }
+                }
+                case BET -> {
+                    int amount = (int) event.amount();
+                    switch (event.target()) {
+                        case UTH_ANTE -> player.setAnte(amount);
+                        case UTH_BLIND -> player.setBlind(amount);
+                        case UTH_PLAY -> player.setPlay(amount);
+                        case UTH_TRIPS -> player.setTrips(amount);
+                        default -> replay.mismatch("Unknown betting spot " + event.target());
+                    }
+                }
+                case ACTION -> {
+                    if (event.arg() == UTH_FOLD) {
+                        player.setState(UthHandState.FOLD);
+                        player.setAnte(0);
+                        player.setBlind(0);
+                        player.setPlay(0);
+                        player.setTrips(0);
+                    }
+                }
+                case SETTLEMENT -> replay.recorded.put(event.target(), event.amount());
+                default -> {
+                }
+            }
+        }
+
+        if (player.getState() != UthHandState.FOLD) {
+            UthGameEngine.evaluateHand(community, player);
+            UthGameEngine.evaluateHand(community, dealer);
+            UthGameEngine.determineGameResults(player, dealer);
+            UthGameEngine.evaluateTrips(player);
+            UthGameEngine.processResults(player, dealer);
+        }
+        replay.replayed.put(UTH_ANTE, (double) player.getAnte());
+        replay.replayed.put(UTH_BLIND, (double) player.getBlind());
+        replay.replayed.put(UTH_PLAY, (double) player.getPlay());
+        replay.replayed.put(UTH_TRIPS, (double) player.getTrips());
+    }
+
+    /* ======================
+       Replay State
+       ====================== */
+
+    /**
+     * The reconstructed shoe of a round and what its replay has found so far.
+     */
+    private static final class Replay {
+        private final RecordedRound round;
+        private final Map<Integer, Double> recorded = new LinkedHashMap<>();
+        private final Map<Integer, Double> replayed = new LinkedHashMap<>();
+        private final List<String> mismatches = new ArrayList<>();
+        private Shoe<Card> shoe;
+
+        private Replay(RecordedRound round) {
+            this.round = round;
+        }
+
+        /**
+         * Rebuilds the shoe in the order of the recorded shuffle seed, advanced to the recorded cursor.
+         */
+        private void prepareShoe() {
+            if (round.decks() <= 0) {
+                throw new IllegalArgumentException("Round " + round.round() + " has no decks");
+            }
+            shoe = Shoe.createShoe(round.decks(), LetterDeck::new, 1, new Xoshiro256(round.shuffleSeed()));
+            shoe.reshuffle(round.shuffleSeed());
+            for (int i = 0; i < round.cursor(); i++) {
+                shoe.burn();
+            }
+        }
+
+        /**
+         * Deals the next card of the shoe, noting it if the journal recorded a different one.
+         */
+        private Card deal(JournalEvent event) {
+            Card card = shoe.deal();
+            if (card.getCode() != event.arg()) {
+                mismatch("The shoe deals " + card + " where the journal holds code " + event.arg());
+            }
+            return card;
+        }
+
+        private void mismatch(String description) {
+            mismatches.add(description);
+        }
+    }
+}
@@ -1,11 +1,39 @@
 package org.daniel.elysium.models;
 
+import java.util.List;
+import java.util.function.BiFunction;
+
 /**
  * Represents a standard playing card with a rank and suit.
+ * <p>
+ * Besides its display strings, every standard card carries a compact encoding: a rank index
+ * (0 for an Ace up to 12 for a King) and a suit index (0..3 for spades, hearts, diamonds, clubs).
+ * Cards built from other strings keep an index of -1 and are not part of the flyweight caches.
+ * Game specific cards map the rank index through precomputed value tables instead of parsing strings.
+ * The 52 cards of each suit notation are also available as shared, immutable flyweight instances.
+ * </p>
  */
 public class Card {
+
+    /** Number of distinct cards in a standard deck. */
+    public static final int DECK_SIZE = 52;
+
+    /** The card ranks, ordered by rank index. */
+    public static final List<String> RANKS = List.of("A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K");
+
+    /** The letter notation of the suits (Spades, Hearts, Diamonds, Clubs), ordered by suit index. */
+    public static final List<String> LETTER_SUITS = List.of("S", "H", "D", "C");
+
+    /** The symbolic notation of the suits, ordered by suit index. */
+    public static final List<String> SYMBOLIC_SUITS = List.of("♠", "♥", "♦", "♣");
+
+    private static final Card[] CACHE = createFlyweights(Card::new, new Card[2 * DECK_SIZE]);
+
     private final String rank;
     private final String suit;
+    private final byte rankIndex;
+    private final byte suitIndex;
+    private final boolean symbolic;
 
     /**
      * Constructs a card with the specified rank and suit.
@@ -16,6 +44,32 @@ public class Card {
     public Card(String rank, String suit) {
         this.rank = rank;
         this.suit = suit;
+        this.rankIndex = (byte) RANKS.indexOf(rank);
+        this.suitIndex = (byte) Math.max(LETTER_SUITS.indexOf(suit), SYMBOLIC_SUITS.indexOf(suit));
+        this.symbolic = SYMBOLIC_SUITS.contains(suit);
+    }
+
+    /**
+     * Returns the shared card instance for the specified rank and suit.
+     *
+     * @param rank The rank of the card (e.g., "A", "2", "K").
+     * @param suit The suit of the card, in letter or symbolic notation.
+     * @return The flyweight {@code Card}.
+     */
+    public static Card of(String rank, String suit) {
+        return CACHE[cacheIndexOf(rank, suit)];
+    }
+
+    /**
+     * Returns the shared card instance for the specified indices and suit notation.
+     *
+     * @param rankIndex The rank index (0 for an Ace up to 12 for a King).
+     * @param suitIndex The suit index (0..3).
+     * @param symbolic  {@code true} for symbolic suits, {@code false} for letter suits.
+     * @return The flyweight {@code Card}.
+     */
+    public static Card of(int rankIndex, int suitIndex, boolean symbolic) {
+        return CACHE[suitIndex * RANKS.size() + rankIndex + (symbolic ? DECK_SIZE : 0)];
     }
 
     /**
@@ -36,6 +90,55 @@ public class Card {
         return suit;
     }
 
+    /**
+     * Returns the rank index of the card.
+     *
+     * @return 0 for an Ace, 1..9 for the numeric ranks 2..10, 10, 11, 12 for J, Q, K, or -1 for other ranks.
+     */
+    public int getRankIndex() {
+        return rankIndex;
+    }
+
+    /**
+     * Returns the suit index of the card.
+     *
+     * @return 0 for spades, 1 for hearts, 2 for diamonds, 3 for clubs, or -1 for other suits.
+     */
+    public int getSuitIndex() {
+        return suitIndex;
+    }
+
+    /**
+     * Returns the compact code of the card, unique within a deck.
+     *
+     * @return {@code suitIndex * 13 + rankIndex}, in the range 0..51 for standard cards.
+     */
+    public int getCode() {
+        return suitIndex * RANKS.size() + rankIndex;
+    }
+
+    /**
+     * Returns whether the suit is written in symbolic notation.
+     *
+     * @return {@code true} for symbolic suits, {@code false} for letter suits.
+     */
+    public boolean isSymbolic() {
+        return symbolic;
+    }
+
+    /**
+     * Returns the slot of this card in a flyweight cache built by {@link #createFlyweights}.
+     *
+     * @return The cache index, in the range 0..103.
+     * @throws IllegalArgumentException if the card is not part of a standard deck.
+     */
+    public int getCacheIndex() {
+        if (rankIndex < 0 || suitIndex < 0) {
+            throw new IllegalArgumentException("Not a standard card: " + this);
+        }
+        return getCode() + (symbolic ? DECK_SIZE : 0);
+    }
+
     /**
      * Returns the default value of the card.
      * This method should be overridden in subclasses for specific card games.
@@ -55,5 +158,83 @@ public class Card {
     public String toString() {
         return rank + suit;
     }
-}
 
+    /* ======================
+       Encoding Helpers
+       ====================== */
+
+    /**
+     * Maps a rank string to its rank index.
+     *
+     * @param rank The rank of the card (e.g., "A", "2", "K").
+     * @return The rank index.
+     * @throws IllegalArgumentException if the rank is unknown.
+     */
+    public static int rankIndexOf(String rank) {
+        return switch (rank) {
+            case "A" -> 0;
+            case "2" -> 1;
+            case "3" -> 2;
+            case "4" -> 3;
+            case "5" -> 4;
+            case "6" -> 5;
+            case "7" -> 6;
+            case "8" -> 7;
+            case "9" -> 8;
+            case "10" -> 9;
+            case "J" -> 10;
+            case "Q" -> 11;
+            case "K" -> 12;
+            default -> throw new IllegalArgumentException("Invalid rank: " + rank);
+        };
+    }
+
+    /**
+     * Maps a suit string, in letter or symbolic notation, to its suit index.
+     *
+     * @param suit The suit of the card (e.g., "S" or "♠").
+     * @return The suit index.
+     * @throws IllegalArgumentException if the suit is unknown.
+     */
+    public static int suitIndexOf(String suit) {
+        return switch (suit) {
+            case "S", "♠" -> 0;
+            case "H", "♥" -> 1;
+            case "D", "♦" -> 2;
+            case "C", "♣" -> 3;
+            default -> throw new IllegalArgumentException("Invalid suit: " + suit);
+        };
+    }
+
+    /**
+     * Computes the flyweight cache slot of the card with the specified rank and suit.
+     *
+     * @param rank The rank of the card.
+     * @param suit The suit of the card, in letter or symbolic notation.
+     * @return The cache index, in the range 0..103.
+     */
+    protected static int cacheIndexOf(String rank, String suit) {
+        int suitIndex = suitIndexOf(suit);
+        int offset = SYMBOLIC_SUITS.get(suitIndex).equals(suit) ? DECK_SIZE : 0;
+        return suitIndex * RANKS.size() + rankIndexOf(rank) + offset;
+    }
+
+    /**
+     * Fills a flyweight cache with one instance per card and suit notation.
+     * Slots 0..51 hold the letter notation and slots 52..103 the symbolic notation.
+     *
+     * @param factory Creates a card from its rank and suit.
+     * @param cache   The array to fill, of length {@code 2 * DECK_SIZE}.
+     * @return The filled cache.
+     */
+    protected static <C extends Card> C[] createFlyweights(BiFunction<String, String, C> factory, C[] cache) {
+        for (int suitIndex = 0; suitIndex < LETTER_SUITS.size(); suitIndex++) {
+            for (int rankIndex = 0; rankIndex < RANKS.size(); rankIndex++) {
+                int code = suitIndex * RANKS.size() + rankIndex;
+                cache[code] = factory.apply(RANKS.get(rankIndex), LETTER_SUITS.get(suitIndex));
+                cache[code + DECK_SIZE] = factory.apply(RANKS.get(rankIndex), SYMBOLIC_SUITS.get(suitIndex));
+            }
+        }
+        return cache;
+    }
+}
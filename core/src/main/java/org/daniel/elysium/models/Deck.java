@@ -20,6 +20,7 @@ public abstract class Deck<T> {
 
     /**
      * Retrieves the list of cards in the deck.
+     * The list may be shared between decks and must not be modified.
      *
      * @return A list containing all cards in the deck.
      */
@@ -0,0 +1,105 @@
+package org.daniel.elysium.models;
+
+import org.daniel.elysium.debugUtils.DebugPrint;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single-threaded event loop owning the state of one game.
+ * <p>
+ * Every command sent to the loop runs on its one thread, in the order it was sent, so the game
+ * state it changes needs no locking as long as no other thread touches it. Delayed commands, such
+ * as the pause before the next round, are queued the same way instead of blocking the thread.
+ * A command that throws is reported and does not stop the loop.
+ * </p>
+ * <p>
+ * Other threads, such as the user interface, only send commands and read the immutable snapshots
+ * the game publishes.
+ * </p>
+ */
+public class GameLoop implements AutoCloseable {
+
+    private final ScheduledExecutorService executor;
+    private volatile Thread thread;
+
+    /**
+     * Creates a loop running on a new daemon thread.
+     *
+     * @param name the name of the loop thread
+     */
+    public GameLoop(String name) {
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread loopThread = new Thread(runnable, name);
+            loopThread.setDaemon(true);
+            thread = loopThread;
+            return loopThread;
+        });
+    }
+
+    /**
+     * Queues a command to run on the loop thread.
+     *
+     * @param command the command to run
+     * @throws IllegalStateException if the loop has been closed
+     */
+    public void execute(Runnable command) {
+        try {
+            executor.execute(() -> run(command));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("The game loop is closed", e);
+        }
+    }
+
+    /**
+     * Queues a command to run on the loop thread once a delay has passed.
+     *
+     * @param command the command to run
+     * @param delayMs the delay in milliseconds
+     * @return a future that cancels the command if it has not started yet
+     * @throws IllegalStateException if the loop has been closed
+     */
+    public ScheduledFuture<?> schedule(Runnable command, long delayMs) {
+        try {
+            return executor.schedule(() -> run(command), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("The game loop is closed", e);
+        }
+    }
+
+    /**
+     * Returns whether the calling thread is the loop thread.
+     *
+     * @return {@code true} when called from a command of this loop
+     */
+    public boolean isLoopThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Stops accepting commands, drops the delayed ones and waits briefly for the running command to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs a command, reporting a failure instead of passing it to the executor, which would hide it.
+     */
+    private static void run(Runnable command) {
+        try {
+            command.run();
+        } catch (RuntimeException e) {
+            DebugPrint.println(e, true);
+        }
+    }
+}
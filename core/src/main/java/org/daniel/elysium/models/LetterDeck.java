@@ -10,9 +10,13 @@ import java.util.List;
  * This class creates a standard 52-card deck with ranks
  * {"A", "2", "3", ..., "10", "J", "Q", "K"}
  * and suits {"S", "H", "D", "C"}.
+ * <p>
+ * The cards are the shared {@link Card} flyweights, so every deck hands out the same 52 instances.
  */
 public class LetterDeck extends Deck<Card> {
 
+    private static final List<Card> CARDS = buildCards();
+
     /**
      * Generates a standard deck of 52 playing cards
      * where suits are denoted by letters (S, H, D, C).
@@ -22,16 +26,22 @@ public class LetterDeck extends Deck<Card> {
      */
     @Override
     protected List<Card> generateDeck() {
-        List<String> suits = List.of("S", "H", "D", "C"); // Spades, Hearts, Diamonds, Clubs
-        List<String> ranks = List.of("A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K");
+        return CARDS;
+    }
 
-        List<Card> cards = new ArrayList<>();
-        for (String suit : suits) {
-            for (String rank : ranks) {
-                cards.add(new Card(rank, suit));
+    /**
+     * Collects the letter-suited flyweights in suit-major order (Spades, Hearts, Diamonds, Clubs).
+     *
+     * @return an unmodifiable list of the 52 cards
+     */
+    private static List<Card> buildCards() {
+        List<Card> cards = new ArrayList<>(Card.DECK_SIZE);
+        for (int suit = 0; suit < Card.LETTER_SUITS.size(); suit++) {
+            for (int rank = 0; rank < Card.RANKS.size(); rank++) {
+                cards.add(Card.of(rank, suit, false));
             }
         }
-        return cards;
+        return List.copyOf(cards);
     }
 }
 
@@ -0,0 +1,143 @@
+package org.daniel.elysium.models;
+
+import org.daniel.elysium.debugUtils.DebugPrint;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs tasks in submission order, never two at a time, on threads borrowed from a shared executor.
+ * <p>
+ * The state touched by the tasks of one serial executor therefore needs no locking, while many
+ * serial executors share a small pool and run concurrently. Each one takes a thread only while it
+ * has queued tasks, and gives it back after a batch of them so a busy one cannot starve the others.
+ * A task that throws is reported and does not stop the ones queued after it.
+ * </p>
+ * <p>
+ * Once the shared executor stops accepting work, the tasks still queued can no longer run. Those
+ * implementing {@link Task} are told so through {@link Task#reject(RejectedExecutionException)},
+ * so whoever waits for them is not left waiting; other runnables are dropped.
+ * </p>
+ */
+public class SerialExecutor implements Executor {
+
+    private final Executor threads;
+    private final int batchSize;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Task drainer = new Task() {
+        @Override
+        public void run() {
+            drain();
+        }
+
+        @Override
+        public void reject(RejectedExecutionException cause) {
+            scheduled.set(false);
+            rejectQueued(cause);
+        }
+    };
+
+    /**
+     * A queued task that is told when it will never run.
+     * <p>
+     * The batches a serial executor hands to the shared executor are tasks too, so an owner that
+     * shuts the shared executor down with {@link java.util.concurrent.ExecutorService#shutdownNow()}
+     * can reject the batches it returns, and with them every task they would have run.
+     * </p>
+     */
+    public interface Task extends Runnable {
+
+        /**
+         * Called instead of {@link #run()} once the task can no longer run.
+         *
+         * @param cause the rejection of the batch that would have run the task
+         */
+        void reject(RejectedExecutionException cause);
+    }
+
+    /**
+     * Creates a serial executor borrowing threads from the given executor.
+     *
+     * @param threads   the shared executor running the batches
+     * @param batchSize the number of queued tasks run before the thread is given back
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    public SerialExecutor(Executor threads, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        this.threads = threads;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Queues a task to run after the ones queued before it.
+     *
+     * @param task the task to run
+     * @throws RejectedExecutionException if the shared executor no longer accepts work; the task
+     *                                    is not queued, and the tasks queued before it are rejected
+     */
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                threads.execute(drainer);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                // Only throw if no concurrent rejection has taken the task already
+                boolean queued = tasks.remove(task);
+                rejectQueued(e);
+                if (queued) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs up to a batch of queued tasks, then hands the thread back, rescheduling itself if more
+     * tasks are waiting. Once the shared executor has shut down, the remaining tasks are rejected.
+     */
+    private void drain() {
+        for (int i = 0; i < batchSize; i++) {
+            Runnable task = tasks.poll();
+            if (task == null) {
+                break;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                DebugPrint.println(e, true);
+            }
+        }
+        scheduled.set(false);
+        if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+            try {
+                threads.execute(drainer);
+            } catch (RejectedExecutionException e) {
+                drainer.reject(e);
+            }
+        }
+    }
+
+    /**
+     * Takes every queued task and rejects it instead of running it.
+     */
+    private void rejectQueued(RejectedExecutionException cause) {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            if (task instanceof Task rejectable) {
+                try {
+                    rejectable.reject(cause);
+                } catch (RuntimeException e) {
+                    DebugPrint.println(e, true);
+                }
+            }
+        }
+    }
+}
@@ -1,17 +1,80 @@
 package org.daniel.elysium.models;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a shoe containing multiple decks of cards.
  * A shoe is commonly used in card games like Blackjack to hold and shuffle multiple decks.
+ * <p>
+ * The cards are kept in a fixed array and dealt by advancing a cursor, so dealing, peeking and
+ * burning a card take constant time and allocate nothing. A cut card marks how deep the shoe is
+ * played before {@link #needsReshuffle()} reports that it should be reshuffled.
+ * </p>
+ * <p>
+ * Every shuffle draws a 64-bit shuffle seed from the shoe's random generator, puts the cards back in
+ * the order the shoe was created with and applies an in-place Fisher-Yates shuffle driven by a
+ * {@link Xoshiro256} seeded with it. The order of a shoe is therefore fully determined by its latest
+ * {@link #getShuffleSeed() shuffle seed}, and {@link #reshuffle(long)} replays it exactly. A shoe
+ * created with a seeded generator deals the same cards on every run.
+ * </p>
  *
  * @param <T> The type of cards stored in the shoe.
  */
-public record Shoe<T>(List<T> cards) {
+public class Shoe<T> {
+
+    /** Number of cards left behind the cut card when no penetration is specified. */
+    public static final int DEFAULT_RESERVE = 15;
+
+    private final Object[] cards;
+    private final Object[] order;
+    private final int cutCard;
+    private final RandomGenerator seeds;
+    private final Xoshiro256 shuffleRandom = new Xoshiro256(0);
+    private long shuffleSeed;
+    private int cursor;
+
+    /**
+     * Creates a shoe holding the specified cards in their current order.
+     * The cut card is placed {@link #DEFAULT_RESERVE} cards before the end of the shoe.
+     *
+     * @param cards The cards of the shoe, top card first.
+     */
+    public Shoe(List<T> cards) {
+        this(cards, Math.max(0, cards.size() - DEFAULT_RESERVE));
+    }
+
+    /**
+     * Creates a shoe holding the specified cards in their current order.
+     *
+     * @param cards   The cards of the shoe, top card first.
+     * @param cutCard The number of cards dealt before the shoe needs a reshuffle.
+     * @throws IllegalArgumentException if the cut card lies outside the shoe.
+     */
+    public Shoe(List<T> cards, int cutCard) {
+        this(cards, cutCard, new Xoshiro256(Xoshiro256.randomSeed()));
+    }
+
+    /**
+     * Creates a shoe holding the specified cards in their current order, drawing the seed
+     * of every later shuffle from the given generator.
+     *
+     * @param cards   The cards of the shoe, top card first.
+     * @param cutCard The number of cards dealt before the shoe needs a reshuffle.
+     * @param seeds   The generator of shuffle seeds, owned by the shoe from now on.
+     * @throws IllegalArgumentException if the cut card lies outside the shoe.
+     */
+    public Shoe(List<T> cards, int cutCard, RandomGenerator seeds) {
+        if (cutCard < 0 || cutCard > cards.size()) {
+            throw new IllegalArgumentException("Cut card out of range: " + cutCard);
+        }
+        this.cards = cards.toArray();
+        this.order = this.cards.clone();
+        this.cutCard = cutCard;
+        this.seeds = seeds;
+    }
 
     /**
      * Creates a shoe containing the specified number of decks.
@@ -23,12 +86,172 @@ public record Shoe<T>(List<T> cards) {
      * @return A new {@code Shoe} instance containing shuffled cards from multiple decks.
      */
     public static <T> Shoe<T> createShoe(int numOfDecks, Supplier<? extends Deck<T>> deckSupplier) {
+        Shoe<T> shoe = new Shoe<>(collectCards(numOfDecks, deckSupplier));
+        shoe.reshuffle();
+        return shoe;
+    }
+
+    /**
+     * Creates a shoe containing the specified number of decks, cut at the given penetration.
+     *
+     * @param numOfDecks   The number of decks to include in the shoe.
+     * @param deckSupplier A supplier that provides instances of {@link Deck} to generate cards.
+     * @param penetration  The fraction of the shoe dealt before a reshuffle, between 0 and 1.
+     * @return A new {@code Shoe} instance containing shuffled cards from multiple decks.
+     * @throws IllegalArgumentException if the penetration is not between 0 and 1.
+     */
+    public static <T> Shoe<T> createShoe(int numOfDecks, Supplier<? extends Deck<T>> deckSupplier,
+                                         double penetration) {
+        return createShoe(numOfDecks, deckSupplier, penetration, new Xoshiro256(Xoshiro256.randomSeed()));
+    }
+
+    /**
+     * Creates a shoe containing the specified number of decks, cut at the given penetration,
+     * whose shuffles are all drawn from the given generator. Two shoes created from generators in
+     * the same state deal the same cards.
+     *
+     * @param numOfDecks   The number of decks to include in the shoe.
+     * @param deckSupplier A supplier that provides instances of {@link Deck} to generate cards.
+     * @param penetration  The fraction of the shoe dealt before a reshuffle, between 0 and 1.
+     * @param seeds        The generator of shuffle seeds, owned by the shoe from now on.
+     * @return A new {@code Shoe} instance containing shuffled cards from multiple decks.
+     * @throws IllegalArgumentException if the penetration is not between 0 and 1.
+     */
+    public static <T> Shoe<T> createShoe(int numOfDecks, Supplier<? extends Deck<T>> deckSupplier,
+                                         double penetration, RandomGenerator seeds) {
+        if (!(penetration >= 0 && penetration <= 1)) {
+            throw new IllegalArgumentException("Penetration must be between 0 and 1: " + penetration);
+        }
+        List<T> cards = collectCards(numOfDecks, deckSupplier);
+        Shoe<T> shoe = new Shoe<>(cards, (int) (cards.size() * penetration), seeds);
+        shoe.reshuffle();
+        return shoe;
+    }
+
+    /* ======================
+       Dealing
+       ====================== */
+
+    /**
+     * Deals the top card of the shoe.
+     *
+     * @return The dealt card.
+     * @throws IllegalStateException if the shoe is empty.
+     */
+    public T deal() {
+        T card = peek();
+        cursor++;
+        return card;
+    }
+
+    /**
+     * Returns the top card of the shoe without dealing it.
+     *
+     * @return The top card.
+     * @throws IllegalStateException if the shoe is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (cursor >= cards.length) {
+            throw new IllegalStateException("The shoe is empty");
+        }
+        return (T) cards[cursor];
+    }
+
+    /**
+     * Discards the top card of the shoe.
+     *
+     * @throws IllegalStateException if the shoe is empty.
+     */
+    public void burn() {
+        deal();
+    }
+
+    /**
+     * Returns the number of cards left to deal.
+     *
+     * @return The remaining card count.
+     */
+    public int remaining() {
+        return cards.length - cursor;
+    }
+
+    /**
+     * Returns the total number of cards in the shoe, dealt or not.
+     *
+     * @return The shoe size.
+     */
+    public int size() {
+        return cards.length;
+    }
+
+    /**
+     * Returns the number of cards dealt before the cut card is reached.
+     *
+     * @return The cut card position.
+     */
+    public int getCutCard() {
+        return cutCard;
+    }
+
+    /**
+     * Checks whether the cut card has been reached.
+     *
+     * @return {@code true} if the shoe should be reshuffled before the next round.
+     */
+    public boolean needsReshuffle() {
+        return cursor >= cutCard;
+    }
+
+    /**
+     * Returns the seed of the latest shuffle, which {@link #reshuffle(long)} turns back into the same order.
+     *
+     * @return The shuffle seed, 0 if the shoe was never shuffled.
+     */
+    public long getShuffleSeed() {
+        return shuffleSeed;
+    }
+
+    /**
+     * Collects every card back into the shoe and shuffles it with a new seed from the shoe's generator,
+     * keeping the cut card position.
+     */
+    public void reshuffle() {
+        reshuffle(seeds.nextLong());
+    }
+
+    /**
+     * Collects every card back into the shoe and shuffles it into the order of a shuffle seed,
+     * keeping the cut card position.
+     *
+     * @param shuffleSeed The seed of the shuffle, for example one returned by {@link #getShuffleSeed()}.
+     */
+    public void reshuffle(long shuffleSeed) {
+        this.shuffleSeed = shuffleSeed;
+        System.arraycopy(order, 0, cards, 0, cards.length);
+        shuffleRandom.setSeed(shuffleSeed);
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = shuffleRandom.nextInt(i + 1);
+            Object card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+        cursor = 0;
+    }
+
+    /* ======================
+       Helper Methods
+       ====================== */
+
+    /**
+     * Combines the cards of the specified number of decks.
+     */
+    private static <T> List<T> collectCards(int numOfDecks, Supplier<? extends Deck<T>> deckSupplier) {
         List<T> cards = new ArrayList<>();
         for (int i = 0; i < numOfDecks; i++) {
             Deck<T> deck = deckSupplier.get();
             cards.addAll(deck.getCards());
         }
-        Collections.shuffle(cards);
-        return new Shoe<>(cards);
+        return cards;
     }
 }
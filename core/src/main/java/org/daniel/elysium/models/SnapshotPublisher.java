@@ -0,0 +1,81 @@
+package org.daniel.elysium.models;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Publishes the immutable snapshots of a game's round state to other threads.
+ * <p>
+ * The thread running the game builds a snapshot after every change through {@link #publish}, which
+ * hands the snapshot the next version number. The latest snapshot is stored in a volatile field, so
+ * a reader on any thread, such as the user interface, sees a complete and consistent round state
+ * without sharing the mutable game objects. Listeners are told of every snapshot on the publishing
+ * thread and are expected to pass it on to their own thread.
+ * </p>
+ * <p>
+ * Snapshots must be published by one thread at a time; reading and subscribing are thread safe.
+ * </p>
+ *
+ * @param <T> the type of the snapshots
+ */
+public class SnapshotPublisher<T> {
+
+    private final List<Consumer<? super T>> listeners = new CopyOnWriteArrayList<>();
+    private volatile long version;
+    private volatile T latest;
+
+    /**
+     * Builds and publishes a new snapshot, then notifies every listener.
+     *
+     * @param factory builds the snapshot from its version number
+     * @return the published snapshot
+     */
+    public T publish(LongFunction<? extends T> factory) {
+        long next = version + 1;
+        T snapshot = factory.apply(next);
+        latest = snapshot;
+        version = next;
+        for (Consumer<? super T> listener : listeners) {
+            listener.accept(snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the latest snapshot.
+     *
+     * @return the latest snapshot, or {@code null} if none has been published
+     */
+    public T latest() {
+        return latest;
+    }
+
+    /**
+     * Returns the version of the latest snapshot.
+     *
+     * @return the version, 0 if no snapshot has been published
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Registers a listener told of every snapshot published from now on.
+     *
+     * @param listener receives each snapshot on the publishing thread
+     */
+    public void subscribe(Consumer<? super T> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void unsubscribe(Consumer<? super T> listener) {
+        listeners.remove(listener);
+    }
+}
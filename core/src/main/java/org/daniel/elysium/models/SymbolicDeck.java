@@ -10,9 +10,13 @@ import java.util.List;
  * This class creates a standard 52-card deck where ranks are
  * {"A", "2", "3", ..., "10", "J", "Q", "K"} and
  * suits are {"♠", "♥", "♦", "♣"}.
+ * <p>
+ * The cards are the shared {@link Card} flyweights, so every deck hands out the same 52 instances.
  */
 public class SymbolicDeck extends Deck<Card> {
 
+    private static final List<Card> CARDS = buildCards();
+
     /**
      * Generates a standard deck of 52 playing cards using
      * Unicode symbols for suits (♠, ♥, ♦, ♣).
@@ -22,18 +26,22 @@ public class SymbolicDeck extends Deck<Card> {
      */
     @Override
     protected List<Card> generateDeck() {
-        List<String> suits = List.of("♠", "♥", "♦", "♣");
-        List<String> ranks = List.of("A", "2", "3", "4", "5",
-                "6", "7", "8", "9", "10",
-                "J", "Q", "K");
+        return CARDS;
+    }
 
-        List<Card> cards = new ArrayList<>();
-        for (String suit : suits) {
-            for (String rank : ranks) {
-                cards.add(new Card(rank, suit));
+    /**
+     * Collects the symbol-suited flyweights in suit-major order (♠, ♥, ♦, ♣).
+     *
+     * @return an unmodifiable list of the 52 cards
+     */
+    private static List<Card> buildCards() {
+        List<Card> cards = new ArrayList<>(Card.DECK_SIZE);
+        for (int suit = 0; suit < Card.SYMBOLIC_SUITS.size(); suit++) {
+            for (int rank = 0; rank < Card.RANKS.size(); rank++) {
+                cards.add(Card.of(rank, suit, true));
             }
         }
-        return cards;
+        return List.copyOf(cards);
     }
 }
 
@@ -0,0 +1,190 @@
+package org.daniel.elysium.models;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A fast, seedable xoshiro256** pseudo-random generator with 256 bits of state.
+ * <p>
+ * The same seed always produces the same sequence on every platform and JDK. Independent streams
+ * for parallel workers come from {@link #jump()}, which advances the generator by 2<sup>128</sup>
+ * values so the streams never overlap, or from {@link #split()}, which seeds a new generator from
+ * this one. A generator is not thread-safe; every thread uses its own.
+ * </p>
+ */
+public final class Xoshiro256 implements RandomGenerator {
+
+    private static final long[] JUMP = {
+            0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL
+    };
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    /**
+     * Creates a generator from a 64-bit seed, expanded into the full state with SplitMix64.
+     *
+     * @param seed the seed
+     */
+    public Xoshiro256(long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Creates a generator with an explicit state, which must not be all zero.
+     *
+     * @param s0 the first state word
+     * @param s1 the second state word
+     * @param s2 the third state word
+     * @param s3 the fourth state word
+     * @throws IllegalArgumentException if every word is zero
+     */
+    public Xoshiro256(long s0, long s1, long s2, long s3) {
+        if ((s0 | s1 | s2 | s3) == 0) {
+            throw new IllegalArgumentException("The state must not be all zero");
+        }
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    /**
+     * Returns a fresh seed for a generator that does not need to be reproduced from a chosen value.
+     *
+     * @return a seed
+     */
+    public static long randomSeed() {
+        return ThreadLocalRandom.current().nextLong() ^ System.nanoTime();
+    }
+
+    /**
+     * Resets the generator to the sequence of a seed.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        long x = seed;
+        x += 0x9e3779b97f4a7c15L;
+        s0 = mix(x);
+        x += 0x9e3779b97f4a7c15L;
+        s1 = mix(x);
+        x += 0x9e3779b97f4a7c15L;
+        s2 = mix(x);
+        x += 0x9e3779b97f4a7c15L;
+        s3 = mix(x);
+    }
+
+    @Override
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    /**
+     * Returns a uniformly distributed value between 0 (inclusive) and the bound (exclusive),
+     * using Lemire's multiply-and-reject method so no value is favoured.
+     *
+     * @param bound the upper bound, exclusive
+     * @return the random value
+     * @throws IllegalArgumentException if {@code bound} is not positive
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("The bound must be positive: " + bound);
+        }
+        long product = (nextLong() >>> 32) * bound;
+        long low = product & 0xFFFFFFFFL;
+        if (low < bound) {
+            long threshold = (0x100000000L - bound) % bound;
+            while (low < threshold) {
+                product = (nextLong() >>> 32) * bound;
+                low = product & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Advances the generator by 2<sup>128</sup> values, so a copy taken before the jump
+     * and this generator produce non-overlapping streams.
+     */
+    public void jump() {
+        long t0 = 0;
+        long t1 = 0;
+        long t2 = 0;
+        long t3 = 0;
+        for (long word : JUMP) {
+            for (int bit = 0; bit < 64; bit++) {
+                if ((word & (1L << bit)) != 0) {
+                    t0 ^= s0;
+                    t1 ^= s1;
+                    t2 ^= s2;
+                    t3 ^= s3;
+                }
+                nextLong();
+            }
+        }
+        s0 = t0;
+        s1 = t1;
+        s2 = t2;
+        s3 = t3;
+    }
+
+    /**
+     * Returns a generator in the same state, producing the same sequence from here on.
+     *
+     * @return the copy
+     */
+    public Xoshiro256 copy() {
+        return new Xoshiro256(s0, s1, s2, s3);
+    }
+
+    /**
+     * Returns the stream of one worker out of many, all derived from this generator without changing it:
+     * stream {@code n} is a copy jumped {@code n + 1} times.
+     *
+     * @param index the worker's index, starting at 0
+     * @return the worker's generator
+     * @throws IllegalArgumentException if {@code index} is negative
+     */
+    public Xoshiro256 stream(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Negative stream index: " + index);
+        }
+        Xoshiro256 stream = copy();
+        for (int i = 0; i <= index; i++) {
+            stream.jump();
+        }
+        return stream;
+    }
+
+    /**
+     * Returns a new generator seeded from this one, for streams created on demand
+     * such as by recursively forked tasks.
+     *
+     * @return the new generator
+     */
+    public Xoshiro256 split() {
+        return new Xoshiro256(nextLong());
+    }
+
+    /**
+     * The SplitMix64 output function, spreading a counter into a well-mixed word.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,271 @@
+package org.daniel.elysium.ultimateTH;
+
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.ultimateTH.constants.UthGameStage;
+import org.daniel.elysium.ultimateTH.model.UthCard;
+import org.daniel.elysium.ultimateTH.model.UthEquity;
+import org.daniel.elysium.ultimateTH.pokerCore.PokerLookupEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Calculates the showdown equity of a player's hand against the dealer in Ultimate Texas Hold'em.
+ * <p>
+ * Once the flop is exposed, the equity is exact: every completion of the board is evaluated in
+ * parallel across the available cores, and for each one the player's hand is evaluated once and
+ * compared against every possible pair of dealer hole cards. That is about a million showdowns
+ * on the flop and fewer than a thousand on the river, all evaluated by {@link PokerLookupEvaluator}
+ * without allocating per hand.
+ * </p>
+ * <p>
+ * Before the flop, an exact answer would take over two billion showdowns, so the equity is
+ * estimated from {@link #PREFLOP_SAMPLES} random deals instead, also spread across the cores.
+ * </p>
+ */
+public class UthEquityCalculator {
+
+    /** Number of deals sampled when the equity is estimated before the flop. */
+    public static final int PREFLOP_SAMPLES = 200_000;
+
+    private static final int BOARD_SIZE = 5;
+    private static final int WIN = 0;
+    private static final int TIE = 1;
+    private static final int LOSS = 2;
+
+    /* ======================
+       Equity Calculation
+       ====================== */
+
+    /**
+     * Calculates the equity for the community cards exposed at the given stage.
+     *
+     * @param holeCards      the player's two hole cards
+     * @param communityCards all five community cards, of which only the exposed ones are used
+     * @param stage          the current game stage
+     * @return the equity of the player's hand
+     */
+    public static UthEquity calculate(List<UthCard> holeCards, List<UthCard> communityCards, UthGameStage stage) {
+        return calculate(holeCards, visibleCommunityCards(communityCards, stage));
+    }
+
+    /**
+     * Calculates the equity for a partially known board: exactly from the flop on,
+     * and by sampling {@link #PREFLOP_SAMPLES} deals before it.
+     *
+     * @param holeCards the player's two hole cards
+     * @param board     the exposed community cards
+     * @return the equity of the player's hand
+     */
+    public static UthEquity calculate(List<UthCard> holeCards, List<UthCard> board) {
+        if (board.size() >= 3) {
+            return calculateExact(holeCards, board);
+        }
+        return estimate(holeCards, board, PREFLOP_SAMPLES);
+    }
+
+    /**
+     * Calculates the exact equity by enumerating every board completion and dealer hand.
+     *
+     * @param holeCards the player's two hole cards
+     * @param board     the exposed community cards
+     * @return the exact equity of the player's hand
+     * @throws IllegalArgumentException if the cards are invalid or repeated
+     */
+    public static UthEquity calculateExact(List<UthCard> holeCards, List<UthCard> board) {
+        int[] known = encodeKnown(holeCards, board);
+        int[] deck = remainingDeck(known);
+        List<int[]> completions = new ArrayList<>();
+        collectCompletions(deck, BOARD_SIZE - board.size(), 0, new int[BOARD_SIZE - board.size()], 0, completions);
+
+        long[] counts = completions.parallelStream().collect(
+                () -> new long[3],
+                (acc, completion) -> tallyCompletion(acc, known, board.size(), completion, deck),
+                UthEquityCalculator::merge);
+        return new UthEquity(counts[WIN], counts[TIE], counts[LOSS], true);
+    }
+
+    /**
+     * Estimates the equity from randomly sampled board completions and dealer hands.
+     *
+     * @param holeCards the player's two hole cards
+     * @param board     the exposed community cards
+     * @param samples   the number of deals to sample
+     * @return the estimated equity of the player's hand
+     * @throws IllegalArgumentException if the cards are invalid or repeated, or {@code samples} is not positive
+     */
+    public static UthEquity estimate(List<UthCard> holeCards, List<UthCard> board, int samples) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("At least one sample is required: " + samples);
+        }
+        int[] known = encodeKnown(holeCards, board);
+        int[] deck = remainingDeck(known);
+        int chunks = Math.min(samples, Runtime.getRuntime().availableProcessors() * 4);
+
+        long[] counts = IntStream.range(0, chunks).parallel().collect(
+                () -> new long[3],
+                (acc, chunk) -> sampleChunk(acc, known, board.size(), deck,
+                        samples / chunks + (chunk < samples % chunks ? 1 : 0)),
+                UthEquityCalculator::merge);
+        return new UthEquity(counts[WIN], counts[TIE], counts[LOSS], false);
+    }
+
+    /**
+     * Returns the community cards exposed to the player at the given stage.
+     *
+     * @param communityCards all five community cards
+     * @param stage          the current game stage
+     * @return none before the flop, three on the flop, four on the turn and all five afterwards
+     */
+    public static List<UthCard> visibleCommunityCards(List<UthCard> communityCards, UthGameStage stage) {
+        int visible = switch (stage) {
+            case START -> 0;
+            case FLOP -> 3;
+            case TURN -> 4;
+            case RIVER, FINAL -> BOARD_SIZE;
+        };
+        return communityCards.subList(0, Math.min(visible, communityCards.size()));
+    }
+
+    /* ======================
+       Enumeration
+       ====================== */
+
+    /**
+     * Evaluates one board completion against every remaining pair of dealer hole cards.
+     */
+    private static void tallyCompletion(long[] counts, int[] known, int boardSize, int[] completion, int[] deck) {
+        int[] cards = new int[7];
+        System.arraycopy(known, 2, cards, 0, boardSize);
+        System.arraycopy(completion, 0, cards, boardSize, completion.length);
+
+        long used = 0;
+        for (int card : completion) {
+            used |= 1L << card;
+        }
+
+        cards[5] = known[0];
+        cards[6] = known[1];
+        int playerStrength = PokerLookupEvaluator.evaluate(cards, 7);
+
+        for (int i = 0; i < deck.length; i++) {
+            if ((used & (1L << deck[i])) != 0) continue;
+            cards[5] = deck[i];
+            for (int j = i + 1; j < deck.length; j++) {
+                if ((used & (1L << deck[j])) != 0) continue;
+                cards[6] = deck[j];
+                tally(counts, playerStrength, PokerLookupEvaluator.evaluate(cards, 7));
+            }
+        }
+    }
+
+    /**
+     * Plays sampled deals with partial Fisher-Yates shuffles of a private copy of the deck.
+     */
+    private static void sampleChunk(long[] counts, int[] known, int boardSize, int[] sourceDeck, int samples) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] deck = sourceDeck.clone();
+        int missing = BOARD_SIZE - boardSize;
+        int[] player = new int[7];
+        int[] dealer = new int[7];
+        System.arraycopy(known, 2, player, 0, boardSize);
+        System.arraycopy(known, 2, dealer, 0, boardSize);
+        player[5] = known[0];
+        player[6] = known[1];
+
+        for (int sample = 0; sample < samples; sample++) {
+            for (int k = 0; k < missing + 2; k++) {
+                int swap = k + random.nextInt(deck.length - k);
+                int card = deck[swap];
+                deck[swap] = deck[k];
+                deck[k] = card;
+            }
+            for (int k = 0; k < missing; k++) {
+                player[boardSize + k] = deck[k];
+                dealer[boardSize + k] = deck[k];
+            }
+            dealer[5] = deck[missing];
+            dealer[6] = deck[missing + 1];
+            tally(counts, PokerLookupEvaluator.evaluate(player, 7), PokerLookupEvaluator.evaluate(dealer, 7));
+        }
+    }
+
+    /**
+     * Collects every combination of {@code size} cards of the deck, starting at {@code from}.
+     */
+    private static void collectCompletions(int[] deck, int size, int from, int[] current, int depth,
+                                           List<int[]> completions) {
+        if (depth == size) {
+            completions.add(current.clone());
+            return;
+        }
+        for (int i = from; i <= deck.length - (size - depth); i++) {
+            current[depth] = deck[i];
+            collectCompletions(deck, size, i + 1, current, depth + 1, completions);
+        }
+    }
+
+    /* ======================
+       Helper Methods
+       ====================== */
+
+    /**
+     * Encodes the hole cards followed by the board, rejecting invalid or repeated cards.
+     */
+    private static int[] encodeKnown(List<UthCard> holeCards, List<UthCard> board) {
+        if (holeCards.size() != 2) {
+            throw new IllegalArgumentException("Expected two hole cards, got " + holeCards.size());
+        }
+        if (board.size() > BOARD_SIZE) {
+            throw new IllegalArgumentException("A board holds at most five cards, got " + board.size());
+        }
+        int[] known = new int[2 + board.size()];
+        long seen = 0;
+        for (int i = 0; i < known.length; i++) {
+            UthCard card = i < 2 ? holeCards.get(i) : board.get(i - 2);
+            known[i] = PokerLookupEvaluator.encode(card);
+            if ((seen & (1L << known[i])) != 0) {
+                throw new IllegalArgumentException("Card dealt twice: " + card);
+            }
+            seen |= 1L << known[i];
+        }
+        return known;
+    }
+
+    /**
+     * Returns the encoded cards of a standard deck that are not already known.
+     */
+    private static int[] remainingDeck(int[] known) {
+        long seen = 0;
+        for (int card : known) {
+            seen |= 1L << card;
+        }
+        int[] deck = new int[Card.DECK_SIZE - known.length];
+        int size = 0;
+        for (int card = 0; card < Card.DECK_SIZE; card++) {
+            if ((seen & (1L << card)) == 0) {
+                deck[size++] = card;
+            }
+        }
+        return deck;
+    }
+
+    /**
+     * Counts a showdown between two hand strengths.
+     */
+    private static void tally(long[] counts, int playerStrength, int dealerStrength) {
+        // -1, 0, 1 map to WIN, TIE, LOSS
+        counts[Integer.compare(dealerStrength, playerStrength) + 1]++;
+    }
+
+    /**
+     * Adds the counts of one accumulator to another.
+     */
+    private static void merge(long[] into, long[] from) {
+        into[WIN] += from[WIN];
+        into[TIE] += from[TIE];
+        into[LOSS] += from[LOSS];
+    }
+}
@@ -1,6 +1,7 @@
 package org.daniel.elysium.ultimateTH;
 
 import org.daniel.elysium.ultimateTH.constants.UthGameStage;
+import org.daniel.elysium.ultimateTH.constants.UthHandCombination;
 import org.daniel.elysium.ultimateTH.constants.UthHandState;
 import org.daniel.elysium.ultimateTH.constants.UthTripsState;
 import org.daniel.elysium.ultimateTH.model.UthCard;
@@ -23,6 +24,8 @@ import static org.daniel.elysium.ultimateTH.pokerCore.PokerHandComparator.determ
  */
 public class UthGameEngine {
 
+    private static final UthHandCombination[] COMBINATIONS = UthHandCombination.values();
+
     /**
      * Retrieves the available betting options for the player based on the game stage.
      *
@@ -161,4 +164,53 @@ public class UthGameEngine {
             }
         }
     }
+
+    /**
+     * Processes the payouts of many hands in one loop, exactly as {@link #processResults} processes each of
+     * them. The hands are given as parallel arrays indexed by hand, each against the dealer hand of its own
+     * round, and their bets are updated in place.
+     *
+     * @param count              the number of hands to settle, from index 0
+     * @param antes              the Ante bet of each hand
+     * @param blinds             the Blind bet of each hand
+     * @param plays              the Play bet of each hand
+     * @param states             the ordinal of each hand's {@link UthHandState} after {@link #determineGameResults}
+     * @param playerCombinations the ordinal of the {@link UthHandCombination} of each hand
+     * @param dealerCombinations the ordinal of the {@link UthHandCombination} of the dealer hand each hand played against
+     * @throws IllegalArgumentException if an array holds fewer than {@code count} hands
+     */
+    public static void processResults(int count, int[] antes, int[] blinds, int[] plays, byte[] states,
+                                      byte[] playerCombinations, byte[] dealerCombinations) {
+        if (count < 0 || antes.length < count || blinds.length < count || plays.length < count
+                || states.length < count || playerCombinations.length < count || dealerCombinations.length < count) {
+            throw new IllegalArgumentException("The arrays hold fewer than " + count + " hands");
+        }
+        double[] payouts = new double[COMBINATIONS.length];
+        for (UthHandCombination combination : COMBINATIONS) {
+            payouts[combination.ordinal()] = combination.getValue();
+        }
+        byte won = (byte) UthHandState.WON.ordinal();
+        byte lost = (byte) UthHandState.LOST.ordinal();
+
+        for (int i = 0; i < count; i++) {
+            byte state = states[i];
+            boolean dealerQualifies = payouts[dealerCombinations[i]] > -2;
+            double blindPayout = payouts[playerCombinations[i]];
+            if (state == won) {
+                if (dealerQualifies) {
+                    antes[i] *= 2;
+                }
+                if (blindPayout > 0) {
+                    blinds[i] = (int) (blinds[i] + (blinds[i] * blindPayout));
+                }
+                plays[i] *= 2;
+            } else if (state == lost) {
+                if (dealerQualifies) {
+                    antes[i] = 0;
+                }
+                blinds[i] = 0;
+                plays[i] = 0;
+            }
+        }
+    }
 }
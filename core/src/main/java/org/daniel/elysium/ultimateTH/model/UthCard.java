@@ -8,6 +8,11 @@ import org.daniel.elysium.models.Card;
  */
 public class UthCard extends Card {
 
+    /** Ultimate_TH values indexed by rank index (A, 2..10, J, Q, K). */
+    private static final int[] VALUES = {14, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13};
+
+    private static final UthCard[] CACHE = createFlyweights(UthCard::new, new UthCard[2 * DECK_SIZE]);
+
     /**
      * Constructs an Ultimate_TH card with the specified rank and suit.
      *
@@ -18,29 +23,39 @@ public class UthCard extends Card {
         super(rank, suit);
     }
 
+    /**
+     * Returns the shared Ultimate_TH card matching the given card.
+     *
+     * @param card The card to convert.
+     * @return The flyweight {@code UthCard} with the same rank and suit.
+     */
+    public static UthCard of(Card card) {
+        return card instanceof UthCard uthCard ? uthCard : CACHE[card.getCacheIndex()];
+    }
+
+    /**
+     * Returns the shared Ultimate_TH card for the specified rank and suit.
+     *
+     * @param rank The rank of the card (e.g., "A", "2", "K").
+     * @param suit The suit of the card (e.g., "♠", "♥", "♦", "♣").
+     * @return The flyweight {@code UthCard}.
+     */
+    public static UthCard of(String rank, String suit) {
+        return CACHE[cacheIndexOf(rank, suit)];
+    }
+
     /**
      * Gets the Ultimate_TH value of the card.
-     * Face cards (K, Q, J) are worth 11, 12, 13, Aces are worth 14, and numeric cards have their face value.
+     * Face cards (J, Q, K) are worth 11, 12, 13, Aces are worth 14, and numeric cards have their face value.
      *
      * @return The Ultimate_TH value of the card.
      */
     @Override
     public int getValue() {
-        return switch (getRank()) {
-            case "A" -> 14;
-            case "K" -> 13;
-            case "Q" -> 12;
-            case "J" -> 11;
-            case "10" -> 10;
-            case "9" -> 9;
-            case "8" -> 8;
-            case "7" -> 7;
-            case "6" -> 6;
-            case "5" -> 5;
-            case "4" -> 4;
-            case "3" -> 3;
-            case "2" -> 2;
-            default -> throw new IllegalArgumentException("Invalid rank: " + getRank());
-        };
+        int rankIndex = getRankIndex();
+        if (rankIndex < 0) {
+            throw new IllegalArgumentException("Invalid rank: " + getRank());
+        }
+        return VALUES[rankIndex];
     }
 }
@@ -0,0 +1,72 @@
+package org.daniel.elysium.ultimateTH.model;
+
+/**
+ * Represents the showdown equity of a player's hand against the dealer's unknown hole cards.
+ * <p>
+ * The counts are either every possible dealer hand and board completion, when the equity is exact,
+ * or the sampled deals of a Monte Carlo estimate.
+ * </p>
+ *
+ * @param wins   the number of deals the player wins
+ * @param ties   the number of deals that end in a tie
+ * @param losses the number of deals the dealer wins
+ * @param exact  {@code true} if every deal was enumerated, {@code false} for a sampled estimate
+ */
+public record UthEquity(long wins, long ties, long losses, boolean exact) {
+
+    /**
+     * Returns the number of deals evaluated.
+     *
+     * @return the sum of wins, ties and losses
+     */
+    public long total() {
+        return wins + ties + losses;
+    }
+
+    /**
+     * Returns the probability that the player wins the showdown.
+     *
+     * @return the winning probability
+     */
+    public double winProbability() {
+        return total() == 0 ? 0 : (double) wins / total();
+    }
+
+    /**
+     * Returns the probability that the showdown ends in a tie.
+     *
+     * @return the tie probability
+     */
+    public double tieProbability() {
+        return total() == 0 ? 0 : (double) ties / total();
+    }
+
+    /**
+     * Returns the probability that the dealer wins the showdown.
+     *
+     * @return the losing probability
+     */
+    public double lossProbability() {
+        return total() == 0 ? 0 : (double) losses / total();
+    }
+
+    /**
+     * Returns the share of the pot the player's hand is worth, counting a tie as half.
+     *
+     * @return the equity, between 0 and 1
+     */
+    public double equity() {
+        return total() == 0 ? 0 : (wins + ties / 2.0) / total();
+    }
+
+    /**
+     * Returns a short summary of the equity, for example {@code "Win 62.4% | Tie 3.1% | Lose 34.5%"}.
+     *
+     * @return the formatted probabilities
+     */
+    @Override
+    public String toString() {
+        return String.format("Win %.1f%% | Tie %.1f%% | Lose %.1f%%",
+                winProbability() * 100, tieProbability() * 100, lossProbability() * 100);
+    }
+}
@@ -0,0 +1,83 @@
+package org.daniel.elysium.ultimateTH.model;
+
+import org.daniel.elysium.ultimateTH.UthEquityCalculator;
+import org.daniel.elysium.ultimateTH.constants.UthGameStage;
+import org.daniel.elysium.ultimateTH.constants.UthHandCombination;
+import org.daniel.elysium.ultimateTH.constants.UthHandState;
+import org.daniel.elysium.ultimateTH.constants.UthTripsState;
+
+import java.util.List;
+
+/**
+ * An immutable view of an Ultimate Texas Hold'em round, safe to hand to any thread.
+ * <p>
+ * Like the table itself, a snapshot only shows the community cards exposed at its stage and keeps the
+ * dealer's cards hidden until the {@link UthGameStage#FINAL} stage. Snapshots are numbered by increasing
+ * versions, so a reader can compare a new one with the one it has shown to find what changed.
+ * </p>
+ *
+ * @param version            increases with every change to the round
+ * @param round              the number of rounds dealt so far
+ * @param stage              the stage of the round
+ * @param playerCards        the player's hole cards
+ * @param dealerCards        the dealer's hole cards, empty until they are exposed
+ * @param communityCards     the community cards exposed so far
+ * @param state              the result of the player's hand, or {@link UthHandState#FOLD}
+ * @param playerCombination  the best combination of the player, {@link UthHandCombination#UNDEFINED} until evaluated
+ * @param dealerCombination  the best combination of the dealer, {@link UthHandCombination#UNDEFINED} until evaluated
+ * @param ante               the Ante bet, or the amount it returns once settled
+ * @param blind              the Blind bet, or the amount it returns once settled
+ * @param play               the Play bet, or the amount it returns once settled
+ * @param trips              the Trips bet, or the amount it returns once settled
+ * @param tripsState         the result of the Trips bet
+ */
+public record UthRoundSnapshot(long version, long round, UthGameStage stage, List<UthCard> playerCards,
+                               List<UthCard> dealerCards, List<UthCard> communityCards, UthHandState state,
+                               UthHandCombination playerCombination, UthHandCombination dealerCombination,
+                               int ante, int blind, int play, int trips, UthTripsState tripsState) {
+
+    /**
+     * Creates a snapshot, copying the cards into unmodifiable lists.
+     */
+    public UthRoundSnapshot {
+        playerCards = List.copyOf(playerCards);
+        dealerCards = List.copyOf(dealerCards);
+        communityCards = List.copyOf(communityCards);
+    }
+
+    /**
+     * Captures the current state of a round as the player sees it.
+     *
+     * @param version        the version of the snapshot
+     * @param round          the number of rounds dealt so far
+     * @param stage          the stage of the round
+     * @param player         the player's hand
+     * @param dealer         the dealer's hand
+     * @param communityCards all community cards dealt for the round
+     * @return a snapshot of the round
+     */
+    public static UthRoundSnapshot of(long version, long round, UthGameStage stage, UthPlayerHand player,
+                                      UthHand dealer, List<UthCard> communityCards) {
+        return new UthRoundSnapshot(version, round, stage, player.getHand(),
+                stage == UthGameStage.FINAL ? dealer.getHand() : List.of(),
+                UthEquityCalculator.visibleCommunityCards(communityCards, stage), player.getState(),
+                combinationOf(player), stage == UthGameStage.FINAL ? combinationOf(dealer) : UthHandCombination.UNDEFINED,
+                player.getAnte(), player.getBlind(), player.getPlay(), player.getTrips(), player.getTripsState());
+    }
+
+    /**
+     * Returns whether the round has been evaluated, which is when both combinations are known.
+     *
+     * @return {@code true} once the hands have been compared
+     */
+    public boolean isEvaluated() {
+        return playerCombination != UthHandCombination.UNDEFINED && dealerCombination != UthHandCombination.UNDEFINED;
+    }
+
+    /**
+     * Returns the best combination of a hand, or {@link UthHandCombination#UNDEFINED} if it has not been evaluated.
+     */
+    private static UthHandCombination combinationOf(UthHand hand) {
+        return hand.getEvaluatedHand() == null ? UthHandCombination.UNDEFINED : hand.getEvaluatedHand().handCombination();
+    }
+}
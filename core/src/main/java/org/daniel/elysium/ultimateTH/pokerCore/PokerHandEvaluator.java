@@ -5,14 +5,15 @@ import org.daniel.elysium.ultimateTH.model.UthCard;
 import org.daniel.elysium.ultimateTH.model.UthHand;
 import org.daniel.elysium.ultimateTH.pokerCore.models.PokerEvaluatedHandModel;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Evaluates poker hands in Ultimate Texas Hold'em.
  * <p>
  * This class determines the best possible 5-card hand from the available cards,
  * evaluates its ranking, and selects a kicker if necessary.
+ * The ranking itself is delegated to {@link PokerLookupEvaluator}, which works on int-encoded cards.
  * </p>
  */
 public class PokerHandEvaluator {
@@ -26,199 +27,135 @@ public class PokerHandEvaluator {
      *
      * @param communityCards the shared community cards
      * @param hand the player's or dealer's hand
-     * @return a {@code PokerEvaluatedHandModel} containing the best hand combination, kicker, and ranking
+     * @return a {@code PokerEvaluatedHandModel} containing the best hand combination, kicker, and ranking,
+     *         or {@code null} if fewer than five cards are available
      */
     public static PokerEvaluatedHandModel evaluateHand(List<UthCard> communityCards, UthHand hand) {
         List<UthCard> allCards = new ArrayList<>(communityCards);
         allCards.addAll(hand.getHand());
-        List<List<UthCard>> combinations = generateCombinations(allCards, 5);
-
-        // Track the best hand
-        PokerEvaluatedHandModel bestHand = null;
-
-        for (List<UthCard> combination : combinations) {
-            UthHandCombination handCombination = determineHandCombination(combination);
-            UthCard kicker = getKicker(combination, handCombination);
-
-            // Create a PokerEvaluatedHandModel for this combination
-            PokerEvaluatedHandModel currentHand = new PokerEvaluatedHandModel(combination, kicker, handCombination);
-
-            // Update the best hand if this one is better
-            if (bestHand == null || PokerHandComparator.compareHands(currentHand, bestHand) > 0) {
-                bestHand = currentHand;
-            }
+        if (allCards.size() < 5) {
+            return null;
         }
 
-        return bestHand;
-    }
-
-    /* ======================
-       Combination Generation
-       ====================== */
-
-    /**
-     * Generates all possible 5-card combinations from the available cards.
-     *
-     * @param cards the full list of available cards
-     * @param k the number of cards per combination
-     * @return a list of all possible 5-card combinations
-     */
-    private static List<List<UthCard>> generateCombinations(List<UthCard> cards, int k) {
-        List<List<UthCard>> combinations = new ArrayList<>();
-        generateCombinationsHelper(cards, k, 0, new ArrayList<>(), combinations);
-        return combinations;
-    }
-
-    /**
-     * Helper method to generate card combinations recursively.
-     *
-     * @param cards the full list of available cards
-     * @param k the number of cards per combination
-     * @param start the index to start from
-     * @param current the current combination being formed
-     * @param combinations the list of generated combinations
-     */
-    private static void generateCombinationsHelper(List<UthCard> cards, int k, int start, List<UthCard> current, List<List<UthCard>> combinations) {
-        if (k == 0) {
-            combinations.add(new ArrayList<>(current));
-            return;
-        }
-        for (int i = start; i <= cards.size() - k; i++) {
-            current.add(cards.get(i));
-            generateCombinationsHelper(cards, k - 1, i + 1, current, combinations);
-            current.remove(current.size() - 1);
+        int[] encoded = new int[allCards.size()];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = PokerLookupEvaluator.encode(allCards.get(i));
         }
-    }
 
-    /* ======================
-       Hand Ranking
-       ====================== */
+        int strength = PokerLookupEvaluator.evaluate(encoded, encoded.length);
+        UthHandCombination handCombination = PokerLookupEvaluator.combinationOf(strength);
+        List<UthCard> combination = selectCards(allCards, encoded, strength, handCombination);
 
-    /**
-     * Determines the hand ranking for a given 5-card hand.
-     *
-     * @param hand the hand to evaluate
-     * @return the corresponding {@code UthHandCombination}
-     */
-    private static UthHandCombination determineHandCombination(List<UthCard> hand) {
-        if (isRoyalFlush(hand)) return UthHandCombination.ROYAL_FLUSH;
-        if (isStraightFlush(hand)) return UthHandCombination.STRAIGHT_FLUSH;
-        if (isFourOfAKind(hand)) return UthHandCombination.QUADS;
-        if (isFullHouse(hand)) return UthHandCombination.FULL_HOUSE;
-        if (isFlush(hand)) return UthHandCombination.FLUSH;
-        if (isStraight(hand)) return UthHandCombination.STRAIGHT;
-        if (isThreeOfAKind(hand)) return UthHandCombination.TRIPS;
-        if (isTwoPair(hand)) return UthHandCombination.TWO_PAIR;
-        if (isOnePair(hand)) return UthHandCombination.PAIR;
-        return UthHandCombination.HIGH_CARD;
+        return new PokerEvaluatedHandModel(combination, getKicker(combination, handCombination), handCombination, strength);
     }
 
     /* ======================
-       Hand Type Verification
+       Card Selection
        ====================== */
 
     /**
-     * Checks if the hand is a Royal Flush.
+     * Picks the five cards that make up the evaluated hand, most significant cards first.
      *
-     * @param hand the hand to evaluate
-     * @return {@code true} if the hand is a Royal Flush, otherwise {@code false}
-     */
-    private static boolean isRoyalFlush(List<UthCard> hand) {
-        if (!isFlush(hand)) return false;
-        Set<String> requiredRanks = new HashSet<>(Arrays.asList("A", "K", "Q", "J", "10"));
-        Set<String> handRanks = hand.stream().map(UthCard::getRank).collect(Collectors.toSet());
-        return handRanks.containsAll(requiredRanks);
-    }
-
-    /**
-     * Checks if the hand is a Straight Flush.
-     */
-    private static boolean isStraightFlush(List<UthCard> hand) {
-        return isFlush(hand) && isStraight(hand);
-    }
-
-    /**
-     * Checks if the hand is Four of a Kind.
-     */
-    private static boolean isFourOfAKind(List<UthCard> hand) {
-        return getRankCounts(hand).containsValue(4);
-    }
-
-    /**
-     * Checks if the hand is a Full House.
-     */
-    private static boolean isFullHouse(List<UthCard> hand) {
-        Map<String, Integer> rankCounts = getRankCounts(hand);
-        return rankCounts.containsValue(3) && rankCounts.containsValue(2);
-    }
-
-    /**
-     * Checks if the hand is a Flush.
-     */
-    private static boolean isFlush(List<UthCard> hand) {
-        return hand.stream().map(UthCard::getSuit).collect(Collectors.toSet()).size() == 1;
-    }
-
-    /**
-     * Checks if the hand is a Straight.
+     * @param cards the available cards
+     * @param encoded the int-encoded form of {@code cards}
+     * @param strength the evaluated hand strength
+     * @param handCombination the hand combination encoded in {@code strength}
+     * @return the five cards forming the best hand
      */
-    private static boolean isStraight(List<UthCard> hand) {
-        List<Integer> values = hand.stream()
-                .map(UthCard::getValue)
-                .sorted()
-                .toList();
-        if (values.equals(Arrays.asList(2, 3, 4, 5, 14))) return true;
-        for (int i = 1; i < values.size(); i++) {
-            if (values.get(i) != values.get(i - 1) + 1) return false;
+    private static List<UthCard> selectCards(List<UthCard> cards, int[] encoded, int strength,
+                                             UthHandCombination handCombination) {
+        List<UthCard> combination = new ArrayList<>(5);
+        boolean[] used = new boolean[cards.size()];
+        int suit = -1;
+
+        switch (handCombination) {
+            case ROYAL_FLUSH, STRAIGHT_FLUSH, STRAIGHT -> {
+                if (handCombination != UthHandCombination.STRAIGHT) {
+                    suit = flushSuit(encoded);
+                }
+                int high = (strength >>> 16) & 0xF;
+                for (int value = high; value > high - 5; value--) {
+                    pick(cards, encoded, used, value == 1 ? 14 : value, suit, 1, combination);
+                }
+            }
+            case FLUSH -> {
+                suit = flushSuit(encoded);
+                for (int shift = 16; shift >= 0; shift -= 4) {
+                    pick(cards, encoded, used, (strength >>> shift) & 0xF, suit, 1, combination);
+                }
+            }
+            default -> {
+                int[] groups = groupSizes(handCombination);
+                int shift = 16;
+                for (int size : groups) {
+                    pick(cards, encoded, used, (strength >>> shift) & 0xF, suit, size, combination);
+                    shift -= 4;
+                }
+            }
         }
-        return true;
+        return combination;
     }
 
     /**
-     * Checks if the hand is Three of a Kind.
+     * Returns the size of each rank group of a hand, in the order the groups appear in the strength.
      */
-    private static boolean isThreeOfAKind(List<UthCard> hand) {
-        return getRankCounts(hand).containsValue(3);
+    private static int[] groupSizes(UthHandCombination handCombination) {
+        return switch (handCombination) {
+            case QUADS -> new int[]{4, 1};
+            case FULL_HOUSE -> new int[]{3, 2};
+            case TRIPS -> new int[]{3, 1, 1};
+            case TWO_PAIR -> new int[]{2, 2, 1};
+            case PAIR -> new int[]{2, 1, 1, 1};
+            default -> new int[]{1, 1, 1, 1, 1};
+        };
     }
 
     /**
-     * Checks if the hand is Two Pair.
+     * Adds {@code amount} unused cards of the given value (and suit, unless {@code suit} is -1).
      */
-    private static boolean isTwoPair(List<UthCard> hand) {
-        return getRankCounts(hand).values().stream().filter(count -> count == 2).count() == 2;
+    private static void pick(List<UthCard> cards, int[] encoded, boolean[] used, int value, int suit,
+                             int amount, List<UthCard> combination) {
+        for (int i = 0; i < cards.size() && amount > 0; i++) {
+            if (!used[i] && PokerLookupEvaluator.valueOf(encoded[i]) == value
+                    && (suit < 0 || PokerLookupEvaluator.suitOf(encoded[i]) == suit)) {
+                used[i] = true;
+                combination.add(cards.get(i));
+                amount--;
+            }
+        }
     }
 
     /**
-     * Checks if the hand is One Pair.
+     * Finds the suit that appears at least five times.
      */
-    private static boolean isOnePair(List<UthCard> hand) {
-        return getRankCounts(hand).containsValue(2);
+    private static int flushSuit(int[] encoded) {
+        int[] suitCounts = new int[4];
+        for (int card : encoded) {
+            if (++suitCounts[PokerLookupEvaluator.suitOf(card)] >= 5) {
+                return PokerLookupEvaluator.suitOf(card);
+            }
+        }
+        return -1;
     }
 
     /* ======================
        Helper Methods
        ====================== */
 
-    /**
-     * Counts the occurrences of each card rank in a hand.
-     */
-    private static Map<String, Integer> getRankCounts(List<UthCard> hand) {
-        Map<String, Integer> rankCounts = new HashMap<>();
-        for (UthCard card : hand) {
-            rankCounts.put(card.getRank(), rankCounts.getOrDefault(card.getRank(), 0) + 1);
-        }
-        return rankCounts;
-    }
-
     /**
      * Determines the kicker card based on the hand ranking.
      */
     private static UthCard getKicker(List<UthCard> hand, UthHandCombination handCombination) {
-        List<UthCard> sortedHand = hand.stream()
-                .sorted(Comparator.comparingInt(UthCard::getValue).reversed())
-                .toList();
         return switch (handCombination) {
-            case HIGH_CARD, PAIR, TWO_PAIR, TRIPS -> sortedHand.get(0);
+            case HIGH_CARD, PAIR, TWO_PAIR, TRIPS -> {
+                UthCard highest = hand.get(0);
+                for (UthCard card : hand) {
+                    if (card.getValue() > highest.getValue()) {
+                        highest = card;
+                    }
+                }
+                yield highest;
+            }
             default -> null;
         };
     }
@@ -0,0 +1,242 @@
+package org.daniel.elysium.ultimateTH.pokerCore;
+
+import org.daniel.elysium.ultimateTH.constants.UthHandCombination;
+import org.daniel.elysium.ultimateTH.model.UthCard;
+
+/**
+ * Table driven poker hand evaluator working on int-encoded cards.
+ * <p>
+ * A card is encoded as {@code rank * 4 + suit}, where {@code rank} is 0 for a deuce up to 12 for an ace,
+ * and {@code suit} is 0..3 (spades, hearts, diamonds, clubs). The evaluator folds up to seven cards
+ * into a rank bit mask, four suit bit masks and packed rank counts in a single pass, then resolves the
+ * best five-card hand with two precomputed tables indexed by a 13-bit rank mask:
+ * <ul>
+ *     <li>{@code STRAIGHT_HIGH} - the highest straight contained in the mask (wheel included)</li>
+ *     <li>{@code TOP_FIVE} - the five highest ranks of the mask, packed as card values</li>
+ * </ul>
+ * No objects are allocated while evaluating.
+ * </p>
+ * <p>
+ * The result is a hand strength: the {@link UthHandCombination} ordinal in bits 20-23, followed by
+ * up to five 4-bit card values (2..14) in decreasing significance. Two strengths compare exactly like
+ * the hands they describe, so a plain integer comparison decides a showdown.
+ * </p>
+ */
+public final class PokerLookupEvaluator {
+
+    /** Number of distinct ranks in a deck. */
+    public static final int RANK_COUNT = 13;
+
+    /** Bit offset of the hand category inside a hand strength. */
+    public static final int CATEGORY_SHIFT = 20;
+
+    private static final int RANK_MASK_SIZE = 1 << RANK_COUNT;
+    private static final int WHEEL_MASK = 0b1_0000_0000_1111; // A-2-3-4-5
+    private static final int ACE_VALUE = 14;
+
+    private static final byte[] STRAIGHT_HIGH = new byte[RANK_MASK_SIZE];
+    private static final int[] TOP_FIVE = new int[RANK_MASK_SIZE];
+    private static final UthHandCombination[] COMBINATIONS = UthHandCombination.values();
+
+    static {
+        for (int mask = 0; mask < RANK_MASK_SIZE; mask++) {
+            STRAIGHT_HIGH[mask] = (byte) computeStraightHigh(mask);
+            TOP_FIVE[mask] = computeTopFive(mask);
+        }
+    }
+
+    private PokerLookupEvaluator() {
+    }
+
+    /* ======================
+       Card Encoding
+       ====================== */
+
+    /**
+     * Encodes a card as {@code rank * 4 + suit}.
+     *
+     * @param card the card to encode
+     * @return the int-encoded card
+     * @throws IllegalArgumentException if the card is not part of a standard deck
+     */
+    public static int encode(UthCard card) {
+        if (card.getSuitIndex() < 0) {
+            throw new IllegalArgumentException("Invalid suit: " + card.getSuit());
+        }
+        return ((card.getValue() - 2) << 2) | card.getSuitIndex();
+    }
+
+    /**
+     * Returns the card value (2..14) of an int-encoded card.
+     *
+     * @param card the int-encoded card
+     * @return the card value, where an ace is 14
+     */
+    public static int valueOf(int card) {
+        return (card >>> 2) + 2;
+    }
+
+    /**
+     * Returns the suit index (0..3) of an int-encoded card.
+     *
+     * @param card the int-encoded card
+     * @return the suit index
+     */
+    public static int suitOf(int card) {
+        return card & 3;
+    }
+
+    /* ======================
+       Hand Evaluation
+       ====================== */
+
+    /**
+     * Evaluates the best five-card hand out of the first {@code count} int-encoded cards.
+     *
+     * @param cards the int-encoded cards
+     * @param count the number of cards to use, between 5 and 7
+     * @return the strength of the best five-card hand
+     */
+    public static int evaluate(int[] cards, int count) {
+        int rankMask = 0;
+        long suitMasks = 0;
+        long rankCounts = 0;
+
+        for (int i = 0; i < count; i++) {
+            int rank = cards[i] >>> 2;
+            rankMask |= 1 << rank;
+            suitMasks |= 1L << (((cards[i] & 3) << 4) + rank);
+            rankCounts += 1L << (rank << 2);
+        }
+
+        int flushMask = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            int mask = (int) (suitMasks >>> (suit << 4)) & (RANK_MASK_SIZE - 1);
+            if (Integer.bitCount(mask) >= 5) {
+                flushMask = mask;
+                break;
+            }
+        }
+
+        if (flushMask != 0) {
+            int high = STRAIGHT_HIGH[flushMask];
+            if (high != 0) {
+                UthHandCombination combination = high == ACE_VALUE
+                        ? UthHandCombination.ROYAL_FLUSH
+                        : UthHandCombination.STRAIGHT_FLUSH;
+                return strength(combination, high << 16);
+            }
+        }
+
+        // Group the ranks by multiplicity, from the highest rank down
+        int quads = 0;
+        int trips = 0;
+        int secondTrips = 0;
+        int pairs = 0;
+        int pairCount = 0;
+        for (int rank = RANK_COUNT - 1; rank >= 0; rank--) {
+            int count4 = (int) (rankCounts >>> (rank << 2)) & 0xF;
+            int value = rank + 2;
+            if (count4 == 4) {
+                quads = value;
+            } else if (count4 == 3) {
+                if (trips == 0) {
+                    trips = value;
+                } else if (secondTrips == 0) {
+                    secondTrips = value;
+                }
+            } else if (count4 == 2 && pairCount < 3) {
+                pairs |= value << (8 - (pairCount << 2));
+                pairCount++;
+            }
+        }
+
+        if (quads != 0) {
+            return strength(UthHandCombination.QUADS, quads << 16 | topRanks(rankMask, quads, 0, 1) << 12);
+        }
+        if (trips != 0 && (secondTrips != 0 || pairCount > 0)) {
+            int pair = Math.max(secondTrips, pairs >>> 8);
+            return strength(UthHandCombination.FULL_HOUSE, trips << 16 | pair << 12);
+        }
+        if (flushMask != 0) {
+            return strength(UthHandCombination.FLUSH, TOP_FIVE[flushMask]);
+        }
+        int straightHigh = STRAIGHT_HIGH[rankMask];
+        if (straightHigh != 0) {
+            return strength(UthHandCombination.STRAIGHT, straightHigh << 16);
+        }
+        if (trips != 0) {
+            return strength(UthHandCombination.TRIPS, trips << 16 | topRanks(rankMask, trips, 0, 2) << 8);
+        }
+        if (pairCount >= 2) {
+            int high = pairs >>> 8;
+            int low = (pairs >>> 4) & 0xF;
+            return strength(UthHandCombination.TWO_PAIR,
+                    high << 16 | low << 12 | topRanks(rankMask, high, low, 1) << 8);
+        }
+        if (pairCount == 1) {
+            int pair = pairs >>> 8;
+            return strength(UthHandCombination.PAIR, pair << 16 | topRanks(rankMask, pair, 0, 3) << 4);
+        }
+        return strength(UthHandCombination.HIGH_CARD, TOP_FIVE[rankMask]);
+    }
+
+    /**
+     * Returns the hand combination encoded in a hand strength.
+     *
+     * @param strength the hand strength
+     * @return the matching {@code UthHandCombination}
+     */
+    public static UthHandCombination combinationOf(int strength) {
+        return COMBINATIONS[strength >>> CATEGORY_SHIFT];
+    }
+
+    /* ======================
+       Helper Methods
+       ====================== */
+
+    /**
+     * Combines a hand combination with its packed card values.
+     */
+    private static int strength(UthHandCombination combination, int values) {
+        return combination.ordinal() << CATEGORY_SHIFT | values;
+    }
+
+    /**
+     * Packs the {@code k} highest card values of the mask, skipping up to two excluded values.
+     */
+    private static int topRanks(int rankMask, int excludedValue1, int excludedValue2, int k) {
+        int mask = rankMask;
+        if (excludedValue1 != 0) mask &= ~(1 << (excludedValue1 - 2));
+        if (excludedValue2 != 0) mask &= ~(1 << (excludedValue2 - 2));
+        return TOP_FIVE[mask] >>> ((5 - k) << 2);
+    }
+
+    /**
+     * Computes the high card value of the best straight in a rank mask, or 0 if there is none.
+     */
+    private static int computeStraightHigh(int mask) {
+        for (int high = RANK_COUNT - 1; high >= 4; high--) {
+            int run = 0b11111 << (high - 4);
+            if ((mask & run) == run) {
+                return high + 2;
+            }
+        }
+        return (mask & WHEEL_MASK) == WHEEL_MASK ? 5 : 0;
+    }
+
+    /**
+     * Packs the five highest card values of a rank mask, left aligned in 20 bits.
+     */
+    private static int computeTopFive(int mask) {
+        int packed = 0;
+        int taken = 0;
+        for (int rank = RANK_COUNT - 1; rank >= 0 && taken < 5; rank--) {
+            if ((mask & (1 << rank)) != 0) {
+                packed |= (rank + 2) << (16 - (taken << 2));
+                taken++;
+            }
+        }
+        return packed;
+    }
+}
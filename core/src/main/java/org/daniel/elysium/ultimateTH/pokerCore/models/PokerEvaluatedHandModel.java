@@ -2,6 +2,7 @@ package org.daniel.elysium.ultimateTH.pokerCore.models;
 
 import org.daniel.elysium.ultimateTH.constants.UthHandCombination;
 import org.daniel.elysium.ultimateTH.model.UthCard;
+import org.daniel.elysium.ultimateTH.pokerCore.PokerLookupEvaluator;
 
 import java.util.List;
 
@@ -9,16 +10,19 @@ import java.util.List;
  * Represents the evaluated poker hand model in Ultimate Texas Hold'em.
  * <p>
  * This record stores the best five-card combination, the kicker card (if applicable),
- * and the final hand ranking.
+ * the final hand ranking and the hand strength used to compare hands.
  * </p>
  *
  * @param cardCombination the best five-card hand selected from the player's and community cards
  * @param kicker the highest-ranked kicker card used in tie-breaking situations
  * @param handCombination the evaluated hand combination (e.g., Straight, Flush, Full House)
+ * @param strength the hand strength encoding the combination, the ranks and the kickers,
+ *                 as produced by {@link PokerLookupEvaluator#evaluate(int[], int)}
  */
 public record PokerEvaluatedHandModel(
         List<UthCard> cardCombination,
         UthCard kicker,
-        UthHandCombination handCombination
+        UthHandCombination handCombination,
+        int strength
 ) {
-}
\ No newline at end of file
+}
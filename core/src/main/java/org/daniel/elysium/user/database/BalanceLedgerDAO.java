@@ -0,0 +1,130 @@
+package org.daniel.elysium.user.database;
+
+import org.daniel.elysium.debugUtils.DebugPrint;
+import org.daniel.elysium.user.ledger.BalanceEvent;
+import org.daniel.elysium.user.ledger.BalanceEventType;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Access Object (DAO) for the append-only balance ledger.
+ */
+public class BalanceLedgerDAO {
+
+    /** Creates the ledger table; executed by {@link DatabaseConnection#initializeDatabase()}. */
+    static final String CREATE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS balance_ledger (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                eventId TEXT UNIQUE NOT NULL,
+                username TEXT NOT NULL,
+                type TEXT NOT NULL,
+                amount REAL NOT NULL,
+                balance REAL NOT NULL,
+                timestamp INTEGER NOT NULL
+            )
+        """;
+
+    /**
+     * Appends a batch of events and sets each affected user's balance to the one of their
+     * latest event, all in a single transaction.
+     * <p>
+     * Events that are already in the ledger are skipped, so a batch can be retried after a failure.
+     * </p>
+     *
+     * @param events the events to append, in recording order
+     * @throws SQLException if the batch could not be committed; nothing is written in that case
+     */
+    public void appendEvents(List<BalanceEvent> events) throws SQLException {
+        String insertSql = "INSERT OR IGNORE INTO balance_ledger "
+                + "(eventId, username, type, amount, balance, timestamp) VALUES (?, ?, ?, ?, ?, ?)";
+        String balanceSql = "UPDATE users SET balance = ? WHERE username = ?";
+
+        // Only the latest balance of each user needs to reach the users table
+        Map<String, Double> latestBalances = new LinkedHashMap<>();
+        Connection conn = DatabaseConnection.getThreadConnection();
+        conn.setAutoCommit(false);
+        try {
+            PreparedStatement insert = DatabaseConnection.prepareStatement(insertSql);
+            for (BalanceEvent event : events) {
+                insert.setString(1, event.eventId());
+                insert.setString(2, event.username());
+                insert.setString(3, event.type().name());
+                insert.setDouble(4, event.amount());
+                insert.setDouble(5, event.balance());
+                insert.setLong(6, event.timestamp());
+                insert.addBatch();
+                latestBalances.put(event.username(), event.balance());
+            }
+            insert.executeBatch();
+
+            PreparedStatement update = DatabaseConnection.prepareStatement(balanceSql);
+            for (Map.Entry<String, Double> entry : latestBalances.entrySet()) {
+                update.setDouble(1, entry.getValue());
+                update.setString(2, entry.getKey());
+                update.addBatch();
+            }
+            update.executeBatch();
+            conn.commit();
+            DebugPrint.println("Ledger batch of " + events.size() + " events committed", true);
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Retrieves a user's ledger events in the order they were recorded.
+     *
+     * @param username The username of the user.
+     * @return The user's events, empty if there are none or the ledger could not be read.
+     */
+    public List<BalanceEvent> getEvents(String username) {
+        String sql = "SELECT * FROM balance_ledger WHERE username = ? ORDER BY id";
+        List<BalanceEvent> events = new ArrayList<>();
+
+        try {
+            PreparedStatement pstmt = DatabaseConnection.prepareStatement(sql);
+            pstmt.setString(1, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    events.add(new BalanceEvent(
+                            rs.getString("eventId"),
+                            rs.getString("username"),
+                            BalanceEventType.valueOf(rs.getString("type")),
+                            rs.getDouble("amount"),
+                            rs.getDouble("balance"),
+                            rs.getLong("timestamp")));
+                }
+            }
+        } catch (SQLException e) {
+            DebugPrint.println(e, true);
+        }
+        return events;
+    }
+
+    /**
+     * Deletes all ledger events of a user, used when the account itself is deleted.
+     *
+     * @param username The username of the user.
+     */
+    public void deleteEvents(String username) {
+        String sql = "DELETE FROM balance_ledger WHERE username = ?";
+
+        try {
+            PreparedStatement pstmt = DatabaseConnection.prepareStatement(sql);
+            pstmt.setString(1, username);
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            DebugPrint.println(e, true);
+        }
+    }
+}
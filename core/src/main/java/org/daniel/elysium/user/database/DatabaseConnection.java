@@ -1,33 +1,114 @@
 package org.daniel.elysium.user.database;
 
 import org.daniel.elysium.debugUtils.DebugPrint;
+import org.daniel.elysium.user.ledger.BalanceLedger;
+
+import org.sqlite.SQLiteConfig;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles database connections and initialization for the application.
+ * <p>
+ * Each thread keeps one long-lived connection with its own cache of prepared statements,
+ * so repeated queries such as balance updates skip opening the database file and compiling
+ * the SQL. All connections use WAL journaling, which lets readers and a writer work
+ * concurrently, and are closed when the application exits, after the balance ledger has written
+ * its pending events.
+ * </p>
  */
 public class DatabaseConnection {
     private static final String URL = "jdbc:sqlite:data/user_db.db";
 
+    /** Milliseconds a connection waits for a lock held by another connection. */
+    private static final int BUSY_TIMEOUT = 5000;
+
+    private static final SQLiteConfig CONFIG = createConfig();
+    private static final ThreadLocal<CachedConnection> THREAD_CONNECTION = new ThreadLocal<>();
+    private static final Set<CachedConnection> OPEN_CONNECTIONS = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DatabaseConnection::shutdown, "database-shutdown"));
+    }
+
     /**
-     * Establishes a connection to the SQLite database.
+     * Establishes a new connection to the SQLite database, configured like the shared ones.
+     * The caller is responsible for closing it.
      *
      * @return A connection object to the database.
      * @throws SQLException If a database access error occurs.
      */
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL);
+        return CONFIG.createConnection(URL);
+    }
+
+    /**
+     * Returns a prepared statement for the SQL on the calling thread's persistent connection,
+     * opening the connection on first use. The statement is cached for the next call with the
+     * same SQL, so it must not be closed by the caller; its parameters are already cleared.
+     *
+     * @param sql The SQL statement to prepare.
+     * @return The cached prepared statement.
+     * @throws SQLException If a database access error occurs.
+     */
+    static PreparedStatement prepareStatement(String sql) throws SQLException {
+        return threadConnection().prepare(sql);
+    }
+
+    /**
+     * Returns the calling thread's persistent connection, opening it on first use.
+     * It is used to group statements from {@link #prepareStatement(String)} into
+     * transactions, and must not be closed by the caller.
+     *
+     * @return The thread's persistent connection.
+     * @throws SQLException If a database access error occurs.
+     */
+    static Connection getThreadConnection() throws SQLException {
+        return threadConnection().connection;
+    }
+
+    /**
+     * Closes the calling thread's persistent connection, if it has one.
+     * A later statement on this thread opens a new connection.
+     */
+    public static void closeThreadConnection() {
+        CachedConnection connection = THREAD_CONNECTION.get();
+        if (connection != null) {
+            THREAD_CONNECTION.remove();
+            close(connection);
+        }
+    }
+
+    /**
+     * Closes the persistent connections of all threads.
+     */
+    public static void closeAll() {
+        for (CachedConnection connection : OPEN_CONNECTIONS) {
+            close(connection);
+        }
+    }
+
+    /**
+     * Writes the balance ledger's pending events, then closes the persistent connections.
+     * Run by the single shutdown hook, so the ledger's last batch is never written to a closed connection.
+     */
+    private static void shutdown() {
+        BalanceLedger.closeInstance();
+        closeAll();
     }
 
     /**
-     * Initializes the database by creating the "users" table if it does not exist.
+     * Initializes the database by creating the "users" and "balance_ledger" tables if they do not exist.
      * Also ensures the necessary "data" directory is created.
      */
     public static void initializeDatabase() {
@@ -63,6 +144,7 @@ public class DatabaseConnection {
 
         try (Connection conn = getConnection(); var stmt = conn.createStatement()) {
             stmt.execute(sql);
+            stmt.execute(BalanceLedgerDAO.CREATE_TABLE_SQL);
             DebugPrint.println("Database initialized successfully", true);
         } catch (SQLException e) {
             DebugPrint.println(e, true);
@@ -70,15 +152,17 @@ public class DatabaseConnection {
     }
 
     /**
-     * Resets the database by dropping the "users" table and reinitializing it.
+     * Resets the database by dropping the "users" and "balance_ledger" tables and reinitializing them.
      */
     public static void resetDatabase() {
         String dropTableSql = "DROP TABLE IF EXISTS users";
+        String dropLedgerSql = "DROP TABLE IF EXISTS balance_ledger";
 
         try (Connection conn = getConnection();
              Statement stmt = conn.createStatement()) {
-            // Drop the existing table
+            // Drop the existing tables
             stmt.execute(dropTableSql);
+            stmt.execute(dropLedgerSql);
             DebugPrint.println("Database reset: Table dropped successfully!", true);
 
             // Reinitialize the database
@@ -87,4 +171,80 @@ public class DatabaseConnection {
             DebugPrint.println(e, true);
         }
     }
+
+    /* ======================
+       Helper Methods
+       ====================== */
+
+    /**
+     * Creates the configuration applied to every connection: WAL journaling with normal
+     * synchronization, in-memory temporary tables and a busy timeout instead of failing
+     * immediately on a locked database.
+     */
+    private static SQLiteConfig createConfig() {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        config.setTempStore(SQLiteConfig.TempStore.MEMORY);
+        config.setBusyTimeout(BUSY_TIMEOUT);
+        return config;
+    }
+
+    /**
+     * Returns the calling thread's cached connection, opening a new one if it has none.
+     */
+    private static CachedConnection threadConnection() throws SQLException {
+        CachedConnection connection = THREAD_CONNECTION.get();
+        if (connection == null || connection.isClosed()) {
+            connection = new CachedConnection(getConnection());
+            THREAD_CONNECTION.set(connection);
+            OPEN_CONNECTIONS.add(connection);
+        }
+        return connection;
+    }
+
+    /**
+     * Closes a persistent connection and its cached statements.
+     */
+    private static void close(CachedConnection connection) {
+        OPEN_CONNECTIONS.remove(connection);
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            DebugPrint.println(e, true);
+        }
+    }
+
+    /**
+     * A persistent connection together with the statements prepared on it.
+     * Only used by the thread that opened it.
+     */
+    private static final class CachedConnection {
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+        private CachedConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        private PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null || statement.isClosed()) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            } else {
+                statement.clearParameters();
+            }
+            return statement;
+        }
+
+        private boolean isClosed() throws SQLException {
+            return connection.isClosed();
+        }
+
+        private void close() throws SQLException {
+            statements.clear();
+            connection.close();
+        }
+    }
 }
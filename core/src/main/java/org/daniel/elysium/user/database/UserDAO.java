@@ -1,15 +1,20 @@
 package org.daniel.elysium.user.database;
 
 import org.daniel.elysium.debugUtils.DebugPrint;
+import org.daniel.elysium.user.ledger.BalanceLedger;
 import org.daniel.elysium.user.profile.UserProfile;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Data Access Object (DAO) for managing user-related database operations.
+ * <p>
+ * Statements run on the calling thread's persistent connection and are prepared once per thread,
+ * see {@link DatabaseConnection#prepareStatement(String)}.
+ * </p>
  */
 public class UserDAO {
 
@@ -29,8 +34,8 @@ public class UserDAO {
 
         String sql = "INSERT INTO users (username, password, balance, gameMode) VALUES (?, ?, ?, ?)";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = DatabaseConnection.prepareStatement(sql);
             pstmt.setString(1, username);
             pstmt.setString(2, password);
             pstmt.setDouble(3, balance);
@@ -54,11 +59,12 @@ public class UserDAO {
     private boolean userExists(String username) {
         String sql = "SELECT id FROM users WHERE username = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = DatabaseConnection.prepareStatement(sql);
             pstmt.setString(1, username);
-            ResultSet rs = pstmt.executeQuery();
-            return rs.next(); // Returns true if a user with the username exists
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next(); // Returns true if a user with the username exists
+            }
         } catch (SQLException e) {
             DebugPrint.println(e, true);
             return false;
@@ -74,24 +80,27 @@ public class UserDAO {
     public UserProfile getUserByUsername(String username) {
         String sql = "SELECT * FROM users WHERE username = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        // Changes the ledger has not written yet are newer than the stored balance
+        Double pendingBalance = BalanceLedger.getInstance().getPendingBalance(username);
+
+        try {
+            PreparedStatement pstmt = DatabaseConnection.prepareStatement(sql);
             pstmt.setString(1, username);
-            ResultSet rs = pstmt.executeQuery();
-
-            if (rs.next()) {
-                DebugPrint.println("ID: " + rs.getInt("id"), true);
-                DebugPrint.println("Username: " + rs.getString("username"), true);
-                DebugPrint.println("Balance: " + rs.getDouble("balance"), true);
-                DebugPrint.println("GameMode: " + rs.getInt("gameMode"), true);
-                return new UserProfile(
-                        rs.getString("username"),
-                        rs.getString("password"),
-                        rs.getDouble("balance"),
-                        rs.getInt("gameMode"));
-            } else {
-                DebugPrint.println("User not found.", true);
-                return null;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    DebugPrint.println("ID: " + rs.getInt("id"), true);
+                    DebugPrint.println("Username: " + rs.getString("username"), true);
+                    DebugPrint.println("Balance: " + rs.getDouble("balance"), true);
+                    DebugPrint.println("GameMode: " + rs.getInt("gameMode"), true);
+                    return new UserProfile(
+                            rs.getString("username"),
+                            rs.getString("password"),
+                            pendingBalance != null ? pendingBalance : rs.getDouble("balance"),
+                            rs.getInt("gameMode"));
+                } else {
+                    DebugPrint.println("User not found.", true);
+                    return null;
+                }
             }
         } catch (SQLException e) {
             DebugPrint.println(e, true);
@@ -123,8 +132,8 @@ public class UserDAO {
         // Update the password in the database
         String sql = "UPDATE users SET password = ? WHERE username = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = DatabaseConnection.prepareStatement(sql);
             pstmt.setString(1, newPassword); // In a real application, hash the new password
             pstmt.setString(2, username);
             pstmt.executeUpdate();
@@ -150,8 +159,8 @@ public class UserDAO {
     public void updateBalance(UserProfile player, String username, double newBalance) {
         String sql = "UPDATE users SET balance = ? WHERE username = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = DatabaseConnection.prepareStatement(sql);
             pstmt.setDouble(1, newBalance);
             pstmt.setString(2, username);
             pstmt.executeUpdate();
@@ -172,8 +181,8 @@ public class UserDAO {
     public void updateGameMode(UserProfile player, String username, int gameMode) {
         String sql = "UPDATE users SET gameMode = ? WHERE username = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = DatabaseConnection.prepareStatement(sql);
             pstmt.setDouble(1, gameMode);
             pstmt.setString(2, username);
             pstmt.executeUpdate();
@@ -184,15 +193,37 @@ public class UserDAO {
     }
 
     /**
-     * Deletes a user from the database based on their username.
+     * Deletes a user and their balance ledger from the database based on their username.
+     * Returns once the user's pending balance events are written and the user is deleted.
      *
      * @param username The username of the user to delete.
      */
     public void deleteUser(String username) {
+        deleteUserAsync(username).join();
+    }
+
+    /**
+     * Deletes a user and their balance ledger like {@link #deleteUser(String)}, but without waiting.
+     * The deletion runs on the ledger's writer thread after the pending events, so the
+     * caller does not wait for them to be written.
+     *
+     * @param username The username of the user to delete.
+     * @return A future that completes when the user is deleted.
+     */
+    public CompletableFuture<Void> deleteUserAsync(String username) {
+        return BalanceLedger.getInstance().afterPending(() -> deleteUserNow(username));
+    }
+
+    /**
+     * Deletes a user and their ledger events on the calling thread.
+     */
+    private void deleteUserNow(String username) {
         String sql = "DELETE FROM users WHERE username = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        new BalanceLedgerDAO().deleteEvents(username);
+
+        try {
+            PreparedStatement pstmt = DatabaseConnection.prepareStatement(sql);
             pstmt.setString(1, username);
             int rowsDeleted = pstmt.executeUpdate();
 
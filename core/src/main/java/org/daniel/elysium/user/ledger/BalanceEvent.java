@@ -0,0 +1,19 @@
+package org.daniel.elysium.user.ledger;
+
+/**
+ * Represents a single entry of the balance ledger.
+ * <p>
+ * Every event carries the balance that resulted from it, not only the change, so applying an
+ * event a second time leaves the balance unchanged. This keeps retried batches idempotent.
+ * </p>
+ *
+ * @param eventId   the unique identifier of the event
+ * @param username  the user whose balance changed
+ * @param type      the reason for the change
+ * @param amount    the signed change in balance, negative for bets
+ * @param balance   the user's balance after the event
+ * @param timestamp the time of the event, in milliseconds since the epoch
+ */
+public record BalanceEvent(String eventId, String username, BalanceEventType type,
+                           double amount, double balance, long timestamp) {
+}
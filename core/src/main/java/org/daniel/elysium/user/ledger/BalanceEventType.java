@@ -0,0 +1,13 @@
+package org.daniel.elysium.user.ledger;
+
+/**
+ * Enum representing the reason for a change in a user's balance.
+ */
+public enum BalanceEventType {
+    /** Chips placed on a bet. */
+    BET,
+    /** Winnings or returned stakes paid out after a round. */
+    PAYOUT,
+    /** Chips added to the account outside a game. */
+    TOP_UP
+}
@@ -0,0 +1,244 @@
+package org.daniel.elysium.user.ledger;
+
+import org.daniel.elysium.debugUtils.DebugPrint;
+import org.daniel.elysium.user.database.BalanceLedgerDAO;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind ledger of balance changes.
+ * <p>
+ * Recording an event only appends it to an in-memory queue, so the game screens never wait for
+ * the database; the in-memory balance of the {@code UserProfile} stays authoritative. A background
+ * thread writes the queued events every {@link #FLUSH_INTERVAL_MS} milliseconds, or as soon as
+ * {@link #BATCH_SIZE} events are pending, each batch in a single transaction that appends the
+ * events and updates the users' balances together.
+ * </p>
+ * <p>
+ * A batch that fails to commit is kept and retried with the next one. Retrying is safe because
+ * event ids are unique and every event carries the absolute balance. Until its events are written,
+ * a user's latest balance is available from {@link #getPendingBalance(String)}. Pending events are
+ * written when the application exits, before the database connections are closed; events recorded
+ * after that are written at once, on the recording thread.
+ * </p>
+ */
+public class BalanceLedger {
+
+    /** The number of pending events that triggers an immediate write. */
+    public static final int BATCH_SIZE = 64;
+
+    /** The longest time, in milliseconds, an event waits before it is written. */
+    public static final long FLUSH_INTERVAL_MS = 250;
+
+    private static volatile BalanceLedger instance;
+
+    private final BalanceLedgerDAO ledgerDAO;
+    private final int batchSize;
+    private final ScheduledExecutorService writer;
+    private final Queue<BalanceEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final String session = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    // The latest recorded event of each user, removed once it is written
+    private final Map<String, BalanceEvent> latestPending = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    // Only accessed while holding writeLock. A lock rather than a monitor, so a virtual thread
+    // waiting on the database inside it does not pin its carrier thread
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<BalanceEvent> unwritten = new ArrayList<>();
+
+    /**
+     * Creates a ledger with its own writer thread.
+     *
+     * @param ledgerDAO       the DAO that persists the events
+     * @param batchSize       the number of pending events that triggers an immediate write
+     * @param flushIntervalMs the longest time an event waits before it is written
+     */
+    public BalanceLedger(BalanceLedgerDAO ledgerDAO, int batchSize, long flushIntervalMs) {
+        this.ledgerDAO = ledgerDAO;
+        this.batchSize = batchSize;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "balance-ledger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::writePending, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the application's ledger, creating it on first use. The ledger writes its pending
+     * events when the application exits, see {@link #closeInstance()}.
+     *
+     * @return the shared {@code BalanceLedger}
+     */
+    public static BalanceLedger getInstance() {
+        BalanceLedger ledger = instance;
+        if (ledger == null) {
+            synchronized (BalanceLedger.class) {
+                ledger = instance;
+                if (ledger == null) {
+                    instance = ledger = new BalanceLedger(new BalanceLedgerDAO(), BATCH_SIZE, FLUSH_INTERVAL_MS);
+                }
+            }
+        }
+        return ledger;
+    }
+
+    /**
+     * Closes the application's ledger if it was created, writing its pending events.
+     * Called by the database shutdown hook before it closes the connections.
+     */
+    public static void closeInstance() {
+        BalanceLedger ledger = instance;
+        if (ledger != null) {
+            ledger.close();
+        }
+    }
+
+    /**
+     * Records a balance change. Returns immediately; the event is written in the background,
+     * or before returning once the ledger is closed.
+     *
+     * @param username the user whose balance changed
+     * @param type     the reason for the change
+     * @param amount   the signed change in balance, negative for bets
+     * @param balance  the user's balance after the change
+     * @return the recorded event
+     */
+    public BalanceEvent record(String username, BalanceEventType type, double amount, double balance) {
+        BalanceEvent event = new BalanceEvent(session + ":" + sequence.incrementAndGet(),
+                username, type, amount, balance, System.currentTimeMillis());
+        latestPending.put(username, event);
+        queue.add(event);
+        if (pending.incrementAndGet() == batchSize || closed) {
+            runOnWriter(this::writePending);
+        }
+        return event;
+    }
+
+    /**
+     * Writes every event recorded so far on the calling thread, for example before
+     * a balance is read back from the database.
+     *
+     * @return {@code true} if all events were written, {@code false} if some are left for a retry
+     */
+    public boolean flush() {
+        return writePending();
+    }
+
+    /**
+     * Runs an action on the writer thread once the events recorded so far are written,
+     * for example to delete a user without their pending events being written afterwards.
+     * Once the ledger is closed, the action runs on the calling thread instead.
+     *
+     * @param action the action to run after the pending events
+     * @return a future that completes when the action has run
+     */
+    public CompletableFuture<Void> afterPending(Runnable action) {
+        return CompletableFuture.runAsync(() -> {
+            writePending();
+            action.run();
+        }, this::runOnWriter);
+    }
+
+    /**
+     * Returns the balance of a user's latest event that is not yet written. It is newer than the
+     * balance stored in the database, so it must be looked up before the stored balance is read.
+     *
+     * @param username the user whose balance is looked up
+     * @return the pending balance, or {@code null} if all of the user's events are written
+     */
+    public Double getPendingBalance(String username) {
+        BalanceEvent event = latestPending.get(username);
+        return event == null ? null : event.balance();
+    }
+
+    /**
+     * Stops the writer thread and writes the remaining events. Events recorded afterwards are
+     * written by the thread recording them.
+     */
+    public void close() {
+        closed = true;
+        writer.shutdown();
+        flush();
+    }
+
+    /**
+     * Returns the number of events that are recorded but not yet written.
+     *
+     * @return the number of pending events
+     */
+    public int getPendingCount() {
+        writeLock.lock();
+        try {
+            return pending.get() + unwritten.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Runs a task on the writer thread, or on the calling thread once the writer has stopped.
+     * The closed flag is set before the writer stops, so an event recorded while the ledger closes
+     * is either written by the final flush of {@link #close()} or by its own thread.
+     */
+    private void runOnWriter(Runnable task) {
+        if (!closed) {
+            try {
+                writer.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                // Closed between the check and the call
+            }
+        }
+        task.run();
+    }
+
+    /**
+     * Takes all queued events and writes them, together with any batch that previously failed,
+     * in one transaction. Holding the lock keeps concurrent writes in recording order.
+     */
+    private boolean writePending() {
+        writeLock.lock();
+        try {
+            BalanceEvent event;
+            while ((event = queue.poll()) != null) {
+                unwritten.add(event);
+                pending.decrementAndGet();
+            }
+            if (unwritten.isEmpty()) {
+                return true;
+            }
+
+            try {
+                ledgerDAO.appendEvents(unwritten);
+                for (BalanceEvent written : unwritten) {
+                    latestPending.remove(written.username(), written);
+                }
+                unwritten.clear();
+                return true;
+            } catch (SQLException e) {
+                DebugPrint.println(e, true);
+                return false;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
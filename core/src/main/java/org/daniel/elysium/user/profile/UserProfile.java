@@ -1,6 +1,10 @@
 package org.daniel.elysium.user.profile;
 
 import org.daniel.elysium.user.database.UserDAO;
+import org.daniel.elysium.user.ledger.BalanceEventType;
+import org.daniel.elysium.user.ledger.BalanceLedger;
+
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Represents a user's profile, including credentials and balance.
@@ -8,7 +12,9 @@ import org.daniel.elysium.user.database.UserDAO;
 public class UserProfile {
     private final String name;
     private String pass;
-    private double balance;
+    // Changed by the game loops and the user interface while holding balanceLock, read without it
+    private volatile double balance;
+    private final ReentrantLock balanceLock = new ReentrantLock();
     private int gameMode;
     private final UserDAO userDAO;
 
@@ -81,7 +87,12 @@ public class UserProfile {
      * @param balance The new balance to set.
      */
     public void setBalance(double balance) {
-        this.balance = balance;
+        balanceLock.lock();
+        try {
+            this.balance = balance;
+        } finally {
+            balanceLock.unlock();
+        }
     }
 
     /**
@@ -113,22 +124,49 @@ public class UserProfile {
     }
 
     /**
-     * Increases the user's balance by a specified amount and updates the database.
+     * Increases the user's balance by a payout and records it in the balance ledger.
+     * The database is updated in the background.
      *
      * @param amount The amount to add to the balance.
      */
     public void increaseBalanceBy(double amount) {
-        this.balance += amount;
-        userDAO.updateBalance(this, this.name, this.balance);
+        increaseBalanceBy(amount, BalanceEventType.PAYOUT);
+    }
+
+    /**
+     * Increases the user's balance by a specified amount and records it in the balance ledger.
+     * The database is updated in the background.
+     *
+     * @param amount The amount to add to the balance.
+     * @param type   The reason for the increase, such as a payout or a top-up.
+     */
+    public void increaseBalanceBy(double amount, BalanceEventType type) {
+        changeBalance(amount, type);
     }
 
     /**
-     * Decreases the user's balance by a specified amount and updates the database.
+     * Decreases the user's balance by a bet and records it in the balance ledger.
+     * The database is updated in the background.
      *
      * @param amount The amount to subtract from the balance.
      */
     public void decreaseBalanceBy(double amount) {
-        this.balance -= amount;
-        userDAO.updateBalance(this, this.name, this.balance);
+        changeBalance(-amount, BalanceEventType.BET);
+    }
+
+    /**
+     * Applies a change to the balance and records the resulting balance in the ledger under one lock,
+     * so concurrent changes from the game loops and the user interface are neither lost nor recorded
+     * out of order.
+     */
+    private void changeBalance(double amount, BalanceEventType type) {
+        balanceLock.lock();
+        try {
+            double newBalance = this.balance + amount;
+            this.balance = newBalance;
+            BalanceLedger.getInstance().record(this.name, type, amount, newBalance);
+        } finally {
+            balanceLock.unlock();
+        }
     }
 }
@@ -0,0 +1,137 @@
+package org.daniel.elysium.user.session;
+
+import org.daniel.elysium.models.SerialExecutor;
+import org.daniel.elysium.user.profile.UserProfile;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * One player's session, opened through a {@link PlayerSessionManager}.
+ * <p>
+ * Tasks run one after another in a {@link SerialExecutor}, each with the session's
+ * {@link SessionContext}. The profile, shoe and round state of a player are therefore only ever
+ * touched by one thread at a time, while the sessions of different players run concurrently.
+ * A session gives its thread to the next one after {@link PlayerSessionManager#BATCH_SIZE} tasks.
+ * </p>
+ */
+public class PlayerSession implements AutoCloseable {
+
+    private final PlayerSessionManager manager;
+    private final SessionContext context;
+    private final SerialExecutor tasks;
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean closed;
+
+    PlayerSession(PlayerSessionManager manager, UserProfile profile) {
+        this.manager = manager;
+        this.context = new SessionContext(manager, profile);
+        this.tasks = new SerialExecutor(manager.getBatchExecutor(), PlayerSessionManager.BATCH_SIZE);
+    }
+
+    /**
+     * Queues a task that reads or changes the session and produces a result.
+     *
+     * @param task the task to run with the session's context
+     * @param <T>  the type of the result
+     * @return a future completed with the result, or exceptionally if the task failed
+     * @throws IllegalStateException      if the session or its manager has been closed
+     * @throws RejectedExecutionException if the session already has the maximum number of pending tasks
+     */
+    public <T> CompletableFuture<T> submit(Function<SessionContext, T> task) {
+        if (closed) {
+            throw new IllegalStateException("The session of " + getUsername() + " is closed");
+        }
+        manager.checkOpen();
+        if (pending.incrementAndGet() > manager.getMaxPendingTasks()) {
+            pending.decrementAndGet();
+            throw new RejectedExecutionException("The session of " + getUsername() + " has "
+                    + manager.getMaxPendingTasks() + " pending tasks");
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        SerialExecutor.Task run = new SerialExecutor.Task() {
+            @Override
+            public void run() {
+                T result;
+                try {
+                    result = task.apply(context);
+                } catch (RuntimeException e) {
+                    pending.decrementAndGet();
+                    future.completeExceptionally(e);
+                    return;
+                }
+                // Count the task as done before its caller can observe the result
+                pending.decrementAndGet();
+                future.complete(result);
+            }
+
+            @Override
+            public void reject(RejectedExecutionException cause) {
+                pending.decrementAndGet();
+                future.completeExceptionally(new IllegalStateException("The session manager is closed", cause));
+            }
+        };
+        try {
+            tasks.execute(run);
+        } catch (RejectedExecutionException e) {
+            run.reject(e);
+        }
+        return future;
+    }
+
+    /**
+     * Queues a task that changes the session.
+     *
+     * @param task the task to run with the session's context
+     * @return a future completed once the task has run
+     * @throws IllegalStateException      if the session or its manager has been closed
+     * @throws RejectedExecutionException if the session already has the maximum number of pending tasks
+     */
+    public CompletableFuture<Void> execute(Consumer<SessionContext> task) {
+        return submit(c -> {
+            task.accept(c);
+            return null;
+        });
+    }
+
+    /**
+     * Returns the username of the session's player.
+     *
+     * @return the username
+     */
+    public String getUsername() {
+        return context.getProfile().getName();
+    }
+
+    /**
+     * Returns the number of tasks queued or running.
+     *
+     * @return the number of pending tasks
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Returns whether the session has been closed.
+     *
+     * @return {@code true} if no more tasks are accepted
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops accepting tasks and removes the session from its manager, so the player can open
+     * a new one. Tasks queued before still run.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        manager.remove(this);
+    }
+}
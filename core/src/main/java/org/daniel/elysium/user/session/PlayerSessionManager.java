@@ -0,0 +1,279 @@
+package org.daniel.elysium.user.session;
+
+import org.daniel.elysium.user.database.DatabaseConnection;
+import org.daniel.elysium.user.database.UserDAO;
+import org.daniel.elysium.user.profile.UserProfile;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the sessions of many concurrent players, each isolated in its own {@link PlayerSession}.
+ * <p>
+ * Every batch of session tasks runs on a virtual thread. Database calls made through
+ * {@link SessionContext#withDatabase(Supplier)} run on a small pool of long-lived platform threads
+ * instead, because the SQLite driver's native calls would pin the virtual thread's carrier. Each
+ * database thread keeps its persistent connection and prepared statements, and the virtual thread
+ * parks until the call's result is ready.
+ * </p>
+ * <p>
+ * Three limits keep a crowd of players from overwhelming the application: the number of sessions
+ * running tasks at once, which is a semaphore parking the waiting virtual threads, the number of
+ * database threads, and the number of tasks a single session may have pending, beyond which new
+ * tasks are rejected outright.
+ * </p>
+ */
+public class PlayerSessionManager implements AutoCloseable {
+
+    /** Number of sessions allowed to run tasks at once by default. */
+    public static final int DEFAULT_MAX_ACTIVE_SESSIONS = 64;
+
+    /** Number of database threads by default; SQLite serializes writers anyway. */
+    public static final int DEFAULT_MAX_DATABASE_CALLS = 4;
+
+    /** Number of tasks a session may have queued or running by default. */
+    public static final int DEFAULT_MAX_PENDING_TASKS = 32;
+
+    /** Number of queued tasks a session runs before giving its thread to the next session. */
+    public static final int BATCH_SIZE = 16;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Executor batchExecutor = this::runBatch;
+    private final ExecutorService database;
+    private final Semaphore activeSessions;
+    private final int maxPendingTasks;
+    private final Map<String, PlayerSession> sessions = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * Creates a manager with the default limits.
+     */
+    public PlayerSessionManager() {
+        this(DEFAULT_MAX_ACTIVE_SESSIONS, DEFAULT_MAX_DATABASE_CALLS, DEFAULT_MAX_PENDING_TASKS);
+    }
+
+    /**
+     * Creates a manager with the given limits.
+     *
+     * @param maxActiveSessions the number of sessions allowed to run tasks at once
+     * @param maxDatabaseCalls  the number of database threads, and so of concurrent database calls
+     * @param maxPendingTasks   the number of tasks a session may have queued or running
+     * @throws IllegalArgumentException if any limit is not positive
+     */
+    public PlayerSessionManager(int maxActiveSessions, int maxDatabaseCalls, int maxPendingTasks) {
+        if (maxActiveSessions <= 0 || maxDatabaseCalls <= 0 || maxPendingTasks <= 0) {
+            throw new IllegalArgumentException("Limits must be positive: " + maxActiveSessions + ", "
+                    + maxDatabaseCalls + ", " + maxPendingTasks);
+        }
+        this.database = newDatabaseExecutor(maxDatabaseCalls);
+        this.activeSessions = new Semaphore(maxActiveSessions);
+        this.maxPendingTasks = maxPendingTasks;
+    }
+
+    /**
+     * Opens a session for a player whose profile is already loaded.
+     *
+     * @param profile the player's profile; from now on it must only be used through the session
+     * @return the new session
+     * @throws IllegalStateException if the player already has an open session or the manager has been closed
+     */
+    public PlayerSession open(UserProfile profile) {
+        checkOpen();
+        PlayerSession session = new PlayerSession(this, profile);
+        if (sessions.putIfAbsent(profile.getName(), session) != null) {
+            throw new IllegalStateException(profile.getName() + " already has an open session");
+        }
+        return session;
+    }
+
+    /**
+     * Loads a player's profile from the database and opens a session for it, without blocking the caller.
+     *
+     * @param username the player's username
+     * @param password the player's password
+     * @return a future completed with the new session, or exceptionally with an
+     *         {@link IllegalArgumentException} if the credentials are wrong or an
+     *         {@link IllegalStateException} if the player already has an open session
+     * @throws IllegalStateException if the manager has been closed
+     */
+    public CompletableFuture<PlayerSession> login(String username, String password) {
+        checkOpen();
+        CompletableFuture<PlayerSession> future = new CompletableFuture<>();
+        schedule(() -> {
+            try {
+                UserProfile profile = withDatabase(() -> new UserDAO().getUserByUsername(username));
+                if (profile == null || !profile.getPass().equals(password)) {
+                    throw new IllegalArgumentException("Wrong username or password");
+                }
+                future.complete(open(profile));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns the open session of a player.
+     *
+     * @param username the player's username
+     * @return the session, or {@code null} if the player has none open
+     */
+    public PlayerSession getSession(String username) {
+        return sessions.get(username);
+    }
+
+    /**
+     * Returns the number of open sessions.
+     *
+     * @return the session count
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Returns the number of tasks a session may have queued or running.
+     *
+     * @return the per-session limit
+     */
+    public int getMaxPendingTasks() {
+        return maxPendingTasks;
+    }
+
+    /**
+     * Closes every session and waits briefly for the running tasks to finish.
+     * Tasks still queued behind a session's current batch are not run; their futures complete
+     * exceptionally with an {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (PlayerSession session : sessions.values()) {
+            session.close();
+        }
+        shutdown(executor);
+        shutdown(database);
+    }
+
+    /* ======================
+       Session Support
+       ====================== */
+
+    /**
+     * Runs a task on the session threads.
+     *
+     * @return {@code false} if the manager has been closed and the task was dropped
+     */
+    boolean schedule(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Throws if the manager no longer accepts sessions or tasks.
+     */
+    void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The session manager is closed");
+        }
+    }
+
+    /**
+     * Returns the executor the sessions' batches of tasks run on, within the limit on active sessions.
+     */
+    Executor getBatchExecutor() {
+        return batchExecutor;
+    }
+
+    /**
+     * Runs a database call on one of the database threads once it is free, and waits for its result.
+     * A failure of the call is thrown again on the calling thread.
+     */
+    <T> T withDatabase(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, database).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Forgets a closed session, if it is still the player's current one.
+     */
+    void remove(PlayerSession session) {
+        sessions.remove(session.getUsername(), session);
+    }
+
+    /* ======================
+       Helper Methods
+       ====================== */
+
+    /**
+     * Runs a session's batch of tasks on the session threads once fewer than the allowed
+     * number of sessions are running tasks.
+     *
+     * @throws RejectedExecutionException if the manager has been closed
+     */
+    private void runBatch(Runnable batch) {
+        executor.execute(() -> {
+            activeSessions.acquireUninterruptibly();
+            try {
+                batch.run();
+            } finally {
+                activeSessions.release();
+            }
+        });
+    }
+
+    /**
+     * Returns a pool of daemon platform threads for the database calls. Each thread keeps its
+     * persistent connection until the pool is shut down, then closes it.
+     */
+    private static ExecutorService newDatabaseExecutor(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    DatabaseConnection.closeThreadConnection();
+                }
+            }, "player-session-db-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stops an executor and waits briefly for its running tasks to finish.
+     */
+    private static void shutdown(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.daniel.elysium.user.session;
+
+import org.daniel.elysium.user.profile.UserProfile;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The state owned by one {@link PlayerSession}: the player's profile and whatever game state,
+ * such as a shoe or a round in progress, the session's tasks keep between calls.
+ * <p>
+ * A context is only handed to the tasks of its own session, which never run at the same time,
+ * so nothing in it needs to be thread-safe. Tasks must not keep a reference to it once they return.
+ * </p>
+ */
+public class SessionContext {
+
+    private final PlayerSessionManager manager;
+    private final UserProfile profile;
+    private final Map<Class<?>, Object> state = new HashMap<>();
+
+    SessionContext(PlayerSessionManager manager, UserProfile profile) {
+        this.manager = manager;
+        this.profile = profile;
+    }
+
+    /**
+     * Returns the profile of the session's player.
+     *
+     * @return the player's profile
+     */
+    public UserProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Returns the session's state of the given type, creating it on first use.
+     *
+     * @param type    the type of the state, used as its key
+     * @param factory creates the state if the session has none of this type yet
+     * @param <T>     the type of the state
+     * @return the session's state of that type
+     */
+    public <T> T getState(Class<T> type, Supplier<? extends T> factory) {
+        Object value = state.get(type);
+        if (value == null) {
+            value = factory.get();
+            state.put(type, value);
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Drops the session's state of the given type, so the next {@link #getState} creates it anew.
+     *
+     * @param type the type of the state
+     */
+    public void clearState(Class<?> type) {
+        state.remove(type);
+    }
+
+    /**
+     * Runs a database call on one of the manager's database threads, waiting for a free one
+     * and then for the result. The call must not itself call this method.
+     *
+     * @param call the call, typically one or more {@code UserDAO} methods
+     * @param <T>  the type of the result
+     * @return the result of the call
+     */
+    public <T> T withDatabase(Supplier<T> call) {
+        return manager.withDatabase(call);
+    }
+}
@@ -0,0 +1,136 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.baccarat.BaccaratGameEngine;
+import org.daniel.elysium.baccarat.constants.BacHandAction;
+import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.baccarat.models.BacCard;
+import org.daniel.elysium.baccarat.models.BacHand;
+import org.daniel.elysium.baccarat.sim.BaccaratExactCalculator;
+import org.daniel.elysium.baccarat.sim.BaccaratOdds;
+import org.daniel.elysium.baccarat.sim.BaccaratSimulator;
+import org.daniel.elysium.baccarat.sim.BaccaratTableau;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for the Baccarat simulators: the int tableau, the exact calculator and the Monte Carlo simulator.
+ */
+public class BaccaratSimulatorTest {
+
+    /** A rank with each Baccarat value, indexed by value. */
+    private static final String[] RANK_OF_VALUE = {"K", "A", "2", "3", "4", "5", "6", "7", "8", "9"};
+
+    /**
+     * Builds a hand holding cards of the given Baccarat values.
+     */
+    private BacHand hand(int... values) {
+        BacHand hand = new BacHand();
+        for (int value : values) {
+            hand.dealCard(new BacCard(RANK_OF_VALUE[value], "S"));
+        }
+        return hand;
+    }
+
+    /**
+     * Ensures that the int tableau makes the same drawing decisions as the game engine
+     * for every two-card total and every player third card.
+     */
+    @Test
+    public void tableauMatchesGameEngine() {
+        for (int player = 0; player < 10; player++) {
+            for (int banker = 0; banker < 10; banker++) {
+                BacHand playerHand = hand(player, 0);
+                BacHand bankerHand = hand(banker, 0);
+
+                BaccaratGameEngine.evaluatePlayer(bankerHand, playerHand);
+                boolean playerDraws = playerHand.getAction() == BacHandAction.DRAW;
+                Assertions.assertEquals(playerDraws, BaccaratTableau.playerDraws(player, banker),
+                        "Player draw for " + player + " vs " + banker);
+
+                if (!playerDraws) {
+                    BaccaratGameEngine.evaluateBanker(bankerHand, playerHand);
+                    Assertions.assertEquals(bankerHand.getAction() == BacHandAction.DRAW,
+                            BaccaratTableau.bankerDraws(banker, player, BaccaratTableau.NO_THIRD_CARD),
+                            "Banker draw for " + banker + " vs standing " + player);
+                    continue;
+                }
+
+                for (int third = 0; third < 10; third++) {
+                    BacHand drawnHand = hand(player, 0, third);
+                    BacHand bankerCopy = hand(banker, 0);
+                    BaccaratGameEngine.evaluateBanker(bankerCopy, drawnHand);
+                    Assertions.assertEquals(bankerCopy.getAction() == BacHandAction.DRAW,
+                            BaccaratTableau.bankerDraws(banker, drawnHand.getHandValue(), third),
+                            "Banker draw for " + banker + " vs player third card " + third);
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifies the exact odds of an eight-deck shoe against the published values,
+     * including the house edge of the 0.95 banker payout when ties push.
+     */
+    @Test
+    public void exactOddsEightDecks() {
+        BaccaratOdds odds = BaccaratExactCalculator.calculate(8);
+
+        Assertions.assertEquals(0.458597, odds.bankerWin(), 1e-6);
+        Assertions.assertEquals(0.446247, odds.playerWin(), 1e-6);
+        Assertions.assertEquals(0.095156, odds.tie(), 1e-6);
+        Assertions.assertEquals(1, odds.bankerWin() + odds.playerWin() + odds.tie(), 1e-12);
+
+        Assertions.assertEquals(0.010579, odds.houseEdge(BacHandType.BANKER, true), 1e-6);
+        Assertions.assertEquals(0.012351, odds.houseEdge(BacHandType.PLAYER, true), 1e-6);
+        Assertions.assertEquals(0.143596, odds.houseEdge(BacHandType.TIE), 1e-6);
+    }
+
+    /**
+     * Ensures that a depleted shoe shifts the odds: without any zero-valued cards a tie
+     * is far less likely than in a full shoe.
+     */
+    @Test
+    public void exactOddsDepletedShoe() {
+        int[] rankCounts = new int[13];
+        for (int rank = 0; rank < 9; rank++) {
+            rankCounts[rank] = 4;
+        }
+        BaccaratOdds odds = BaccaratExactCalculator.calculate(rankCounts);
+
+        Assertions.assertEquals(1, odds.bankerWin() + odds.playerWin() + odds.tie(), 1e-12);
+        Assertions.assertNotEquals(BaccaratExactCalculator.calculate(1).tie(), odds.tie(), 1e-3);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BaccaratExactCalculator.calculate(new int[13]));
+    }
+
+    /**
+     * Runs the fork-join Monte Carlo simulator and checks it agrees with the exact odds.
+     */
+    @Test
+    public void monteCarloMatchesExactOdds() {
+        BaccaratOdds exact = BaccaratExactCalculator.calculate(8);
+        BaccaratOdds simulated = new BaccaratSimulator(8, 0.8).run(1_000_000);
+
+        Assertions.assertEquals(exact.bankerWin(), simulated.bankerWin(), 0.004);
+        Assertions.assertEquals(exact.playerWin(), simulated.playerWin(), 0.004);
+        Assertions.assertEquals(exact.tie(), simulated.tie(), 0.003);
+    }
+
+    /**
+     * Ensures that a seeded fork-join simulation produces the same odds however its tasks are scheduled.
+     */
+    @Test
+    public void seededSimulationIsReproducible() {
+        BaccaratSimulator simulator = new BaccaratSimulator(8, 0.8);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            BaccaratOdds first = simulator.run(200_000, pool, 11);
+            BaccaratOdds second = simulator.run(200_000, ForkJoinPool.commonPool(), 11);
+            Assertions.assertEquals(first, second);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
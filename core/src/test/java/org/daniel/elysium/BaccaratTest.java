@@ -559,5 +559,44 @@ public class BaccaratTest {
         Assertions.assertEquals(9000, betHand.getBet());
         Assertions.assertEquals(BacHandState.WON, betHand.getState());
     }
-}
 
+    /**
+     * Verifies that settling bets in a batch returns, for every hand type bet on and every winning side,
+     * the same amount as {@link BaccaratGameEngine#calculateResult}.
+     */
+    @Test
+    public void batchSettlementMatchesCalculateResult() {
+        BacHandType[] types = BacHandType.values();
+        int count = types.length * 3;
+        double[] bets = new double[count];
+        byte[] betTypes = new byte[count];
+        byte[] winners = new byte[count];
+        double[] expected = new double[count];
+
+        int index = 0;
+        for (BacHandType winner : new BacHandType[]{BacHandType.PLAYER, BacHandType.BANKER, BacHandType.TIE}) {
+            BacHand player = new BacHand();
+            BacHand banker = new BacHand();
+            player.setState(winner == BacHandType.PLAYER ? BacHandState.WON
+                    : winner == BacHandType.BANKER ? BacHandState.LOST : BacHandState.TIE);
+            banker.setState(winner == BacHandType.BANKER ? BacHandState.WON
+                    : winner == BacHandType.PLAYER ? BacHandState.LOST : BacHandState.TIE);
+            for (BacHandType type : types) {
+                BacBetHand hand = new BacBetHand();
+                hand.setHandType(type);
+                hand.setBet(35 + index);
+                bets[index] = hand.getBet();
+                betTypes[index] = (byte) type.ordinal();
+                winners[index] = (byte) winner.ordinal();
+                BaccaratGameEngine.calculateResult(banker, player, hand);
+                expected[index++] = hand.getBet();
+            }
+        }
+
+        double[] returned = new double[count];
+        BaccaratGameEngine.settleBets(count, bets, betTypes, winners, returned);
+        Assertions.assertArrayEquals(expected, returned);
+        int bankerWins = types.length + BacHandType.BANKER.ordinal();
+        Assertions.assertEquals(bets[bankerWins] + bets[bankerWins] * 0.95, returned[bankerWins]);
+    }
+}
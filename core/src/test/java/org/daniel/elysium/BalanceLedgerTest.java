@@ -0,0 +1,147 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.user.database.BalanceLedgerDAO;
+import org.daniel.elysium.user.database.DatabaseConnection;
+import org.daniel.elysium.user.database.UserDAO;
+import org.daniel.elysium.user.ledger.BalanceEvent;
+import org.daniel.elysium.user.ledger.BalanceEventType;
+import org.daniel.elysium.user.ledger.BalanceLedger;
+import org.daniel.elysium.user.profile.UserProfile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the write-behind {@link BalanceLedger} and its {@link BalanceLedgerDAO}.
+ */
+public class BalanceLedgerTest {
+
+    private final UserDAO userDAO = new UserDAO();
+    private final BalanceLedgerDAO ledgerDAO = new BalanceLedgerDAO();
+
+    /**
+     * Starts every test from empty tables.
+     */
+    @BeforeEach
+    public void setUp() {
+        DatabaseConnection.resetDatabase();
+    }
+
+    /**
+     * Ensures that balance changes of a profile are recorded as ledger events and that
+     * reading the user back returns the balance of the latest event, before and after it is written.
+     */
+    @Test
+    public void profileChangesAreRecorded() {
+        UserProfile profile = userDAO.addUser("grace", "pwd", 1000.0);
+        Assertions.assertNotNull(profile);
+
+        profile.decreaseBalanceBy(100);
+        profile.increaseBalanceBy(250);
+        profile.increaseBalanceBy(10000, BalanceEventType.TOP_UP);
+        Assertions.assertEquals(11150.0, profile.getBalance(), 1e-9);
+
+        Assertions.assertEquals(11150.0, userDAO.getUserByUsername("grace").getBalance(), 1e-9);
+        Assertions.assertTrue(BalanceLedger.getInstance().flush());
+        Assertions.assertNull(BalanceLedger.getInstance().getPendingBalance("grace"));
+        Assertions.assertEquals(11150.0, userDAO.getUserByUsername("grace").getBalance(), 1e-9);
+        List<BalanceEvent> events = ledgerDAO.getEvents("grace");
+        Assertions.assertEquals(3, events.size());
+        Assertions.assertEquals(BalanceEventType.BET, events.get(0).type());
+        Assertions.assertEquals(-100.0, events.get(0).amount(), 1e-9);
+        Assertions.assertEquals(BalanceEventType.PAYOUT, events.get(1).type());
+        Assertions.assertEquals(BalanceEventType.TOP_UP, events.get(2).type());
+        Assertions.assertEquals(11150.0, events.get(2).balance(), 1e-9);
+    }
+
+    /**
+     * Ensures that balance changes made by several threads at once are neither lost nor
+     * recorded out of order, so the stored balance ends up equal to the profile's.
+     */
+    @Test
+    public void concurrentChangesAreNotLost() throws InterruptedException {
+        UserProfile profile = userDAO.addUser("judy", "pwd", 0.0);
+        Assertions.assertNotNull(profile);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    profile.increaseBalanceBy(2);
+                    profile.decreaseBalanceBy(1);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(2000.0, profile.getBalance(), 1e-9);
+        Assertions.assertTrue(BalanceLedger.getInstance().flush());
+        Assertions.assertEquals(2000.0, userDAO.getUserByUsername("judy").getBalance(), 1e-9);
+    }
+
+    /**
+     * Verifies that reaching the batch size writes the pending events in the background,
+     * without waiting for the flush interval or an explicit flush.
+     */
+    @Test
+    public void fullBatchIsWrittenInBackground() throws InterruptedException {
+        Assertions.assertNotNull(userDAO.addUser("heidi", "pwd", 0.0));
+        BalanceLedger ledger = new BalanceLedger(ledgerDAO, 10, 3_600_000);
+
+        for (int i = 1; i <= 10; i++) {
+            ledger.record("heidi", BalanceEventType.PAYOUT, 1, i);
+        }
+        for (int attempt = 0; attempt < 200 && ledger.getPendingCount() > 0; attempt++) {
+            Thread.sleep(10);
+        }
+
+        Assertions.assertEquals(0, ledger.getPendingCount());
+        Assertions.assertEquals(10, ledgerDAO.getEvents("heidi").size());
+        ledger.close();
+    }
+
+    /**
+     * Ensures that appending a batch twice does not duplicate events and stores the balance
+     * of the latest event.
+     */
+    @Test
+    public void retriedBatchIsIdempotent() throws SQLException {
+        Assertions.assertNotNull(userDAO.addUser("ivan", "pwd", 500.0));
+        BalanceLedger ledger = new BalanceLedger(ledgerDAO, 100, 3_600_000);
+        List<BalanceEvent> batch = List.of(
+                ledger.record("ivan", BalanceEventType.BET, -50, 450),
+                ledger.record("ivan", BalanceEventType.PAYOUT, 100, 550));
+        ledger.close();
+
+        ledgerDAO.appendEvents(batch);
+        Assertions.assertEquals(2, ledgerDAO.getEvents("ivan").size());
+
+        Assertions.assertEquals(550.0, userDAO.getUserByUsername("ivan").getBalance(), 1e-9);
+    }
+
+    /**
+     * Verifies that events recorded after the ledger is closed are written before
+     * {@code record} returns instead of being left in the queue.
+     */
+    @Test
+    public void recordAfterCloseIsWritten() {
+        Assertions.assertNotNull(userDAO.addUser("mallory", "pwd", 100.0));
+        BalanceLedger ledger = new BalanceLedger(ledgerDAO, 10, 3_600_000);
+        ledger.close();
+
+        ledger.record("mallory", BalanceEventType.BET, -40, 60);
+
+        Assertions.assertEquals(0, ledger.getPendingCount());
+        Assertions.assertNull(ledger.getPendingBalance("mallory"));
+        Assertions.assertEquals(1, ledgerDAO.getEvents("mallory").size());
+        Assertions.assertEquals(60.0, userDAO.getUserByUsername("mallory").getBalance(), 1e-9);
+        Assertions.assertTrue(ledger.afterPending(() -> { }).isDone());
+    }
+}
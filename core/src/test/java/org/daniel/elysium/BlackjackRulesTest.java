@@ -0,0 +1,170 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.blackjack.BlackjackEngine;
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.constants.BJHandState;
+import org.daniel.elysium.blackjack.constants.BJTablePhase;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+import org.daniel.elysium.blackjack.sim.BlackjackSimulator;
+import org.daniel.elysium.blackjack.sim.SimulationResult;
+import org.daniel.elysium.blackjack.table.BlackjackTable;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.Shoe;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the configurable Blackjack rules and their compiled lookup tables.
+ */
+public class BlackjackRulesTest {
+
+    private BJPlayerHand playerHand(String... ranks) {
+        BJPlayerHand hand = new BJPlayerHand();
+        for (String rank : ranks) {
+            hand.getHand().add(new BJCard(rank, "S"));
+        }
+        return hand;
+    }
+
+    private BJDealerHand dealerHand(CompiledRules rules, String... ranks) {
+        BJDealerHand hand = new BJDealerHand(rules);
+        for (String rank : ranks) {
+            hand.getHand().add(new BJCard(rank, "S"));
+        }
+        return hand;
+    }
+
+    /**
+     * Ensures that the standard rules offer the same options the game always did.
+     */
+    @Test
+    public void standardOptions() {
+        Assertions.assertEquals(List.of("HIT", "STAND", "DOUBLE", "SPLIT"),
+                BlackjackEngine.getAvailableHandOptions(playerHand("8", "8")));
+        Assertions.assertEquals(List.of("HIT", "STAND", "DOUBLE"),
+                BlackjackEngine.getAvailableHandOptions(playerHand("9", "2")));
+        Assertions.assertEquals(List.of("HIT", "STAND"),
+                BlackjackEngine.getAvailableHandOptions(playerHand("5", "2", "3")));
+        Assertions.assertEquals(List.of(), BlackjackEngine.getAvailableHandOptions(playerHand("K", "A")));
+
+        BJPlayerHand splitAces = playerHand("A", "9");
+        splitAces.setHandSplit(true);
+        splitAces.setSplitAces(true);
+        Assertions.assertEquals(List.of(), BlackjackEngine.getAvailableHandOptions(splitAces));
+    }
+
+    /**
+     * Verifies that the dealer hits or stands on every soft 17 depending on the rules.
+     */
+    @Test
+    public void dealerSoft17() {
+        CompiledRules h17 = BlackjackRules.STANDARD.compile();
+        CompiledRules s17 = BlackjackRules.STANDARD.withHitSoft17(false).compile();
+
+        Assertions.assertTrue(dealerHand(h17, "A", "6").canDealCard(null));
+        Assertions.assertTrue(dealerHand(h17, "A", "2", "4").canDealCard(null));
+        Assertions.assertFalse(dealerHand(s17, "A", "6").canDealCard(null));
+        Assertions.assertFalse(dealerHand(s17, "A", "2", "4").canDealCard(null));
+        Assertions.assertTrue(dealerHand(s17, "A", "5").canDealCard(null));
+        Assertions.assertFalse(dealerHand(h17, "A", "6", "K").canDealCard(null));
+        Assertions.assertFalse(dealerHand(h17, "K", "7").canDealCard(null));
+    }
+
+    /**
+     * Verifies doubling after a split, the resplit limit and surrender in a rule variant.
+     */
+    @Test
+    public void variantOptions() {
+        CompiledRules rules = BlackjackRules.STANDARD.withDoubleAfterSplit(false).withMaxHands(2)
+                .withSurrender(true).compile();
+
+        int options = rules.getOptions(playerHand("8", "8"), 1);
+        Assertions.assertTrue(CompiledRules.allows(options, BJAction.SPLIT));
+        Assertions.assertTrue(CompiledRules.allows(options, BJAction.SURRENDER));
+        Assertions.assertFalse(CompiledRules.allows(rules.getOptions(playerHand("8", "8"), 2), BJAction.SPLIT));
+        Assertions.assertFalse(CompiledRules.allows(rules.getOptions(playerHand("8", "2", "3"), 1), BJAction.SURRENDER));
+
+        BJPlayerHand splitHand = playerHand("8", "3");
+        splitHand.setHandSplit(true);
+        int splitOptions = rules.getOptions(splitHand, 2);
+        Assertions.assertTrue(CompiledRules.allows(splitOptions, BJAction.HIT));
+        Assertions.assertFalse(CompiledRules.allows(splitOptions, BJAction.DOUBLE));
+        Assertions.assertFalse(CompiledRules.allows(splitOptions, BJAction.SURRENDER));
+    }
+
+    /**
+     * Verifies the blackjack payouts of 3:2 and 6:5 and the half-bet refund of a surrender.
+     */
+    @Test
+    public void payouts() {
+        CompiledRules sixToFive = BlackjackRules.STANDARD.withBlackjackPayout(6, 5).compile();
+        BJDealerHand dealer = dealerHand(sixToFive, "K", "8");
+
+        BJPlayerHand blackjack = playerHand("A", "K");
+        blackjack.setBet(10);
+        BlackjackEngine.resolvePlayerResult(blackjack, dealer, sixToFive);
+        Assertions.assertEquals(22, blackjack.getBet());
+
+        BJPlayerHand standard = playerHand("A", "K");
+        standard.setBet(10);
+        BlackjackEngine.resolvePlayerResult(standard, dealer);
+        Assertions.assertEquals(25, standard.getBet());
+
+        BJPlayerHand surrendered = playerHand("K", "6");
+        surrendered.setBet(10);
+        surrendered.setState(BJHandState.SURRENDERED);
+        BlackjackEngine.resolvePlayerResult(surrendered, dealer, sixToFive);
+        Assertions.assertEquals(5, surrendered.getBet());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BlackjackRules.STANDARD.withDecks(9));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BlackjackRules.STANDARD.withMaxHands(0));
+    }
+
+    /**
+     * Plays a surrender at a table offering it, and checks that a table on other rules rejects it.
+     */
+    @Test
+    public void tableSurrender() {
+        List<Card> cards = new ArrayList<>();
+        for (String rank : new String[]{"10", "9", "6", "7"}) {
+            cards.add(Card.of(rank, "S"));
+        }
+        for (int i = 0; i < 10; i++) {
+            cards.add(Card.of("2", "H"));
+        }
+
+        BlackjackTable table = new BlackjackTable(1, 1, BlackjackRules.STANDARD.withSurrender(true).compile(),
+                new Shoe<>(new ArrayList<>(cards), cards.size()));
+        table.placeBet(0, 10);
+        table.deal();
+        table.act(0, BJAction.SURRENDER);
+        Assertions.assertEquals(BJTablePhase.SETTLED, table.getPhase());
+        Assertions.assertEquals(5, table.snapshot().seats().get(0).payout());
+        Assertions.assertEquals(BJHandState.SURRENDERED, table.snapshot().seats().get(0).hands().get(0).state());
+
+        BlackjackTable standard = new BlackjackTable(2, 1, new Shoe<>(new ArrayList<>(cards), cards.size()));
+        standard.placeBet(0, 10);
+        standard.deal();
+        Assertions.assertThrows(IllegalStateException.class, () -> standard.act(0, BJAction.SURRENDER));
+    }
+
+    /**
+     * Simulates a strategy that surrenders every hand it may, which loses about half of each bet.
+     */
+    @Test
+    public void simulatedSurrender() {
+        BlackjackRules rules = BlackjackRules.STANDARD.withDecks(2).withSurrender(true);
+        SimulationResult result = new BlackjackSimulator(rules, 1).run(20_000, () -> (hand, upCard) -> BJAction.SURRENDER, 2);
+
+        Assertions.assertEquals(20_000, result.seatRounds());
+        double returned = result.returnOnWagered();
+        Assertions.assertTrue(returned > -0.6 && returned < -0.35, "Return: " + returned);
+    }
+}
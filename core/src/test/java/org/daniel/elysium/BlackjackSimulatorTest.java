@@ -0,0 +1,128 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.sim.BlackjackRoundSimulator;
+import org.daniel.elysium.blackjack.sim.BlackjackSimulator;
+import org.daniel.elysium.blackjack.sim.PlayerStrategy;
+import org.daniel.elysium.blackjack.sim.SimulationResult;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.Shoe;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the headless Blackjack simulation engine.
+ * Single rounds are played from stacked shoes so their outcome is known in advance.
+ */
+public class BlackjackSimulatorTest {
+
+    /**
+     * Plays one round from a shoe holding the given ranks in order, followed by filler cards.
+     */
+    private SimulationResult playRound(PlayerStrategy strategy, String... ranks) {
+        List<Card> cards = new ArrayList<>();
+        for (String rank : ranks) {
+            cards.add(Card.of(rank, "S"));
+        }
+        for (int i = 0; i < 10; i++) {
+            cards.add(Card.of("2", "H"));
+        }
+        BlackjackRoundSimulator simulator = new BlackjackRoundSimulator(new Shoe<>(cards, cards.size()), strategy, 1);
+        simulator.playRound();
+        return simulator.getResult();
+    }
+
+    /**
+     * Ensures that a player blackjack against a dealer 16 pays 3:2 without the dealer drawing.
+     */
+    @Test
+    public void blackjackPaysThreeToTwo() {
+        SimulationResult result = playRound((hand, upCard) -> BJAction.STAND, "A", "9", "K", "7");
+
+        Assertions.assertEquals(1, result.seatRounds());
+        Assertions.assertEquals(1, result.blackjacks());
+        Assertions.assertEquals(1, result.wins());
+        Assertions.assertEquals(1.5, result.expectedValue());
+    }
+
+    /**
+     * Verifies a split of eights where both hands double down and win against a dealer bust.
+     */
+    @Test
+    public void splitAndDoubleBothWin() {
+        PlayerStrategy strategy = (hand, upCard) -> {
+            if (hand.isSplittable()) return BJAction.SPLIT;
+            int value = hand.getHandValue();
+            return value == 10 || value == 11 ? BJAction.DOUBLE : BJAction.STAND;
+        };
+
+        // Player 8 8, dealer 6 10, first hand 8 3 + 10, second hand 8 2 + 9, dealer draws a 10
+        SimulationResult result = playRound(strategy, "8", "6", "8", "10", "3", "10", "2", "9", "10");
+
+        Assertions.assertEquals(2, result.hands());
+        Assertions.assertEquals(2, result.wins());
+        Assertions.assertEquals(8, result.wagered());
+        Assertions.assertEquals(8, result.net());
+        Assertions.assertEquals(4.0, result.expectedValue());
+    }
+
+    /**
+     * Ensures that an insured hand breaks even against a dealer blackjack.
+     */
+    @Test
+    public void insuranceAgainstDealerBlackjack() {
+        PlayerStrategy strategy = new PlayerStrategy() {
+            @Override
+            public BJAction decide(BJPlayerHand hand, BJCard dealerUpCard) {
+                return BJAction.STAND;
+            }
+
+            @Override
+            public boolean takeInsurance(BJPlayerHand hand) {
+                return true;
+            }
+        };
+
+        SimulationResult result = playRound(strategy, "10", "A", "9", "K");
+
+        Assertions.assertEquals(3, result.wagered());
+        Assertions.assertEquals(0, result.net());
+        Assertions.assertEquals(1, result.pushes());
+    }
+
+    /**
+     * Runs a parallel simulation of a player mimicking the dealer, a strategy with a
+     * well known house edge of roughly 5.5%, and checks the combined statistics.
+     */
+    @Test
+    public void parallelSimulationMimicDealer() {
+        BlackjackSimulator simulator = new BlackjackSimulator(6, 0.75, 1);
+        SimulationResult result = simulator.run(200_000,
+                () -> (hand, upCard) -> hand.getHandValue() < 17 ? BJAction.HIT : BJAction.STAND, 4);
+
+        Assertions.assertEquals(200_000, result.seatRounds());
+        Assertions.assertEquals(result.hands(), result.wins() + result.losses() + result.pushes());
+        Assertions.assertTrue(result.expectedValue() < -0.02 && result.expectedValue() > -0.09,
+                "Unexpected expected value: " + result.expectedValue());
+        Assertions.assertTrue(result.standardError() > 0 && result.standardError() < 0.01);
+    }
+
+    /**
+     * Ensures that a seeded parallel simulation of a deterministic strategy is reproducible.
+     */
+    @Test
+    public void seededSimulationIsReproducible() {
+        BlackjackSimulator simulator = new BlackjackSimulator(6, 0.75, 2);
+        PlayerStrategy strategy = (hand, upCard) -> hand.getHandValue() < 17 ? BJAction.HIT : BJAction.STAND;
+
+        SimulationResult first = simulator.run(20_000, () -> strategy, 3, 99);
+        SimulationResult second = simulator.run(20_000, () -> strategy, 3, 99);
+
+        Assertions.assertEquals(first, second);
+    }
+}
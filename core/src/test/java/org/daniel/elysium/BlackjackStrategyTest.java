@@ -0,0 +1,152 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+import org.daniel.elysium.blackjack.sim.BlackjackSimulator;
+import org.daniel.elysium.blackjack.sim.SimulationResult;
+import org.daniel.elysium.blackjack.strategy.ActionValues;
+import org.daniel.elysium.blackjack.strategy.BasicStrategy;
+import org.daniel.elysium.blackjack.strategy.StrategyCalculator;
+import org.daniel.elysium.blackjack.strategy.StrategyTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Test class for the computed Blackjack strategy tables.
+ * The standard rules' table is computed once and checked against well-known basic strategy plays.
+ */
+public class BlackjackStrategyTest {
+
+    private static StrategyTable table;
+
+    @BeforeAll
+    public static void computeTable() {
+        table = new StrategyCalculator(BlackjackRules.STANDARD).computeBasicStrategy();
+    }
+
+    private BJPlayerHand playerHand(String... ranks) {
+        BJPlayerHand hand = new BJPlayerHand();
+        for (String rank : ranks) {
+            hand.getHand().add(new BJCard(rank, "S"));
+        }
+        return hand;
+    }
+
+    private BJAction action(StrategyTable strategy, String upRank, String... ranks) {
+        BJPlayerHand hand = playerHand(ranks);
+        return strategy.getAction(hand, new BJCard(upRank, "H"), CompiledRules.STANDARD.getOptions(hand, 1));
+    }
+
+    /**
+     * Verifies well-known plays of six-deck, dealer hits soft 17 basic strategy.
+     */
+    @Test
+    public void basicStrategyPlays() {
+        Assertions.assertEquals(BJAction.DOUBLE, action(table, "6", "8", "3"));
+        Assertions.assertEquals(BJAction.DOUBLE, action(table, "A", "6", "5"));
+        Assertions.assertEquals(BJAction.HIT, action(table, "K", "9", "7"));
+        Assertions.assertEquals(BJAction.STAND, action(table, "4", "10", "2"));
+        Assertions.assertEquals(BJAction.HIT, action(table, "2", "10", "2"));
+        Assertions.assertEquals(BJAction.STAND, action(table, "6", "10", "7"));
+        Assertions.assertEquals(BJAction.HIT, action(table, "9", "A", "7"));
+        Assertions.assertEquals(BJAction.STAND, action(table, "8", "A", "7"));
+        Assertions.assertEquals(BJAction.DOUBLE, action(table, "5", "A", "7"));
+        Assertions.assertEquals(BJAction.STAND, action(table, "7", "A", "8"));
+        Assertions.assertEquals(BJAction.SPLIT, action(table, "A", "A", "A"));
+        Assertions.assertEquals(BJAction.SPLIT, action(table, "10", "8", "8"));
+        Assertions.assertEquals(BJAction.STAND, action(table, "6", "K", "Q"));
+        Assertions.assertEquals(BJAction.DOUBLE, action(table, "9", "5", "5"));
+        Assertions.assertEquals(BJAction.STAND, action(table, "7", "9", "9"));
+        Assertions.assertEquals(BJAction.SPLIT, action(table, "8", "9", "9"));
+    }
+
+    /**
+     * Ensures that a double the rules do not allow falls back to hitting or standing,
+     * and that totals of more than two cards are played from the total rows.
+     */
+    @Test
+    public void fallbackPlays() {
+        Assertions.assertEquals(BJAction.HIT, action(table, "6", "2", "3", "4", "2"));
+        Assertions.assertEquals(BJAction.STAND, action(table, "3", "A", "2", "4", "A"));
+        Assertions.assertEquals(BJAction.STAND, action(table, "5", "2", "3", "3", "5"));
+        Assertions.assertEquals(BJAction.HIT, action(table, "7", "5", "4", "3"));
+    }
+
+    /**
+     * Verifies that surrender is only recommended where the rules offer it.
+     */
+    @Test
+    public void surrender() {
+        Assertions.assertEquals(BJAction.HIT, action(table, "10", "10", "6"));
+
+        BlackjackRules rules = BlackjackRules.STANDARD.withSurrender(true);
+        StrategyTable surrender = new StrategyCalculator(rules).computeBasicStrategy();
+        BJPlayerHand hand = playerHand("10", "6");
+        Assertions.assertEquals(BJAction.SURRENDER,
+                surrender.getAction(hand, new BJCard("K", "H"), rules.compile().getOptions(hand, 1)));
+    }
+
+    /**
+     * Evaluates a hand against a depleted shoe, where a composition-dependent play differs from basic strategy.
+     */
+    @Test
+    public void compositionDependentValues() {
+        StrategyCalculator calculator = new StrategyCalculator(BlackjackRules.STANDARD.withDecks(1));
+        BJPlayerHand hand = playerHand("10", "2");
+        int options = CompiledRules.STANDARD.getOptions(hand, 1);
+
+        int[] full = calculator.getFullShoe();
+        full[1] -= 2;
+        full[9]--;
+        ActionValues values = calculator.evaluate(hand, new BJCard("2", "H"), full, options);
+        Assertions.assertEquals(BJAction.HIT, values.best(options));
+        Assertions.assertTrue(values.stand() > -1 && values.stand() < 0);
+
+        // With every small card gone, any hit on 12 but a nine or ten busts
+        int[] rich = full.clone();
+        for (int rank = 1; rank < 8; rank++) {
+            rich[rank] = 0;
+        }
+        ActionValues tenRich = calculator.evaluate(hand, new BJCard("2", "H"), rich, options);
+        Assertions.assertEquals(BJAction.STAND, tenRich.best(options));
+    }
+
+    /**
+     * Writes the table as a chart and reads it back unchanged.
+     */
+    @Test
+    public void chartRoundTrip(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve(StrategyTable.getCacheName(BlackjackRules.STANDARD) + ".txt");
+        table.write(file);
+        StrategyTable read = StrategyTable.read(file, BlackjackRules.STANDARD);
+
+        String[] ups = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "A"};
+        String[][] hands = {{"8", "3"}, {"10", "6"}, {"A", "7"}, {"8", "8"}, {"5", "4", "3"}, {"A", "2", "5"}};
+        for (String up : ups) {
+            for (String[] ranks : hands) {
+                Assertions.assertEquals(action(table, up, ranks), action(read, up, ranks));
+            }
+        }
+        Assertions.assertEquals("basic-6d-h17-das-split-nosur", StrategyTable.getCacheName(BlackjackRules.STANDARD));
+    }
+
+    /**
+     * Simulates basic strategy, which should lose well under one percent of each bet under the standard rules.
+     */
+    @Test
+    public void simulatedHouseEdge() {
+        BasicStrategy strategy = new BasicStrategy(table);
+        SimulationResult result = new BlackjackSimulator(BlackjackRules.STANDARD, 1).run(400_000, () -> strategy);
+
+        double expected = result.expectedValue();
+        Assertions.assertTrue(expected > -0.02 && expected < 0.005, "Expected value: " + expected);
+    }
+}
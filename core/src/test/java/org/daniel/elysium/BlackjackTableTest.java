@@ -0,0 +1,217 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.constants.BJHandState;
+import org.daniel.elysium.blackjack.constants.BJTablePhase;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.table.BlackjackTable;
+import org.daniel.elysium.blackjack.table.SeatSnapshot;
+import org.daniel.elysium.blackjack.table.TableHandle;
+import org.daniel.elysium.blackjack.table.TableScheduler;
+import org.daniel.elysium.blackjack.table.TableSnapshot;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.Shoe;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Test class for the multi-seat Blackjack table and the scheduler hosting many tables at once.
+ * Single rounds are dealt from stacked shoes so their outcome is known in advance.
+ */
+public class BlackjackTableTest {
+
+    /**
+     * Creates a table dealing the given ranks in order, followed by filler cards.
+     */
+    private BlackjackTable stackedTable(int seats, String... ranks) {
+        List<Card> cards = new ArrayList<>();
+        for (String rank : ranks) {
+            cards.add(Card.of(rank, "S"));
+        }
+        for (int i = 0; i < 10; i++) {
+            cards.add(Card.of("2", "H"));
+        }
+        return new BlackjackTable(1, seats, new Shoe<>(cards, cards.size()));
+    }
+
+    /**
+     * Plays a whole round at a table, hitting every hand below 17 and declining insurance.
+     */
+    private TableSnapshot playRound(BlackjackTable table) {
+        for (int seat = 0; seat < table.getSeatCount(); seat++) {
+            table.placeBet(seat, 10);
+        }
+        table.deal();
+        while (table.getPhase() == BJTablePhase.INSURANCE) {
+            for (SeatSnapshot seat : table.snapshot().seats()) {
+                try {
+                    table.insure(seat.seat(), false);
+                } catch (IllegalStateException e) {
+                    // The seat holds a blackjack and is not offered insurance
+                }
+            }
+        }
+        while (table.getPhase() == BJTablePhase.PLAYING) {
+            BJAction action = table.getActiveHand().getHandValue() < 17 ? BJAction.HIT : BJAction.STAND;
+            table.act(table.getActiveSeat(), action);
+        }
+        return table.snapshot();
+    }
+
+    /**
+     * Verifies a round with two seats: the turn passes from seat to seat, a hand reaching 21
+     * ends its turn, and the dealer's hole card stays hidden until the round is settled.
+     */
+    @Test
+    public void twoSeatsPlayAgainstDealer() {
+        BlackjackTable table = stackedTable(2, "10", "9", "10", "8", "7", "7", "5");
+        table.placeBet(0, 10);
+        table.placeBet(1, 10);
+        table.deal();
+
+        TableSnapshot dealt = table.snapshot();
+        Assertions.assertEquals(BJTablePhase.PLAYING, dealt.phase());
+        Assertions.assertEquals(0, dealt.activeSeat());
+        Assertions.assertEquals(List.of(BJCard.of("10", "S")), dealt.dealerCards());
+        Assertions.assertEquals(10, dealt.dealerValue());
+
+        table.act(0, BJAction.STAND);
+        Assertions.assertEquals(1, table.getActiveSeat());
+        table.act(1, BJAction.HIT);
+
+        TableSnapshot settled = table.snapshot();
+        Assertions.assertEquals(BJTablePhase.SETTLED, settled.phase());
+        Assertions.assertEquals(2, settled.dealerCards().size());
+        Assertions.assertEquals(17, settled.dealerValue());
+        for (SeatSnapshot seat : settled.seats()) {
+            Assertions.assertEquals(BJHandState.WON, seat.hands().get(0).state());
+            Assertions.assertEquals(10, seat.net());
+        }
+    }
+
+    /**
+     * Verifies that a split pair plays each hand in turn and that doubles and splits add to the
+     * seat's stake, paying both hands when the dealer busts.
+     */
+    @Test
+    public void splitAndDoubleAddToStake() {
+        BlackjackTable table = stackedTable(1, "8", "10", "8", "6", "3", "10", "9", "10");
+        table.placeBet(0, 10);
+        table.deal();
+
+        table.act(0, BJAction.SPLIT);
+        table.act(0, BJAction.DOUBLE);
+        Assertions.assertEquals(1, table.snapshot().activeHand());
+        table.act(0, BJAction.STAND);
+
+        SeatSnapshot seat = table.snapshot().seats().get(0);
+        Assertions.assertEquals(BJTablePhase.SETTLED, table.getPhase());
+        Assertions.assertEquals(2, seat.hands().size());
+        Assertions.assertEquals(30, seat.staked());
+        Assertions.assertEquals(60, seat.payout());
+    }
+
+    /**
+     * Ensures that insurance is offered on a dealer Ace and that an insured hand
+     * breaks even against a dealer blackjack.
+     */
+    @Test
+    public void insuranceAgainstDealerBlackjack() {
+        BlackjackTable table = stackedTable(1, "8", "A", "8", "K");
+        table.placeBet(0, 10);
+        table.deal();
+        Assertions.assertEquals(BJTablePhase.INSURANCE, table.getPhase());
+
+        table.insure(0, true);
+
+        SeatSnapshot seat = table.snapshot().seats().get(0);
+        Assertions.assertEquals(BJTablePhase.SETTLED, table.getPhase());
+        Assertions.assertEquals(5, seat.insuranceBet());
+        Assertions.assertEquals(15, seat.staked());
+        Assertions.assertEquals(0, seat.net());
+    }
+
+    /**
+     * Ensures that commands out of turn, out of phase or with invalid arguments are rejected
+     * without changing the table.
+     */
+    @Test
+    public void rejectsInvalidCommands() {
+        BlackjackTable table = stackedTable(2, "10", "9", "10", "8", "7", "7");
+
+        Assertions.assertThrows(IllegalStateException.class, table::deal);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> table.placeBet(2, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> table.placeBet(0, 0));
+        Assertions.assertThrows(IllegalStateException.class, () -> table.act(0, BJAction.HIT));
+
+        table.placeBet(0, 10);
+        table.placeBet(1, 10);
+        table.deal();
+        long version = table.snapshot().version();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> table.act(1, BJAction.STAND));
+        Assertions.assertThrows(IllegalStateException.class, () -> table.act(0, BJAction.SPLIT));
+        Assertions.assertThrows(IllegalStateException.class, () -> table.placeBet(0, 20));
+        Assertions.assertSame(table.snapshot(), table.snapshot());
+        Assertions.assertEquals(version, table.snapshot().version());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> table.snapshot().seats().get(0).hands().get(0).cards().clear());
+    }
+
+    /**
+     * Hosts thousands of tables on a few loop threads and checks that every table plays all of its
+     * rounds, and that the commands of a single table never run concurrently.
+     */
+    @Test
+    public void schedulerHostsThousandsOfTables() {
+        int tables = 2000;
+        int rounds = 5;
+        try (TableScheduler scheduler = new TableScheduler(4)) {
+            List<TableHandle> handles = new ArrayList<>(tables);
+            List<CompletableFuture<TableSnapshot>> futures = new ArrayList<>();
+            for (int id = 0; id < tables; id++) {
+                TableHandle handle = scheduler.open(new BlackjackTable(id, 3, 6, 0.75));
+                handles.add(handle);
+                for (int round = 0; round < rounds; round++) {
+                    futures.add(handle.submit(this::playRound));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            for (TableHandle handle : handles) {
+                TableSnapshot snapshot = handle.snapshot();
+                Assertions.assertEquals(handle.getTableId(), snapshot.tableId());
+                Assertions.assertEquals(rounds, snapshot.round());
+                Assertions.assertEquals(BJTablePhase.SETTLED, snapshot.phase());
+            }
+
+            int[] counter = new int[1];
+            TableHandle handle = handles.get(0);
+            List<CompletableFuture<Integer>> increments = new ArrayList<>();
+            List<Thread> submitters = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread submitter = new Thread(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        CompletableFuture<Integer> future = handle.submit(table -> ++counter[0]);
+                        synchronized (increments) {
+                            increments.add(future);
+                        }
+                    }
+                });
+                submitters.add(submitter);
+                submitter.start();
+            }
+            for (Thread submitter : submitters) {
+                submitter.join();
+            }
+            CompletableFuture.allOf(increments.toArray(new CompletableFuture[0])).join();
+            Assertions.assertEquals(40_000, counter[0]);
+        } catch (InterruptedException e) {
+            Assertions.fail(e);
+        }
+    }
+}
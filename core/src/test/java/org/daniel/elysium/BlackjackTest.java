@@ -1,10 +1,13 @@
 package org.daniel.elysium;
 
 import org.daniel.elysium.blackjack.BlackjackEngine;
+import org.daniel.elysium.blackjack.SettlementBatch;
 import org.daniel.elysium.blackjack.constants.BJHandState;
 import org.daniel.elysium.blackjack.models.BJCard;
 import org.daniel.elysium.blackjack.models.BJDealerHand;
 import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -596,4 +599,154 @@ public class BlackjackTest {
         // Insurance bet pays 2:1 => 500 + (500 * 2) = 1500
         Assertions.assertEquals(1500, playerHand.getInsuranceBet());
     }
+
+    /**
+     * Adds up a hand the long way, counting Aces as 11 until that busts the hand.
+     */
+    private int recount(List<BJCard> cards) {
+        int value = 0;
+        int aces = 0;
+        for (BJCard card : cards) {
+            value += card.getValue();
+            if (card.getValue() == 11) {
+                aces++;
+            }
+        }
+        while (value > 21 && aces > 0) {
+            value -= 10;
+            aces--;
+        }
+        return value;
+    }
+
+    /**
+     * Test that the running totals of a hand match a full recount after every card is dealt,
+     * and stay correct when a card is removed for a split or replaced.
+     */
+    @Test
+    public void handValueTrackedIncrementally(){
+        String[] ranks = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
+        for (String first : ranks) {
+            for (String second : ranks) {
+                BJPlayerHand hand = new BJPlayerHand();
+                hand.getHand().add(new BJCard(first, "S"));
+                hand.getHand().add(new BJCard(second, "H"));
+                Assertions.assertEquals(recount(hand.getHand()), hand.getHandValue());
+                for (String third : ranks) {
+                    hand.getHand().add(new BJCard(third, "D"));
+                    Assertions.assertEquals(recount(hand.getHand()), hand.getHandValue());
+                    hand.getHand().remove(2);
+                }
+            }
+        }
+
+        BJPlayerHand hand = new BJPlayerHand();
+        hand.dealCard(new BJCard("A", "S"));
+        hand.dealCard(new BJCard("A", "H"));
+        Assertions.assertEquals(12, hand.getHandValue());
+        Assertions.assertEquals(2, hand.getAceCount());
+        Assertions.assertTrue(hand.isSoft());
+
+        // Split: the second Ace leaves the hand
+        hand.getHand().remove(1);
+        Assertions.assertEquals(11, hand.getHandValue());
+        Assertions.assertEquals(1, hand.getHardTotal());
+
+        hand.getHand().set(0, new BJCard("9", "S"));
+        Assertions.assertEquals(9, hand.getHandValue());
+        Assertions.assertFalse(hand.isSoft());
+
+        hand.getHand().clear();
+        Assertions.assertEquals(0, hand.getHandValue());
+        Assertions.assertEquals(0, hand.getAceCount());
+
+        BJDealerHand dealerHand = new BJDealerHand();
+        dealerHand.dealCard(new BJCard("A", "S"));
+        dealerHand.dealCard(new BJCard("6", "S"));
+        Assertions.assertEquals(17, dealerHand.getHandValue());
+        Assertions.assertTrue(dealerHand.isSoft());
+        Assertions.assertTrue(dealerHand.dealCard(new BJCard("10", "S")));
+        Assertions.assertEquals(17, dealerHand.getHandValue());
+        Assertions.assertFalse(dealerHand.isSoft());
+    }
+
+    /**
+     * Test that settling hands in a batch gives every hand the same result as resolving it on its own:
+     * won, pushed, lost, busted, insured, surrendered and split hands and naturals, against standing,
+     * busted and blackjack dealer hands, under 3:2 and 6:5 payouts.
+     */
+    @Test
+    public void batchSettlementMatchesResolvePlayerResult() {
+        String[][] playerCards = {{"10", "7"}, {"10", "9"}, {"9", "9", "2"}, {"A", "K"}, {"10", "6"},
+                {"10", "6", "K"}, {"5", "4"}, {"A", "7"}, {"8", "8", "5"}};
+        String[][] dealerCards = {{"10", "7"}, {"10", "8"}, {"10", "9"}, {"A", "Q"}, {"10", "6", "10"},
+                {"7", "7", "7"}};
+        List<CompiledRules> rules = List.of(CompiledRules.STANDARD,
+                BlackjackRules.STANDARD.withBlackjackPayout(6, 5).compile());
+
+        for (CompiledRules rule : rules) {
+            for (String[] dealerRanks : dealerCards) {
+                BJDealerHand dealer = new BJDealerHand();
+                for (String rank : dealerRanks) {
+                    dealer.getHand().add(new BJCard(rank, "C"));
+                }
+
+                SettlementBatch batch = new SettlementBatch(1);
+                List<BJPlayerHand> batched = new ArrayList<>();
+                List<BJPlayerHand> resolved = new ArrayList<>();
+                for (String[] ranks : playerCards) {
+                    for (int variant = 0; variant < 4; variant++) {
+                        BJPlayerHand hand = settlementHand(ranks, variant);
+                        batch.add(hand);
+                        batched.add(hand);
+                        resolved.add(settlementHand(ranks, variant));
+                    }
+                }
+                batch.settle(dealer, rule);
+
+                for (int i = 0; i < batched.size(); i++) {
+                    BJPlayerHand expected = resolved.get(i);
+                    BlackjackEngine.resolvePlayerResult(expected, dealer, rule);
+                    batch.applyTo(i, batched.get(i));
+                    Assertions.assertEquals(BlackjackEngine.getReturnedAmount(expected), batch.getReturned(i));
+                    Assertions.assertEquals(expected.getState(), batch.getState(i));
+                    Assertions.assertEquals(expected.getState(), batched.get(i).getState());
+                    Assertions.assertEquals(expected.getBet(), batched.get(i).getBet());
+                    Assertions.assertEquals(expected.getInsuranceBet(), batched.get(i).getInsuranceBet());
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that a batch rejects arrays shorter than the number of hands to settle.
+     */
+    @Test
+    public void batchSettlementRejectsShortArrays() {
+        int[] values = new int[2];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BlackjackEngine.settleHands(3, values,
+                values, values, new byte[3], 17, false, CompiledRules.STANDARD, new int[3]));
+    }
+
+    /**
+     * Builds a hand with a bet of 10: played on (0), insured (1), surrendered (2) or split (3).
+     */
+    private static BJPlayerHand settlementHand(String[] ranks, int variant) {
+        BJPlayerHand hand = new BJPlayerHand();
+        hand.setBet(10);
+        for (String rank : ranks) {
+            hand.getHand().add(new BJCard(rank, "S"));
+        }
+        switch (variant) {
+            case 1 -> {
+                hand.setInsuranceBet(5);
+                hand.setState(BJHandState.INSURED);
+            }
+            case 2 -> hand.setState(BJHandState.SURRENDERED);
+            case 3 -> hand.setHandSplit(true);
+            default -> {
+            }
+        }
+        return hand;
+    }
 }
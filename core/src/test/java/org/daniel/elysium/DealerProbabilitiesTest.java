@@ -0,0 +1,118 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.blackjack.BlackjackEngine;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.strategy.DealerProbabilities;
+import org.daniel.elysium.blackjack.strategy.StrategyCalculator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the exact dealer outcome probabilities.
+ * Results are compared with a direct recursion over every order in which the dealer can draw.
+ */
+public class DealerProbabilitiesTest {
+
+    private static final int ACE = 0;
+    private static final int TEN = 9;
+
+    /**
+     * Draws every card sequence, adding the probability of each final total.
+     */
+    private void reference(int[] counts, int left, int up, int hard, boolean ace, boolean first,
+                           boolean peeked, boolean hitSoft17, double p, double[] outcomes) {
+        int total = ace && hard + 10 <= 21 ? hard + 10 : hard;
+        if (total > 21) {
+            outcomes[DealerProbabilities.BUST] += p;
+            return;
+        }
+        if (total >= 17 && !(total == 17 && total != hard && hitSoft17)) {
+            outcomes[total - 17] += p;
+            return;
+        }
+        int excluded = first && peeked ? (up == ACE ? TEN : up == TEN ? ACE : -1) : -1;
+        int drawable = excluded >= 0 ? left - counts[excluded] : left;
+        for (int rank = 0; rank < 10; rank++) {
+            if (rank == excluded || counts[rank] == 0) {
+                continue;
+            }
+            double q = p * counts[rank] / drawable;
+            counts[rank]--;
+            reference(counts, left - 1, up, hard + rank + 1, ace || rank == ACE, false, peeked, hitSoft17, q, outcomes);
+            counts[rank]++;
+        }
+    }
+
+    private double[] reference(int up, int[] counts, boolean peeked, boolean hitSoft17) {
+        double[] outcomes = new double[DealerProbabilities.OUTCOMES];
+        int left = 0;
+        for (int count : counts) {
+            left += count;
+        }
+        reference(counts.clone(), left, up, up + 1, up == ACE, true, peeked, hitSoft17, 1.0, outcomes);
+        return outcomes;
+    }
+
+    /**
+     * Verifies every up card against the direct recursion on a depleted single deck, for both soft 17 rules.
+     */
+    @Test
+    public void matchesDirectRecursion() {
+        int[] counts = {3, 4, 2, 4, 1, 4, 3, 4, 4, 11};
+        for (boolean hitSoft17 : new boolean[]{true, false}) {
+            DealerProbabilities dealer = new DealerProbabilities(BlackjackRules.STANDARD.withHitSoft17(hitSoft17));
+            for (int up = 0; up < 10; up++) {
+                for (boolean peeked : new boolean[]{true, false}) {
+                    double[] expected = reference(up, counts, peeked, hitSoft17);
+                    double[] actual = dealer.compute(up, counts, peeked);
+                    Assertions.assertArrayEquals(expected, actual, 1e-12, "Up card " + up);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the well-known bust rates of six decks: about 42% under a Six and 12% under an unpeeked Ace.
+     */
+    @Test
+    public void sixDeckBustRates() {
+        int[] shoe = new StrategyCalculator(BlackjackRules.STANDARD).getFullShoe();
+        DealerProbabilities dealer = new DealerProbabilities(BlackjackRules.STANDARD.withHitSoft17(false));
+
+        shoe[5]--;
+        double[] six = dealer.compute(5, shoe, true);
+        Assertions.assertEquals(0.42, six[DealerProbabilities.BUST], 0.01);
+        shoe[5]++;
+
+        shoe[ACE]--;
+        double[] ace = dealer.compute(ACE, shoe, false);
+        Assertions.assertEquals(0.117, ace[DealerProbabilities.BUST], 0.01);
+        double sum = 0;
+        for (double p : ace) {
+            sum += p;
+        }
+        Assertions.assertEquals(1.0, sum, 1e-9);
+    }
+
+    /**
+     * Verifies that insurance is only favourable in a shoe rich in ten-valued cards.
+     */
+    @Test
+    public void insurance() {
+        BJDealerHand dealerHand = new BJDealerHand();
+        dealerHand.getHand().add(new BJCard("A", "S"));
+
+        int[] shoe = new StrategyCalculator(BlackjackRules.STANDARD).getFullShoe();
+        shoe[ACE]--;
+        Assertions.assertTrue(DealerProbabilities.insuranceValue(shoe) < 0);
+        Assertions.assertFalse(BlackjackEngine.isInsuranceFavourable(dealerHand, shoe));
+
+        for (int rank = 1; rank < 6; rank++) {
+            shoe[rank] = 0;
+        }
+        Assertions.assertTrue(DealerProbabilities.insuranceValue(shoe) > 0);
+        Assertions.assertTrue(BlackjackEngine.isInsuranceFavourable(dealerHand, shoe));
+    }
+}
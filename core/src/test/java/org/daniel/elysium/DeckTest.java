@@ -0,0 +1,95 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.baccarat.models.BacCard;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.models.SymbolicDeck;
+import org.daniel.elysium.ultimateTH.model.UthCard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Test class for the shared card models: the compact card encoding,
+ * the flyweight card instances and the game specific value tables.
+ */
+public class DeckTest {
+
+    /**
+     * Ensures that the rank and suit strings map to the expected indices and code.
+     */
+    @Test
+    public void cardEncoding() {
+        Card card = new Card("Q", "D");
+
+        Assertions.assertEquals(11, card.getRankIndex());
+        Assertions.assertEquals(2, card.getSuitIndex());
+        Assertions.assertEquals(2 * 13 + 11, card.getCode());
+        Assertions.assertFalse(card.isSymbolic());
+        Assertions.assertTrue(new Card("Q", "♦").isSymbolic());
+    }
+
+    /**
+     * Verifies that a card outside the standard deck keeps no encoding
+     * and cannot be looked up in the flyweight caches.
+     */
+    @Test
+    public void nonStandardCardHasNoIndex() {
+        Card card = new Card("1", "S");
+
+        Assertions.assertEquals(-1, card.getRankIndex());
+        Assertions.assertThrows(IllegalArgumentException.class, card::getCacheIndex);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Card.of("1", "S"));
+    }
+
+    /**
+     * Checks that two decks hand out the same 52 distinct card instances.
+     */
+    @Test
+    public void decksShareFlyweights() {
+        List<Card> first = new LetterDeck().getCards();
+        List<Card> second = new LetterDeck().getCards();
+
+        Assertions.assertEquals(52, first.size());
+        Set<Integer> codes = new HashSet<>();
+        for (int i = 0; i < first.size(); i++) {
+            Assertions.assertSame(first.get(i), second.get(i));
+            codes.add(first.get(i).getCode());
+        }
+        Assertions.assertEquals(52, codes.size());
+        Assertions.assertEquals("A♠", new SymbolicDeck().getCards().get(0).toString());
+    }
+
+    /**
+     * Confirms that game cards converted from a deck card are shared and keep the suit notation.
+     */
+    @Test
+    public void gameCardFlyweights() {
+        Card card = new SymbolicDeck().getCards().get(12);
+
+        Assertions.assertSame(BJCard.of(card), BJCard.of("K", "♠"));
+        Assertions.assertEquals("K♠", BJCard.of(card).toString());
+        Assertions.assertSame(UthCard.of(card), UthCard.of(UthCard.of(card)));
+    }
+
+    /**
+     * Verifies the value tables of each game for every rank.
+     */
+    @Test
+    public void gameCardValues() {
+        int[] blackjack = {11, 2, 3, 4, 5, 6, 7, 8, 9, 10, 10, 10, 10};
+        int[] baccarat = {1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 0, 0, 0};
+        int[] ultimate = {14, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13};
+
+        for (int rank = 0; rank < Card.RANKS.size(); rank++) {
+            String name = Card.RANKS.get(rank);
+            Assertions.assertEquals(blackjack[rank], new BJCard(name, "H").getValue());
+            Assertions.assertEquals(baccarat[rank], new BacCard(name, "H").getValue());
+            Assertions.assertEquals(ultimate[rank], new UthCard(name, "H").getValue());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.models.GameLoop;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Test class for the single-threaded {@link GameLoop}.
+ */
+public class GameLoopTest {
+
+    private final GameLoop loop = new GameLoop("test-loop");
+
+    /**
+     * Stops the loop thread after every test.
+     */
+    @AfterEach
+    public void tearDown() {
+        loop.close();
+    }
+
+    /**
+     * Ensures that commands run in the order they were sent, on the loop thread.
+     */
+    @Test
+    public void commandsRunInOrderOnTheLoopThread() throws InterruptedException {
+        List<Integer> order = new ArrayList<>();
+        AtomicBoolean onLoop = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(1);
+
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            loop.execute(() -> {
+                onLoop.compareAndSet(true, loop.isLoopThread());
+                order.add(value);
+            });
+        }
+        loop.execute(done::countDown);
+
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(onLoop.get());
+        Assertions.assertFalse(loop.isLoopThread());
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i, order.get(i));
+        }
+    }
+
+    /**
+     * Ensures that a delayed command runs after commands sent later without a delay,
+     * and that a cancelled delayed command never runs.
+     */
+    @Test
+    public void delayedCommandsRunLaterAndCanBeCancelled() throws InterruptedException {
+        List<String> order = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        ScheduledFuture<?> cancelled = loop.schedule(() -> order.add("cancelled"), 50);
+        loop.schedule(() -> {
+            order.add("delayed");
+            done.countDown();
+        }, 100);
+        loop.execute(() -> order.add("immediate"));
+        Assertions.assertTrue(cancelled.cancel(false));
+
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        CountDownLatch drained = new CountDownLatch(1);
+        loop.execute(drained::countDown);
+        Assertions.assertTrue(drained.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of("immediate", "delayed"), order);
+    }
+
+    /**
+     * Ensures that a command throwing an exception does not stop the loop.
+     */
+    @Test
+    public void failingCommandDoesNotStopTheLoop() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+
+        loop.execute(() -> {
+            throw new IllegalStateException("Expected by the test");
+        });
+        loop.execute(done::countDown);
+
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Ensures that a closed loop rejects new commands.
+     */
+    @Test
+    public void closedLoopRejectsCommands() {
+        loop.close();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> loop.execute(() -> { }));
+        Assertions.assertThrows(IllegalStateException.class, () -> loop.schedule(() -> { }, 10));
+    }
+}
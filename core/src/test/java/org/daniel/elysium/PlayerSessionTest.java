@@ -0,0 +1,193 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.models.SerialExecutor;
+import org.daniel.elysium.user.profile.UserProfile;
+import org.daniel.elysium.user.session.PlayerSession;
+import org.daniel.elysium.user.session.PlayerSessionManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the player session manager: isolation and ordering of the sessions' tasks,
+ * the limits on active sessions, database calls and pending tasks, and the serial executor
+ * the tasks run on.
+ */
+public class PlayerSessionTest {
+
+    /** Per-session state kept between tasks. */
+    private static final class Rounds {
+        private final List<Integer> played = new ArrayList<>();
+    }
+
+    /**
+     * Records the current number of holders and keeps the highest number seen.
+     */
+    private static void enter(AtomicInteger current, AtomicInteger highest) {
+        highest.accumulateAndGet(current.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        current.decrementAndGet();
+    }
+
+    /**
+     * Ensures that every session runs its tasks in submission order against its own state,
+     * while many sessions run concurrently.
+     */
+    @Test
+    public void sessionsKeepTheirOwnStateInOrder() {
+        try (PlayerSessionManager manager = new PlayerSessionManager(8, 2, 1000)) {
+            List<PlayerSession> sessions = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                sessions.add(manager.open(new UserProfile("player" + i, "pass", 100, 0)));
+            }
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int round = 0; round < 200; round++) {
+                int number = round;
+                for (PlayerSession session : sessions) {
+                    futures.add(session.execute(c -> c.getState(Rounds.class, Rounds::new).played.add(number)));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            for (PlayerSession session : sessions) {
+                List<Integer> played = session.submit(c -> c.getState(Rounds.class, Rounds::new).played).join();
+                Assertions.assertEquals(200, played.size());
+                for (int round = 0; round < 200; round++) {
+                    Assertions.assertEquals(round, played.get(round));
+                }
+                Assertions.assertEquals(session.getUsername(), session.submit(c -> c.getProfile().getName()).join());
+            }
+            Assertions.assertEquals(50, manager.getSessionCount());
+        }
+    }
+
+    /**
+     * Verifies that no more sessions run and no more database calls are made at once than allowed.
+     */
+    @Test
+    public void concurrencyLimits() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger mostRunning = new AtomicInteger();
+        AtomicInteger calling = new AtomicInteger();
+        AtomicInteger mostCalling = new AtomicInteger();
+
+        try (PlayerSessionManager manager = new PlayerSessionManager(3, 1, 100)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                PlayerSession session = manager.open(new UserProfile("player" + i, "pass", 100, 0));
+                for (int j = 0; j < 5; j++) {
+                    futures.add(session.execute(c -> {
+                        enter(running, mostRunning);
+                        c.withDatabase(() -> {
+                            enter(calling, mostCalling);
+                            return null;
+                        });
+                    }));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+
+        Assertions.assertTrue(mostRunning.get() <= 3, "Running sessions: " + mostRunning.get());
+        Assertions.assertEquals(1, mostCalling.get());
+    }
+
+    /**
+     * Ensures that a session rejects tasks beyond its pending limit, that a failing task
+     * leaves the session usable, and that a player has at most one open session.
+     */
+    @Test
+    public void pendingLimitAndSingleSession() throws InterruptedException {
+        try (PlayerSessionManager manager = new PlayerSessionManager(2, 1, 3)) {
+            UserProfile profile = new UserProfile("alice", "pass", 100, 0);
+            PlayerSession session = manager.open(profile);
+            Assertions.assertThrows(IllegalStateException.class, () -> manager.open(profile));
+
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> blocked = session.execute(c -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            CompletableFuture<Object> failed = session.submit(c -> {
+                throw new IllegalStateException("Not your turn");
+            });
+            CompletableFuture<Double> balance = session.submit(c -> c.getProfile().getBalance());
+            Assertions.assertThrows(RejectedExecutionException.class, () -> session.submit(c -> 0));
+
+            release.countDown();
+            blocked.join();
+            Assertions.assertThrows(CompletionException.class, failed::join);
+            Assertions.assertEquals(100, balance.join());
+            Assertions.assertEquals(0, session.getPendingCount());
+
+            session.close();
+            Assertions.assertThrows(IllegalStateException.class, () -> session.submit(c -> 0));
+            Assertions.assertNull(manager.getSession("alice"));
+            Assertions.assertNotNull(manager.open(profile));
+        }
+    }
+
+    /**
+     * Verifies that tasks still queued when the shared executor shuts down are rejected rather than
+     * left waiting, and that tasks queued afterwards are refused.
+     */
+    @Test
+    public void queuedTasksAreRejectedOnShutdown() throws InterruptedException {
+        ExecutorService threads = Executors.newSingleThreadExecutor();
+        SerialExecutor serial = new SerialExecutor(threads, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        serial.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+
+        List<CompletableFuture<Void>> queued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            serial.execute(new SerialExecutor.Task() {
+                @Override
+                public void run() {
+                    future.complete(null);
+                }
+
+                @Override
+                public void reject(RejectedExecutionException cause) {
+                    future.completeExceptionally(cause);
+                }
+            });
+            queued.add(future);
+        }
+        threads.shutdown();
+        release.countDown();
+        Assertions.assertTrue(threads.awaitTermination(5, TimeUnit.SECONDS));
+
+        for (CompletableFuture<Void> future : queued) {
+            Assertions.assertTrue(future.isCompletedExceptionally());
+        }
+        Assertions.assertThrows(RejectedExecutionException.class, () -> serial.execute(() -> { }));
+    }
+}
@@ -0,0 +1,398 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.baccarat.BaccaratGameEngine;
+import org.daniel.elysium.baccarat.constants.BacHandAction;
+import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.baccarat.models.BacBetHand;
+import org.daniel.elysium.baccarat.models.BacCard;
+import org.daniel.elysium.baccarat.models.BacHand;
+import org.daniel.elysium.blackjack.BlackjackEngine;
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.journal.JournalEvent;
+import org.daniel.elysium.journal.JournalEventType;
+import org.daniel.elysium.journal.JournalGame;
+import org.daniel.elysium.journal.JournalReader;
+import org.daniel.elysium.journal.RecordedRound;
+import org.daniel.elysium.journal.ReplayResult;
+import org.daniel.elysium.journal.RoundJournal;
+import org.daniel.elysium.journal.RoundRecorder;
+import org.daniel.elysium.journal.RoundReplayer;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.models.Shoe;
+import org.daniel.elysium.models.Xoshiro256;
+import org.daniel.elysium.ultimateTH.UthGameEngine;
+import org.daniel.elysium.ultimateTH.model.UthCard;
+import org.daniel.elysium.ultimateTH.model.UthHand;
+import org.daniel.elysium.ultimateTH.model.UthPlayerHand;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the memory-mapped {@link RoundJournal} and the {@link RoundReplayer}.
+ * Rounds are played the way the game controllers play them, recorded, read back and replayed.
+ */
+public class RoundJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private Path journalFile() {
+        return directory.resolve("rounds.journal");
+    }
+
+    /* ======================
+       Rounds played like the controllers
+       ====================== */
+
+    private BJCard dealBlackjack(Shoe<Card> shoe, RoundRecorder recorder, int target) {
+        Card card = shoe.deal();
+        recorder.card(target, card);
+        return BJCard.of(card);
+    }
+
+    /**
+     * Plays a Blackjack round: pairs are split, 11 is doubled and every hand hits below 17.
+     */
+    private void playBlackjack(Shoe<Card> shoe, RoundRecorder recorder) {
+        recorder.startRound(shoe);
+        List<BJPlayerHand> hands = new ArrayList<>();
+        BJPlayerHand first = new BJPlayerHand();
+        first.setBet(10);
+        recorder.bet(0, 10);
+        hands.add(first);
+        BJDealerHand dealer = new BJDealerHand();
+
+        first.getHand().add(dealBlackjack(shoe, recorder, 0));
+        dealer.getHand().add(dealBlackjack(shoe, recorder, RoundReplayer.BLACKJACK_DEALER));
+        first.getHand().add(dealBlackjack(shoe, recorder, 0));
+        dealer.getHand().add(dealBlackjack(shoe, recorder, RoundReplayer.BLACKJACK_DEALER));
+
+        if (first.isSplittable()) {
+            recorder.action(0, BJAction.SPLIT.ordinal(), first.getBet());
+            BJPlayerHand second = new BJPlayerHand();
+            second.setBet(first.getBet());
+            first.setHandSplit(true);
+            second.setHandSplit(true);
+            second.getHand().add(first.getHand().remove(1));
+            hands.add(second);
+            first.getHand().add(dealBlackjack(shoe, recorder, 0));
+            second.getHand().add(dealBlackjack(shoe, recorder, 1));
+        }
+
+        for (int index = 0; index < hands.size(); index++) {
+            BJPlayerHand hand = hands.get(index);
+            if (hand.getHandValue() == 11) {
+                recorder.action(index, BJAction.DOUBLE.ordinal(), hand.getBet());
+                hand.setBet(hand.getBet() * 2);
+                hand.getHand().add(dealBlackjack(shoe, recorder, index));
+                continue;
+            }
+            while (hand.getHandValue() < 17) {
+                recorder.action(index, BJAction.HIT.ordinal(), 0);
+                hand.getHand().add(dealBlackjack(shoe, recorder, index));
+            }
+            recorder.action(index, BJAction.STAND.ordinal(), 0);
+        }
+
+        while (dealer.canDealCard(null)) {
+            dealer.getHand().add(dealBlackjack(shoe, recorder, RoundReplayer.BLACKJACK_DEALER));
+        }
+        for (int index = 0; index < hands.size(); index++) {
+            BlackjackEngine.resolvePlayerResult(hands.get(index), dealer);
+            recorder.settlement(index, BlackjackEngine.getReturnedAmount(hands.get(index)));
+        }
+        recorder.endRound();
+    }
+
+    private void dealBaccarat(Shoe<Card> shoe, RoundRecorder recorder, BacHand hand, int target) {
+        Card card = shoe.deal();
+        recorder.card(target, card);
+        hand.dealCard(BacCard.of(card));
+    }
+
+    /**
+     * Plays a Baccarat round with a bet on the banker.
+     */
+    private void playBaccarat(Shoe<Card> shoe, RoundRecorder recorder) {
+        recorder.startRound(shoe);
+        BacBetHand bet = new BacBetHand();
+        bet.setHandType(BacHandType.BANKER);
+        bet.setBet(100);
+        recorder.bet(BacHandType.BANKER.ordinal(), bet.getBet());
+
+        BacHand player = new BacHand();
+        BacHand banker = new BacHand();
+        dealBaccarat(shoe, recorder, player, RoundReplayer.BACCARAT_PLAYER);
+        dealBaccarat(shoe, recorder, banker, RoundReplayer.BACCARAT_BANKER);
+        dealBaccarat(shoe, recorder, player, RoundReplayer.BACCARAT_PLAYER);
+        dealBaccarat(shoe, recorder, banker, RoundReplayer.BACCARAT_BANKER);
+        BaccaratGameEngine.evaluatePlayer(banker, player);
+        if (player.getAction() == BacHandAction.DRAW) {
+            dealBaccarat(shoe, recorder, player, RoundReplayer.BACCARAT_PLAYER);
+        }
+        BaccaratGameEngine.evaluateBanker(banker, player);
+        if (banker.getAction() == BacHandAction.DRAW) {
+            dealBaccarat(shoe, recorder, banker, RoundReplayer.BACCARAT_BANKER);
+        }
+        BaccaratGameEngine.evaluateHands(banker, player);
+        BaccaratGameEngine.calculateResult(banker, player, bet);
+        recorder.settlement(BacHandType.BANKER.ordinal(), bet.getBet());
+        recorder.endRound();
+    }
+
+    private UthCard dealUltimate(Shoe<Card> shoe, RoundRecorder recorder, int target) {
+        Card card = shoe.deal();
+        recorder.card(target, card);
+        return UthCard.of(card);
+    }
+
+    /**
+     * Plays an Ultimate Texas Hold'em round, raising four times before the flop.
+     */
+    private void playUltimate(Shoe<Card> shoe, RoundRecorder recorder) {
+        shoe.reshuffle();
+        recorder.startRound(shoe);
+        UthPlayerHand player = new UthPlayerHand();
+        UthHand dealer = new UthHand();
+        player.setBet(10);
+        player.setTrips(5);
+        recorder.bet(RoundReplayer.UTH_ANTE, 10);
+        recorder.bet(RoundReplayer.UTH_BLIND, 10);
+        recorder.bet(RoundReplayer.UTH_TRIPS, 5);
+
+        List<UthCard> community = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            community.add(dealUltimate(shoe, recorder, RoundReplayer.UTH_COMMUNITY));
+        }
+        player.dealCard(dealUltimate(shoe, recorder, RoundReplayer.UTH_PLAYER));
+        player.dealCard(dealUltimate(shoe, recorder, RoundReplayer.UTH_PLAYER));
+        dealer.dealCard(dealUltimate(shoe, recorder, RoundReplayer.UTH_DEALER));
+        dealer.dealCard(dealUltimate(shoe, recorder, RoundReplayer.UTH_DEALER));
+
+        player.setPlay(40);
+        recorder.action(RoundReplayer.UTH_PLAYER, 4, 40);
+        recorder.bet(RoundReplayer.UTH_PLAY, 40);
+
+        UthGameEngine.evaluateHand(community, player);
+        UthGameEngine.evaluateHand(community, dealer);
+        UthGameEngine.determineGameResults(player, dealer);
+        UthGameEngine.evaluateTrips(player);
+        UthGameEngine.processResults(player, dealer);
+        recorder.settlement(RoundReplayer.UTH_ANTE, player.getAnte());
+        recorder.settlement(RoundReplayer.UTH_BLIND, player.getBlind());
+        recorder.settlement(RoundReplayer.UTH_PLAY, player.getPlay());
+        recorder.settlement(RoundReplayer.UTH_TRIPS, player.getTrips());
+        recorder.endRound();
+    }
+
+    /* ======================
+       Tests
+       ====================== */
+
+    /**
+     * Writes more events than one mapped region holds, reopens the journal and checks that
+     * appending continues after the last event with the next round number.
+     */
+    @Test
+    public void appendReopenAndReadBack() throws IOException {
+        int rounds = RoundJournal.REGION_EVENTS / 4 + 10;
+        Shoe<Card> shoe = Shoe.createShoe(1, LetterDeck::new, 1, new Xoshiro256(1));
+        try (RoundJournal journal = new RoundJournal(journalFile())) {
+            RoundRecorder recorder = journal.recorder(JournalGame.BACCARAT);
+            for (int i = 0; i < rounds; i++) {
+                Assertions.assertEquals(i + 1, recorder.startRound(shoe));
+                recorder.bet(BacHandType.TIE.ordinal(), 25);
+                recorder.settlement(BacHandType.TIE.ordinal(), 0);
+                recorder.endRound();
+            }
+            Assertions.assertEquals(4L * rounds, journal.getEventCount());
+        }
+
+        try (RoundJournal journal = new RoundJournal(journalFile())) {
+            Assertions.assertEquals(4L * rounds, journal.getEventCount());
+            RoundRecorder recorder = journal.recorder(JournalGame.BLACKJACK);
+            Assertions.assertEquals(rounds + 1, recorder.startRound(shoe));
+            recorder.bet(0, 10);
+        }
+
+        List<JournalEvent> events = JournalReader.readEvents(journalFile());
+        Assertions.assertEquals(4L * rounds + 2, events.size());
+        Assertions.assertEquals(25.0, events.get(1).amount());
+
+        List<RecordedRound> recorded = JournalReader.readRounds(journalFile());
+        Assertions.assertEquals(rounds + 1, recorded.size());
+        Assertions.assertTrue(recorded.get(0).complete());
+        Assertions.assertEquals(JournalGame.BACCARAT, recorded.get(0).game());
+        Assertions.assertEquals(shoe.getShuffleSeed(), recorded.get(0).shuffleSeed());
+        RecordedRound last = recorded.get(rounds);
+        Assertions.assertFalse(last.complete());
+        Assertions.assertEquals(JournalGame.BLACKJACK, last.game());
+        Assertions.assertEquals(JournalEventType.BET, last.events().get(0).type());
+        Assertions.assertFalse(RoundReplayer.replay(last).matches());
+    }
+
+    /**
+     * Verifies that a journal file open in one journal cannot be opened by another until it is closed.
+     */
+    @Test
+    public void openJournalIsLocked() throws IOException {
+        Shoe<Card> shoe = Shoe.createShoe(1, LetterDeck::new, 1, new Xoshiro256(1));
+        try (RoundJournal journal = new RoundJournal(journalFile())) {
+            Assertions.assertThrows(IOException.class, () -> new RoundJournal(journalFile()));
+            journal.recorder(JournalGame.BACCARAT).startRound(shoe);
+        }
+        try (RoundJournal journal = new RoundJournal(journalFile())) {
+            Assertions.assertEquals(1, journal.getEventCount());
+        }
+    }
+
+    /**
+     * Ensures that a journal reopened after a crash left a page in the middle unwritten continues
+     * at the first missing event, even though events after it reached the disk.
+     */
+    @Test
+    public void reopenStopsAtTheFirstMissingEvent() throws IOException {
+        Path file = journalFile();
+        try (RoundJournal journal = new RoundJournal(file)) {
+            for (int i = 0; i < 1000; i++) {
+                journal.append(1, JournalGame.BLACKJACK, JournalEventType.CARD, 0, i, 0);
+            }
+        }
+        // The file holds the header and a single region
+        long header = Files.size(file) - (long) RoundJournal.REGION_EVENTS * RoundJournal.EVENT_SIZE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4096), 4096);
+        }
+
+        long intact = (4096 - header) / RoundJournal.EVENT_SIZE;
+        try (RoundJournal journal = new RoundJournal(file)) {
+            Assertions.assertEquals(intact, journal.getEventCount());
+            journal.append(1, JournalGame.BLACKJACK, JournalEventType.CARD, 0, 0, 0);
+            Assertions.assertEquals(intact + 1, journal.getEventCount());
+        }
+    }
+
+    /**
+     * Replays Blackjack rounds dealt one after another from the same shoe, including splits
+     * and doubles, and detects a round replayed from the wrong shuffle.
+     */
+    @Test
+    public void replayBlackjack() throws IOException {
+        Shoe<Card> shoe = Shoe.createShoe(2, LetterDeck::new, 0.75, new Xoshiro256(21));
+        try (RoundJournal journal = new RoundJournal(journalFile())) {
+            RoundRecorder recorder = journal.recorder(JournalGame.BLACKJACK);
+            for (int i = 0; i < 200; i++) {
+                if (shoe.needsReshuffle()) {
+                    shoe.reshuffle();
+                }
+                playBlackjack(shoe, recorder);
+            }
+        }
+
+        List<RecordedRound> rounds = JournalReader.readRounds(journalFile());
+        Assertions.assertEquals(200, rounds.size());
+        boolean split = false;
+        for (RecordedRound round : rounds) {
+            ReplayResult result = RoundReplayer.replay(round);
+            Assertions.assertTrue(result.matches(), "Round " + round.round() + ": " + result);
+            split |= result.replayed().size() > 1;
+        }
+        Assertions.assertTrue(split);
+
+        RecordedRound round = rounds.get(3);
+        RecordedRound reshuffled = new RecordedRound(round.round(), round.game(), round.decks(), round.cursor(),
+                round.shuffleSeed() + 1, round.events(), true);
+        Assertions.assertFalse(RoundReplayer.replay(reshuffled).matches());
+    }
+
+    /**
+     * Re-simulates Baccarat rounds and detects a recorded card dealt to the wrong hand
+     * and a settlement that differs from the engine's.
+     */
+    @Test
+    public void replayBaccarat() throws IOException {
+        Shoe<Card> shoe = Shoe.createShoe(8, LetterDeck::new, 0.8, new Xoshiro256(5));
+        try (RoundJournal journal = new RoundJournal(journalFile())) {
+            RoundRecorder recorder = journal.recorder(JournalGame.BACCARAT);
+            for (int i = 0; i < 100; i++) {
+                if (shoe.needsReshuffle()) {
+                    shoe.reshuffle();
+                }
+                playBaccarat(shoe, recorder);
+            }
+        }
+
+        List<RecordedRound> rounds = JournalReader.readRounds(journalFile());
+        for (RecordedRound round : rounds) {
+            ReplayResult result = RoundReplayer.replay(round);
+            Assertions.assertTrue(result.matches(), "Round " + round.round() + ": " + result);
+        }
+
+        RecordedRound round = rounds.get(0);
+        List<JournalEvent> swapped = new ArrayList<>();
+        List<JournalEvent> overpaid = new ArrayList<>();
+        for (JournalEvent event : round.events()) {
+            JournalEvent other = event;
+            if (event.type() == JournalEventType.CARD && swapped.size() == 2) {
+                other = new JournalEvent(event.round(), event.game(), event.type(),
+                        RoundReplayer.BACCARAT_PLAYER, event.arg(), event.value());
+            }
+            swapped.add(other);
+            overpaid.add(event.type() != JournalEventType.SETTLEMENT ? event
+                    : new JournalEvent(event.round(), event.game(), event.type(), event.target(), event.arg(),
+                    Double.doubleToLongBits(event.amount() + 100)));
+        }
+        ReplayResult misdealt = RoundReplayer.replay(new RecordedRound(round.round(), round.game(), round.decks(),
+                round.cursor(), round.shuffleSeed(), swapped, true));
+        Assertions.assertEquals(1, misdealt.mismatches().size());
+        ReplayResult misPaid = RoundReplayer.replay(new RecordedRound(round.round(), round.game(), round.decks(),
+                round.cursor(), round.shuffleSeed(), overpaid, true));
+        Assertions.assertTrue(misPaid.mismatches().isEmpty());
+        Assertions.assertFalse(misPaid.matches());
+    }
+
+    /**
+     * Replays Ultimate Texas Hold'em rounds, each dealt from a freshly shuffled deck, and a folded round.
+     */
+    @Test
+    public void replayUltimate() throws IOException {
+        Shoe<Card> shoe = Shoe.createShoe(1, LetterDeck::new, 1, new Xoshiro256(9));
+        try (RoundJournal journal = new RoundJournal(journalFile())) {
+            RoundRecorder recorder = journal.recorder(JournalGame.ULTIMATE_TH);
+            for (int i = 0; i < 50; i++) {
+                playUltimate(shoe, recorder);
+            }
+
+            recorder.startRound(shoe);
+            recorder.bet(RoundReplayer.UTH_ANTE, 10);
+            recorder.bet(RoundReplayer.UTH_BLIND, 10);
+            for (int i = 0; i < 5; i++) {
+                dealUltimate(shoe, recorder, RoundReplayer.UTH_COMMUNITY);
+            }
+            recorder.action(RoundReplayer.UTH_PLAYER, RoundReplayer.UTH_FOLD, 0);
+            for (int spot = RoundReplayer.UTH_ANTE; spot <= RoundReplayer.UTH_TRIPS; spot++) {
+                recorder.settlement(spot, 0);
+            }
+            recorder.endRound();
+        }
+
+        for (RecordedRound round : JournalReader.readRounds(journalFile())) {
+            ReplayResult result = RoundReplayer.replay(round);
+            Assertions.assertTrue(result.matches(), "Round " + round.round() + ": " + result);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.baccarat.BaccaratGameEngine;
+import org.daniel.elysium.baccarat.constants.BacHandState;
+import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.baccarat.models.BacBetHand;
+import org.daniel.elysium.baccarat.models.BacCard;
+import org.daniel.elysium.baccarat.models.BacHand;
+import org.daniel.elysium.baccarat.models.BacRoundSnapshot;
+import org.daniel.elysium.blackjack.constants.BJTablePhase;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+import org.daniel.elysium.blackjack.table.TableSnapshot;
+import org.daniel.elysium.models.SnapshotPublisher;
+import org.daniel.elysium.ultimateTH.UthGameEngine;
+import org.daniel.elysium.ultimateTH.constants.UthGameStage;
+import org.daniel.elysium.ultimateTH.constants.UthHandCombination;
+import org.daniel.elysium.ultimateTH.model.UthCard;
+import org.daniel.elysium.ultimateTH.model.UthHand;
+import org.daniel.elysium.ultimateTH.model.UthPlayerHand;
+import org.daniel.elysium.ultimateTH.model.UthRoundSnapshot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Test class for the immutable round snapshots the games publish for the user interface,
+ * and for the {@link SnapshotPublisher} handing them out.
+ */
+public class RoundSnapshotTest {
+
+    /**
+     * Verifies that every published snapshot gets the next version, is kept as the latest
+     * and reaches the subscribed listeners until they unsubscribe.
+     */
+    @Test
+    public void publisherVersionsAndNotifies() {
+        SnapshotPublisher<String> publisher = new SnapshotPublisher<>();
+        List<String> received = new ArrayList<>();
+        Consumer<String> listener = received::add;
+
+        Assertions.assertNull(publisher.latest());
+        Assertions.assertEquals(0, publisher.getVersion());
+
+        publisher.subscribe(listener);
+        Assertions.assertEquals("v1", publisher.publish(version -> "v" + version));
+        Assertions.assertEquals("v2", publisher.publish(version -> "v" + version));
+        publisher.unsubscribe(listener);
+        publisher.publish(version -> "v" + version);
+
+        Assertions.assertEquals(List.of("v1", "v2"), received);
+        Assertions.assertEquals("v3", publisher.latest());
+        Assertions.assertEquals(3, publisher.getVersion());
+    }
+
+    /**
+     * Verifies that a Baccarat snapshot keeps the cards it was taken with, cannot be changed,
+     * and reports the round as decided once the hands are evaluated.
+     */
+    @Test
+    public void baccaratSnapshotIsDetached() {
+        BacHand player = new BacHand();
+        BacHand banker = new BacHand();
+        BacBetHand bet = new BacBetHand();
+        bet.setHandType(BacHandType.PLAYER);
+        bet.setBet(100);
+        player.dealCard(new BacCard("4", "S"));
+        player.dealCard(new BacCard("5", "S"));
+        banker.dealCard(new BacCard("K", "S"));
+        banker.dealCard(new BacCard("7", "S"));
+
+        BacRoundSnapshot dealt = BacRoundSnapshot.of(1, 1, player, banker, bet);
+        Assertions.assertFalse(dealt.isDecided());
+        Assertions.assertEquals(9, dealt.playerValue());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> dealt.playerCards().add(new BacCard("2", "S")));
+
+        BaccaratGameEngine.evaluateHands(banker, player);
+        BaccaratGameEngine.calculateResult(banker, player, bet);
+        BacRoundSnapshot settled = BacRoundSnapshot.of(2, 1, player, banker, bet);
+
+        Assertions.assertTrue(settled.isDecided());
+        Assertions.assertEquals(BacHandState.WON, settled.playerState());
+        Assertions.assertEquals(BacHandState.WON, settled.betState());
+        Assertions.assertEquals(200, settled.bet());
+        Assertions.assertEquals(BacHandState.UNDEFINED, dealt.playerState());
+        Assertions.assertEquals(100, dealt.bet());
+    }
+
+    /**
+     * Verifies that an Ultimate Texas Hold'em snapshot only shows the community cards of its stage,
+     * hides the dealer's cards until the final stage, and carries both combinations once evaluated.
+     */
+    @Test
+    public void ultimateSnapshotHidesUnexposedCards() {
+        List<UthCard> communityCards = List.of(new UthCard("A", "S"), new UthCard("K", "S"),
+                new UthCard("Q", "S"), new UthCard("4", "D"), new UthCard("5", "D"));
+        UthPlayerHand player = new UthPlayerHand();
+        player.dealCard(new UthCard("J", "S"));
+        player.dealCard(new UthCard("10", "S"));
+        player.setBet(10);
+        UthHand dealer = new UthHand();
+        dealer.dealCard(new UthCard("A", "H"));
+        dealer.dealCard(new UthCard("7", "C"));
+
+        UthRoundSnapshot start = UthRoundSnapshot.of(1, 1, UthGameStage.START, player, dealer, communityCards);
+        UthRoundSnapshot flop = UthRoundSnapshot.of(2, 1, UthGameStage.FLOP, player, dealer, communityCards);
+        Assertions.assertTrue(start.communityCards().isEmpty());
+        Assertions.assertEquals(communityCards.subList(0, 3), flop.communityCards());
+        Assertions.assertTrue(flop.dealerCards().isEmpty());
+        Assertions.assertEquals(10, flop.ante());
+        Assertions.assertEquals(10, flop.blind());
+        Assertions.assertFalse(flop.isEvaluated());
+
+        player.setPlay(40);
+        UthGameEngine.evaluateHand(communityCards, player);
+        UthGameEngine.evaluateHand(communityCards, dealer);
+        UthRoundSnapshot last = UthRoundSnapshot.of(3, 1, UthGameStage.FINAL, player, dealer, communityCards);
+
+        Assertions.assertEquals(communityCards, last.communityCards());
+        Assertions.assertEquals(2, last.dealerCards().size());
+        Assertions.assertEquals(40, last.play());
+        Assertions.assertTrue(last.isEvaluated());
+        Assertions.assertEquals(UthHandCombination.ROYAL_FLUSH, last.playerCombination());
+        Assertions.assertEquals(UthHandCombination.PAIR, last.dealerCombination());
+    }
+
+    /**
+     * Verifies that a table snapshot shows only the dealer's up card until the hole card is visible,
+     * and only reports a dealer Blackjack once both cards are shown.
+     */
+    @Test
+    public void tableSnapshotHidesHoleCard() {
+        BJDealerHand dealer = new BJDealerHand();
+        dealer.getHand().add(new BJCard("A", "S"));
+        dealer.getHand().add(new BJCard("K", "S"));
+
+        TableSnapshot hidden = TableSnapshot.of(1, 1, 1, BJTablePhase.PLAYING, 0, 0, dealer, false, List.of());
+        Assertions.assertEquals(1, hidden.dealerCards().size());
+        Assertions.assertEquals(11, hidden.dealerValue());
+        Assertions.assertFalse(hidden.isDealerBlackjack());
+
+        TableSnapshot shown = TableSnapshot.of(1, 2, 1, BJTablePhase.SETTLED, 0, 0, dealer, true, List.of());
+        Assertions.assertEquals(2, shown.dealerCards().size());
+        Assertions.assertEquals(21, shown.dealerValue());
+        Assertions.assertTrue(shown.isDealerBlackjack());
+    }
+}
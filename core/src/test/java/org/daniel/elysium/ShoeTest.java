@@ -0,0 +1,199 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.models.Shoe;
+import org.daniel.elysium.models.Xoshiro256;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test class for the {@link Shoe} dealing engine: the dealing cursor,
+ * the cut card, reshuffling and seeded shuffles.
+ */
+public class ShoeTest {
+
+    /**
+     * Ensures that cards are dealt in order and that peeking does not advance the shoe.
+     */
+    @Test
+    public void dealPeekAndBurn() {
+        Shoe<Card> shoe = new Shoe<>(List.of(Card.of("A", "S"), Card.of("K", "H"), Card.of("2", "D")));
+
+        Assertions.assertEquals(3, shoe.remaining());
+        Assertions.assertSame(Card.of("A", "S"), shoe.peek());
+        Assertions.assertSame(Card.of("A", "S"), shoe.deal());
+        shoe.burn();
+        Assertions.assertSame(Card.of("2", "D"), shoe.deal());
+        Assertions.assertEquals(0, shoe.remaining());
+        Assertions.assertThrows(IllegalStateException.class, shoe::deal);
+        Assertions.assertThrows(IllegalStateException.class, shoe::peek);
+    }
+
+    /**
+     * Verifies that a shoe holds every card of its decks exactly the expected number of times.
+     */
+    @Test
+    public void createShoeHoldsAllDecks() {
+        Shoe<Card> shoe = Shoe.createShoe(4, LetterDeck::new);
+
+        Assertions.assertEquals(4 * Card.DECK_SIZE, shoe.size());
+        int[] counts = new int[Card.DECK_SIZE];
+        while (shoe.remaining() > 0) {
+            counts[shoe.deal().getCode()]++;
+        }
+        for (int count : counts) {
+            Assertions.assertEquals(4, count);
+        }
+    }
+
+    /**
+     * Verifies that the cut card is placed by the penetration and reported once reached.
+     */
+    @Test
+    public void cutCardPenetration() {
+        Shoe<Card> shoe = Shoe.createShoe(2, LetterDeck::new, 0.75);
+
+        Assertions.assertEquals(78, shoe.getCutCard());
+        for (int i = 0; i < 77; i++) {
+            shoe.deal();
+        }
+        Assertions.assertFalse(shoe.needsReshuffle());
+        shoe.deal();
+        Assertions.assertTrue(shoe.needsReshuffle());
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Shoe.createShoe(1, LetterDeck::new, 1.5));
+    }
+
+    /**
+     * Ensures that the default cut card leaves a reserve of cards behind it.
+     */
+    @Test
+    public void defaultCutCardReserve() {
+        Shoe<Card> shoe = Shoe.createShoe(1, LetterDeck::new);
+
+        Assertions.assertEquals(Card.DECK_SIZE - Shoe.DEFAULT_RESERVE, shoe.getCutCard());
+    }
+
+    /**
+     * Ensures that reshuffling collects the dealt cards back into the shoe.
+     */
+    @Test
+    public void reshuffleRestoresAllCards() {
+        Shoe<Card> shoe = Shoe.createShoe(1, LetterDeck::new);
+        for (int i = 0; i < 40; i++) {
+            shoe.deal();
+        }
+        Assertions.assertTrue(shoe.needsReshuffle());
+
+        shoe.reshuffle();
+
+        Assertions.assertFalse(shoe.needsReshuffle());
+        Assertions.assertEquals(Card.DECK_SIZE, shoe.remaining());
+        Set<Card> dealt = new HashSet<>();
+        while (shoe.remaining() > 0) {
+            dealt.add(shoe.deal());
+        }
+        Assertions.assertEquals(Card.DECK_SIZE, dealt.size());
+    }
+
+    private List<Card> dealAll(Shoe<Card> shoe) {
+        List<Card> dealt = new ArrayList<>();
+        while (shoe.remaining() > 0) {
+            dealt.add(shoe.deal());
+        }
+        return dealt;
+    }
+
+    /**
+     * Verifies the generator against the reference xoshiro256** outputs for the state {1, 2, 3, 4}.
+     */
+    @Test
+    public void xoshiroReferenceOutputs() {
+        Xoshiro256 random = new Xoshiro256(1, 2, 3, 4);
+
+        Assertions.assertEquals(11520L, random.nextLong());
+        Assertions.assertEquals(0L, random.nextLong());
+        Assertions.assertEquals(1509978240L, random.nextLong());
+        Assertions.assertEquals(1215971899390074240L, random.nextLong());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Xoshiro256(0, 0, 0, 0));
+    }
+
+    /**
+     * Ensures that jumped streams and split generators differ from their source and from each other.
+     */
+    @Test
+    public void independentStreams() {
+        Xoshiro256 random = new Xoshiro256(42);
+        long first = random.copy().nextLong();
+
+        Assertions.assertEquals(first, random.copy().nextLong());
+        Assertions.assertNotEquals(first, random.stream(0).nextLong());
+        Assertions.assertNotEquals(random.stream(0).nextLong(), random.stream(1).nextLong());
+        Assertions.assertEquals(random.stream(1).nextLong(), random.stream(1).nextLong());
+        Assertions.assertNotEquals(random.split().nextLong(), random.split().nextLong());
+    }
+
+    /**
+     * Ensures that shoes created from equally seeded generators deal the same cards, shuffle after shuffle.
+     */
+    @Test
+    public void seededShoesDealAlike() {
+        Shoe<Card> first = Shoe.createShoe(2, LetterDeck::new, 0.75, new Xoshiro256(7));
+        Shoe<Card> second = Shoe.createShoe(2, LetterDeck::new, 0.75, new Xoshiro256(7));
+        Shoe<Card> other = Shoe.createShoe(2, LetterDeck::new, 0.75, new Xoshiro256(8));
+
+        Assertions.assertEquals(first.getShuffleSeed(), second.getShuffleSeed());
+        Assertions.assertEquals(dealAll(first), dealAll(second));
+        Assertions.assertNotEquals(first.getShuffleSeed(), other.getShuffleSeed());
+
+        first.reshuffle();
+        second.reshuffle();
+        Assertions.assertEquals(dealAll(first), dealAll(second));
+    }
+
+    /**
+     * Verifies that reshuffling with a shoe's shuffle seed replays its order, however many cards were dealt.
+     */
+    @Test
+    public void reshuffleReplaysSeed() {
+        Shoe<Card> shoe = Shoe.createShoe(1, LetterDeck::new);
+        long seed = shoe.getShuffleSeed();
+        List<Card> order = dealAll(shoe);
+
+        shoe.reshuffle();
+        shoe.deal();
+        shoe.reshuffle(seed);
+
+        Assertions.assertEquals(seed, shoe.getShuffleSeed());
+        Assertions.assertEquals(order, dealAll(shoe));
+    }
+
+    /**
+     * Checks that every order of a three card shoe is about equally likely.
+     */
+    @Test
+    public void shuffleIsUniform() {
+        Shoe<Card> shoe = new Shoe<>(List.of(Card.of("A", "S"), Card.of("K", "H"), Card.of("2", "D")),
+                3, new Xoshiro256(3));
+        Map<List<Card>, Integer> counts = new HashMap<>();
+        int shuffles = 60_000;
+        for (int i = 0; i < shuffles; i++) {
+            shoe.reshuffle();
+            counts.merge(dealAll(shoe), 1, Integer::sum);
+        }
+
+        Assertions.assertEquals(6, counts.size());
+        for (int count : counts.values()) {
+            Assertions.assertEquals(shuffles / 6.0, count, shuffles * 0.01);
+        }
+    }
+}
@@ -7,11 +7,13 @@ import org.daniel.elysium.ultimateTH.constants.UthTripsState;
 import org.daniel.elysium.ultimateTH.model.UthCard;
 import org.daniel.elysium.ultimateTH.model.UthHand;
 import org.daniel.elysium.ultimateTH.model.UthPlayerHand;
+import org.daniel.elysium.ultimateTH.pokerCore.PokerHandEvaluator;
 import org.daniel.elysium.ultimateTH.pokerCore.models.PokerEvaluatedHandModel;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -253,6 +255,81 @@ public class UltimateTHTest {
                 playerHand.getEvaluatedHand().handCombination());
     }
 
+    /**
+     * Ensures that the Ace plays low in an A-2-3-4-5 straight (the wheel)
+     * and that the selected five cards form exactly that straight.
+     */
+    @Test
+    public void evaluateWheelStraight() {
+        List<UthCard> communityCards = new ArrayList<>();
+        communityCards.add(new UthCard("2", "S"));
+        communityCards.add(new UthCard("K", "D"));
+        communityCards.add(new UthCard("3", "S"));
+        communityCards.add(new UthCard("4", "D"));
+        communityCards.add(new UthCard("5", "C"));
+
+        UthPlayerHand playerHand = new UthPlayerHand();
+        playerHand.dealCard(new UthCard("A", "H"));
+        playerHand.dealCard(new UthCard("9", "C"));
+
+        UthGameEngine.evaluateHand(communityCards, playerHand);
+
+        Assertions.assertEquals(UthHandCombination.STRAIGHT,
+                playerHand.getEvaluatedHand().handCombination());
+        Assertions.assertEquals(List.of(5, 4, 3, 2, 14),
+                playerHand.getEvaluatedHand().cardCombination().stream().map(UthCard::getValue).toList());
+    }
+
+    /**
+     * Verifies that two sets of trips are read as a Full House,
+     * using the higher trips and two cards of the lower one.
+     */
+    @Test
+    public void evaluateFullHouseFromTwoTrips() {
+        List<UthCard> communityCards = new ArrayList<>();
+        communityCards.add(new UthCard("7", "S"));
+        communityCards.add(new UthCard("7", "D"));
+        communityCards.add(new UthCard("K", "S"));
+        communityCards.add(new UthCard("K", "D"));
+        communityCards.add(new UthCard("2", "C"));
+
+        UthPlayerHand playerHand = new UthPlayerHand();
+        playerHand.dealCard(new UthCard("7", "H"));
+        playerHand.dealCard(new UthCard("K", "C"));
+
+        UthGameEngine.evaluateHand(communityCards, playerHand);
+
+        Assertions.assertEquals(UthHandCombination.FULL_HOUSE,
+                playerHand.getEvaluatedHand().handCombination());
+        Assertions.assertEquals(List.of(13, 13, 13, 7, 7),
+                playerHand.getEvaluatedHand().cardCombination().stream().map(UthCard::getValue).toList());
+    }
+
+    /**
+     * Checks that the best five cards of a flush are the five highest cards of the flush suit,
+     * even when a sixth suited card is available.
+     */
+    @Test
+    public void evaluateFlushPicksHighestSuitedCards() {
+        List<UthCard> communityCards = new ArrayList<>();
+        communityCards.add(new UthCard("2", "H"));
+        communityCards.add(new UthCard("9", "H"));
+        communityCards.add(new UthCard("J", "H"));
+        communityCards.add(new UthCard("4", "H"));
+        communityCards.add(new UthCard("A", "S"));
+
+        UthPlayerHand playerHand = new UthPlayerHand();
+        playerHand.dealCard(new UthCard("6", "H"));
+        playerHand.dealCard(new UthCard("Q", "H"));
+
+        UthGameEngine.evaluateHand(communityCards, playerHand);
+
+        Assertions.assertEquals(UthHandCombination.FLUSH,
+                playerHand.getEvaluatedHand().handCombination());
+        Assertions.assertEquals(List.of(12, 11, 9, 6, 4),
+                playerHand.getEvaluatedHand().cardCombination().stream().map(UthCard::getValue).toList());
+    }
+
     /**
      * Checks that when both player and dealer have High Card hands,
      * the player wins if their highest card (Ace) beats the dealer's (King).
@@ -582,6 +659,71 @@ public class UltimateTHTest {
         Assertions.assertEquals(UthHandState.LOST, dealerHand.getState());
     }
 
+    /**
+     * Ensures that a Full House is ranked by its trips first:
+     * Kings full of Sevens beat Queens full of Aces.
+     */
+    @Test
+    public void result_FullHouse_vs_FullHouse_HigherTripsWins(){
+        List<UthCard> communityCards = new ArrayList<>();
+        communityCards.add(new UthCard("K", "S"));
+        communityCards.add(new UthCard("Q", "D"));
+        communityCards.add(new UthCard("7", "S"));
+        communityCards.add(new UthCard("7", "D"));
+        communityCards.add(new UthCard("2", "C"));
+
+        UthPlayerHand playerHand = new UthPlayerHand();
+        playerHand.dealCard(new UthCard("K", "H"));
+        playerHand.dealCard(new UthCard("K", "C"));
+
+        UthHand dealerHand = new UthHand();
+        dealerHand.dealCard(new UthCard("Q", "H"));
+        dealerHand.dealCard(new UthCard("Q", "C"));
+
+        UthGameEngine.evaluateHand(communityCards, playerHand);
+        UthGameEngine.evaluateHand(communityCards, dealerHand);
+
+        UthGameEngine.determineGameResults(playerHand, dealerHand);
+
+        Assertions.assertEquals(UthHandCombination.FULL_HOUSE, playerHand.getEvaluatedHand().handCombination());
+        Assertions.assertEquals(UthHandCombination.FULL_HOUSE, dealerHand.getEvaluatedHand().handCombination());
+
+        Assertions.assertEquals(UthHandState.WON, playerHand.getState());
+        Assertions.assertEquals(UthHandState.LOST, dealerHand.getState());
+    }
+
+    /**
+     * Checks that higher Quads win even when the lower Quads hold an Ace kicker.
+     */
+    @Test
+    public void result_Quads_vs_Quads_HigherQuadsBeatAceKicker(){
+        List<UthCard> communityCards = new ArrayList<>();
+        communityCards.add(new UthCard("2", "S"));
+        communityCards.add(new UthCard("2", "D"));
+        communityCards.add(new UthCard("2", "H"));
+        communityCards.add(new UthCard("3", "S"));
+        communityCards.add(new UthCard("3", "D"));
+
+        UthPlayerHand playerHand = new UthPlayerHand();
+        playerHand.dealCard(new UthCard("3", "H"));
+        playerHand.dealCard(new UthCard("3", "C"));
+
+        UthHand dealerHand = new UthHand();
+        dealerHand.dealCard(new UthCard("2", "C"));
+        dealerHand.dealCard(new UthCard("A", "C"));
+
+        UthGameEngine.evaluateHand(communityCards, playerHand);
+        UthGameEngine.evaluateHand(communityCards, dealerHand);
+
+        UthGameEngine.determineGameResults(playerHand, dealerHand);
+
+        Assertions.assertEquals(UthHandCombination.QUADS, playerHand.getEvaluatedHand().handCombination());
+        Assertions.assertEquals(UthHandCombination.QUADS, dealerHand.getEvaluatedHand().handCombination());
+
+        Assertions.assertEquals(UthHandState.WON, playerHand.getState());
+        Assertions.assertEquals(UthHandState.LOST, dealerHand.getState());
+    }
+
     /**
      * Checks that Quads (four of a kind) vs. Quads can still produce
      * a single winner (player's quads rank is higher).
@@ -686,8 +828,7 @@ public class UltimateTHTest {
      */
     @Test
     public void evaluateTrips_LessThanTrips() {
-        PokerEvaluatedHandModel model = new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.TWO_PAIR);
+        PokerEvaluatedHandModel model = evaluated(UthHandCombination.TWO_PAIR);
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setEvaluatedHand(model);
         playerHand.setTrips(100);
@@ -704,8 +845,7 @@ public class UltimateTHTest {
      */
     @Test
     public void evaluateTrips_Trips() {
-        PokerEvaluatedHandModel model = new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.TRIPS);
+        PokerEvaluatedHandModel model = evaluated(UthHandCombination.TRIPS);
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setEvaluatedHand(model);
         playerHand.setTrips(100);
@@ -722,8 +862,7 @@ public class UltimateTHTest {
      */
     @Test
     public void evaluateTrips_Straight() {
-        PokerEvaluatedHandModel model = new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.STRAIGHT);
+        PokerEvaluatedHandModel model = evaluated(UthHandCombination.STRAIGHT);
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setEvaluatedHand(model);
         playerHand.setTrips(100);
@@ -740,8 +879,7 @@ public class UltimateTHTest {
      */
     @Test
     public void evaluateTrips_Flush() {
-        PokerEvaluatedHandModel model = new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.FLUSH);
+        PokerEvaluatedHandModel model = evaluated(UthHandCombination.FLUSH);
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setEvaluatedHand(model);
         playerHand.setTrips(100);
@@ -758,8 +896,7 @@ public class UltimateTHTest {
      */
     @Test
     public void evaluateTrips_FullHouse() {
-        PokerEvaluatedHandModel model = new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.FULL_HOUSE);
+        PokerEvaluatedHandModel model = evaluated(UthHandCombination.FULL_HOUSE);
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setEvaluatedHand(model);
         playerHand.setTrips(100);
@@ -776,8 +913,7 @@ public class UltimateTHTest {
      */
     @Test
     public void evaluateTrips_Quads() {
-        PokerEvaluatedHandModel model = new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.QUADS);
+        PokerEvaluatedHandModel model = evaluated(UthHandCombination.QUADS);
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setEvaluatedHand(model);
         playerHand.setTrips(100);
@@ -794,8 +930,7 @@ public class UltimateTHTest {
      */
     @Test
     public void evaluateTrips_StraightFlush() {
-        PokerEvaluatedHandModel model = new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.STRAIGHT_FLUSH);
+        PokerEvaluatedHandModel model = evaluated(UthHandCombination.STRAIGHT_FLUSH);
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setEvaluatedHand(model);
         playerHand.setTrips(100);
@@ -812,8 +947,7 @@ public class UltimateTHTest {
      */
     @Test
     public void evaluateTrips_RoyalFlush() {
-        PokerEvaluatedHandModel model = new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.ROYAL_FLUSH);
+        PokerEvaluatedHandModel model = evaluated(UthHandCombination.ROYAL_FLUSH);
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setEvaluatedHand(model);
         playerHand.setTrips(100);
@@ -836,8 +970,7 @@ public class UltimateTHTest {
         playerHand.setState(UthHandState.LOST);
 
         UthHand dealerHand = new UthHand();
-        dealerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.PAIR));
+        dealerHand.setEvaluatedHand(evaluated(UthHandCombination.PAIR));
         dealerHand.setState(UthHandState.WON);
 
         UthGameEngine.processResults(playerHand, dealerHand);
@@ -860,8 +993,7 @@ public class UltimateTHTest {
         playerHand.setState(UthHandState.LOST);
 
         UthHand dealerHand = new UthHand();
-        dealerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.HIGH_CARD));
+        dealerHand.setEvaluatedHand(evaluated(UthHandCombination.HIGH_CARD));
         dealerHand.setState(UthHandState.WON);
 
         UthGameEngine.processResults(playerHand, dealerHand);
@@ -882,13 +1014,11 @@ public class UltimateTHTest {
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setBet(100);
         playerHand.setPlay(400);
-        playerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.HIGH_CARD));
+        playerHand.setEvaluatedHand(evaluated(UthHandCombination.HIGH_CARD));
         playerHand.setState(UthHandState.WON);
 
         UthHand dealerHand = new UthHand();
-        dealerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.HIGH_CARD));
+        dealerHand.setEvaluatedHand(evaluated(UthHandCombination.HIGH_CARD));
         dealerHand.setState(UthHandState.LOST);
 
         UthGameEngine.processResults(playerHand, dealerHand);
@@ -907,13 +1037,11 @@ public class UltimateTHTest {
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setBet(100);
         playerHand.setPlay(400);
-        playerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.PAIR));
+        playerHand.setEvaluatedHand(evaluated(UthHandCombination.PAIR));
         playerHand.setState(UthHandState.WON);
 
         UthHand dealerHand = new UthHand();
-        dealerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.PAIR));
+        dealerHand.setEvaluatedHand(evaluated(UthHandCombination.PAIR));
         dealerHand.setState(UthHandState.LOST);
 
         UthGameEngine.processResults(playerHand, dealerHand);
@@ -932,13 +1060,11 @@ public class UltimateTHTest {
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setBet(100);
         playerHand.setPlay(400);
-        playerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.STRAIGHT));
+        playerHand.setEvaluatedHand(evaluated(UthHandCombination.STRAIGHT));
         playerHand.setState(UthHandState.WON);
 
         UthHand dealerHand = new UthHand();
-        dealerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.PAIR));
+        dealerHand.setEvaluatedHand(evaluated(UthHandCombination.PAIR));
         dealerHand.setState(UthHandState.LOST);
 
         UthGameEngine.processResults(playerHand, dealerHand);
@@ -957,13 +1083,11 @@ public class UltimateTHTest {
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setBet(100);
         playerHand.setPlay(400);
-        playerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.FLUSH));
+        playerHand.setEvaluatedHand(evaluated(UthHandCombination.FLUSH));
         playerHand.setState(UthHandState.WON);
 
         UthHand dealerHand = new UthHand();
-        dealerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.PAIR));
+        dealerHand.setEvaluatedHand(evaluated(UthHandCombination.PAIR));
         dealerHand.setState(UthHandState.LOST);
 
         UthGameEngine.processResults(playerHand, dealerHand);
@@ -982,13 +1106,11 @@ public class UltimateTHTest {
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setBet(100);
         playerHand.setPlay(400);
-        playerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.FULL_HOUSE));
+        playerHand.setEvaluatedHand(evaluated(UthHandCombination.FULL_HOUSE));
         playerHand.setState(UthHandState.WON);
 
         UthHand dealerHand = new UthHand();
-        dealerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.PAIR));
+        dealerHand.setEvaluatedHand(evaluated(UthHandCombination.PAIR));
         dealerHand.setState(UthHandState.LOST);
 
         UthGameEngine.processResults(playerHand, dealerHand);
@@ -1007,13 +1129,11 @@ public class UltimateTHTest {
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setBet(100);
         playerHand.setPlay(400);
-        playerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.QUADS));
+        playerHand.setEvaluatedHand(evaluated(UthHandCombination.QUADS));
         playerHand.setState(UthHandState.WON);
 
         UthHand dealerHand = new UthHand();
-        dealerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.PAIR));
+        dealerHand.setEvaluatedHand(evaluated(UthHandCombination.PAIR));
         dealerHand.setState(UthHandState.LOST);
 
         UthGameEngine.processResults(playerHand, dealerHand);
@@ -1032,13 +1152,11 @@ public class UltimateTHTest {
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setBet(100);
         playerHand.setPlay(400);
-        playerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.STRAIGHT_FLUSH));
+        playerHand.setEvaluatedHand(evaluated(UthHandCombination.STRAIGHT_FLUSH));
         playerHand.setState(UthHandState.WON);
 
         UthHand dealerHand = new UthHand();
-        dealerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.PAIR));
+        dealerHand.setEvaluatedHand(evaluated(UthHandCombination.PAIR));
         dealerHand.setState(UthHandState.LOST);
 
         UthGameEngine.processResults(playerHand, dealerHand);
@@ -1057,13 +1175,11 @@ public class UltimateTHTest {
         UthPlayerHand playerHand = new UthPlayerHand();
         playerHand.setBet(100);
         playerHand.setPlay(400);
-        playerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.ROYAL_FLUSH));
+        playerHand.setEvaluatedHand(evaluated(UthHandCombination.ROYAL_FLUSH));
         playerHand.setState(UthHandState.WON);
 
         UthHand dealerHand = new UthHand();
-        dealerHand.setEvaluatedHand(new PokerEvaluatedHandModel(
-                new ArrayList<>(), null, UthHandCombination.PAIR));
+        dealerHand.setEvaluatedHand(evaluated(UthHandCombination.PAIR));
         dealerHand.setState(UthHandState.LOST);
 
         UthGameEngine.processResults(playerHand, dealerHand);
@@ -1072,5 +1188,91 @@ public class UltimateTHTest {
         Assertions.assertEquals(50100, playerHand.getBlind());
         Assertions.assertEquals(800, playerHand.getPlay());
     }
-}
 
+    /**
+     * Verifies that processing the payouts of many hands in a batch updates the bets of every hand
+     * exactly as {@link UthGameEngine#processResults(UthPlayerHand, UthHand)} does, for every hand state
+     * and every combination a player and a dealer hand can evaluate to.
+     */
+    @Test
+    public void batchPayoutsMatchProcessResults() {
+        UthHandState[] states = UthHandState.values();
+        UthHandCombination[] combinations = Arrays.stream(UthHandCombination.values())
+                .filter(combination -> combination != UthHandCombination.UNDEFINED)
+                .toArray(UthHandCombination[]::new);
+        int count = states.length * combinations.length * combinations.length;
+        int[] antes = new int[count];
+        int[] blinds = new int[count];
+        int[] plays = new int[count];
+        byte[] handStates = new byte[count];
+        byte[] playerCombinations = new byte[count];
+        byte[] dealerCombinations = new byte[count];
+        List<UthPlayerHand> expected = new ArrayList<>();
+
+        int index = 0;
+        for (UthHandState state : states) {
+            for (UthHandCombination player : combinations) {
+                for (UthHandCombination dealer : combinations) {
+                    UthPlayerHand playerHand = new UthPlayerHand();
+                    playerHand.setBet(100);
+                    playerHand.setPlay(300);
+                    playerHand.setState(state);
+                    playerHand.setEvaluatedHand(evaluated(player));
+                    UthHand dealerHand = new UthHand();
+                    dealerHand.setEvaluatedHand(evaluated(dealer));
+                    UthGameEngine.processResults(playerHand, dealerHand);
+                    expected.add(playerHand);
+
+                    antes[index] = 100;
+                    blinds[index] = 100;
+                    plays[index] = 300;
+                    handStates[index] = (byte) state.ordinal();
+                    playerCombinations[index] = (byte) player.ordinal();
+                    dealerCombinations[index++] = (byte) dealer.ordinal();
+                }
+            }
+        }
+
+        UthGameEngine.processResults(count, antes, blinds, plays, handStates, playerCombinations, dealerCombinations);
+        for (int i = 0; i < count; i++) {
+            Assertions.assertEquals(expected.get(i).getAnte(), antes[i]);
+            Assertions.assertEquals(expected.get(i).getBlind(), blinds[i]);
+            Assertions.assertEquals(expected.get(i).getPlay(), plays[i]);
+        }
+    }
+
+    /**
+     * Evaluates a seven-card hand forming the given combination, so the model carries the strength
+     * {@link PokerHandEvaluator} would give it.
+     */
+    private static PokerEvaluatedHandModel evaluated(UthHandCombination combination) {
+        String[] cards = switch (combination) {
+            case HIGH_CARD -> new String[]{"A S", "9 D", "7 C", "4 H", "2 S", "J D", "6 C"};
+            case PAIR -> new String[]{"A S", "A D", "9 C", "7 H", "4 S", "J D", "2 C"};
+            case TWO_PAIR -> new String[]{"A S", "A D", "9 C", "9 H", "4 S", "J D", "2 C"};
+            case TRIPS -> new String[]{"A S", "A D", "A C", "9 H", "4 S", "J D", "2 C"};
+            case STRAIGHT -> new String[]{"9 S", "8 D", "7 C", "6 H", "5 S", "J D", "2 C"};
+            case FLUSH -> new String[]{"A S", "J S", "9 S", "7 S", "2 S", "4 D", "3 C"};
+            case FULL_HOUSE -> new String[]{"A S", "A D", "A C", "9 H", "9 S", "J D", "2 C"};
+            case QUADS -> new String[]{"A S", "A D", "A C", "A H", "9 S", "J D", "2 C"};
+            case STRAIGHT_FLUSH -> new String[]{"9 S", "8 S", "7 S", "6 S", "5 S", "J D", "2 C"};
+            case ROYAL_FLUSH -> new String[]{"A S", "K S", "Q S", "J S", "10 S", "4 D", "2 C"};
+            default -> throw new IllegalArgumentException("No hand evaluates to " + combination);
+        };
+
+        List<UthCard> communityCards = new ArrayList<>();
+        UthHand hand = new UthHand();
+        for (int i = 0; i < cards.length; i++) {
+            String[] card = cards[i].split(" ");
+            if (i < 5) {
+                communityCards.add(new UthCard(card[0], card[1]));
+            } else {
+                hand.dealCard(new UthCard(card[0], card[1]));
+            }
+        }
+
+        PokerEvaluatedHandModel model = PokerHandEvaluator.evaluateHand(communityCards, hand);
+        Assertions.assertEquals(combination, model.handCombination());
+        return model;
+    }
+}
@@ -6,6 +6,7 @@ import org.daniel.elysium.user.profile.UserProfile;
 import org.junit.jupiter.api.*;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -221,4 +222,46 @@ public class UserDAOTest {
         UserProfile removed = userDAO.getUserByUsername("eve");
         assertNull(removed, "Should be null because the user was deleted");
     }
+
+    /**
+     * Test that connections are opened in WAL journal mode, which the persistent
+     * per-thread connections rely on to read while another thread writes.
+     */
+    @Test
+    @Order(10)
+    void testJournalModeIsWal() throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA journal_mode")) {
+            assertTrue(rs.next());
+            assertEquals("wal", rs.getString(1).toLowerCase());
+        }
+    }
+
+    /**
+     * Test that balance updates made on other threads' persistent connections are visible
+     * on this thread, and that closing this thread's connection reopens it transparently.
+     */
+    @Test
+    @Order(11)
+    void testBalanceUpdatesAcrossThreads() throws InterruptedException {
+        UserProfile user = userDAO.addUser("frank", "pwd", 0.0);
+        assertNotNull(user);
+
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= 100; i++) {
+                userDAO.updateBalance(user, "frank", i);
+            }
+            DatabaseConnection.closeThreadConnection();
+        });
+        writer.start();
+        writer.join();
+
+        assertEquals(100.0, userDAO.getUserByUsername("frank").getBalance(), 1e-9);
+
+        DatabaseConnection.closeThreadConnection();
+        userDAO.updateBalance(user, "frank", 250.0);
+        assertEquals(250.0, userDAO.getUserByUsername("frank").getBalance(), 1e-9,
+                "A closed thread connection should be reopened on the next statement");
+    }
 }
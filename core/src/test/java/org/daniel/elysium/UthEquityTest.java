@@ -0,0 +1,96 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.ultimateTH.UthEquityCalculator;
+import org.daniel.elysium.ultimateTH.constants.UthGameStage;
+import org.daniel.elysium.ultimateTH.model.UthCard;
+import org.daniel.elysium.ultimateTH.model.UthEquity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Test class for the {@link UthEquityCalculator}, covering the exact enumeration from the flop on
+ * and the sampled estimate before it.
+ */
+public class UthEquityTest {
+
+    /**
+     * Ensures that an unbeatable hand on the river wins against all 990 possible dealer hands.
+     */
+    @Test
+    public void riverNutsWinsEveryShowdown() {
+        List<UthCard> hole = List.of(new UthCard("A", "H"), new UthCard("A", "D"));
+        List<UthCard> board = List.of(new UthCard("A", "S"), new UthCard("A", "C"),
+                new UthCard("K", "D"), new UthCard("2", "H"), new UthCard("3", "C"));
+
+        UthEquity equity = UthEquityCalculator.calculate(hole, board);
+
+        Assertions.assertTrue(equity.exact());
+        Assertions.assertEquals(990, equity.total());
+        Assertions.assertEquals(990, equity.wins());
+        Assertions.assertEquals(1.0, equity.equity());
+    }
+
+    /**
+     * Ensures that a Royal Flush on the board splits every showdown.
+     */
+    @Test
+    public void royalFlushOnBoardTies() {
+        List<UthCard> hole = List.of(new UthCard("2", "H"), new UthCard("3", "D"));
+        List<UthCard> board = List.of(new UthCard("A", "S"), new UthCard("K", "S"),
+                new UthCard("Q", "S"), new UthCard("J", "S"), new UthCard("10", "S"));
+
+        UthEquity equity = UthEquityCalculator.calculate(hole, board);
+
+        Assertions.assertEquals(990, equity.ties());
+        Assertions.assertEquals(0.5, equity.equity());
+    }
+
+    /**
+     * Verifies that the flop enumerates every turn and river pair against every dealer hand,
+     * and that only the exposed community cards are used at each stage.
+     */
+    @Test
+    public void flopEnumeratesEveryCompletion() {
+        List<UthCard> hole = List.of(new UthCard("A", "H"), new UthCard("A", "D"));
+        List<UthCard> community = List.of(new UthCard("7", "S"), new UthCard("8", "C"),
+                new UthCard("2", "D"), new UthCard("K", "H"), new UthCard("4", "S"));
+
+        UthEquity flop = UthEquityCalculator.calculate(hole, community, UthGameStage.FLOP);
+
+        Assertions.assertTrue(flop.exact());
+        Assertions.assertEquals(1081L * 990, flop.total());
+        Assertions.assertEquals(flop, UthEquityCalculator.calculate(hole, community.subList(0, 3)));
+        Assertions.assertTrue(flop.winProbability() > 0.8 && flop.winProbability() < 0.9);
+    }
+
+    /**
+     * Checks that the preflop estimate of pocket aces agrees with its known equity of about 85%.
+     */
+    @Test
+    public void preflopEstimateOfPocketAces() {
+        List<UthCard> hole = List.of(new UthCard("A", "H"), new UthCard("A", "D"));
+
+        UthEquity equity = UthEquityCalculator.calculate(hole, List.of());
+
+        Assertions.assertFalse(equity.exact());
+        Assertions.assertEquals(UthEquityCalculator.PREFLOP_SAMPLES, equity.total());
+        Assertions.assertEquals(0.852, equity.equity(), 0.01);
+    }
+
+    /**
+     * Ensures that repeated cards and malformed hands are rejected.
+     */
+    @Test
+    public void rejectsInvalidCards() {
+        List<UthCard> hole = List.of(new UthCard("A", "H"), new UthCard("A", "D"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UthEquityCalculator.calculate(hole,
+                List.of(new UthCard("A", "H"), new UthCard("2", "C"), new UthCard("3", "C"))));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> UthEquityCalculator.calculate(hole.subList(0, 1), List.of()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> UthEquityCalculator.estimate(hole, List.of(), 0));
+    }
+}
@@ -2,17 +2,20 @@ package org.daniel.elysium;
 
 import org.daniel.elysium.assets.AssetManager;
 import org.daniel.elysium.assets.BackgroundAsset;
+import org.daniel.elysium.assets.CardAtlas;
 import org.daniel.elysium.assets.LogoAsset;
 import org.daniel.elysium.debugUtils.DebugLevel;
 import org.daniel.elysium.debugUtils.DebugPrint;
 import org.daniel.elysium.games.baccarat.BaccaratPanel;
 import org.daniel.elysium.games.blackjack.BlackjackPanel;
 import org.daniel.elysium.games.ultimateTH.UltimatePanel;
+import org.daniel.elysium.models.cards.UICard;
 import org.daniel.elysium.screens.*;
 import org.daniel.elysium.user.database.DatabaseConnection;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The main launcher for the Elysium Casino application.
@@ -23,6 +26,8 @@ public class UILauncher {
 
     // Instance reference to the splash screen
     private JWindow splashScreen;
+    // Instance reference to the splash screen's loading text
+    private JLabel loadingLabel;
     // Instance reference to the main frame
     private JFrame frame;
 
@@ -49,6 +54,10 @@ public class UILauncher {
             protected void done() {
                 hideSplashScreen(); // Hide the splash screen
                 showMainApplication(); // Show the main app
+
+                // Decode the card and result images and pack the card atlas in the background before a game needs them
+                AssetManager.preload(AssetManager.GAME_ASSETS, null)
+                        .thenRun(() -> CardAtlas.forSize(UICard.defaultDimension));
             }
         };
 
@@ -66,7 +75,7 @@ public class UILauncher {
         splashImage.setLayout(new BorderLayout());
 
         // Add a loading text
-        JLabel loadingLabel = new JLabel("Loading...", SwingConstants.CENTER);
+        loadingLabel = new JLabel("Loading...", SwingConstants.CENTER);
         loadingLabel.setFont(new Font("Roboto", Font.BOLD, 20));
         loadingLabel.setForeground(Color.WHITE);
         loadingLabel.setOpaque(false);
@@ -79,6 +88,18 @@ public class UILauncher {
         splashScreen.setVisible(true);
     }
 
+    /**
+     * Shows the asset loading progress on the splash screen.
+     * Called from the asset loader threads.
+     *
+     * @param loaded The number of assets loaded so far.
+     * @param total  The number of assets to load.
+     */
+    private void updateLoadingProgress(int loaded, int total) {
+        String text = "Loading... " + (loaded * 100 / total) + "%";
+        SwingUtilities.invokeLater(() -> loadingLabel.setText(text));
+    }
+
     /**
      * Hides and disposes of the splash screen once the application has finished loading.
      */
@@ -91,6 +112,7 @@ public class UILauncher {
 
     /**
      * Initializes the core components of the application, including:
+     * - Decoding the assets of the first screens in parallel
      * - Connecting to the database
      * - Setting the application theme based on the OS
      * - Creating the main application frame
@@ -98,9 +120,11 @@ public class UILauncher {
      * - Setting up the application's entry point
      */
     private void initializeApplication() {
-        // Perform startup tasks
+        // Perform startup tasks, loading the first screens' assets while the database initializes
+        CompletableFuture<Void> assets = AssetManager.preload(AssetManager.STARTUP_ASSETS, this::updateLoadingProgress);
         DatabaseConnection.initializeDatabase();
         DebugPrint.getInstance(DebugLevel.DISABLED); // Set to Disabled in production
+        assets.join();
 
         // Set the look and feel to match the OS
         try {
@@ -1,11 +1,19 @@
 package org.daniel.elysium.assets;
 
 /**
- * Marker interface for all asset types in the game.
+ * Common interface for all asset types in the game.
  * This interface is used to unify asset behavior and allow for consistent asset management.
  *
  * <p>Classes implementing this interface should represent different asset categories
- * such as images, sounds, or other game resources.</p>
+ * such as images, sounds, or other game resources. Their {@code toString()} returns the
+ * asset's file name within its {@link #getDirectory() directory}.</p>
  */
 public interface Asset {
+
+    /**
+     * Returns the directory under {@code assets/} that contains the asset's file.
+     *
+     * @return The resource directory name.
+     */
+    String getDirectory();
 }
@@ -2,26 +2,69 @@ package org.daniel.elysium.assets;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 /**
  * Manages the loading and caching of game assets such as images and icons.
  * This class provides utility methods to retrieve raw and scaled assets.
+ * Scaled images are kept in a {@link ScaledImageCache}, so each size of an asset is only scaled once.
+ * <p>
+ * Assets are decoded lazily: groups of assets can be preloaded in parallel on a pool of loader
+ * threads, and any asset that is requested before it was preloaded is decoded on the spot.
+ * Each asset is decoded only once, even if it is requested and preloaded at the same time.
+ * </p>
  */
 public class AssetManager {
 
-    /** Cache for storing loaded images. */
-    private static final Map<Asset, Image> imageCache = new HashMap<>();
-
-    // Load all assets statically into the cache
-    static {
-        ChipAsset.loadAssets(imageCache);
-        ButtonAsset.loadAssets(imageCache);
-        BackgroundAsset.loadAssets(imageCache);
-        CardAsset.loadAssets(imageCache);
-        ResultAsset.loadAssets(imageCache);
-        LogoAsset.loadAssets(imageCache);
+    /** Assets needed by the splash, login and menu screens and by the game tables' chip panels. */
+    public static final List<Asset> STARTUP_ASSETS = AssetUtility.assetsOf(
+            BackgroundAsset.class, LogoAsset.class, ButtonAsset.class, ChipAsset.class);
+
+    /** Assets only needed once a game is played. */
+    public static final List<Asset> GAME_ASSETS = AssetUtility.assetsOf(
+            CardAsset.class, ResultAsset.class);
+
+    /** Cache for storing loaded images, completed once an asset is decoded. */
+    private static final Map<Asset, CompletableFuture<Image>> imageCache = new ConcurrentHashMap<>();
+
+    /** Cache for storing scaled images, keyed by asset and size. */
+    private static final ScaledImageCache scaledCache = new ScaledImageCache(ScaledImageCache.DEFAULT_BUDGET_BYTES);
+
+    /** Pool of daemon threads decoding preloaded assets. */
+    private static final ExecutorService loader = createLoader();
+
+    /* ======================
+       Preloading
+       ====================== */
+
+    /**
+     * Decodes the given assets in parallel on the loader threads.
+     *
+     * @param assets   The assets to load.
+     * @param progress Called with the number of loaded assets and the total after each asset,
+     *                 from a loader thread; may be {@code null}.
+     * @return A future completed once all assets are loaded.
+     */
+    public static CompletableFuture<Void> preload(Collection<? extends Asset> assets, BiConsumer<Integer, Integer> progress) {
+        int total = assets.size();
+        AtomicInteger loaded = new AtomicInteger();
+        CompletableFuture<?>[] tasks = assets.stream()
+                .map(asset -> CompletableFuture.runAsync(() -> {
+                    load(asset);
+                    if (progress != null) {
+                        progress.accept(loaded.incrementAndGet(), total);
+                    }
+                }, loader))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(tasks);
     }
 
     /**
@@ -37,9 +80,8 @@ public class AssetManager {
             dimension.height = 1080; // Default height
         }
 
-        Image image = getImage(assetName);
-        if (image != null) {
-            Image scaled = image.getScaledInstance(dimension.width, dimension.height, Image.SCALE_SMOOTH);
+        Image scaled = getScaledImage(assetName, dimension);
+        if (scaled != null) {
             return new ImageIcon(scaled);
         } else {
             return null;
@@ -48,6 +90,7 @@ public class AssetManager {
 
     /**
      * Retrieves a scaled {@link Image} from the cached assets.
+     * The returned image is shared, so callers must not draw on it.
      *
      * @param assetName The {@link Asset} to retrieve.
      * @param dimension The desired dimensions for scaling.
@@ -61,20 +104,21 @@ public class AssetManager {
 
         Image image = getImage(assetName);
         if (image != null) {
-            return image.getScaledInstance(dimension.width, dimension.height, Image.SCALE_SMOOTH);
+            return scaledCache.get(assetName, image, dimension.width, dimension.height);
         } else {
             return null;
         }
     }
 
     /**
-     * Retrieves the raw {@link Image} associated with the given asset.
+     * Retrieves the raw {@link Image} associated with the given asset,
+     * decoding it first if it has not been loaded yet.
      *
      * @param assetName The {@link Asset} to retrieve.
      * @return The {@link Image} if found, otherwise {@code null}.
      */
     public static Image getImage(Asset assetName) {
-        return imageCache.get(assetName);
+        return load(assetName);
     }
 
     /**
@@ -84,7 +128,41 @@ public class AssetManager {
      * @return The {@link ImageIcon} if found, otherwise {@code null}.
      */
     public static ImageIcon getIcon(Asset assetName) {
-        return new ImageIcon(imageCache.get(assetName));
+        return new ImageIcon(getImage(assetName));
+    }
+
+    /* ======================
+       Helper Methods
+       ====================== */
+
+    /**
+     * Returns the image of an asset, decoding it on the calling thread unless another thread
+     * already started to. A preload task that runs after the asset was loaded on demand does nothing.
+     */
+    private static Image load(Asset asset) {
+        CompletableFuture<Image> future = imageCache.get(asset);
+        if (future == null) {
+            CompletableFuture<Image> claimed = new CompletableFuture<>();
+            future = imageCache.putIfAbsent(asset, claimed);
+            if (future == null) {
+                Image image = AssetUtility.loadImage(asset);
+                claimed.complete(image);
+                return image;
+            }
+        }
+        return future.join();
+    }
+
+    /**
+     * Creates the pool of daemon threads that decode preloaded assets, one per core.
+     */
+    private static ExecutorService createLoader() {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 }
 
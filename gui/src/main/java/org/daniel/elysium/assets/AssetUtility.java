@@ -2,38 +2,56 @@ package org.daniel.elysium.assets;
 
 import org.daniel.elysium.debugUtils.DebugPrint;
 
-import javax.swing.*;
+import javax.imageio.ImageIO;
 import java.awt.*;
-import java.util.Map;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
- * Utility class for loading assets into a cache.
- * This class provides a generic method to load assets from an {@link Enum} that implements {@link Asset}.
+ * Utility class for loading assets.
+ * This class provides methods to decode a single {@link Asset} and to list the assets of
+ * enumerations that implement {@link Asset}.
  */
 public class AssetUtility {
 
+    static {
+        // Decode straight from memory instead of through temporary files
+        ImageIO.setUseCache(false);
+    }
+
     /**
-     * Loads assets from a specified directory and stores them in the provided cache.
-     * This method is designed for use with enumerations that implement the {@link Asset} interface.
+     * Decodes the image of an asset from its resource file.
+     * This method is thread-safe, so several assets can be decoded in parallel.
      *
-     * @param <E>        The type of enum implementing {@link Asset}.
-     * @param imageCache The cache where loaded images will be stored.
-     * @param dir        The directory where the assets are located.
-     * @param enumClass  The enumeration class containing asset definitions.
+     * @param asset The asset to load.
+     * @return The decoded image, or {@code null} if it could not be loaded.
      */
-    public static <E extends Enum<E> & Asset> void loadAssets(Map<Asset, Image> imageCache, String dir, Class<E> enumClass) {
-        for (E asset : enumClass.getEnumConstants()) {
-            try {
-                String resourcePath = "assets/" + dir + "/" + asset.toString();
-                ImageIcon icon = new ImageIcon(
-                        Objects.requireNonNull(
-                                AssetManager.class.getClassLoader().getResource(resourcePath)));
-                imageCache.put(asset, icon.getImage());
-            } catch (Exception e) {
-                DebugPrint.println("Failed to load asset: " + asset + " from " + dir);
-            }
+    public static Image loadImage(Asset asset) {
+        String resourcePath = "assets/" + asset.getDirectory() + "/" + asset;
+        try {
+            URL resource = Objects.requireNonNull(AssetUtility.class.getClassLoader().getResource(resourcePath));
+            return ImageIO.read(resource);
+        } catch (Exception e) {
+            DebugPrint.println("Failed to load asset: " + asset + " from " + asset.getDirectory());
+            return null;
         }
     }
-}
 
+    /**
+     * Lists all assets of the given enumerations, in declaration order.
+     *
+     * @param enumClasses The enumeration classes containing asset definitions.
+     * @return The assets of all given enumerations.
+     */
+    @SafeVarargs
+    public static List<Asset> assetsOf(Class<? extends Asset>... enumClasses) {
+        List<Asset> assets = new ArrayList<>();
+        for (Class<? extends Asset> enumClass : enumClasses) {
+            Collections.addAll(assets, enumClass.getEnumConstants());
+        }
+        return assets;
+    }
+}
@@ -1,8 +1,5 @@
 package org.daniel.elysium.assets;
 
-import java.awt.*;
-import java.util.Map;
-
 /**
  * Enum representing background assets used in the game.
  * Each asset corresponds to a background image resource.
@@ -31,12 +28,13 @@ public enum BackgroundAsset implements Asset {
     SPLASH_SCREEN;
 
     /**
-     * Loads all background assets from the respective resource directory.
+     * Returns the resource directory that holds all background assets.
      *
-     * @param imageCache The cache where the loaded images will be stored.
+     * @return The directory name, "backgrounds".
      */
-    public static void loadAssets(Map<Asset, Image> imageCache) {
-        AssetUtility.loadAssets(imageCache, "backgrounds", BackgroundAsset.class);
+    @Override
+    public String getDirectory() {
+        return "backgrounds";
     }
 
     /**
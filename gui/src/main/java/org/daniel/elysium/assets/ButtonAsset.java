@@ -1,8 +1,5 @@
 package org.daniel.elysium.assets;
 
-import java.awt.*;
-import java.util.Map;
-
 /**
  * Enum representing button assets used in the game.
  * Each asset corresponds to a different button style or color variation.
@@ -28,12 +25,13 @@ public enum ButtonAsset implements Asset {
     BUTTON_GREY_ROUND;
 
     /**
-     * Loads all button assets from the respective resource directory.
+     * Returns the resource directory that holds all button assets.
      *
-     * @param imageCache The cache where the loaded images will be stored.
+     * @return The directory name, "buttons".
      */
-    public static void loadAssets(Map<Asset, Image> imageCache) {
-        AssetUtility.loadAssets(imageCache, "buttons", ButtonAsset.class);
+    @Override
+    public String getDirectory() {
+        return "buttons";
     }
 
     /**
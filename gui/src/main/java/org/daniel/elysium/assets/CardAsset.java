@@ -1,8 +1,5 @@
 package org.daniel.elysium.assets;
 
-import java.awt.*;
-import java.util.Map;
-
 /**
  * Enum representing card assets used in the game.
  * Each asset corresponds to an image file of a standard playing card.
@@ -40,12 +37,13 @@ public enum CardAsset implements Asset {
     BC;
 
     /**
-     * Loads all card assets from the respective resource directory.
+     * Returns the resource directory that holds all card assets.
      *
-     * @param imageCache The cache where the loaded images will be stored.
+     * @return The directory name, "cards".
      */
-    public static void loadAssets(Map<Asset, Image> imageCache) {
-        AssetUtility.loadAssets(imageCache, "cards", CardAsset.class);
+    @Override
+    public String getDirectory() {
+        return "cards";
     }
 
     /**
@@ -0,0 +1,138 @@
+package org.daniel.elysium.assets;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A sprite sheet holding every card face and the card back at one size.
+ * <p>
+ * All 53 {@link CardAsset} images are scaled once and packed into a single screen-compatible
+ * image, one suit per row in {@link CardAsset} order with the back in the last row. Card
+ * components draw their region of the sheet, so all cards on the table share one texture
+ * instead of holding a scaled copy each, and dealing a card needs no scaling at all.
+ * </p>
+ */
+public class CardAtlas {
+
+    /** The number of cards in each row of the sheet, one row per suit. */
+    private static final int COLUMNS = 13;
+
+    /** One atlas per card size in use. */
+    private static final Map<Dimension, CardAtlas> atlases = new ConcurrentHashMap<>();
+
+    private final BufferedImage sheet;
+    private final int cardWidth;
+    private final int cardHeight;
+    private final Icon[] icons;
+
+    /**
+     * Packs all cards, scaled to the given size, into a new sheet.
+     *
+     * @param cardWidth  the width of each card
+     * @param cardHeight the height of each card
+     */
+    private CardAtlas(int cardWidth, int cardHeight) {
+        CardAsset[] cards = CardAsset.values();
+        int rows = (cards.length + COLUMNS - 1) / COLUMNS;
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+        this.sheet = ScaledImageCache.createCompatibleImage(COLUMNS * cardWidth, rows * cardHeight);
+        this.icons = new Icon[cards.length];
+
+        Graphics2D g2d = sheet.createGraphics();
+        for (CardAsset card : cards) {
+            Image image = AssetManager.getImage(card);
+            if (image != null) {
+                g2d.drawImage(ScaledImageCache.scale(image, cardWidth, cardHeight), xOf(card), yOf(card), null);
+            }
+            icons[card.ordinal()] = new CardIcon(card);
+        }
+        g2d.dispose();
+    }
+
+    /**
+     * Returns the atlas for cards of the given size, packing it on first use.
+     *
+     * @param size the size of each card
+     * @return the shared {@code CardAtlas} for that size
+     */
+    public static CardAtlas forSize(Dimension size) {
+        return atlases.computeIfAbsent(new Dimension(size), key -> new CardAtlas(key.width, key.height));
+    }
+
+    /**
+     * Returns an icon that draws a card's region of the sheet.
+     * Icons are shared, so the same instance is returned for every request of a card.
+     *
+     * @param card the card to draw
+     * @return the card's icon
+     */
+    public Icon getIcon(CardAsset card) {
+        return icons[card.ordinal()];
+    }
+
+    /**
+     * Draws a card at the given position.
+     *
+     * @param g    the graphics context to draw on
+     * @param card the card to draw
+     * @param x    the x coordinate of the card's top-left corner
+     * @param y    the y coordinate of the card's top-left corner
+     */
+    public void draw(Graphics g, CardAsset card, int x, int y) {
+        int sourceX = xOf(card);
+        int sourceY = yOf(card);
+        g.drawImage(sheet, x, y, x + cardWidth, y + cardHeight,
+                sourceX, sourceY, sourceX + cardWidth, sourceY + cardHeight, null);
+    }
+
+    /**
+     * Returns the memory used by the sheet's pixels.
+     *
+     * @return the size of the sheet in bytes
+     */
+    public long getSizeInBytes() {
+        return (long) sheet.getWidth() * sheet.getHeight() * 4;
+    }
+
+    /* ======================
+       Helper Methods
+       ====================== */
+
+    private int xOf(CardAsset card) {
+        return (card.ordinal() % COLUMNS) * cardWidth;
+    }
+
+    private int yOf(CardAsset card) {
+        return (card.ordinal() / COLUMNS) * cardHeight;
+    }
+
+    /**
+     * An icon drawing one card of the atlas.
+     */
+    private final class CardIcon implements Icon {
+        private final CardAsset card;
+
+        private CardIcon(CardAsset card) {
+            this.card = card;
+        }
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            draw(g, card, x, y);
+        }
+
+        @Override
+        public int getIconWidth() {
+            return cardWidth;
+        }
+
+        @Override
+        public int getIconHeight() {
+            return cardHeight;
+        }
+    }
+}
@@ -1,8 +1,5 @@
 package org.daniel.elysium.assets;
 
-import java.awt.*;
-import java.util.Map;
-
 /**
  * Enum representing chip assets used in the game.
  * Each chip has a corresponding monetary value and is associated with an image.
@@ -55,12 +52,13 @@ public enum ChipAsset implements Asset {
     }
 
     /**
-     * Loads all chip assets from the respective resource directory.
+     * Returns the resource directory that holds all chip assets.
      *
-     * @param imageCache The cache where the loaded images will be stored.
+     * @return The directory name, "chips".
      */
-    public static void loadAssets(Map<Asset, Image> imageCache) {
-        AssetUtility.loadAssets(imageCache, "chips", ChipAsset.class);
+    @Override
+    public String getDirectory() {
+        return "chips";
     }
 
     /**
@@ -1,8 +1,5 @@
 package org.daniel.elysium.assets;
 
-import java.awt.*;
-import java.util.Map;
-
 /**
  * Enum representing logos and icons assets used in the game.
  * Each asset corresponds to a logo or an icon image resource.
@@ -22,12 +19,13 @@ public enum LogoAsset implements Asset {
     BLACKJACK_RULES;
 
     /**
-     * Loads all logos and icons assets from the respective resource directory.
+     * Returns the resource directory that holds all logos and icons assets.
      *
-     * @param imageCache The cache where the loaded images will be stored.
+     * @return The directory name, "logos".
      */
-    public static void loadAssets(Map<Asset, Image> imageCache) {
-        AssetUtility.loadAssets(imageCache, "logos", LogoAsset.class);
+    @Override
+    public String getDirectory() {
+        return "logos";
     }
 
     /**
@@ -1,8 +1,5 @@
 package org.daniel.elysium.assets;
 
-import java.awt.*;
-import java.util.Map;
-
 /**
  * Enum representing games result assets.
  * These assets are used to display the outcomes of all games.
@@ -94,12 +91,13 @@ public enum ResultAsset implements Asset {
     X500;
 
     /**
-     * Loads all Blackjack result assets from the respective resource directory.
+     * Returns the resource directory that holds all Blackjack result assets.
      *
-     * @param imageCache The cache where the loaded images will be stored.
+     * @return The directory name, "results".
      */
-    public static void loadAssets(Map<Asset, Image> imageCache) {
-        AssetUtility.loadAssets(imageCache, "results", ResultAsset.class);
+    @Override
+    public String getDirectory() {
+        return "results";
     }
 
     /**
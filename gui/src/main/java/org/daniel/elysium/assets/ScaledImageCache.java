@@ -0,0 +1,181 @@
+package org.daniel.elysium.assets;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least-recently-used cache of scaled asset images, bounded by the memory the images occupy.
+ * <p>
+ * Images are scaled once per ({@link Asset}, size) pair into a {@link BufferedImage} that is
+ * compatible with the screen's {@link GraphicsConfiguration}, so drawing them later is a plain
+ * copy without any pixel format conversion. Large reductions are done in successive halving steps
+ * with bilinear interpolation, which keeps the quality of {@code Image.SCALE_SMOOTH} at a fraction
+ * of its cost.
+ * </p>
+ */
+public class ScaledImageCache {
+
+    /** Default memory budget of the cache: 64 MB of pixel data. */
+    public static final long DEFAULT_BUDGET_BYTES = 64L * 1024 * 1024;
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final long budgetBytes;
+    private final Map<Key, BufferedImage> images = new LinkedHashMap<>(64, 0.75f, true);
+    private long usedBytes;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a cache holding at most the given amount of pixel data.
+     *
+     * @param budgetBytes the memory budget in bytes
+     */
+    public ScaledImageCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Returns the image of an asset scaled to the given size, scaling it only if it is not cached yet.
+     *
+     * @param asset  the asset the image belongs to
+     * @param source the unscaled image of the asset
+     * @param width  the target width
+     * @param height the target height
+     * @return the scaled image
+     */
+    public synchronized BufferedImage get(Asset asset, Image source, int width, int height) {
+        Key key = new Key(asset, width, height);
+        BufferedImage image = images.get(key);
+        if (image != null) {
+            hits++;
+            return image;
+        }
+
+        misses++;
+        image = scale(source, width, height);
+        images.put(key, image);
+        usedBytes += sizeOf(image);
+        evict();
+        return image;
+    }
+
+    /**
+     * Removes all cached images, for example after the screen configuration changed.
+     */
+    public synchronized void clear() {
+        images.clear();
+        usedBytes = 0;
+    }
+
+    /**
+     * Returns the number of bytes of pixel data currently cached.
+     *
+     * @return the used bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Returns how many requests were served from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns how many requests needed a new scaled image.
+     *
+     * @return the number of cache misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /* ======================
+       Helper Methods
+       ====================== */
+
+    /**
+     * Drops the least recently used images until the cache fits its budget,
+     * always keeping the most recent one.
+     */
+    private void evict() {
+        Iterator<BufferedImage> iterator = images.values().iterator();
+        while (usedBytes > budgetBytes && images.size() > 1) {
+            usedBytes -= sizeOf(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Scales an image to the target size, halving it step by step while it is more than twice as large.
+     *
+     * @param source the image to scale
+     * @param width  the target width
+     * @param height the target height
+     * @return a new screen-compatible image of the target size
+     */
+    static BufferedImage scale(Image source, int width, int height) {
+        Image current = source;
+        int currentWidth = source.getWidth(null);
+        int currentHeight = source.getHeight(null);
+
+        while (currentWidth / 2 >= width || currentHeight / 2 >= height) {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight);
+        }
+        return draw(current, width, height);
+    }
+
+    /**
+     * Draws an image into a new screen-compatible image of the given size.
+     */
+    private static BufferedImage draw(Image image, int width, int height) {
+        BufferedImage target = createCompatibleImage(width, height);
+        Graphics2D g2d = target.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+        g2d.drawImage(image, 0, 0, width, height, null);
+        g2d.dispose();
+        return target;
+    }
+
+    /**
+     * Creates a translucent image in the screen's native pixel format, or a plain ARGB image when headless.
+     *
+     * @param width  the image width
+     * @param height the image height
+     * @return a new empty image
+     */
+    static BufferedImage createCompatibleImage(int width, int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration()
+                .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Returns the approximate memory used by an image's pixels.
+     */
+    private static long sizeOf(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * Identifies a scaled image by its asset and size.
+     */
+    private record Key(Asset asset, int width, int height) {
+    }
+}
@@ -1,54 +1,83 @@
 package org.daniel.elysium.games.baccarat;
 
 import org.daniel.elysium.StateManager;
-import org.daniel.elysium.assets.Asset;
-import org.daniel.elysium.assets.CardAsset;
 import org.daniel.elysium.baccarat.BaccaratGameEngine;
 import org.daniel.elysium.baccarat.constants.BacHandAction;
 import org.daniel.elysium.baccarat.constants.BacHandState;
+import org.daniel.elysium.baccarat.constants.BacHandType;
 import org.daniel.elysium.baccarat.models.BacBetHand;
+import org.daniel.elysium.baccarat.models.BacCard;
 import org.daniel.elysium.baccarat.models.BacHand;
+import org.daniel.elysium.baccarat.models.BacRoundSnapshot;
 import org.daniel.elysium.elements.notifications.StyledConfirmDialog;
 import org.daniel.elysium.elements.notifications.StyledNotificationDialog;
 import org.daniel.elysium.elements.notifications.Toast;
 import org.daniel.elysium.games.CustomDebugDeck;
 import org.daniel.elysium.games.baccarat.center.BacGameAreaPanel;
 import org.daniel.elysium.games.baccarat.constants.BaccaratGameState;
-import org.daniel.elysium.games.baccarat.models.BacCardUI;
 import org.daniel.elysium.interfaces.ChipPanelConsumer;
 import org.daniel.elysium.interfaces.GameActions;
 import org.daniel.elysium.interfaces.Mediator;
+import org.daniel.elysium.journal.JournalGame;
+import org.daniel.elysium.journal.RoundJournal;
+import org.daniel.elysium.journal.RoundRecorder;
+import org.daniel.elysium.journal.RoundReplayer;
 import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.GameLoop;
 import org.daniel.elysium.models.LetterDeck;
 import org.daniel.elysium.models.Shoe;
+import org.daniel.elysium.models.SnapshotPublisher;
+import org.daniel.elysium.models.chips.BetBox;
 import org.daniel.elysium.models.chips.Chip;
 import org.daniel.elysium.models.panels.ChipPanel;
 import org.daniel.elysium.models.panels.ChipPanelUtil;
+import org.daniel.elysium.models.panels.SnapshotRenderer;
 import org.daniel.elysium.models.panels.TopPanel;
 
-import javax.swing.*;
-import java.util.List;
+import java.util.concurrent.ScheduledFuture;
 
-/** Controls the Baccarat game flow, handling state transitions, UI updates, and interactions. */
+/**
+ * Controls the Baccarat game flow, handling state transitions, UI updates, and interactions.
+ * <p>
+ * The game state is owned by a {@link GameLoop}: the handlers called on the Event Dispatch Thread only
+ * check what the panels know and send the rest of the work to the loop, which changes the hands,
+ * publishes snapshots of the round and posts the panel changes back through a {@link SnapshotRenderer}.
+ * </p>
+ */
 public class BaccaratController implements Mediator, ChipPanelConsumer {
     // State managers
     private final StateManager stateManager;
-    private BaccaratGameState state = BaccaratGameState.BET_PHASE;
+    private volatile BaccaratGameState state = BaccaratGameState.BET_PHASE;
 
     // References to subcomponents.
     private final TopPanel topPanel;
     private ChipPanel chipPanel;
     private final BacGameAreaPanel gameAreaPanel;
 
-    // Define the player's betting hand
-    private BacBetHand hand;
+    // Define the player's betting hand and the dealt hands, only touched on the game loop
+    private BacBetHand hand = new BacBetHand();
+    private BacHand playerHand = new BacHand();
+    private BacHand bankerHand = new BacHand();
+    // Chips on the bet, counted here because the panels draw them later
+    private int betChips;
 
     /** The minimum bet allowed in the game. */
     public static final int MIN_BET = 100;
 
     // Game cards creation
-    Shoe<Card> shoe = Shoe.createShoe(4, LetterDeck::new);
-    private List<Card> cards = shoe.cards();
+    private final Shoe<Card> shoe = Shoe.createShoe(4, LetterDeck::new);
+
+    // Records every round for later replay
+    private final RoundRecorder journal = RoundJournal.recorderFor(JournalGame.BACCARAT);
+
+    // Publishes the round state for the game area to draw
+    private final SnapshotPublisher<BacRoundSnapshot> snapshots = new SnapshotPublisher<>();
+    private final SnapshotRenderer<BacRoundSnapshot> renderer;
+    private long rounds;
+
+    // Runs the game logic away from the Event Dispatch Thread
+    private final GameLoop loop = new GameLoop("baccarat-loop");
+    private ScheduledFuture<?> pendingReset;
 
     /**
      * Constructs the BaccaratController and initializes game components.
@@ -60,7 +89,8 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
         this.topPanel = new TopPanel(this, stateManager);
         this.chipPanel = new ChipPanel(this, stateManager);
         this.gameAreaPanel = new BacGameAreaPanel(this, stateManager);
-        this.hand = new BacBetHand();
+        this.renderer = new SnapshotRenderer<>(gameAreaPanel::render);
+        snapshots.subscribe(renderer);
     }
 
     /*======================
@@ -75,35 +105,45 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
      * If the player has sufficient balance and the bet is valid, the "Deal" and "Clear Bet" buttons are displayed.
      * If the bet exceeds the allowed chip limit, a warning message is displayed.
      * If the balance is insufficient, an error message is shown.
+     * The selected betting area is checked here, the chips, the balance and the bet on the game loop.
      *
      * @param chip The selected chip to be placed as a bet.
      */
     @Override
     public void onChipSelected(Chip chip) {
-        // Check if user have enough balance for the bet
-        if (!(hand.getBet() + chip.getValue() <= stateManager.getProfile().getBalance())){
-            new Toast(stateManager.getFrame(), "Not enough balance.", 3000).setVisible(true);
-            return;
-        }
-
         // Check if any of the bet boxes is selected
         if (!gameAreaPanel.isAnyBetSelected()) {
             new Toast(stateManager.getFrame(), "Please select a side first", 3000).setVisible(true);
             return;
         }
 
-        // Check if the betPanel can have more chips on it
-        if (!gameAreaPanel.getSelectedBox().canAddChip()){
-            new Toast(stateManager.getFrame(), "Max number of chips reached.", 3000).setVisible(true);
-            return;
-        }
+        loop.execute(() -> {
+            if (state != BaccaratGameState.BET_PHASE) {
+                return;
+            }
+
+            // Check if the betPanel can have more chips on it
+            if (betChips >= BetBox.MAX_USER_CHIPS) {
+                showToast("Max number of chips reached.");
+                return;
+            }
 
-        // Continue the login normally
-        gameAreaPanel.addChip(chip);
-        hand.setBet(hand.getBet() + chip.getValue());
-        gameAreaPanel.updateBetLabel(hand.getBet());
-        gameAreaPanel.showClearBetButton(true);
-        gameAreaPanel.showDealButton(true);
+            // Check if user have enough balance for the bet
+            if (!(hand.getBet() + chip.getValue() <= stateManager.getProfile().getBalance())){
+                showToast("Not enough balance.");
+                return;
+            }
+
+            // Continue the login normally
+            hand.setBet(hand.getBet() + chip.getValue());
+            betChips++;
+            publishRound();
+            renderer.post(() -> {
+                gameAreaPanel.addChip(chip);
+                gameAreaPanel.showClearBetButton(true);
+                gameAreaPanel.showDealButton(true);
+            });
+        });
     }
 
     /**
@@ -111,16 +151,21 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
      * <p>
      * This method clears all chips from the betting area.
      * It also hides the "Clear Bet" and "Deal" buttons, ensuring that the game does not start without a valid bet.
-     * Finally, the player's balance display is updated.
+     * The bet is reset on the game loop, after the chips already queued, and the panels follow.
      */
     @Override
     public void onClearBet() {
-        gameAreaPanel.showDealButton(false);
-        gameAreaPanel.showClearBetButton(false);
-        hand.setBet(0);
-        gameAreaPanel.updateBetLabel(0);
-        gameAreaPanel.resetSelection();
-        gameAreaPanel.clearChips();
+        loop.execute(() -> {
+            hand.setBet(0);
+            betChips = 0;
+            publishRound();
+            renderer.post(() -> {
+                gameAreaPanel.showDealButton(false);
+                gameAreaPanel.showClearBetButton(false);
+                gameAreaPanel.resetSelection();
+                gameAreaPanel.clearChips();
+            });
+        });
     }
 
     /**
@@ -130,45 +175,58 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
      * If the bet is below the minimum required amount, an error message is displayed.
      * Otherwise, the game state is updated, the betting panel is hidden,
      * and the initial cards are dealt to both the player and the dealer.
-     * The game logic is then processed.
+     * The game logic is then processed on the game loop.
      */
     @Override
     public void onDealRequested() {
-        // Handle invalid bet
-        if (hand.getBet() < MIN_BET) {
-            new Toast(stateManager.getFrame(), "Min bet is 100$", 3000).setVisible(true);
-            return;
-        }
-
-        // Set tha game area to proper setup
-        state = BaccaratGameState.GAME_STARTED;
-        stateManager.getProfile().decreaseBalanceBy(hand.getBet());
-        chipPanel.setVisible(false);
-        gameAreaPanel.showDealButton(false);
-        gameAreaPanel.showClearBetButton(false);
-
-        hand.setHandType(gameAreaPanel.getSelectedBoxType());
+        BacHandType handType = gameAreaPanel.getSelectedBoxType();
+        loop.execute(() -> {
+            if (state != BaccaratGameState.BET_PHASE) {
+                return;
+            }
 
-        // Deal the cards to the players
-        dealInitialCards();
+            // Handle invalid bet
+            if (hand.getBet() < MIN_BET) {
+                showToast("Min bet is 100$");
+                return;
+            }
 
-        // Evaluate the hand against each other
-        evaluateHands();
+            // Set tha game area to proper setup
+            state = BaccaratGameState.GAME_STARTED;
+            stateManager.getProfile().decreaseBalanceBy(hand.getBet());
+            renderer.post(() -> {
+                chipPanel.setVisible(false);
+                gameAreaPanel.showDealButton(false);
+                gameAreaPanel.showClearBetButton(false);
+            });
+
+            hand.setHandType(handType);
+            journal.startRound(shoe);
+            rounds++;
+            journal.bet(hand.getHandType().ordinal(), hand.getBet());
+
+            // Deal the cards to the players
+            dealInitialCards();
+
+            // Evaluate the hand against each other
+            evaluateHands();
+        });
     }
 
     /**
      * Deals the initial cards to both the player and the banker.
      * <p>
      * This method updates the game state to "Dealing Cards" and distributes two cards each
-     * to the player and the banker.
+     * to the player and the banker. Called on the game loop.
      */
     @Override
     public void dealInitialCards() {
         state = BaccaratGameState.DEALING_CARDS;
-        gameAreaPanel.addPlayerCard(getCardFromShoe());
-        gameAreaPanel.addBankerCard(getCardFromShoe());
-        gameAreaPanel.addPlayerCard(getCardFromShoe());
-        gameAreaPanel.addBankerCard(getCardFromShoe());
+        playerHand.dealCard(getCardFromShoe(RoundReplayer.BACCARAT_PLAYER));
+        bankerHand.dealCard(getCardFromShoe(RoundReplayer.BACCARAT_BANKER));
+        playerHand.dealCard(getCardFromShoe(RoundReplayer.BACCARAT_PLAYER));
+        bankerHand.dealCard(getCardFromShoe(RoundReplayer.BACCARAT_BANKER));
+        publishRound();
     }
 
     /**
@@ -221,14 +279,11 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
     private void evaluateHands(){
         state = BaccaratGameState.EVALUATION_PHASE;
 
-        BacHand banker = gameAreaPanel.getBankerHand().getHand();
-        BacHand player = gameAreaPanel.getPlayerHand().getHand();
-
-        BaccaratGameEngine.evaluatePlayer(banker, player);
-        executePlayerAction(player);
-        BaccaratGameEngine.evaluateBanker(banker, player);
-        executeBankerAction(banker);
-        BaccaratGameEngine.evaluateHands(banker ,player);
+        BaccaratGameEngine.evaluatePlayer(bankerHand, playerHand);
+        executePlayerAction(playerHand);
+        BaccaratGameEngine.evaluateBanker(bankerHand, playerHand);
+        executeBankerAction(bankerHand);
+        BaccaratGameEngine.evaluateHands(bankerHand, playerHand);
 
         proceedTopPayouts();
     }
@@ -241,7 +296,7 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
      */
     private void executePlayerAction(BacHand hand){
         if (hand.getAction() == BacHandAction.DRAW){
-            gameAreaPanel.addPlayerCard(getCardFromShoe());
+            hand.dealCard(getCardFromShoe(RoundReplayer.BACCARAT_PLAYER));
         }
     }
 
@@ -253,7 +308,7 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
      */
     private void executeBankerAction(BacHand hand){
         if (hand.getAction() == BacHandAction.DRAW){
-            gameAreaPanel.addBankerCard(getCardFromShoe());
+            hand.dealCard(getCardFromShoe(RoundReplayer.BACCARAT_BANKER));
         }
     }
 
@@ -272,18 +327,22 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
     private void proceedTopPayouts(){
         state = BaccaratGameState.PAYOUT;
 
-        BaccaratGameEngine.calculateResult(gameAreaPanel.getBankerHand().getHand(), gameAreaPanel.getPlayerHand().getHand(), hand);
+        BaccaratGameEngine.calculateResult(bankerHand, playerHand, hand);
         stateManager.getProfile().increaseBalanceBy(hand.getBet());
+        journal.settlement(hand.getHandType().ordinal(), hand.getBet());
+        journal.endRound();
 
         // Determine the outcome and update UI accordingly
-        if (hand.getState() == BacHandState.WON){
-            gameAreaPanel.getSelectedBox().payWin();
-        } else if (hand.getState() == BacHandState.TIE) {
-            gameAreaPanel.getSelectedBox().payTie();
-        } else {
-            gameAreaPanel.clearChips();
-            gameAreaPanel.updateBetLabel(0);
-        }
+        BacHandState result = hand.getState();
+        renderer.post(() -> {
+            if (result == BacHandState.WON){
+                gameAreaPanel.getSelectedBox().payWin();
+            } else if (result == BacHandState.TIE) {
+                gameAreaPanel.getSelectedBox().payTie();
+            } else {
+                gameAreaPanel.clearChips();
+            }
+        });
 
         updateBalanceDisplay();
         displayResults();
@@ -291,24 +350,20 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
 
     /**
      * Displays the results of the current Baccarat game round and schedules a game reset.
-     * This method sets the game state to display results, updates the game area to show each hand's results,
-     * and sets a timer to reset the game after a brief pause.
+     * This method sets the game state to display results, publishes the settled round for the game area
+     * to show each hand's results, and schedules a reset on the game loop after a brief pause.
      * The reset will trigger the start of a new game round, providing a seamless flow from one round to the next.
      */
     private void displayResults(){
         state = BaccaratGameState.DISPLAY_RESULT;
 
         // Trigger visual display of results for both hands
-        gameAreaPanel.getPlayerHand().showHandResult();
-        gameAreaPanel.getBankerHand().showHandResult();
-        gameAreaPanel.updateBetLabel(hand.getBet());
+        publishRound();
 
         if (stateManager.isBacAutoStart()){
-            Timer timer = new Timer(5000, e -> reset());
-            timer.setRepeats(false);
-            timer.start();
+            pendingReset = loop.schedule(this::reset, 5000);
         } else {
-            gameAreaPanel.showNewGameButton(true);
+            renderer.post(() -> gameAreaPanel.showNewGameButton(true));
         }
     }
 
@@ -321,7 +376,7 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
      */
     @Override
     public void startNewGame() {
-        reset();
+        loop.execute(this::reset);
     }
 
     /**
@@ -330,54 +385,67 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
      * This method clears all previous game actions and hands,
      * and transitions the state back to the betting phase. It also ensures that the player
      * has enough balance to continue playing. If the player's balance falls below the minimum
-     * bet, they are redirected to the main menu. Additionally, if the shoe has fewer than
-     * 15 cards remaining, a new shoe is created.
+     * bet, they are redirected to the main menu. Additionally, if the cut card has been
+     * reached, the shoe is reshuffled. Called on the game loop.
      */
     private void reset(){
+        if (state.ordinal() < BaccaratGameState.DISPLAY_RESULT.ordinal()) {
+            return;
+        }
+        pendingReset = null;
         state = BaccaratGameState.GAME_ENDED;
-        gameAreaPanel.clearHands();
-        gameAreaPanel.resetSelection();
-        gameAreaPanel.clearActions();
-        gameAreaPanel.clearChips();
-        gameAreaPanel.updateBetLabel(0);
-        hand = new BacBetHand();
+        clearRound();
+        renderer.post(() -> {
+            gameAreaPanel.resetSelection();
+            gameAreaPanel.clearActions();
+            gameAreaPanel.clearChips();
+        });
         state = BaccaratGameState.BET_PHASE;
-        ChipPanelUtil.regenerateChipPanel(this, stateManager);
+        renderer.post(() -> ChipPanelUtil.regenerateChipPanel(this, stateManager));
 
         // If player has no enough money, Player then escorted to main menu
         if (stateManager.getProfile().getBalance() < MIN_BET){
-            stateManager.switchPanel("MainMenu");
+            renderer.post(() -> {
+                stateManager.switchPanel("MainMenu");
 
-            StyledNotificationDialog dialog = new StyledNotificationDialog(
-                    stateManager.getFrame(),
-                    "You don't have enough balance to continue playing. "
-            );
+                StyledNotificationDialog dialog = new StyledNotificationDialog(
+                        stateManager.getFrame(),
+                        "You don't have enough balance to continue playing. "
+                );
 
-            dialog.setVisible(true);
+                dialog.setVisible(true);
+            });
         }
 
-        // If the shoe has less than 15 cards, start a new shoe
-        if (cards.size() < 15){
-            cards = Shoe.createShoe(4, LetterDeck::new).cards();
+        // If the cut card has been reached, reshuffle the shoe
+        if (shoe.needsReshuffle()){
+            shoe.reshuffle();
 
-            StyledNotificationDialog dialog = new StyledNotificationDialog(
-                    stateManager.getFrame(),
-                    "Shoe ended, Starting a new Shoe. "
-            );
+            renderer.post(() -> {
+                StyledNotificationDialog dialog = new StyledNotificationDialog(
+                        stateManager.getFrame(),
+                        "Shoe ended, Starting a new Shoe. "
+                );
 
-            dialog.setVisible(true);
+                dialog.setVisible(true);
+            });
         }
     }
 
     /** Protected API for the {@link BaccaratPanel} to revert to initial state when exiting */
     protected void resetScreen(){
-        state = BaccaratGameState.BET_PHASE;
         chipPanel.setVisible(false);
-        gameAreaPanel.clearHands();
         gameAreaPanel.resetSelection();
-        gameAreaPanel.updateBetLabel(0);
         ChipPanelUtil.removeChipPanel(this, stateManager);
-        cards = Shoe.createShoe(4, LetterDeck::new).cards();
+        loop.execute(() -> {
+            if (pendingReset != null) {
+                pendingReset.cancel(false);
+                pendingReset = null;
+            }
+            state = BaccaratGameState.BET_PHASE;
+            clearRound();
+            shoe.reshuffle();
+        });
     }
 
     /** Protected API for the {@link BaccaratPanel} to restart fresh and updated screen */
@@ -398,21 +466,51 @@ public class BaccaratController implements Mediator, ChipPanelConsumer {
      */
     @Override
     public void updateBalanceDisplay() {
-        topPanel.setBalance(stateManager.getProfile().getBalance());
+        double balance = stateManager.getProfile().getBalance();
+        renderer.post(() -> topPanel.setBalance(balance));
+    }
+
+    /**
+     * Shows a short message to the player, after the changes already posted.
+     *
+     * @param message The message to show.
+     */
+    private void showToast(String message) {
+        renderer.post(() -> new Toast(stateManager.getFrame(), message, 3000).setVisible(true));
+    }
+
+    /**
+     * Replaces the bet and both hands with empty ones and publishes the cleared round,
+     * which removes the cards from the game area.
+     */
+    private void clearRound() {
+        hand = new BacBetHand();
+        betChips = 0;
+        playerHand = new BacHand();
+        bankerHand = new BacHand();
+        publishRound();
+    }
+
+    /**
+     * Publishes a snapshot of the current round for the game area to draw.
+     */
+    private void publishRound() {
+        snapshots.publish(version -> BacRoundSnapshot.of(version, rounds, playerHand, bankerHand, hand));
     }
 
     /**
      * Draws and removes the top card from the shoe.
      * <p>
      * This method retrieves the top card from the shoe and removes it from the deck,
-     * simulating the process of dealing a card in the game.
+     * simulating the process of dealing a card in the game. The card is recorded in the round journal.
      *
-     * @return The top card from the shoe as {@link BacCardUI}.
+     * @param target The hand receiving the card, as numbered by {@link RoundReplayer}.
+     * @return The top card from the shoe as {@link BacCard}.
      */
-    private BacCardUI getCardFromShoe() {
-        Card card = cards.remove(0);
-        Asset asset = CardAsset.fromString(card.getSuit() + card.getRank());
-        return new BacCardUI(card.getRank(), card.getSuit(), asset);
+    private BacCard getCardFromShoe(int target) {
+        Card card = shoe.deal();
+        journal.card(target, card);
+        return BacCard.of(card);
     }
 
     /*======================
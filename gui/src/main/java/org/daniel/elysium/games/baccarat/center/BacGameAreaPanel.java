@@ -3,6 +3,7 @@ package org.daniel.elysium.games.baccarat.center;
 import org.daniel.elysium.StateManager;
 import org.daniel.elysium.assets.ButtonAsset;
 import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.baccarat.models.BacRoundSnapshot;
 import org.daniel.elysium.elements.buttons.StyledButton;
 import org.daniel.elysium.elements.fields.StyledTextField;
 import org.daniel.elysium.games.baccarat.center.models.BacBettingAreaPanel;
@@ -29,6 +30,7 @@ public class BacGameAreaPanel extends JPanel {
     private final CardLayout cardLayout;
     private final StyledButton dealButton;
     private final StyledTextField currentBetLabel;
+    private BacRoundSnapshot rendered;
 
     /**
      * Constructs the main baccarat play area, initializing UI elements.
@@ -143,7 +145,7 @@ public class BacGameAreaPanel extends JPanel {
      * Clears all cards from both the player's and banker's hands.
      * This method ensures that the playing area is reset and ready for new cards.
      */
-    public void clearHands(){
+    private void clearHands(){
         cardsAreaPanel.removeCards();
     }
 
@@ -158,7 +160,7 @@ public class BacGameAreaPanel extends JPanel {
      *
      * @param card The {@link BacCardUI} object representing the card to be added to the player's hand.
      */
-    public void addPlayerCard(BacCardUI card){
+    private void addPlayerCard(BacCardUI card){
         cardsAreaPanel.addPlayerCard(card);
     }
 
@@ -169,7 +171,7 @@ public class BacGameAreaPanel extends JPanel {
      *
      * @param card The {@link BacCardUI} object representing the card to be added to the banker's hand.
      */
-    public void addBankerCard(BacCardUI card){
+    private void addBankerCard(BacCardUI card){
         cardsAreaPanel.addBankerCard(card);
     }
 
@@ -274,12 +276,52 @@ public class BacGameAreaPanel extends JPanel {
         cardLayout.show(buttonSwitcherPanel, "hide");
     }
 
+    /* ======================
+       Rendering
+       ====================== */
+
+    /**
+     * Draws a snapshot of the round, updating only what changed since the last snapshot drawn.
+     * <p>
+     * Only the cards dealt since the last snapshot are added, and both hands are cleared when a new
+     * round starts. The bet label is rewritten when the bet changes, and the results are shown over
+     * both hands once, when the round is decided.
+     * </p>
+     *
+     * @param snapshot The latest snapshot of the round.
+     */
+    public void render(BacRoundSnapshot snapshot) {
+        BacRoundSnapshot previous = rendered;
+        rendered = snapshot;
+
+        boolean newRound = previous == null || previous.round() != snapshot.round()
+                || previous.playerCards().size() > snapshot.playerCards().size()
+                || previous.bankerCards().size() > snapshot.bankerCards().size();
+        if (newRound) {
+            clearHands();
+        }
+        for (int i = newRound ? 0 : previous.playerCards().size(); i < snapshot.playerCards().size(); i++) {
+            addPlayerCard(BacCardUI.of(snapshot.playerCards().get(i)));
+        }
+        for (int i = newRound ? 0 : previous.bankerCards().size(); i < snapshot.bankerCards().size(); i++) {
+            addBankerCard(BacCardUI.of(snapshot.bankerCards().get(i)));
+        }
+
+        if (previous == null || previous.bet() != snapshot.bet()) {
+            updateBetLabel(snapshot.bet());
+        }
+        if (snapshot.isDecided() && (newRound || !previous.isDecided())) {
+            getPlayerHand().showHandResult(snapshot.playerState());
+            getBankerHand().showHandResult(snapshot.bankerState());
+        }
+    }
+
     /**
      * Updates the UI bet label with the current bet
      *
      * @param bet The amount of bet to display.
      */
-    public void updateBetLabel(double bet) {
+    private void updateBetLabel(double bet) {
         currentBetLabel.setText("Bet: " + bet);
     }
 }
@@ -2,7 +2,7 @@ package org.daniel.elysium.games.baccarat.center.models.banker;
 
 import org.daniel.elysium.assets.AssetManager;
 import org.daniel.elysium.assets.ResultAsset;
-import org.daniel.elysium.baccarat.models.BacHand;
+import org.daniel.elysium.baccarat.constants.BacHandState;
 import org.daniel.elysium.games.baccarat.models.BacCardUI;
 
 import javax.swing.*;
@@ -14,7 +14,6 @@ import java.awt.*;
  */
 public class BacBankerAreaUI extends JPanel {
     private final BacBankerCardsUI cardsUI;
-    public BacHand hand;
 
     /**
      * Constructs the BankerAreaUI with layout and component initialization tailored for displaying banker-related information.
@@ -42,41 +41,30 @@ public class BacBankerAreaUI extends JPanel {
         add(Box.createRigidArea(new Dimension(0, 30))); // Space between text & cards
         add(cardsUI);
         add(Box.createVerticalGlue()); // Push content towards center
-
-        // Initialize the Banker's hand
-        this.hand = new BacHand();
     }
 
     /**
-     * Adds a card to the banker's UI and updates the banker's hand model.
+     * Adds a card to the banker's UI.
      * @param card The graphical representation of the card to be added.
      */
     public void addCard(BacCardUI card){
         cardsUI.addCard(card);
-        hand.dealCard(card.getCard());
     }
 
     /**
-     * Removes all cards from the banker's UI and resets the banker's hand model.
+     * Removes all cards from the banker's UI.
      */
     public void removeCards(){
         cardsUI.removeCards();
-        hand = new BacHand();
-    }
-
-    /**
-     * Retrieves the banker's current hand.
-     * @return The banker's current hand of cards.
-     */
-    public BacHand getHand(){
-        return hand;
     }
 
     /**
      * Displays an overlay on the banker's cards based on the result of the hand (win, lose, tie).
+     *
+     * @param state The result of the banker's hand.
      */
-    public void showHandResult(){
-        switch (hand.getState()) {
+    public void showHandResult(BacHandState state){
+        switch (state) {
             case WON:
                 cardsUI.showOverlay(AssetManager.getScaledImage(ResultAsset.WIN, new Dimension(300, 200)));
                 break;
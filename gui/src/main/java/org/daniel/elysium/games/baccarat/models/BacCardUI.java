@@ -1,6 +1,7 @@
 package org.daniel.elysium.games.baccarat.models;
 
 import org.daniel.elysium.assets.Asset;
+import org.daniel.elysium.assets.CardAsset;
 import org.daniel.elysium.baccarat.models.BacCard;
 import org.daniel.elysium.models.cards.UICard;
 
@@ -21,7 +22,17 @@ public class BacCardUI extends UICard {
      */
     public BacCardUI(String rank, String suit, Asset icon) {
         super(rank, suit, icon);
-        card = new BacCard(rank, suit);
+        card = BacCard.of(rank, suit);
+    }
+
+    /**
+     * Creates the visual representation of a dealt card.
+     *
+     * @param card The logical card.
+     * @return A {@code BacCardUI} showing the card's face.
+     */
+    public static BacCardUI of(BacCard card) {
+        return new BacCardUI(card.getRank(), card.getSuit(), CardAsset.fromString(card.getSuit() + card.getRank()));
     }
 
     /**
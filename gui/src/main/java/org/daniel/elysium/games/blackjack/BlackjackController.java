@@ -1,10 +1,19 @@
 package org.daniel.elysium.games.blackjack;
 
 import org.daniel.elysium.StateManager;
-import org.daniel.elysium.assets.Asset;
-import org.daniel.elysium.assets.CardAsset;
 import org.daniel.elysium.blackjack.BlackjackEngine;
+import org.daniel.elysium.blackjack.constants.BJAction;
 import org.daniel.elysium.blackjack.constants.BJHandState;
+import org.daniel.elysium.blackjack.constants.BJTablePhase;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.models.BJDealerHand;
+import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.rules.BlackjackRules;
+import org.daniel.elysium.blackjack.rules.CompiledRules;
+import org.daniel.elysium.blackjack.strategy.StrategyTable;
+import org.daniel.elysium.blackjack.table.HandSnapshot;
+import org.daniel.elysium.blackjack.table.SeatSnapshot;
+import org.daniel.elysium.blackjack.table.TableSnapshot;
 import org.daniel.elysium.elements.notifications.StyledConfirmDialog;
 import org.daniel.elysium.elements.notifications.StyledNotificationDialog;
 import org.daniel.elysium.elements.notifications.Toast;
@@ -16,26 +25,41 @@ import org.daniel.elysium.games.blackjack.models.BJCardUI;
 import org.daniel.elysium.interfaces.ChipPanelConsumer;
 import org.daniel.elysium.interfaces.GameActions;
 import org.daniel.elysium.interfaces.Mediator;
+import org.daniel.elysium.journal.JournalGame;
+import org.daniel.elysium.journal.RoundJournal;
+import org.daniel.elysium.journal.RoundRecorder;
+import org.daniel.elysium.journal.RoundReplayer;
 import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.GameLoop;
 import org.daniel.elysium.models.LetterDeck;
 import org.daniel.elysium.models.Shoe;
+import org.daniel.elysium.models.SnapshotPublisher;
+import org.daniel.elysium.models.chips.BetCircle;
 import org.daniel.elysium.models.chips.Chip;
 import org.daniel.elysium.models.panels.ChipPanel;
 import org.daniel.elysium.models.panels.ChipPanelUtil;
+import org.daniel.elysium.models.panels.SnapshotRenderer;
 import org.daniel.elysium.models.panels.TopPanel;
 
-import javax.swing.*;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * Controls the Blackjack game flow, handling state transitions, UI updates, and interactions.
+ * <p>
+ * The game state is owned by a {@link GameLoop}: the handlers called on the Event Dispatch Thread only
+ * check what the panels know and send the rest of the work to the loop, which plays the hands,
+ * publishes snapshots of the table and posts the panel changes back through a {@link SnapshotRenderer}.
+ * </p>
  */
 public class BlackjackController implements Mediator, ChipPanelConsumer {
     // State managers
     private final StateManager stateManager;
-    private BJGameState state = BJGameState.BET_PHASE;
+    private volatile BJGameState state = BJGameState.BET_PHASE;
 
     // References to subcomponents.
     private final TopPanel topPanel;
@@ -45,9 +69,37 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
     /** The minimum bet allowed in the game. */
     public static final int MIN_BET = 10;
 
+    /** The number of decks in the shoe. */
+    private static final int DECKS = 4;
+
     // Game cards creation
-    Shoe<Card> shoe = Shoe.createShoe(4, LetterDeck::new);
-    private List<Card> cards = shoe.cards();
+    private final Shoe<Card> shoe = Shoe.createShoe(DECKS, LetterDeck::new);
+
+    // Basic strategy for the hint button, read or computed in the background
+    private final CompletableFuture<StrategyTable> strategy = StrategyTable.load(BlackjackRules.STANDARD.withDecks(DECKS));
+
+    // Records every round for later replay
+    private final RoundRecorder journal = RoundJournal.recorderFor(JournalGame.BLACKJACK);
+
+    // The player's hands and the dealer's hand, only touched on the game loop
+    private final List<BJPlayerHand> hands = new ArrayList<>(List.of(new BJPlayerHand()));
+    private BJDealerHand dealerHand = new BJDealerHand();
+    private boolean insuranceOffered;
+    // Chips on the opening bet, counted here because the panels draw them later
+    private int betChips;
+
+    // Publishes the table state for the game area to draw
+    private final SnapshotPublisher<TableSnapshot> snapshots = new SnapshotPublisher<>();
+    private final SnapshotRenderer<TableSnapshot> renderer;
+    private long rounds;
+    private int activeHand;
+    private int openingBet;
+    private int staked;
+    private int payout;
+
+    // Runs the game logic away from the Event Dispatch Thread
+    private final GameLoop loop = new GameLoop("blackjack-loop");
+    private ScheduledFuture<?> pendingStep;
 
     /**
      * Constructs the BlackjackController and initializes game components.
@@ -59,6 +111,8 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
         this.topPanel = new TopPanel(this, stateManager);
         this.chipPanel = new ChipPanel(this, stateManager);
         this.gameAreaPanel = new BJGameAreaPanel(this, stateManager);
+        this.renderer = new SnapshotRenderer<>(gameAreaPanel::render);
+        snapshots.subscribe(renderer);
     }
 
     /*======================
@@ -73,29 +127,40 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * If the player has sufficient balance and the bet is valid, the "Deal" and "Clear Bet" buttons are displayed.
      * If the bet exceeds the allowed chip limit, a warning message is displayed.
      * If the balance is insufficient, an error message is shown.
+     * The chips, the balance and the bet are checked on the game loop.
      *
      * @param chip The selected chip to be placed as a bet.
      */
     @Override
     public void onChipSelected(Chip chip) {
-        BJPlayerHandUI playerHandUI = gameAreaPanel.getPlayerHand(BJPlayerHandUI.FIRST_HAND);
+        loop.execute(() -> {
+            if (state != BJGameState.BET_PHASE) {
+                return;
+            }
 
-        // Check if user have enough balance for the bet
-        if (!(playerHandUI.getHand().getBet() + chip.getValue() <= stateManager.getProfile().getBalance())) {
-            new Toast(stateManager.getFrame(), "Not enough balance.", 3000).setVisible(true);
-            return;
-        }
+            // Check if the betPanel can have more chips on it
+            if (betChips >= BetCircle.MAX_USER_CHIPS) {
+                showToast("Max number of chips reached.");
+                return;
+            }
 
-        // Check if the betPanel can have more chips on it
-        if (!playerHandUI.canAddChip()) {
-            new Toast(stateManager.getFrame(), "Max number of chips reached.", 3000).setVisible(true);
-            return;
-        }
+            // Check if user have enough balance for the bet
+            BJPlayerHand hand = hands.get(BJPlayerHandUI.FIRST_HAND);
+            if (!(hand.getBet() + chip.getValue() <= stateManager.getProfile().getBalance())) {
+                showToast("Not enough balance.");
+                return;
+            }
 
-        // Continue the login normally
-        playerHandUI.addChip(chip);
-        gameAreaPanel.showDealButton(true);
-        gameAreaPanel.showClearBetButton(true);
+            // Continue the login normally
+            hand.setBet(hand.getBet() + chip.getValue());
+            betChips++;
+            publishRound();
+            renderer.post(() -> {
+                gameAreaPanel.getPlayerHand(BJPlayerHandUI.FIRST_HAND).addChip(chip);
+                gameAreaPanel.showDealButton(true);
+                gameAreaPanel.showClearBetButton(true);
+            });
+        });
     }
 
     /**
@@ -103,14 +168,20 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * <p>
      * This method clears all chips from the betting panel.
      * It also hides the "Clear Bet" and "Deal" buttons, ensuring that the game does not start without a valid bet.
-     * Finally, the player's balance display is updated.
+     * The bet is reset on the game loop, after the chips already queued, and the panels follow.
      */
     @Override
     public void onClearBet() {
-        BJPlayerHandUI playerHandUI = gameAreaPanel.getPlayerHand(BJPlayerHandUI.FIRST_HAND);
-        playerHandUI.clearChips(); // Clear chips after refunding the balance
-        gameAreaPanel.showDealButton(false);
-        gameAreaPanel.showClearBetButton(false);
+        loop.execute(() -> {
+            hands.get(BJPlayerHandUI.FIRST_HAND).setBet(0);
+            betChips = 0;
+            publishRound();
+            renderer.post(() -> {
+                gameAreaPanel.getPlayerHand(BJPlayerHandUI.FIRST_HAND).clearChips();
+                gameAreaPanel.showDealButton(false);
+                gameAreaPanel.showClearBetButton(false);
+            });
+        });
     }
 
     /**
@@ -121,55 +192,65 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * an error message is displayed.
      * Otherwise, the game state is updated, the betting panel is hidden,
      * and the initial cards are dealt to both the player and the dealer.
-     * The game logic is then processed based on whether the player or dealer has a blackjack,
+     * The game logic is then processed on the game loop based on whether the player or dealer has a blackjack,
      * or if insurance options should be displayed.
      */
     @Override
     public void onDealRequested() {
-        BJPlayerHandUI playerHandUI = gameAreaPanel.getPlayerHand(BJPlayerHandUI.FIRST_HAND);
-
-        // Handle invalid bet
-        if (playerHandUI.getHand().getBet() == 0) {
-            new Toast(stateManager.getFrame(), "No bet placed yet.", 3000).setVisible(true);
-            return;
-        } else if (playerHandUI.getHand().getBet() < MIN_BET) {
-            new Toast(stateManager.getFrame(), "Min bet is 10$", 3000).setVisible(true);
-            return;
-        }
-
-        // Set tha game area to proper setup
-        state = BJGameState.GAME_STARTED;
-        stateManager.getProfile().decreaseBalanceBy(gameAreaPanel.getPlayerHand(BJPlayerHandUI.FIRST_HAND).getBet());
-        updateBalanceDisplay();
-        chipPanel.setVisible(false);
-        gameAreaPanel.showDealButton(false);
-        gameAreaPanel.clearActions();
-
+        loop.execute(() -> {
+            if (state != BJGameState.BET_PHASE) {
+                return;
+            }
 
-        // Deal the cards to the players
-        dealInitialCards();
+            // Handle invalid bet
+            int bet = hands.get(BJPlayerHandUI.FIRST_HAND).getBet();
+            if (bet == 0) {
+                showToast("No bet placed yet.");
+                return;
+            } else if (bet < MIN_BET) {
+                showToast("Min bet is 10$");
+                return;
+            }
 
-        // The logical flow of the game
-        // If player has a blackjack go to dealer turn
-        if (isPlayerBlackjack()) {
-            dealerTurn();
-            return;
-        }
+            // Set tha game area to proper setup
+            state = BJGameState.GAME_STARTED;
+            openingBet = bet;
+            stake(openingBet);
+            updateBalanceDisplay();
+            journal.startRound(shoe);
+            rounds++;
+            journal.bet(BJPlayerHandUI.FIRST_HAND, bet);
+            renderer.post(() -> {
+                chipPanel.setVisible(false);
+                gameAreaPanel.showDealButton(false);
+                gameAreaPanel.clearActions();
+            });
+
+            // Deal the cards to the players
+            dealInitialCards();
+
+            // The logical flow of the game
+            // If player has a blackjack go to dealer turn
+            if (isPlayerBlackjack()) {
+                dealerTurn();
+                return;
+            }
 
-        // If dealer has ace as first card, go to insurance
-        if (checkInsurance()) {
-            displayInsuranceOptions();
-            return;
-        }
+            // If dealer has ace as first card, go to insurance
+            if (checkInsurance()) {
+                displayInsuranceOptions();
+                return;
+            }
 
-        // If dealer has a blackjack, go to dealer turn
-        if (isDealerBlackjack()) {
-            dealerTurn();
-            return;
-        }
+            // If dealer has a blackjack, go to dealer turn
+            if (isDealerBlackjack()) {
+                dealerTurn();
+                return;
+            }
 
-        // Otherwise start the game normally
-        calculatePlayerOptions(BJPlayerHandUI.FIRST_HAND);
+            // Otherwise start the game normally
+            calculatePlayerOptions(BJPlayerHandUI.FIRST_HAND);
+        });
     }
 
     /**
@@ -177,15 +258,16 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * <p>
      * This method updates the game state to "Dealing Cards" and distributes two cards each
      * to the player and the dealer. The dealer's second card is hidden from view until further gameplay decisions are made.
+     * Called on the game loop.
      */
     @Override
     public void dealInitialCards() {
         state = BJGameState.DEALING_CARDS;
-        gameAreaPanel.addPlayerCard(BJPlayerHandUI.FIRST_HAND, getCardFromShoe());
-        gameAreaPanel.addDealerCard(getCardFromShoe());
-        gameAreaPanel.addPlayerCard(BJPlayerHandUI.FIRST_HAND, getCardFromShoe());
-        gameAreaPanel.addDealerCard(getCardFromShoe());
-        gameAreaPanel.getDealerHand().flipCardDown(); // Hide dealer's second card
+        dealPlayerCard(BJPlayerHandUI.FIRST_HAND);
+        dealDealerCard(false);
+        dealPlayerCard(BJPlayerHandUI.FIRST_HAND);
+        dealDealerCard(true); // Hide dealer's second card
+        publishRound();
     }
 
     /**
@@ -224,8 +306,7 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * @return true if the player's hand is a blackjack, false otherwise.
      */
     private boolean isPlayerBlackjack(){
-        BJPlayerHandUI playerHandUI = gameAreaPanel.getPlayerHand(BJPlayerHandUI.FIRST_HAND);
-        return playerHandUI.getHand().isBlackJack();
+        return hands.get(BJPlayerHandUI.FIRST_HAND).isBlackJack();
     }
 
     /**
@@ -236,7 +317,7 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * @return true if the dealer's hand is a blackjack, false otherwise.
      */
     private boolean isDealerBlackjack(){
-        return gameAreaPanel.getDealerHand().getHand().isBlackJack();
+        return dealerHand.isBlackJack();
     }
 
     /*======================
@@ -252,8 +333,8 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * @return true if the player qualifies for insurance, false otherwise.
      */
     private boolean checkInsurance(){
-        return BlackjackEngine.isInsurance(gameAreaPanel.getDealerHand().getHand())
-                && (int)(gameAreaPanel.getPlayerHand(0).getBet() * 0.5) <=
+        return BlackjackEngine.isInsurance(dealerHand)
+                && (int)(hands.get(BJPlayerHandUI.FIRST_HAND).getBet() * 0.5) <=
                 stateManager.getProfile().getBalance();
     }
 
@@ -265,38 +346,42 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      */
     private void displayInsuranceOptions(){
         state = BJGameState.PLAYER_TURN;
+        insuranceOffered = true;
         Map<BlackjackActions, Integer> actions = new LinkedHashMap<>();
         actions.put(BlackjackActions.INSURE, BJPlayerHandUI.FIRST_HAND);
         actions.put(BlackjackActions.DO_NOT_INSURE, BJPlayerHandUI.FIRST_HAND);
-        gameAreaPanel.updateActionButtons(actions);
+        renderer.post(() -> gameAreaPanel.updateActionButtons(actions));
     }
 
     /**
      * Handles the insurance option selected by the player.
      * <p>
      * If the player chooses to insure their bet, the insurance amount is deducted from their balance
-     * and added to the extra bet area. A timer is set to evaluate the insurance bet:
+     * and added to the extra bet area. The insurance bet is evaluated on the game loop a second later:
      * If the dealer has blackjack, the hand is marked as insured and the dealer wins.
      * Otherwise, the insurance bet is lost, and the game continues.
      */
     private void handleInsureOption() {
-        BJPlayerHandUI playerHandUI = gameAreaPanel.getPlayerHand(BJPlayerHandUI.FIRST_HAND);
-        playerHandUI.addInsuranceBet();
-        stateManager.getProfile().decreaseBalanceBy(playerHandUI.getInsuranceBet());
+        BJPlayerHand hand = hands.get(BJPlayerHandUI.FIRST_HAND);
+        hand.setInsuranceBet((int) (hand.getBet() * 0.5));
+        stake(hand.getInsuranceBet());
+        journal.action(BJPlayerHandUI.FIRST_HAND, RoundReplayer.BLACKJACK_INSURE, hand.getInsuranceBet());
         updateBalanceDisplay();
+        publishRound();
+        renderer.post(() -> gameAreaPanel.getPlayerHand(BJPlayerHandUI.FIRST_HAND).addInsuranceBet());
 
         // Wait for a second for the user to see the outcome of the insurance
-        Timer timer = new Timer(1000, e -> {
+        pendingStep = loop.schedule(() -> {
+            pendingStep = null;
             if (!isDealerBlackjack()) { // If dealer is not blackjack, insurance is lost, game continues
-                playerHandUI.clearInsuranceBet();
+                hand.setInsuranceBet(0);
+                renderer.post(() -> gameAreaPanel.getPlayerHand(BJPlayerHandUI.FIRST_HAND).clearInsuranceBet());
                 calculatePlayerOptions(0);
             } else { // If dealer has blackjack, the dealer wins, and the hand is marked as INSURED
-                playerHandUI.getHand().setState(BJHandState.INSURED);
+                hand.setState(BJHandState.INSURED);
                 dealerTurn();
             }
-        });
-        timer.setRepeats(false);
-        timer.start();
+        }, 1000);
     }
 
     /**
@@ -327,16 +412,20 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      */
     private void calculatePlayerOptions(int index) {
         state = BJGameState.PLAYER_TURN;
-
-        // Turn of all highlights for all hands first
-        gameAreaPanel.getPlayerHands().forEach(playerHandUI -> playerHandUI.setHighlight(false));
+        activeHand = index;
+        publishRound();
 
         // checkForSecond hand is true, Highlight is applied to the current hand
-        gameAreaPanel.getPlayerHand(index).setHighlight(checkForSplitHands());
+        boolean highlight = checkForSplitHands();
 
         // Get the available action from the backend logic.
         Map<BlackjackActions, Integer> actions = getOptions(index);
-        gameAreaPanel.updateActionButtons(actions);
+        renderer.post(() -> {
+            // Turn of all highlights for all hands first
+            gameAreaPanel.getPlayerHands().forEach(playerHandUI -> playerHandUI.setHighlight(false));
+            gameAreaPanel.getPlayerHand(index).setHighlight(highlight);
+            gameAreaPanel.updateActionButtons(actions);
+        });
 
         // If there are no more available options, treat it as a stand
         if (actions.isEmpty()){
@@ -355,30 +444,36 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      */
     private Map<BlackjackActions, Integer> getOptions(int index){
         Map<BlackjackActions, Integer> actions = new LinkedHashMap<>(); // LinkedHashMap is used to preserve the order
-        for (String option: BlackjackEngine.getAvailableHandOptions(gameAreaPanel.getPlayerHand(index).getHand())){
+        for (String option: BlackjackEngine.getAvailableHandOptions(hands.get(index))){
             switch (option){
                 case "HIT" -> actions.put(BlackjackActions.HIT, index);
                 case "STAND" -> actions.put(BlackjackActions.STAND, index);
                 case "DOUBLE" -> {
-                    if (gameAreaPanel.getPlayerHand(index).getHand().getBet() <= stateManager.getProfile().getBalance()) {
+                    if (hands.get(index).getBet() <= stateManager.getProfile().getBalance()) {
                         actions.put(BlackjackActions.DOUBLE, index);
                     }
                 }
                 case "SPLIT" -> {
-                    if (gameAreaPanel.getPlayerHand(index).getHand().getBet() <= stateManager.getProfile().getBalance()) {
+                    if (hands.get(index).getBet() <= stateManager.getProfile().getBalance()) {
                         actions.put(BlackjackActions.SPLIT, index);
                     }
                 }
             }
         }
+
+        // Offer a hint once the strategy is ready
+        if (!actions.isEmpty() && strategy.getNow(null) != null) {
+            actions.put(BlackjackActions.HINT, index);
+        }
         return actions;
     }
 
     /**
      * Handles the player's selected action from the action buttons.
      * <p>
-     * This method maps each selected action to its corresponding handler,
-     * ensuring the correct game logic is executed.
+     * This method sends the action to the game loop, which maps it to its corresponding handler,
+     * ensuring the correct game logic is executed. Actions from buttons that are no longer current,
+     * such as a second click on the same button, are ignored.
      *
      * @param action The selected game action.
      * @param index  The index of the player's hand affected by the action.
@@ -386,15 +481,60 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
     @Override
     public void onActionSelected(GameActions action, int index) {
         if (action instanceof BlackjackActions blackjackActions){
-            switch (blackjackActions) {
-                case HIT -> handleHitOption(index);
-                case STAND -> handleStandOption(index);
-                case DOUBLE -> handleDoubleOption(index);
-                case SPLIT -> handleSplitOption(index);
-                case INSURE -> handleInsureOption();
-                case DO_NOT_INSURE -> handleDoNotInsureOption();
+            loop.execute(() -> {
+                boolean insurance = blackjackActions == BlackjackActions.INSURE
+                        || blackjackActions == BlackjackActions.DO_NOT_INSURE;
+                if (state != BJGameState.PLAYER_TURN || index != activeHand || insurance != insuranceOffered) {
+                    return;
+                }
+                insuranceOffered = false;
+
+                recordAction(blackjackActions, index);
+                switch (blackjackActions) {
+                    case HIT -> handleHitOption(index);
+                    case STAND -> handleStandOption(index);
+                    case DOUBLE -> handleDoubleOption(index);
+                    case SPLIT -> handleSplitOption(index);
+                    case INSURE -> handleInsureOption();
+                    case DO_NOT_INSURE -> handleDoNotInsureOption();
+                    case HINT -> handleHintOption(index);
+                }
+            });
+        }
+    }
+
+    /**
+     * Handles the "Hint" action by showing the basic strategy play for the hand.
+     * <p>
+     * Only the actions currently offered are considered, so a double the balance
+     * cannot cover is never recommended.
+     *
+     * @param index The index of the player's hand.
+     */
+    private void handleHintOption(int index){
+        int options = 0;
+        for (BlackjackActions action : getOptions(index).keySet()) {
+            switch (action) {
+                case HIT -> options |= CompiledRules.mask(BJAction.HIT);
+                case STAND -> options |= CompiledRules.mask(BJAction.STAND);
+                case DOUBLE -> options |= CompiledRules.mask(BJAction.DOUBLE);
+                case SPLIT -> {
+                    // The game area offers no split beyond four hands
+                    if (hands.size() < 4) {
+                        options |= CompiledRules.mask(BJAction.SPLIT);
+                    }
+                }
             }
         }
+
+        BJAction advice = strategy.join().getAction(hands.get(index), dealerHand.getHand().get(0), options);
+        BlackjackActions hint = switch (advice) {
+            case HIT -> BlackjackActions.HIT;
+            case DOUBLE -> BlackjackActions.DOUBLE;
+            case SPLIT -> BlackjackActions.SPLIT;
+            default -> BlackjackActions.STAND;
+        };
+        renderer.post(() -> gameAreaPanel.showHint(hint));
     }
 
     /**
@@ -409,18 +549,21 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      */
     private void handleHitOption(int index){
         // Check if player can draw another card
-        if (gameAreaPanel.addPlayerCard(index, peekCardFromShoe())){
-            burnCard(); // remove the added card from the shoe
+        BJPlayerHand hand = hands.get(index);
+        BJCard card = peekCardFromShoe();
+        if (hand.canDealCard(card)){
+            hand.dealCard(card);
+            burnCard(index); // remove the added card from the shoe
+            renderer.post(() -> gameAreaPanel.addPlayerCard(index, BJCardUI.of(card)));
         }
+        publishRound();
 
         // If the player bust, move to next hand if any, or stand by default
-        BJPlayerHandUI playerHandUI = gameAreaPanel.getPlayerHand(index);
-        if (playerHandUI.getHand().getHandValue() >= 21){
+        if (hand.getHandValue() >= 21){
             // If there is another hand (split) and this the first hand, go to the second hand
-            if (checkForSplitHands() && index + 1 <  gameAreaPanel.getPlayerHands().size()){
-                index++; // increment to second hand index
-                gameAreaPanel.addPlayerCard(index, getCardFromShoe()); // second split hand has one card after split.
-                calculatePlayerOptions(index);
+            if (checkForSplitHands() && index + 1 < hands.size()){
+                dealPlayerCard(index + 1); // second split hand has one card after split.
+                calculatePlayerOptions(index + 1);
             } else {
                 handleStandOption(index);
             }
@@ -436,17 +579,16 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * @param index The index of the player's hand.
      */
     private void handleStandOption(int index){
-        BJPlayerHandUI playerHandUI = gameAreaPanel.getPlayerHand(index);
-        playerHandUI.setHighlight(false); // turns the highlight off at all cases
-        gameAreaPanel.clearActions();
+        renderer.post(() -> {
+            gameAreaPanel.getPlayerHand(index).setHighlight(false); // turns the highlight off at all cases
+            gameAreaPanel.clearActions();
+        });
 
         // If there is another hand (split) and this the first hand, go to the second hand
-        if (checkForSplitHands() && index + 1 <  gameAreaPanel.getPlayerHands().size()){
-            index++; // increment to second hand index
-            BJPlayerHandUI playerHandUI2 = gameAreaPanel.getPlayerHand(index);
-            playerHandUI2.getHand().setHandSplit(true); // to prevent blackjack for split hands
-            gameAreaPanel.addPlayerCard(index, getCardFromShoe()); // second split hand has one card after split.
-            calculatePlayerOptions(index);
+        if (checkForSplitHands() && index + 1 < hands.size()){
+            hands.get(index + 1).setHandSplit(true); // to prevent blackjack for split hands
+            dealPlayerCard(index + 1); // second split hand has one card after split.
+            calculatePlayerOptions(index + 1);
         } else {
             dealerTurn();
         }
@@ -462,12 +604,13 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * @param index The index of the player's hand.
      */
     private void handleDoubleOption(int index){
-        BJPlayerHandUI playerHandUI = gameAreaPanel.getPlayerHand(index);
-        stateManager.getProfile().decreaseBalanceBy(playerHandUI.getBet());
+        BJPlayerHand hand = hands.get(index);
+        stake(hand.getBet());
         // Add the double bet after decreasing the balance, otherwise you will decrease the double
-        playerHandUI.addDoubleChip();
+        hand.setBet(hand.getBet() * 2);
+        renderer.post(() -> gameAreaPanel.getPlayerHand(index).addDoubleChip());
         updateBalanceDisplay();
-        gameAreaPanel.addPlayerCard(index, getCardFromShoe());
+        dealPlayerCard(index);
 
         // Stand comes after the double by default
         handleStandOption(index);
@@ -476,21 +619,30 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
     /**
      * Handles the "Split" action, allowing the player to divide their hand into two separate hands.
      * <p>
-     * This method updates the UI to reflect the split, decreases the player's balance
-     * accordingly, and assigns a second card to the first split hand. The game then proceeds
-     * with the current split hand.
+     * This method moves the second card to a new hand with the same bet, decreases the player's balance
+     * accordingly, and assigns a second card to the first split hand. The game area shows the split,
+     * and the game then proceeds with the current split hand.
      *
      * @param index The index of the player's hand.
      */
     private void handleSplitOption(int index){
-        gameAreaPanel.splitHand(index); // The game area panel is responsible for the UI splitting of the hands
-        BJPlayerHandUI playerHandUI = gameAreaPanel.getPlayerHands().get(index);
-        stateManager.getProfile().decreaseBalanceBy(playerHandUI.getBet()); // decrease the same bet amount
+        BJPlayerHand original = hands.get(index);
+        BJPlayerHand split = new BJPlayerHand();
+        boolean isSplitAces = original.isSplitAces();
+
+        split.dealCard(original.getHand().remove(1));
+        split.setBet(original.getBet());
+        original.setSplitAces(isSplitAces);
+        split.setSplitAces(isSplitAces);
+        hands.add(index + 1, split);
+        renderer.post(() -> gameAreaPanel.splitHand(index)); // The game area panel is responsible for the UI splitting of the hands
+
+        stake(original.getBet()); // decrease the same bet amount
         updateBalanceDisplay();
 
         // Add the second card to the first split hand
-        playerHandUI.addCard(getCardFromShoe());
-        playerHandUI.getHand().setHandSplit(true); // To prevent the blackjack for split hand
+        dealPlayerCard(index);
+        original.setHandSplit(true); // To prevent the blackjack for split hand
         calculatePlayerOptions(index); // Start always with the first split hand
     }
 
@@ -509,26 +661,25 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      */
     private void dealerTurn(){
         state = BJGameState.DEALER_TURN;
-        gameAreaPanel.getDealerHand().flipCardUp(); // expose dealer's second card
+        renderer.post(() -> gameAreaPanel.getDealerHand().flipCardUp()); // expose dealer's second card
 
         // This flags tells, if the dealer should just expose (all player hands bust)
         // or dealer should draw till 17 (One or more of the player hands are still in the game)
         boolean isPlayerStillInTheGame = false;
 
         // check if any of the player hand is in the game
-        for (BJPlayerHandUI playerHandUI : gameAreaPanel.getPlayerHands()){
-            if (!(playerHandUI.getHand().isBlackJack() || playerHandUI.getHand().getHandValue() > 21)){
+        for (BJPlayerHand hand : hands){
+            if (!(hand.isBlackJack() || hand.getHandValue() > 21)){
                 isPlayerStillInTheGame = true;
             }
         }
 
         if (isPlayerStillInTheGame){
-            while (true){
-                if (gameAreaPanel.addDealerCard(peekCardFromShoe())){
-                    burnCard(); // remove the added card from the shoe
-                } else {
-                    break;
-                }
+            while (dealerHand.canDealCard(peekCardFromShoe())){
+                BJCard card = peekCardFromShoe();
+                dealerHand.dealCard(card);
+                burnCard(RoundReplayer.BLACKJACK_DEALER); // remove the added card from the shoe
+                renderer.post(() -> gameAreaPanel.addDealerCard(BJCardUI.of(card)));
             }
         }
         evaluateGameResults();
@@ -543,33 +694,12 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * <p>
      * This method transitions the game state to the evaluation phase and processes each player's
      * hand using the backend game logic to determine the outcome. After evaluation, it proceeds
-     * to display the results.
+     * to the payouts.
      */
     private void evaluateGameResults(){
         state = BJGameState.EVALUATION_PHASE;
-        for (BJPlayerHandUI playerHandUI : gameAreaPanel.getPlayerHands()){
-            BlackjackEngine.resolvePlayerResult(playerHandUI.getHand(),
-                    gameAreaPanel.getDealerHand().getHand());
-        }
-        displayResults();
-    }
-
-    /**
-     * Displays the game results for each player's hand.
-     * <p>
-     * This method updates the game state to indicate that the results are being displayed.
-     * It triggers the UI to show the outcome for each player's hand and then proceeds to
-     * the payout phase.
-     */
-    private void displayResults(){
-        state = BJGameState.DISPLAY_RESULT;
-        for (BJPlayerHandUI playerHandUI : gameAreaPanel.getPlayerHands()){
-            playerHandUI.displayHandResult();
-            playerHandUI.updateBetDisplay(playerHandUI.getBet());
-        }
-
-        if (gameAreaPanel.getDealerHand().getHand().getState() == BJHandState.BLACKJACK){
-            gameAreaPanel.getDealerHand().displayBlackjackResult();
+        for (BJPlayerHand hand : hands){
+            BlackjackEngine.resolvePlayerResult(hand, dealerHand);
         }
         proceedToPayouts();
     }
@@ -579,38 +709,57 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * <p>
      * This method iterates through all player hands and determines the appropriate payout
      * based on the final state of each hand. Winnings are added to the player's balance
-     * accordingly. The UI is updated to reflect the payouts, and the game transitions
-     * to a reset routine after a delay to start a new round.
+     * accordingly. The UI is updated to reflect the payouts, the settled table is published for
+     * the game area to show the result of each hand, and a reset is scheduled on the game loop
+     * after a delay to start a new round.
      */
     private void proceedToPayouts(){
         state = BJGameState.PAYOUT;
-        List<BJPlayerHandUI> allHands = gameAreaPanel.getPlayerHands();
-        for (BJPlayerHandUI playerHandUI : allHands) {
-            if (playerHandUI.getHand().getState() == BJHandState.BLACKJACK){
-                stateManager.getProfile().increaseBalanceBy(playerHandUI.getBet());
-                playerHandUI.payBlackjackWin();
-            } else if (playerHandUI.getHand().getState() == BJHandState.INSURED){
-                stateManager.getProfile().increaseBalanceBy(playerHandUI.getInsuranceBet());
-                playerHandUI.payInsurance();
-                playerHandUI.clearMainBet();
-            } else if (playerHandUI.getHand().getState() == BJHandState.WON) {
-                stateManager.getProfile().increaseBalanceBy(playerHandUI.getBet());
-                playerHandUI.payWin();
-            } else if (playerHandUI.getHand().getState() == BJHandState.PUSH) {
-                stateManager.getProfile().increaseBalanceBy(playerHandUI.getBet());
+        List<BJHandState> results = new ArrayList<>(hands.size());
+        for (BJPlayerHand hand : hands) {
+            results.add(hand.getState());
+            if (hand.getState() == BJHandState.BLACKJACK){
+                pay(hand.getBet());
+            } else if (hand.getState() == BJHandState.INSURED){
+                pay(hand.getInsuranceBet());
+                hand.setBet(0);
+            } else if (hand.getState() == BJHandState.WON || hand.getState() == BJHandState.PUSH) {
+                pay(hand.getBet());
             } else {
-                playerHandUI.clearChips();
+                hand.setBet(0);
             }
         }
+        for (int index = 0; index < hands.size(); index++) {
+            journal.settlement(index, BlackjackEngine.getReturnedAmount(hands.get(index)));
+        }
+        journal.endRound();
+
+        renderer.post(() -> {
+            List<BJPlayerHandUI> handUIs = gameAreaPanel.getPlayerHands();
+            for (int index = 0; index < results.size() && index < handUIs.size(); index++) {
+                BJPlayerHandUI playerHandUI = handUIs.get(index);
+                switch (results.get(index)) {
+                    case BLACKJACK -> playerHandUI.payBlackjackWin();
+                    case INSURED -> {
+                        playerHandUI.payInsurance();
+                        playerHandUI.clearMainBet();
+                    }
+                    case WON -> playerHandUI.payWin();
+                    case PUSH -> { }
+                    default -> playerHandUI.clearChips();
+                }
+            }
+        });
+
+        // Show the result of each hand
+        publishRound();
 
         updateBalanceDisplay();
 
         if (stateManager.isBJAutoStart()){
-            Timer timer = new Timer(5000, e -> reset());
-            timer.setRepeats(false);
-            timer.start();
+            pendingStep = loop.schedule(this::reset, 5000);
         } else {
-            gameAreaPanel.showNewGameButton(true);
+            renderer.post(() -> gameAreaPanel.showNewGameButton(true));
         }
     }
 
@@ -623,7 +772,7 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      */
     @Override
     public void startNewGame() {
-        reset();
+        loop.execute(this::reset);
     }
 
     /**
@@ -632,49 +781,70 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * This method clears all previous game actions and hands,
      * and transitions the state back to the betting phase. It also ensures that the player
      * has enough balance to continue playing. If the player's balance falls below the minimum
-     * bet, they are redirected to the main menu. Additionally, if the shoe has fewer than
-     * 15 cards remaining, a new shoe is created.
+     * bet, they are redirected to the main menu. Additionally, if the cut card has been
+     * reached, the shoe is reshuffled. Called on the game loop.
      */
     private void reset(){
+        if (state != BJGameState.PAYOUT) {
+            return;
+        }
+        pendingStep = null;
         state = BJGameState.GAME_ENDED;
-        gameAreaPanel.clearActions();
-        gameAreaPanel.clearHands();
+        renderer.post(() -> {
+            gameAreaPanel.clearActions();
+            gameAreaPanel.clearHands();
+        });
         state = BJGameState.BET_PHASE;
-        ChipPanelUtil.regenerateChipPanel(this, stateManager);
+        startSeat();
+        renderer.post(() -> ChipPanelUtil.regenerateChipPanel(this, stateManager));
 
         // If player has no enough money, Player then escorted to main menu
         if (stateManager.getProfile().getBalance() < MIN_BET){
-            stateManager.switchPanel("MainMenu");
+            renderer.post(() -> {
+                stateManager.switchPanel("MainMenu");
 
-            StyledNotificationDialog dialog = new StyledNotificationDialog(
-                    stateManager.getFrame(),
-                    "You don't have enough balance to continue playing. "
-            );
+                StyledNotificationDialog dialog = new StyledNotificationDialog(
+                        stateManager.getFrame(),
+                        "You don't have enough balance to continue playing. "
+                );
 
-            dialog.setVisible(true);
+                dialog.setVisible(true);
+            });
         }
 
-        // If the shoe has less than 15 cards, start a new shoe
-        if (cards.size() < 15){
-            cards = Shoe.createShoe(4, LetterDeck::new).cards();
+        // If the cut card has been reached, reshuffle the shoe
+        if (shoe.needsReshuffle()){
+            shoe.reshuffle();
 
-            StyledNotificationDialog dialog = new StyledNotificationDialog(
-                    stateManager.getFrame(),
-                    "Shoe ended, Starting a new Shoe. "
-            );
+            renderer.post(() -> {
+                StyledNotificationDialog dialog = new StyledNotificationDialog(
+                        stateManager.getFrame(),
+                        "Shoe ended, Starting a new Shoe. "
+                );
 
-            dialog.setVisible(true);
+                dialog.setVisible(true);
+            });
         }
     }
 
     /** Protected API for the {@link BlackjackPanel} to revert to initial state when exiting */
     protected void resetScreen(){
-        state = BJGameState.BET_PHASE;
         chipPanel.setVisible(false);
-        gameAreaPanel.clearActions();
-        gameAreaPanel.clearHands();
         ChipPanelUtil.removeChipPanel(this, stateManager);
-        cards = Shoe.createShoe(4, LetterDeck::new).cards();
+        loop.execute(() -> {
+            if (pendingStep != null) {
+                pendingStep.cancel(false);
+                pendingStep = null;
+            }
+            state = BJGameState.BET_PHASE;
+            insuranceOffered = false;
+            renderer.post(() -> {
+                gameAreaPanel.clearActions();
+                gameAreaPanel.clearHands();
+            });
+            startSeat();
+            shoe.reshuffle();
+        });
     }
 
     /** Protected API for the {@link BlackjackPanel} to restart fresh and updated screen */
@@ -687,6 +857,83 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
         Helper methods
     ======================*/
 
+    /**
+     * Takes an amount from the player's balance and counts it as staked this round.
+     *
+     * @param amount The amount put at risk.
+     */
+    private void stake(int amount) {
+        stateManager.getProfile().decreaseBalanceBy(amount);
+        staked += amount;
+    }
+
+    /**
+     * Adds an amount to the player's balance and counts it as paid out this round.
+     *
+     * @param amount The amount returned to the player.
+     */
+    private void pay(int amount) {
+        stateManager.getProfile().increaseBalanceBy(amount);
+        payout += amount;
+    }
+
+    /**
+     * Empties the seat and the dealer's hand for the next round and publishes the cleared table.
+     */
+    private void startSeat() {
+        hands.clear();
+        hands.add(new BJPlayerHand());
+        dealerHand = new BJDealerHand();
+        activeHand = BJPlayerHandUI.FIRST_HAND;
+        betChips = 0;
+        openingBet = 0;
+        staked = 0;
+        payout = 0;
+        publishRound();
+    }
+
+    /**
+     * Publishes a snapshot of the table for the game area to draw.
+     * <p>
+     * The dealer's hole card is left out until the dealer's turn.
+     */
+    private void publishRound() {
+        snapshots.publish(version -> {
+            List<HandSnapshot> handSnapshots = new ArrayList<>(hands.size());
+            int insuranceBet = 0;
+            for (BJPlayerHand hand : hands) {
+                handSnapshots.add(HandSnapshot.of(hand));
+                insuranceBet += hand.getInsuranceBet();
+            }
+            int bet = state == BJGameState.BET_PHASE ? hands.get(BJPlayerHandUI.FIRST_HAND).getBet() : openingBet;
+            SeatSnapshot seat = new SeatSnapshot(0, bet, staked, insuranceBet, payout, handSnapshots);
+            return TableSnapshot.of(0, version, rounds, getTablePhase(), 0, activeHand,
+                    dealerHand, isHoleCardVisible(), List.of(seat));
+        });
+    }
+
+    /**
+     * Maps the game state to the phase of the table shown in the snapshots.
+     *
+     * @return The phase of the table.
+     */
+    private BJTablePhase getTablePhase() {
+        return switch (state) {
+            case BET_PHASE, GAME_ENDED -> BJTablePhase.BETTING;
+            case DISPLAY_RESULT, PAYOUT -> BJTablePhase.SETTLED;
+            default -> BJTablePhase.PLAYING;
+        };
+    }
+
+    /**
+     * Checks if the dealer's second card has been turned up.
+     *
+     * @return {@code true} from the dealer's turn until the round ends.
+     */
+    private boolean isHoleCardVisible() {
+        return state.ordinal() >= BJGameState.DEALER_TURN.ordinal() && state != BJGameState.GAME_ENDED;
+    }
+
     /**
      * Checks if the player has split hands.
      * <p>
@@ -696,32 +943,92 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * @return true if the player has multiple hands, false otherwise.
      */
     private boolean checkForSplitHands(){
-        return gameAreaPanel.getPlayerHands().size() > 1;
+        return hands.size() > 1;
     }
 
     /**
      * Updates the balance display with the current balance.
      * <p>
      * Retrieves the player's current balance from the profile and updates
-     * the UI's balance display accordingly.
+     * the UI's balance display accordingly, after the changes already posted.
      */
     @Override
     public void updateBalanceDisplay() {
-        topPanel.setBalance(stateManager.getProfile().getBalance());
+        double balance = stateManager.getProfile().getBalance();
+        renderer.post(() -> topPanel.setBalance(balance));
+    }
+
+    /**
+     * Shows a short message to the player, after the changes already posted.
+     *
+     * @param message The message to show.
+     */
+    private void showToast(String message) {
+        renderer.post(() -> new Toast(stateManager.getFrame(), message, 3000).setVisible(true));
+    }
+
+    /**
+     * Records a decision of the player in the round journal, before it is played.
+     * Insurance is recorded once its amount is known.
+     *
+     * @param action The selected action.
+     * @param index  The index of the player's hand.
+     */
+    private void recordAction(BlackjackActions action, int index) {
+        switch (action) {
+            case HIT -> journal.action(index, BJAction.HIT.ordinal(), 0);
+            case STAND -> journal.action(index, BJAction.STAND.ordinal(), 0);
+            case DOUBLE -> journal.action(index, BJAction.DOUBLE.ordinal(), hands.get(index).getBet());
+            case SPLIT -> journal.action(index, BJAction.SPLIT.ordinal(), hands.get(index).getBet());
+        }
+    }
+
+    /**
+     * Deals the top card of the shoe to a player hand if it can take one, and shows it in the game area.
+     * The card leaves the shoe either way.
+     *
+     * @param index The index of the player's hand.
+     */
+    private void dealPlayerCard(int index) {
+        BJCard card = getCardFromShoe(index);
+        BJPlayerHand hand = hands.get(index);
+        if (hand.canDealCard(card)) {
+            hand.dealCard(card);
+            renderer.post(() -> gameAreaPanel.addPlayerCard(index, BJCardUI.of(card)));
+        }
+    }
+
+    /**
+     * Deals the top card of the shoe to the dealer and shows it in the game area.
+     *
+     * @param faceDown {@code true} to show the card face down.
+     */
+    private void dealDealerCard(boolean faceDown) {
+        BJCard card = getCardFromShoe(RoundReplayer.BLACKJACK_DEALER);
+        if (dealerHand.canDealCard(card)) {
+            dealerHand.dealCard(card);
+            renderer.post(() -> {
+                gameAreaPanel.addDealerCard(BJCardUI.of(card));
+                if (faceDown) {
+                    gameAreaPanel.getDealerHand().flipCardDown();
+                }
+            });
+        }
     }
 
     /**
      * Draws and removes the top card from the shoe.
      * <p>
      * This method retrieves the top card from the shoe and removes it from the deck,
-     * simulating the process of dealing a card in the game.
+     * simulating the process of dealing a card in the game. The card is recorded in the round journal.
      *
-     * @return The top card from the shoe as {@link BJCardUI}.
+     * @param target The hand receiving the card, or {@link RoundReplayer#BLACKJACK_DEALER}.
+     * @return The top card from the shoe as {@link BJCard}.
      */
-    private BJCardUI getCardFromShoe() {
-        Card card = cards.remove(0);
-        Asset asset = CardAsset.fromString(card.getSuit() + card.getRank());
-        return new BJCardUI(card.getRank(), card.getSuit(), asset);
+    private BJCard getCardFromShoe(int target) {
+        Card card = shoe.deal();
+        journal.card(target, card);
+        return BJCard.of(card);
     }
 
     /**
@@ -730,22 +1037,21 @@ public class BlackjackController implements Mediator, ChipPanelConsumer {
      * This method allows the game logic to check the next card in the shoe
      * without altering the deck order.
      *
-     * @return The top card from the shoe as {@link BJCardUI}.
+     * @return The top card from the shoe as {@link BJCard}.
      */
-    private BJCardUI peekCardFromShoe(){
-        Card card = cards.get(0);
-        Asset asset = CardAsset.fromString(card.getSuit() + card.getRank());
-        return new BJCardUI(card.getRank(), card.getSuit(), asset);
+    private BJCard peekCardFromShoe(){
+        return BJCard.of(shoe.peek());
     }
 
     /**
-     * Removes the top card from the shoe without using it.
-     * <p>
-     * This method is typically used in blackjack to discard a card,
-     * simulating the burning process used in some game variations.
+     * Removes the top card from the shoe once a peeked card has been placed on a hand,
+     * recording it in the round journal.
+     *
+     * @param target The hand that received the card, or {@link RoundReplayer#BLACKJACK_DEALER}.
      */
-    private void burnCard(){
-        getCardFromShoe();
+    private void burnCard(int target){
+        journal.card(target, shoe.peek());
+        shoe.burn();
     }
 
     /*======================
@@ -3,6 +3,9 @@ package org.daniel.elysium.games.blackjack.center;
 import org.daniel.elysium.StateManager;
 import org.daniel.elysium.assets.ButtonAsset;
 import org.daniel.elysium.assets.LogoAsset;
+import org.daniel.elysium.blackjack.constants.BJTablePhase;
+import org.daniel.elysium.blackjack.table.HandSnapshot;
+import org.daniel.elysium.blackjack.table.TableSnapshot;
 import org.daniel.elysium.elements.buttons.StyledButton;
 import org.daniel.elysium.elements.labels.LogoLabel;
 import org.daniel.elysium.games.blackjack.center.models.BJDealerHandUI;
@@ -29,6 +32,8 @@ public class BJGameAreaPanel extends JPanel {
     private final JPanel buttonSwitcherPanel;
     private final CardLayout cardLayout;
     private final JPanel actionButtonsPanel;
+    private StyledButton hintButton;
+    private TableSnapshot rendered;
 
     /**
      * Constructs the main blackjack play area, initializing UI elements.
@@ -175,6 +180,7 @@ public class BJGameAreaPanel extends JPanel {
 
         dealerHandPanel.removeAll();
         dealerHandPanel.add(new BJDealerHandUI());
+        rendered = null; // The new hands show nothing drawn yet
 
         revalidate();
         repaint();
@@ -188,16 +194,12 @@ public class BJGameAreaPanel extends JPanel {
      * Adds a card to the dealer's hand.
      *
      * @param card The {@link BJCardUI} to be added.
-     * @return {@code true} if successfully added, otherwise {@code false}.
      */
-    public boolean addDealerCard(BJCardUI card) {
+    public void addDealerCard(BJCardUI card) {
         BJDealerHandUI dealerHandUI = getDealerHand();
-        if (dealerHandUI.addCard(card)) {
-            dealerHandUI.revalidate();
-            dealerHandUI.repaint();
-            return true;
-        }
-        return false;
+        dealerHandUI.addCard(card);
+        dealerHandUI.revalidate();
+        dealerHandUI.repaint();
     }
 
     /**
@@ -205,39 +207,27 @@ public class BJGameAreaPanel extends JPanel {
      *
      * @param index The index of the player hand.
      * @param card  The {@link BJCardUI} to be added.
-     * @return {@code true} if successfully added, otherwise {@code false}.
      */
-    public boolean addPlayerCard(int index, BJCardUI card) {
+    public void addPlayerCard(int index, BJCardUI card) {
         BJPlayerHandUI playerHandUI = getPlayerHand(index);
-        if (playerHandUI.addCard(card)) {
-            playerHandUI.revalidate();
-            playerHandUI.repaint();
-            return true;
-        }
-        return false;
+        playerHandUI.addCard(card);
+        playerHandUI.revalidate();
+        playerHandUI.repaint();
     }
 
     /**
-     * Splits the player's hand into two and handles the UI elements and the internal hand.
+     * Splits the player's hand into two, moving the second card and a copy of the chips to the new hand.
      * @param index The index of the player hand.
      */
     public void splitHand(int index) {
         BJPlayerHandUI original = getPlayerHand(index);
         BJPlayerHandUI split = new BJPlayerHandUI();
 
-        boolean isSplitAces = original.getHand().isSplitAces();
-
         BJCardUI secondCard = (BJCardUI) original.getPlayerCards().getComponent(1);
         original.getPlayerCards().remove(1);
-        original.getHand().getHand().remove(1);
 
         split.addCard(secondCard);
         split.getBetPanel().getChipsMain().addAll(original.getBetPanel().getChipsMain());
-        split.getHand().setBet(original.getBet());
-        split.getBetPanel().updateBetDisplay(split.getBet());
-
-        original.getHand().setSplitAces(isSplitAces);
-        split.getHand().setSplitAces(isSplitAces);
 
         playerHandPanel.add(split, index + 1);
 
@@ -245,6 +235,44 @@ public class BJGameAreaPanel extends JPanel {
         repaint();
     }
 
+    /* ======================
+       Rendering
+       ====================== */
+
+    /**
+     * Draws a snapshot of the table, updating only what changed since the last snapshot drawn.
+     * <p>
+     * The bet display of a hand is rewritten when its bet changes, and the results are shown over
+     * every hand, and over the dealer's hand for a Blackjack, once, when the round is settled.
+     * </p>
+     *
+     * @param snapshot The latest snapshot of the table.
+     */
+    public void render(TableSnapshot snapshot) {
+        TableSnapshot previous = rendered;
+        rendered = snapshot;
+
+        List<HandSnapshot> hands = snapshot.seats().get(0).hands();
+        List<HandSnapshot> previousHands = previous == null ? List.of() : previous.seats().get(0).hands();
+        boolean settled = snapshot.phase() == BJTablePhase.SETTLED
+                && (previous == null || previous.phase() != BJTablePhase.SETTLED);
+
+        List<BJPlayerHandUI> handUIs = getPlayerHands();
+        for (int index = 0; index < hands.size() && index < handUIs.size(); index++) {
+            HandSnapshot hand = hands.get(index);
+            if (index >= previousHands.size() || previousHands.get(index).bet() != hand.bet()) {
+                handUIs.get(index).updateBetDisplay(hand.bet());
+            }
+            if (settled) {
+                handUIs.get(index).displayHandResult(hand.state());
+            }
+        }
+
+        if (settled && snapshot.isDealerBlackjack()) {
+            getDealerHand().displayBlackjackResult();
+        }
+    }
+
     /* ======================
        Button Visibility
        ====================== */
@@ -257,6 +285,7 @@ public class BJGameAreaPanel extends JPanel {
     public void updateActionButtons(Map<BlackjackActions, Integer> availableActions) {
         // Clear existing buttons
         actionButtonsPanel.removeAll();
+        hintButton = null;
 
         // Add new buttons based on the available actions
         if (availableActions != null && !availableActions.isEmpty()) {
@@ -265,6 +294,9 @@ public class BJGameAreaPanel extends JPanel {
                     StyledButton button = new StyledButton(action.toString());
                     button.addActionListener(e -> mediator.onActionSelected(action, index));
                     actionButtonsPanel.add(button);
+                    if (action == BlackjackActions.HINT) {
+                        hintButton = button;
+                    }
                 }
             });
 
@@ -280,6 +312,17 @@ public class BJGameAreaPanel extends JPanel {
         }
     }
 
+    /**
+     * Shows the recommended action on the hint button, which stays disabled until the buttons are next updated.
+     *
+     * @param advice The recommended action.
+     */
+    public void showHint(BlackjackActions advice) {
+        if (hintButton != null) {
+            hintButton.setText(BlackjackActions.HINT + ": " + advice);
+            hintButton.setEnabled(false);
+        }
+    }
 
     /**
      * Toggles the visibility of the deal button.
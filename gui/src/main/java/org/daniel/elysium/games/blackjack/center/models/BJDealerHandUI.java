@@ -2,8 +2,6 @@ package org.daniel.elysium.games.blackjack.center.models;
 
 import org.daniel.elysium.assets.AssetManager;
 import org.daniel.elysium.assets.ResultAsset;
-import org.daniel.elysium.blackjack.constants.BJHandState;
-import org.daniel.elysium.blackjack.models.BJDealerHand;
 import org.daniel.elysium.games.blackjack.models.BJCardUI;
 
 import javax.swing.*;
@@ -11,48 +9,29 @@ import java.awt.*;
 
 /**
  * Represents the dealer's hand in the Blackjack UI.
- * This class manages both the visual representation of the dealer's cards
- * and the backend logic through {@link BJDealerHand}.
+ * This class manages the visual representation of the dealer's cards,
+ * the hand itself is kept by the game controller.
  */
 public class BJDealerHandUI extends JPanel {
-    private final BJDealerHand hand;
     private Image overlayImage;
 
     /**
      * Constructs a new dealer hand UI panel.
-     * Sets up the layout and initializes the backend dealer hand logic.
+     * Sets up the layout of the cards.
      */
     public BJDealerHandUI() {
         setLayout(new FlowLayout(FlowLayout.CENTER, 10, 10));
         setPreferredSize(new Dimension(getWidth(), 150));
         setOpaque(false);
-
-        // Create the logical backend hand
-        hand = new BJDealerHand();
-    }
-
-    /**
-     * Retrieves the backend hand implementation of the dealer.
-     *
-     * @return The {@link BJDealerHand} instance managing game logic.
-     */
-    public BJDealerHand getHand() {
-        return hand;
     }
 
     /**
-     * Adds a card to both the UI and backend dealer hand.
+     * Shows a card dealt to the dealer.
      *
      * @param uiCard The UI card representation to be added.
-     * @return {@code true} if the card was successfully added, {@code false} otherwise.
      */
-    public boolean addCard(BJCardUI uiCard) {
-        if (hand.canDealCard(uiCard.getCard())) {
-            hand.dealCard(uiCard.getCard());
-            add(uiCard);
-            return true;
-        }
-        return false;
+    public void addCard(BJCardUI uiCard) {
+        add(uiCard);
     }
 
     /**
@@ -79,9 +58,7 @@ public class BJDealerHandUI extends JPanel {
      * Displays the blackjack hand result image.
      */
     public void displayBlackjackResult(){
-        if (hand.getState() == BJHandState.BLACKJACK){
-            showOverlay(AssetManager.getScaledImage(ResultAsset.BLACKJACK, new Dimension(500, 200)));
-        }
+        showOverlay(AssetManager.getScaledImage(ResultAsset.BLACKJACK, new Dimension(500, 200)));
     }
 
     /**
@@ -2,7 +2,7 @@ package org.daniel.elysium.games.blackjack.center.models;
 
 import org.daniel.elysium.assets.AssetManager;
 import org.daniel.elysium.assets.ResultAsset;
-import org.daniel.elysium.blackjack.models.BJPlayerHand;
+import org.daniel.elysium.blackjack.constants.BJHandState;
 import org.daniel.elysium.games.blackjack.models.BJCardUI;
 import org.daniel.elysium.models.chips.Chip;
 
@@ -13,18 +13,17 @@ import java.util.List;
 
 /**
  * Represents the player's hand in the Blackjack UI.
- * Manages both the visual representation and backend logic of the player's hand.
+ * Manages the visual representation of the player's hand, the hand itself is kept by the game controller.
  */
 public class BJPlayerHandUI extends JPanel {
     private final BJPlayerCardsPanel playerCards;
     private final BJBetPanel betPanel;
-    private final BJPlayerHand hand;
 
     public static final int FIRST_HAND = 0;
 
     /**
      * Constructs a new player hand UI.
-     * Initializes the UI components and the backend player hand logic.
+     * Initializes the cards and bet components.
      */
     public BJPlayerHandUI() {
         setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
@@ -40,9 +39,6 @@ public class BJPlayerHandUI extends JPanel {
         betPanel = new BJBetPanel();
         betPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
         add(betPanel);
-
-        // Create the logical backend hand
-        hand = new BJPlayerHand();
     }
 
     /*========================
@@ -67,72 +63,17 @@ public class BJPlayerHandUI extends JPanel {
         return betPanel;
     }
 
-    /**
-     * Gets the backend implementation of the player's hand.
-     *
-     * @return The {@link BJPlayerHand} instance.
-     */
-    public BJPlayerHand getHand() {
-        return hand;
-    }
-
-    /*========================
-      Bet setters and getters
-     ========================*/
-
-    /**
-     * Gets the player's main bet amount.
-     *
-     * @return The bet amount.
-     */
-    public int getBet() {
-        return hand.getBet();
-    }
-
-    /**
-     * Gets the player's insurance bet amount.
-     *
-     * @return The insurance bet amount.
-     */
-    public int getInsuranceBet() {
-        return hand.getInsuranceBet();
-    }
-
-    /**
-     * Sets the player's main bet.
-     *
-     * @param bet The bet amount.
-     */
-    public void setBet(int bet) {
-        hand.setBet(bet);
-    }
-
-    /**
-     * Sets the player's insurance bet.
-     *
-     * @param insuranceBet The insurance bet amount.
-     */
-    public void setInsuranceBet(int insuranceBet) {
-        hand.setInsuranceBet(insuranceBet);
-    }
-
     /*========================
       Cards methods
      ========================*/
 
     /**
-     * Adds a card to the player's UI and backend hand.
+     * Shows a card dealt to the player's hand.
      *
      * @param uiCard The card to add.
-     * @return {@code true} if the card was successfully added, {@code false} otherwise.
      */
-    public boolean addCard(BJCardUI uiCard) {
-        if (hand.canDealCard(uiCard.getCard())) {
-            hand.dealCard(uiCard.getCard());
-            playerCards.addCard(uiCard);
-            return true;
-        }
-        return false;
+    public void addCard(BJCardUI uiCard) {
+        playerCards.addCard(uiCard);
     }
 
     /**
@@ -158,14 +99,12 @@ public class BJPlayerHandUI extends JPanel {
     }
 
     /**
-     * Adds a chip to the main bet and updates the display.
+     * Adds a chip to the main bet.
      *
      * @param chip The chip to add.
      */
     public void addChip(Chip chip) {
         betPanel.addChipMain(chip);
-        setBet(getBet() + chip.getValue());
-        updateBetDisplay(getBet());
     }
 
     /**
@@ -176,8 +115,6 @@ public class BJPlayerHandUI extends JPanel {
         for (Chip chip : chips) {
             getBetPanel().addChipExtra(chip);
         }
-        setBet(getBet() * 2);
-        updateBetDisplay(getBet());
     }
 
     /**
@@ -191,7 +128,6 @@ public class BJPlayerHandUI extends JPanel {
         for (Chip chip : chips) {
             getBetPanel().addChipExtra(chip);
         }
-        setInsuranceBet((int) (chipsValue * 0.5));
     }
 
     /**
@@ -236,29 +172,24 @@ public class BJPlayerHandUI extends JPanel {
     }
 
     /**
-     * Clears the main bet and removes UI chips from the bet panel.
+     * Removes the UI chips of the main bet from the bet panel.
      */
     public void clearMainBet() {
-        hand.setBet(0);
         betPanel.clearMainChips();
-        updateBetDisplay(getBet());
     }
 
     /**
-     * Clears the insurance bet and removes UI chips from the extra bet panel.
+     * Removes the UI chips of the insurance bet from the extra bet panel.
      */
     public void clearInsuranceBet() {
-        hand.setInsuranceBet(0);
         betPanel.clearExtraChips();
     }
 
     /**
-     * Clears all bets and removes UI chips from both main and extra bet panels.
+     * Removes the UI chips from both main and extra bet panels.
      */
     public void clearChips() {
         betPanel.clearChips();
-        hand.setBet(0);
-        updateBetDisplay(getBet());
     }
 
     /*========================
@@ -267,9 +198,11 @@ public class BJPlayerHandUI extends JPanel {
 
     /**
      * Displays the hand result image based on the game state.
+     *
+     * @param state The result of the hand.
      */
-    public void displayHandResult(){
-        switch (hand.getState()){
+    public void displayHandResult(BJHandState state){
+        switch (state){
             case BLACKJACK -> playerCards.showOverlay(AssetManager.getScaledImage(ResultAsset.BLACKJACK, new Dimension(500, 200)));
             case INSURED -> playerCards.showOverlay(AssetManager.getScaledImage(ResultAsset.INSURED, new Dimension(400, 200)));
             case WON -> playerCards.showOverlay(AssetManager.getScaledImage(ResultAsset.WIN, new Dimension(300, 200)));
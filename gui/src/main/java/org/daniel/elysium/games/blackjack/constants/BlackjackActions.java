@@ -6,7 +6,7 @@ import org.daniel.elysium.interfaces.GameActions;
  * Enum representing the possible actions a player can take in Blackjack.
  */
 public enum BlackjackActions implements GameActions {
-    HIT, STAND, DOUBLE, SPLIT, INSURE, DO_NOT_INSURE;
+    HIT, STAND, DOUBLE, SPLIT, INSURE, DO_NOT_INSURE, HINT;
 
     /**
      * Returns a formatted string representation of the action.
@@ -22,6 +22,7 @@ public enum BlackjackActions implements GameActions {
             case SPLIT -> "Split";
             case INSURE -> "Insure";
             case DO_NOT_INSURE -> "Do not insure";
+            case HINT -> "Hint";
         };
     }
 }
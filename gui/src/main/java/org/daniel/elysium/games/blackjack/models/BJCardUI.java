@@ -1,6 +1,7 @@
 package org.daniel.elysium.games.blackjack.models;
 
 import org.daniel.elysium.assets.Asset;
+import org.daniel.elysium.assets.CardAsset;
 import org.daniel.elysium.blackjack.models.BJCard;
 import org.daniel.elysium.models.cards.UICard;
 
@@ -22,7 +23,17 @@ public class BJCardUI extends UICard {
      */
     public BJCardUI(String rank, String suit, Asset icon) {
         super(rank, suit, icon);
-        card = new BJCard(rank, suit);
+        card = BJCard.of(rank, suit);
+    }
+
+    /**
+     * Creates the visual representation of a dealt card.
+     *
+     * @param card The logical card.
+     * @return A {@code BJCardUI} showing the card's face.
+     */
+    public static BJCardUI of(BJCard card) {
+        return new BJCardUI(card.getRank(), card.getSuit(), CardAsset.fromString(card.getSuit() + card.getRank()));
     }
 
     /**
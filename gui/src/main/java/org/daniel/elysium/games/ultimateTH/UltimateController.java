@@ -1,8 +1,7 @@
 package org.daniel.elysium.games.ultimateTH;
 
 import org.daniel.elysium.StateManager;
-import org.daniel.elysium.assets.Asset;
-import org.daniel.elysium.assets.CardAsset;
+import org.daniel.elysium.debugUtils.DebugPrint;
 import org.daniel.elysium.elements.notifications.StyledConfirmDialog;
 import org.daniel.elysium.elements.notifications.StyledNotificationDialog;
 import org.daniel.elysium.elements.notifications.Toast;
@@ -14,33 +13,61 @@ import org.daniel.elysium.games.ultimateTH.models.UthCardUI;
 import org.daniel.elysium.interfaces.ChipPanelConsumer;
 import org.daniel.elysium.interfaces.GameActions;
 import org.daniel.elysium.interfaces.Mediator;
+import org.daniel.elysium.journal.JournalGame;
+import org.daniel.elysium.journal.RoundJournal;
+import org.daniel.elysium.journal.RoundRecorder;
+import org.daniel.elysium.journal.RoundReplayer;
 import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.GameLoop;
 import org.daniel.elysium.models.LetterDeck;
 import org.daniel.elysium.models.Shoe;
+import org.daniel.elysium.models.SnapshotPublisher;
+import org.daniel.elysium.models.chips.BetCircle;
 import org.daniel.elysium.models.chips.Chip;
 import org.daniel.elysium.models.panels.ChipPanel;
 import org.daniel.elysium.models.panels.ChipPanelUtil;
+import org.daniel.elysium.models.panels.SnapshotRenderer;
 import org.daniel.elysium.models.panels.TopPanel;
+import org.daniel.elysium.ultimateTH.UthEquityCalculator;
 import org.daniel.elysium.ultimateTH.UthGameEngine;
 import org.daniel.elysium.ultimateTH.constants.UthGameStage;
 import org.daniel.elysium.ultimateTH.constants.UthHandState;
+import org.daniel.elysium.ultimateTH.model.UthCard;
+import org.daniel.elysium.ultimateTH.model.UthEquity;
 import org.daniel.elysium.ultimateTH.model.UthHand;
 import org.daniel.elysium.ultimateTH.model.UthPlayerHand;
+import org.daniel.elysium.ultimateTH.model.UthRoundSnapshot;
 
 import javax.swing.*;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * Controls the Ultimate TH game flow, handling state transitions, UI updates, and interactions.
+ * <p>
+ * The game state is owned by a {@link GameLoop}: the handlers called on the Event Dispatch Thread only
+ * check what the panels know and send the rest of the work to the loop, which plays the round,
+ * publishes snapshots of the table and posts the panel changes back through a {@link SnapshotRenderer}.
+ * The equity of each stage is still calculated by a background worker, off both threads.
+ * </p>
  */
 public class UltimateController implements Mediator, ChipPanelConsumer {
     // State managers
     private final StateManager stateManager;
-    private UthGameState state = UthGameState.BET_PHASE;
-    private UthGameStage stage = UthGameStage.START;
+    private volatile UthGameState state = UthGameState.BET_PHASE;
+    private volatile UthGameStage stage = UthGameStage.START;
+
+    // The round being played, only touched on the game loop
+    private UthPlayerHand playerHand = new UthPlayerHand();
+    private UthHand dealerHand = new UthHand();
+    private final List<UthCard> communityCards = new ArrayList<>();
+    // Chips on the ante and on the trips bet, counted here because the panels draw them later
+    private int anteChips;
+    private int tripsChips;
 
     // References to subcomponents.
     private final TopPanel topPanel;
@@ -51,8 +78,22 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
     public static final int MIN_BET = 10;
 
     // Game cards creation
-    Shoe<Card> shoe = Shoe.createShoe(1, LetterDeck::new);
-    private List<Card> cards = shoe.cards();
+    private final Shoe<Card> shoe = Shoe.createShoe(1, LetterDeck::new);
+
+    // Records every round for later replay
+    private final RoundRecorder journal = RoundJournal.recorderFor(JournalGame.ULTIMATE_TH);
+
+    // Publishes the round state for the game area to draw
+    private final SnapshotPublisher<UthRoundSnapshot> snapshots = new SnapshotPublisher<>();
+    private final SnapshotRenderer<UthRoundSnapshot> renderer;
+    private long rounds;
+
+    // Plays the round off the Event Dispatch Thread
+    private final GameLoop loop = new GameLoop("ultimate-loop");
+    private ScheduledFuture<?> pendingStep;
+
+    // Background equity calculation of the current stage
+    private SwingWorker<UthEquity, Void> equityWorker;
 
     /**
      * Constructs the UltimateController and initializes game components.
@@ -64,6 +105,8 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
         this.topPanel = new TopPanel(this, stateManager);
         this.chipPanel = new ChipPanel(this, stateManager);
         this.gameAreaPanel = new UthGameAreaPanel(this, stateManager);
+        this.renderer = new SnapshotRenderer<>(gameAreaPanel::render);
+        snapshots.subscribe(renderer);
     }
 
     /*======================
@@ -78,6 +121,7 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      * If the player has sufficient balance and the bet is valid, the "Deal" and "Clear Bet" buttons are displayed.
      * If the bet exceeds the allowed chip limit, a warning message is displayed.
      * If the balance is insufficient, an error message is shown.
+     * The selected betting area is checked here, the chips, the balance and the bet on the game loop.
      *
      * @param chip The selected chip to be placed as a bet.
      */
@@ -89,40 +133,48 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
             return;
         }
 
-        UthPlayerHand hand = gameAreaPanel.getPlayerHand();
+        boolean trips = gameAreaPanel.getSelectedCircle().getLabel().equals("TRIPS");
 
-        // Handles the balance check in case of trips bet or ante/blind bet
-        if (gameAreaPanel.getSelectedCircle().getLabel().equals("TRIPS")){
-            // Check if user have enough balance for the bet
-            if (!(hand.getTrips() + chip.getValue() <= stateManager.getProfile().getBalance())){
-                new Toast(stateManager.getFrame(), "Not enough balance.", 3000).setVisible(true);
+        loop.execute(() -> {
+            if (state != UthGameState.BET_PHASE) {
                 return;
             }
-        } else {
-            if (!(hand.getAnte() + chip.getValue() <= stateManager.getProfile().getBalance() / 2)){
-                new Toast(stateManager.getFrame(), "Not enough balance.", 3000).setVisible(true);
+
+            // Check if the betPanel can have more chips on it
+            if ((trips ? tripsChips : anteChips) >= BetCircle.MAX_USER_CHIPS) {
+                showToast("Max number of chips reached.");
                 return;
             }
-        }
-
-        // Check if the betPanel can have more chips on it
-        if (!gameAreaPanel.getSelectedCircle().canAddChip()){
-            new Toast(stateManager.getFrame(), "Max number of chips reached.", 3000).setVisible(true);
-            return;
-        }
 
-        gameAreaPanel.addChip(chip);
+            // Handles the balance check in case of trips bet or ante/blind bet
+            if (trips){
+                // Check if user have enough balance for the bet
+                if (!(playerHand.getTrips() + chip.getValue() <= stateManager.getProfile().getBalance())){
+                    showToast("Not enough balance.");
+                    return;
+                }
+            } else {
+                if (!(playerHand.getAnte() + chip.getValue() <= stateManager.getProfile().getBalance() / 2)){
+                    showToast("Not enough balance.");
+                    return;
+                }
+            }
 
-        // Sets the corresponding bet [trips - ante/blind]
-        if (gameAreaPanel.getSelectedCircle().getLabel().equals("ANTE") || gameAreaPanel.getSelectedCircle().getLabel().equals("BLIND")){
-            hand.setBet(hand.getAnte() + chip.getValue());
-            gameAreaPanel.updateBetDisplay(hand.getAnte());
-        } else {
-            hand.setTrips(hand.getTrips() + chip.getValue());
-            gameAreaPanel.updateTripsDisplay(hand.getTrips());
-        }
-        gameAreaPanel.showClearBetButton(true);
-        gameAreaPanel.showDealButton(true);
+            // Sets the corresponding bet [trips - ante/blind]
+            if (trips){
+                playerHand.setTrips(playerHand.getTrips() + chip.getValue());
+                tripsChips++;
+            } else {
+                playerHand.setBet(playerHand.getAnte() + chip.getValue());
+                anteChips++;
+            }
+            publishRound();
+            renderer.post(() -> {
+                gameAreaPanel.addChip(chip);
+                gameAreaPanel.showClearBetButton(true);
+                gameAreaPanel.showDealButton(true);
+            });
+        });
     }
 
     /**
@@ -130,24 +182,29 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      * <p>
      * This method clears all chips from the betting area.
      * It also hides the "Clear Bet" and "Deal" buttons, ensuring that the game does not start without a valid bet.
-     * Finally, the player's balance display is updated.
+     * The bets are reset on the game loop, after the chips already queued, and the panels follow.
      */
     @Override
     public void onClearBet() {
-        gameAreaPanel.showDealButton(false);
-        gameAreaPanel.showClearBetButton(false);
-        gameAreaPanel.getPlayerHand().setBet(0);
-        gameAreaPanel.getPlayerHand().setTrips(0);
-        gameAreaPanel.updateBetDisplay(0);
-        gameAreaPanel.updateTripsDisplay(0);
-        gameAreaPanel.resetSelection();
-        gameAreaPanel.clearAllChips();
+        loop.execute(() -> {
+            playerHand.setBet(0);
+            playerHand.setTrips(0);
+            anteChips = 0;
+            tripsChips = 0;
+            publishRound();
+            renderer.post(() -> {
+                gameAreaPanel.showDealButton(false);
+                gameAreaPanel.showClearBetButton(false);
+                gameAreaPanel.resetSelection();
+                gameAreaPanel.clearAllChips();
+            });
+        });
     }
 
     /**
      * Handles player deal request by validating bets/balance and progressing game state.
      * <p>
-     * Key actions:
+     * Key actions, taken on the game loop:
      * - Validates ante meets min bet and balance sufficiency for future stages
      * - Deducts ante and Trips bets from player balance
      * - Hides betting UI and shows game interface
@@ -155,58 +212,81 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      */
     @Override
     public void onDealRequested() {
-        UthPlayerHand hand = gameAreaPanel.getPlayerHand();
-
-        // Handle invalid bet
-        if (hand.getAnte() < MIN_BET) {
-            new Toast(stateManager.getFrame(), "Min bet is 10$", 3000).setVisible(true);
-            return;
-        }
-
-        if (hand.getAnte() * 3 > stateManager.getProfile().getBalance() - (hand.getAnte() + hand.getBlind() + hand.getTrips())){
-            new Toast(stateManager.getFrame(), "Not enough balance for later stages in the game", 3000).setVisible(true);
-            return;
-        }
-
-        // Update game state
-        state = UthGameState.GAME_STARTED;
-
-        // Update user balance
-        stateManager.getProfile().decreaseBalanceBy(hand.getAnte() * 2);
-        stateManager.getProfile().decreaseBalanceBy(hand.getTrips());
-        updateBalanceDisplay();
+        loop.execute(() -> {
+            if (state != UthGameState.BET_PHASE) {
+                return;
+            }
 
-        // Set tha game area to proper setup
-        chipPanel.setVisible(false);
-        gameAreaPanel.showDealButton(false);
-        gameAreaPanel.showClearBetButton(false);
-        gameAreaPanel.resetSelection();
+            // Handle invalid bet
+            if (playerHand.getAnte() < MIN_BET) {
+                showToast("Min bet is 10$");
+                return;
+            }
 
-        // Deal the cards to the players
-        dealInitialCards();
+            if (playerHand.getAnte() * 3 > stateManager.getProfile().getBalance() - (playerHand.getAnte() + playerHand.getBlind() + playerHand.getTrips())){
+                showToast("Not enough balance for later stages in the game");
+                return;
+            }
 
-        // Display user actions
-        calculatePlayerOptions();
+            // Update game state
+            state = UthGameState.GAME_STARTED;
+
+            // Update user balance
+            stateManager.getProfile().decreaseBalanceBy(playerHand.getAnte() * 2);
+            stateManager.getProfile().decreaseBalanceBy(playerHand.getTrips());
+            updateBalanceDisplay();
+
+            journal.startRound(shoe);
+            rounds++;
+            journal.bet(RoundReplayer.UTH_ANTE, playerHand.getAnte());
+            journal.bet(RoundReplayer.UTH_BLIND, playerHand.getBlind());
+            journal.bet(RoundReplayer.UTH_TRIPS, playerHand.getTrips());
+
+            // Set tha game area to proper setup
+            renderer.post(() -> {
+                chipPanel.setVisible(false);
+                gameAreaPanel.showDealButton(false);
+                gameAreaPanel.showClearBetButton(false);
+                gameAreaPanel.resetSelection();
+            });
+
+            // Deal the cards to the players
+            dealInitialCards();
+
+            // Display user actions
+            calculatePlayerOptions();
+        });
     }
 
     /**
      * Deals the initial set of cards for the game round.
      * <p>
      * Adds community cards, two player cards, and two dealer cards
-     * from the shoe to the game area.
+     * from the shoe to the round, then to the game area in a single render command.
+     * Called on the game loop.
      * </p>
      */
     @Override
     public void dealInitialCards() {
         state = UthGameState.DEALING_CARDS;
 
-        gameAreaPanel.addCommunityCard(getCommunityCardsFromShoe());
+        communityCards.addAll(getCommunityCardsFromShoe());
 
-        gameAreaPanel.addPlayerCard(getCardFromShoe());
-        gameAreaPanel.addPlayerCard(getCardFromShoe());
+        playerHand.dealCard(getCardFromShoe(RoundReplayer.UTH_PLAYER));
+        playerHand.dealCard(getCardFromShoe(RoundReplayer.UTH_PLAYER));
 
-        gameAreaPanel.addDealerCard(getCardFromShoe());
-        gameAreaPanel.addDealerCard(getCardFromShoe());
+        dealerHand.dealCard(getCardFromShoe(RoundReplayer.UTH_DEALER));
+        dealerHand.dealCard(getCardFromShoe(RoundReplayer.UTH_DEALER));
+        publishRound();
+
+        List<UthCard> community = List.copyOf(communityCards);
+        List<UthCard> player = List.copyOf(playerHand.getHand());
+        List<UthCard> dealer = List.copyOf(dealerHand.getHand());
+        renderer.post(() -> {
+            gameAreaPanel.addCommunityCard(community.stream().map(UthCardUI::of).toList());
+            player.forEach(card -> gameAreaPanel.addPlayerCard(UthCardUI.of(card)));
+            dealer.forEach(card -> gameAreaPanel.addDealerCard(UthCardUI.of(card)));
+        });
     }
 
     /**
@@ -244,7 +324,44 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
 
         // Get the available action from the backend logic.
         Map<UthActions, Integer> actions = getOptions();
-        gameAreaPanel.updateActionButtons(actions);
+        renderer.post(() -> gameAreaPanel.updateActionButtons(actions));
+        updateEquity();
+    }
+
+    /**
+     * Calculates the player's equity for the current stage off both the Event Dispatch Thread and the game loop.
+     * <p>
+     * The result is only displayed if the stage has not moved on while it was being calculated.
+     * </p>
+     */
+    private void updateEquity() {
+        if (equityWorker != null) {
+            equityWorker.cancel(true);
+        }
+        List<UthCard> holeCards = List.copyOf(playerHand.getHand());
+        List<UthCard> board = List.copyOf(UthEquityCalculator.visibleCommunityCards(communityCards, stage));
+        UthGameStage requestedStage = stage;
+
+        equityWorker = new SwingWorker<>() {
+            @Override
+            protected UthEquity doInBackground() {
+                return UthEquityCalculator.calculate(holeCards, board);
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || stage != requestedStage) {
+                    return;
+                }
+                try {
+                    UthEquity equity = get();
+                    renderer.post(() -> gameAreaPanel.updateEquityDisplay("Equity: " + equity));
+                } catch (InterruptedException | ExecutionException e) {
+                    DebugPrint.println("Failed to calculate equity: " + e.getMessage(), true);
+                }
+            }
+        };
+        equityWorker.execute();
     }
 
     /**
@@ -252,24 +369,27 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      * <p>
      * It checks the game engine for allowed actions and maps them to the corresponding
      * game area panel buttons. The map preserves the order of actions for consistency.
+     * Each action is mapped to the stage it is offered at, so a late click on a button
+     * of an earlier stage can be told apart and ignored.
      *
      * @return A map of available game actions for the specified hand.
      */
     private Map<UthActions, Integer> getOptions(){
         Map<UthActions, Integer> actions = new LinkedHashMap<>(); // LinkedHashMap is used to preserve the order
+        int offeredAt = stage.ordinal();
         for (String option: UthGameEngine.getPlayerOptions(stage)){
             switch (option){
                 case "X4" -> {
                     // Validate if the use has 4x the bet amount and not just the 3x
-                    if (gameAreaPanel.getPlayerHand().getAnte() * 4 <= stateManager.getProfile().getBalance()){
-                        actions.put(UthActions.X4, 0);
+                    if (playerHand.getAnte() * 4 <= stateManager.getProfile().getBalance()){
+                        actions.put(UthActions.X4, offeredAt);
                     }
                 }
-                case "X3" -> actions.put(UthActions.X3, 0);
-                case "X2" -> actions.put(UthActions.X2, 0);
-                case "X1" -> actions.put(UthActions.X1, 0);
-                case "CHECK" -> actions.put(UthActions.CHECK, 0);
-                case "FOLD" -> actions.put(UthActions.FOLD, 0);
+                case "X3" -> actions.put(UthActions.X3, offeredAt);
+                case "X2" -> actions.put(UthActions.X2, offeredAt);
+                case "X1" -> actions.put(UthActions.X1, offeredAt);
+                case "CHECK" -> actions.put(UthActions.CHECK, offeredAt);
+                case "FOLD" -> actions.put(UthActions.FOLD, offeredAt);
             }
         }
         return actions;
@@ -278,23 +398,28 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
     /**
      * Handles the player's selected action from the action buttons.
      * <p>
-     * This method maps each selected action to its corresponding handler,
-     * ensuring the correct game logic is executed.
+     * This method sends the action to the game loop, which maps it to its corresponding handler,
+     * ensuring the correct game logic is executed. Actions offered at an earlier stage are ignored.
      *
      * @param action The selected game action.
-     * @param index  The index of the player's hand affected by the action.
+     * @param index  The stage the action was offered at.
      */
     @Override
     public void onActionSelected(GameActions action, int index) {
         if (action instanceof UthActions uthActions){
-            switch (uthActions) {
-                case X4 -> handleX4Option();
-                case X3 -> handleX3Option();
-                case X2 -> handleX2Option();
-                case X1 -> handleX1Option();
-                case CHECK -> handleCheckOption();
-                case FOLD -> handleFoldOption();
-            }
+            loop.execute(() -> {
+                if (state != UthGameState.PLAYER_TURN || index != stage.ordinal()) {
+                    return;
+                }
+                switch (uthActions) {
+                    case X4 -> handleX4Option();
+                    case X3 -> handleX3Option();
+                    case X2 -> handleX2Option();
+                    case X1 -> handleX1Option();
+                    case CHECK -> handleCheckOption();
+                    case FOLD -> handleFoldOption();
+                }
+            });
         }
     }
 
@@ -309,12 +434,11 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
         state = UthGameState.DEALER_TURN;
         stage = UthGameStage.FINAL;
 
-        UthPlayerHand hand = gameAreaPanel.getPlayerHand();
-
-        stateManager.getProfile().decreaseBalanceBy(hand.getAnte() * 4);
-        hand.setPlay(hand.getAnte() * 4);
-        gameAreaPanel.addPlayChips(UthActions.X4);
-        gameAreaPanel.updatePlayDisplay(hand.getPlay());
+        stateManager.getProfile().decreaseBalanceBy(playerHand.getAnte() * 4);
+        playerHand.setPlay(playerHand.getAnte() * 4);
+        journal.action(RoundReplayer.UTH_PLAYER, 4, playerHand.getPlay());
+        journal.bet(RoundReplayer.UTH_PLAY, playerHand.getPlay());
+        renderer.post(() -> gameAreaPanel.addPlayChips(UthActions.X4));
 
         updateBalanceDisplay();
         exposeCommunityCards();
@@ -331,12 +455,11 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
         state = UthGameState.DEALER_TURN;
         stage = UthGameStage.FINAL;
 
-        UthPlayerHand hand = gameAreaPanel.getPlayerHand();
-
-        stateManager.getProfile().decreaseBalanceBy(hand.getAnte() * 3);
-        hand.setPlay(hand.getAnte() * 3);
-        gameAreaPanel.addPlayChips(UthActions.X3);
-        gameAreaPanel.updatePlayDisplay(hand.getPlay());
+        stateManager.getProfile().decreaseBalanceBy(playerHand.getAnte() * 3);
+        playerHand.setPlay(playerHand.getAnte() * 3);
+        journal.action(RoundReplayer.UTH_PLAYER, 3, playerHand.getPlay());
+        journal.bet(RoundReplayer.UTH_PLAY, playerHand.getPlay());
+        renderer.post(() -> gameAreaPanel.addPlayChips(UthActions.X3));
 
         updateBalanceDisplay();
         exposeCommunityCards();
@@ -353,12 +476,11 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
         state = UthGameState.DEALER_TURN;
         stage = UthGameStage.FINAL;
 
-        UthPlayerHand hand = gameAreaPanel.getPlayerHand();
-
-        stateManager.getProfile().decreaseBalanceBy(hand.getAnte() * 2);
-        hand.setPlay(hand.getAnte() * 2);
-        gameAreaPanel.addPlayChips(UthActions.X2);
-        gameAreaPanel.updatePlayDisplay(hand.getPlay());
+        stateManager.getProfile().decreaseBalanceBy(playerHand.getAnte() * 2);
+        playerHand.setPlay(playerHand.getAnte() * 2);
+        journal.action(RoundReplayer.UTH_PLAYER, 2, playerHand.getPlay());
+        journal.bet(RoundReplayer.UTH_PLAY, playerHand.getPlay());
+        renderer.post(() -> gameAreaPanel.addPlayChips(UthActions.X2));
 
         updateBalanceDisplay();
         exposeCommunityCards();
@@ -375,12 +497,11 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
         state = UthGameState.DEALER_TURN;
         stage = UthGameStage.FINAL;
 
-        UthPlayerHand hand = gameAreaPanel.getPlayerHand();
-
-        stateManager.getProfile().decreaseBalanceBy(hand.getAnte());
-        hand.setPlay(hand.getAnte());
-        gameAreaPanel.addPlayChips(UthActions.X1);
-        gameAreaPanel.updatePlayDisplay(hand.getPlay());
+        stateManager.getProfile().decreaseBalanceBy(playerHand.getAnte());
+        playerHand.setPlay(playerHand.getAnte());
+        journal.action(RoundReplayer.UTH_PLAYER, 1, playerHand.getPlay());
+        journal.bet(RoundReplayer.UTH_PLAY, playerHand.getPlay());
+        renderer.post(() -> gameAreaPanel.addPlayChips(UthActions.X1));
 
         updateBalanceDisplay();
         exposeCommunityCards();
@@ -394,16 +515,18 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      * </p>
      */
     private void handleCheckOption(){
+        journal.action(RoundReplayer.UTH_PLAYER, 0, 0);
         switch (stage){
             case START -> {
                 stage = UthGameStage.FLOP;
-                gameAreaPanel.getCommunityCardsPanel().exposeFlop();
+                renderer.post(() -> gameAreaPanel.getCommunityCardsPanel().exposeFlop());
             }
             case FLOP -> {
                 stage = UthGameStage.RIVER;
-                gameAreaPanel.getCommunityCardsPanel().exposeTurnAndRiver();
+                renderer.post(() -> gameAreaPanel.getCommunityCardsPanel().exposeTurnAndRiver());
             }
         }
+        publishRound();
         calculatePlayerOptions();
     }
 
@@ -415,13 +538,14 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      * </p>
      */
     private void handleFoldOption(){
-        UthPlayerHand hand = gameAreaPanel.getPlayerHand();
+        playerHand.setState(UthHandState.FOLD);
+        playerHand.setAnte(0);
+        playerHand.setBlind(0);
+        playerHand.setPlay(0);
+        playerHand.setTrips(0);
 
-        hand.setState(UthHandState.FOLD);
-        hand.setAnte(0);
-        hand.setBlind(0);
-        hand.setPlay(0);
-        hand.setTrips(0);
+        journal.action(RoundReplayer.UTH_PLAYER, RoundReplayer.UTH_FOLD, 0);
+        recordSettlements(playerHand);
 
         exposeCommunityCards();
     }
@@ -434,8 +558,10 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      * Reveals all community cards, clears player actions, and proceeds to expose the dealer's hand.
      */
     private void exposeCommunityCards(){
-        gameAreaPanel.getCommunityCardsPanel().exposeAll();
-        gameAreaPanel.clearActions();
+        renderer.post(() -> {
+            gameAreaPanel.getCommunityCardsPanel().exposeAll();
+            gameAreaPanel.clearActions();
+        });
 
         exposeDealer();
     }
@@ -443,7 +569,7 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
     /**
      * Exposes the dealer's hand and updates the game state to the dealer's turn.
      * <p>
-     * If the player has not folded, it evaluates the hands after a delay;
+     * If the player has not folded, it evaluates the hands after a delay on the game loop;
      * otherwise, it resets the game.
      * </p>
      */
@@ -451,22 +577,24 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
         state = UthGameState.DEALER_TURN;
         stage = UthGameStage.FINAL;
 
-        gameAreaPanel.getDealerHandPanel().exposeCards();
+        renderer.post(() -> {
+            gameAreaPanel.clearEquityDisplay();
+            gameAreaPanel.getDealerHandPanel().exposeCards();
+        });
+        publishRound();
 
-        Timer timer = new Timer(2000, e -> {
-            if (gameAreaPanel.getPlayerHand().getState() != UthHandState.FOLD){
+        pendingStep = loop.schedule(() -> {
+            pendingStep = null;
+            if (playerHand.getState() != UthHandState.FOLD){
                 evaluateHands();
             } else {
                 if (stateManager.isUTHAutoStart()){
                     reset();
                 } else {
-                    gameAreaPanel.showNewGameButton(true);
+                    renderer.post(() -> gameAreaPanel.showNewGameButton(true));
                 }
             }
-
-        });
-        timer.setRepeats(false);
-        timer.start();
+        }, 2000);
     }
 
     /*======================
@@ -484,11 +612,8 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
     private void evaluateHands(){
         state = UthGameState.EVALUATION_PHASE;
 
-        UthPlayerHand playerHand = gameAreaPanel.getPlayerHand();
-        UthHand dealerHand = gameAreaPanel.getDealerHand();
-
-        UthGameEngine.evaluateHand(gameAreaPanel.getCommunityCards(), playerHand);
-        UthGameEngine.evaluateHand(gameAreaPanel.getCommunityCards(), dealerHand);
+        UthGameEngine.evaluateHand(communityCards, playerHand);
+        UthGameEngine.evaluateHand(communityCards, dealerHand);
 
         UthGameEngine.determineGameResults(playerHand, dealerHand);
 
@@ -502,29 +627,15 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
     /**
      * Displays the results of the game round.
      * <p>
-     * Updates the game state, shows the player's and dealer's hand combinations,
-     * displays the results, and updates the Trips and Blind multipliers before
-     * proceeding to the payout phase.
+     * Updates the game state and publishes the evaluated round, for the game area to show the
+     * player's and dealer's hand combinations, the results and the Trips and Blind multipliers,
+     * before proceeding to the payout phase.
      * </p>
      */
     private void displayResults(){
         state = UthGameState.DISPLAY_RESULT;
 
-        gameAreaPanel.getPlayerHandPanel().displayHandCombination();
-        gameAreaPanel.getDealerHandPanel().displayHandCombination();
-
-        UthPlayerHand playerHand = gameAreaPanel.getPlayerHand();
-        UthHand dealerHand = gameAreaPanel.getDealerHand();
-
-        gameAreaPanel.displayResults(playerHand.getState());
-        gameAreaPanel.displayTripsMultiplier(playerHand.getTripsState());
-        gameAreaPanel.displayBlindMultiplier(playerHand.getEvaluatedHand().handCombination());
-        gameAreaPanel.displayAnteState(dealerHand.getEvaluatedHand().handCombination());
-
-        gameAreaPanel.updateAnteDisplay(playerHand.getAnte());
-        gameAreaPanel.updateBlindDisplay(playerHand.getBlind());
-        gameAreaPanel.updateTripsDisplay(playerHand.getTrips());
-        gameAreaPanel.updatePlayDisplay(playerHand.getPlay());
+        publishRound();
 
         proceedToPayouts();
     }
@@ -534,21 +645,21 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      * <p>
      * Determines if the dealer qualifies for ante payouts, handles payouts for
      * main bets (ante, blind, and play), processes Trips side bet payouts, updates
-     * the player's balance, and clears losing bets.
+     * the player's balance, and clears losing bets. The chips are paid from the
+     * evaluated round last published.
      * </p>
      */
     private void proceedToPayouts(){
         state = UthGameState.PAYOUT;
 
-        UthPlayerHand playerHand = gameAreaPanel.getPlayerHand();
-        UthHand dealerHand = gameAreaPanel.getDealerHand();
+        UthRoundSnapshot settled = snapshots.latest();
 
         // Check if the dealer qualifies to pay ante bet
         boolean dealerQualifies = dealerHand.getEvaluatedHand().handCombination().getValue() > -2;
 
         // Handle main bet ante/blind/play payouts
         if (playerHand.getState() == UthHandState.WON){
-            gameAreaPanel.getBetPanel().payWin(playerHand, dealerQualifies);
+            renderer.post(() -> gameAreaPanel.getBetPanel().payWin(settled, dealerQualifies));
             stateManager.getProfile().increaseBalanceBy(playerHand.getAnte());
             stateManager.getProfile().increaseBalanceBy(playerHand.getBlind());
             stateManager.getProfile().increaseBalanceBy(playerHand.getPlay());
@@ -559,25 +670,26 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
         } else {
             // In case dealer wins unqualified, ante pushes
             stateManager.getProfile().increaseBalanceBy(playerHand.getAnte());
-            gameAreaPanel.getBetPanel().clearAnteChips();
-            gameAreaPanel.getBetPanel().clearBlindChips();
-            gameAreaPanel.getBetPanel().clearPlayChips();
+            renderer.post(() -> {
+                gameAreaPanel.getBetPanel().clearAnteChips();
+                gameAreaPanel.getBetPanel().clearBlindChips();
+                gameAreaPanel.getBetPanel().clearPlayChips();
+            });
         }
 
         // Handles side bet trips payouts
         if (playerHand.getTripsState().getValue() > 0){
-            gameAreaPanel.getBetPanel().payTripsWin(playerHand);
+            renderer.post(() -> gameAreaPanel.getBetPanel().payTripsWin(settled));
             stateManager.getProfile().increaseBalanceBy(playerHand.getTrips());
         } else {
-            gameAreaPanel.getBetPanel().clearTripsChips();
+            renderer.post(() -> gameAreaPanel.getBetPanel().clearTripsChips());
         }
+        recordSettlements(playerHand);
 
         if (stateManager.isUTHAutoStart()){
-            Timer timer = new Timer(5000, e -> reset());
-            timer.setRepeats(false);
-            timer.start();
+            pendingStep = loop.schedule(this::reset, 5000);
         } else {
-            gameAreaPanel.showNewGameButton(true);
+            renderer.post(() -> gameAreaPanel.showNewGameButton(true));
         }
 
         updateBalanceDisplay();
@@ -592,7 +704,7 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      */
     @Override
     public void startNewGame() {
-        reset();
+        loop.execute(this::reset);
     }
 
     /**
@@ -601,42 +713,61 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      * This method clears all previous game actions and hands,
      * and transitions the state back to the betting phase. It also ensures that the player
      * has enough balance to continue playing. If the player's balance falls below the minimum
-     * bet, they are redirected to the main menu.
+     * bet, they are redirected to the main menu. Called on the game loop, once the round is
+     * settled or folded.
      */
     private void reset(){
+        if (state != UthGameState.PAYOUT && playerHand.getState() != UthHandState.FOLD) {
+            return;
+        }
+        pendingStep = null;
         state = UthGameState.GAME_ENDED;
-        gameAreaPanel.clearActions();
-        gameAreaPanel.clearCards();
-        gameAreaPanel.clearAllChips();
+        renderer.post(() -> {
+            gameAreaPanel.clearActions();
+            gameAreaPanel.clearCards();
+            gameAreaPanel.clearAllChips();
+        });
         state = UthGameState.BET_PHASE;
         stage = UthGameStage.START;
-        ChipPanelUtil.regenerateChipPanel(this, stateManager);
+        clearRound();
+        renderer.post(() -> ChipPanelUtil.regenerateChipPanel(this, stateManager));
 
         // If player has no enough money, Player then escorted to main menu
         if (stateManager.getProfile().getBalance() < MIN_BET * 5){
-            stateManager.switchPanel("MainMenu");
+            renderer.post(() -> {
+                stateManager.switchPanel("MainMenu");
 
-            StyledNotificationDialog dialog = new StyledNotificationDialog(
-                    stateManager.getFrame(),
-                    "You don't have enough balance to continue playing. "
-            );
+                StyledNotificationDialog dialog = new StyledNotificationDialog(
+                        stateManager.getFrame(),
+                        "You don't have enough balance to continue playing. "
+                );
 
-            dialog.setVisible(true);
+                dialog.setVisible(true);
+            });
         }
 
-        cards = Shoe.createShoe(1, LetterDeck::new).cards();
+        shoe.reshuffle();
     }
 
     /** Protected API for the {@link UltimatePanel} to revert to initial state when exiting */
     protected void resetScreen(){
-        state = UthGameState.BET_PHASE;
-        stage = UthGameStage.START;
         chipPanel.setVisible(false);
-        gameAreaPanel.clearActions();
-        gameAreaPanel.clearCards();
-        gameAreaPanel.clearAllChips();
         ChipPanelUtil.removeChipPanel(this, stateManager);
-        cards = Shoe.createShoe(1, LetterDeck::new).cards();
+        loop.execute(() -> {
+            if (pendingStep != null) {
+                pendingStep.cancel(false);
+                pendingStep = null;
+            }
+            state = UthGameState.BET_PHASE;
+            stage = UthGameStage.START;
+            renderer.post(() -> {
+                gameAreaPanel.clearActions();
+                gameAreaPanel.clearCards();
+                gameAreaPanel.clearAllChips();
+            });
+            clearRound();
+            shoe.reshuffle();
+        });
     }
 
     /** Protected API for the {@link UltimatePanel} to restart fresh and updated screen */
@@ -653,25 +784,69 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      * Updates the balance display with the current balance.
      * <p>
      * Retrieves the player's current balance from the profile and updates
-     * the UI's balance display accordingly.
+     * the UI's balance display accordingly, after the changes already posted.
      */
     @Override
     public void updateBalanceDisplay() {
-        topPanel.setBalance(stateManager.getProfile().getBalance());
+        double balance = stateManager.getProfile().getBalance();
+        renderer.post(() -> topPanel.setBalance(balance));
+    }
+
+    /**
+     * Shows a short message to the player, after the changes already posted.
+     *
+     * @param message The message to show.
+     */
+    private void showToast(String message) {
+        renderer.post(() -> new Toast(stateManager.getFrame(), message, 3000).setVisible(true));
+    }
+
+    /**
+     * Replaces both hands with empty ones, removes the community cards and publishes the cleared round.
+     */
+    private void clearRound() {
+        playerHand = new UthPlayerHand();
+        anteChips = 0;
+        tripsChips = 0;
+        dealerHand = new UthHand();
+        communityCards.clear();
+        publishRound();
+    }
+
+    /**
+     * Publishes a snapshot of the current round for the game area to draw.
+     */
+    private void publishRound() {
+        snapshots.publish(version -> UthRoundSnapshot.of(version, rounds, stage, playerHand, dealerHand, communityCards));
+    }
+
+    /**
+     * Records the amount paid back on every betting spot and ends the round in the journal.
+     * Once the results are processed, each spot holds exactly what is returned to the balance.
+     *
+     * @param hand The player's settled hand.
+     */
+    private void recordSettlements(UthPlayerHand hand) {
+        journal.settlement(RoundReplayer.UTH_ANTE, hand.getAnte());
+        journal.settlement(RoundReplayer.UTH_BLIND, hand.getBlind());
+        journal.settlement(RoundReplayer.UTH_PLAY, hand.getPlay());
+        journal.settlement(RoundReplayer.UTH_TRIPS, hand.getTrips());
+        journal.endRound();
     }
 
     /**
      * Draws and removes the top card from the shoe.
      * <p>
      * This method retrieves the top card from the shoe and removes it from the deck,
-     * simulating the process of dealing a card in the game.
+     * simulating the process of dealing a card in the game. The card is recorded in the round journal.
      *
-     * @return The top card from the shoe as {@code UthCardUI}.
+     * @param target The hand receiving the card, as numbered by {@link RoundReplayer}.
+     * @return The top card from the shoe as {@code UthCard}.
      */
-    private UthCardUI getCardFromShoe() {
-        Card card = cards.remove(0);
-        Asset asset = CardAsset.fromString(card.getSuit() + card.getRank());
-        return new UthCardUI(card.getRank(), card.getSuit(), asset);
+    private UthCard getCardFromShoe(int target) {
+        Card card = shoe.deal();
+        journal.card(target, card);
+        return UthCard.of(card);
     }
 
     /**
@@ -680,14 +855,12 @@ public class UltimateController implements Mediator, ChipPanelConsumer {
      * This method retrieves the top 5 cards from the shoe and removes them from the deck,
      * simulating the process of dealing the community cards in the game.
      *
-     * @return The top 5 cards from the shoe as {@code List<UthCardUI>}.
+     * @return The top 5 cards from the shoe as {@code List<UthCard>}.
      */
-    private List<UthCardUI> getCommunityCardsFromShoe() {
-        List<UthCardUI> commCards = new ArrayList<>();
+    private List<UthCard> getCommunityCardsFromShoe() {
+        List<UthCard> commCards = new ArrayList<>();
         for (int i = 0; i < 5; i++){
-            Card card = cards.remove(0);
-            Asset asset = CardAsset.fromString(card.getSuit() + card.getRank());
-            commCards.add(new UthCardUI(card.getRank(), card.getSuit(), asset));
+            commCards.add(getCardFromShoe(RoundReplayer.UTH_COMMUNITY));
         }
         return commCards;
     }
@@ -15,9 +15,7 @@ import org.daniel.elysium.models.chips.Chip;
 import org.daniel.elysium.ultimateTH.constants.UthHandCombination;
 import org.daniel.elysium.ultimateTH.constants.UthHandState;
 import org.daniel.elysium.ultimateTH.constants.UthTripsState;
-import org.daniel.elysium.ultimateTH.model.UthCard;
-import org.daniel.elysium.ultimateTH.model.UthHand;
-import org.daniel.elysium.ultimateTH.model.UthPlayerHand;
+import org.daniel.elysium.ultimateTH.model.UthRoundSnapshot;
 
 import javax.swing.*;
 import java.awt.*;
@@ -38,6 +36,8 @@ public class UthGameAreaPanel extends JPanel {
     private final JPanel buttonSwitcherPanel;
     private final CardLayout cardLayout;
     private final JPanel actionButtonsPanel;
+    private final JLabel equityLabel;
+    private UthRoundSnapshot rendered;
 
     /**
      * Constructs the main Ultimate_TH play area, initializing UI elements.
@@ -82,12 +82,16 @@ public class UthGameAreaPanel extends JPanel {
         dealButtonContainer.add(dealButton, BorderLayout.CENTER);
         add(dealButtonContainer, gbc);
 
-        // Filler Panel (Spacer)
+        // Equity Label
         gbc.gridy = 3;
         gbc.weighty = 0.10;
-        JPanel filler = new JPanel();
-        filler.setOpaque(false);
-        add(filler, gbc);
+        JPanel equityContainer = new JPanel(new BorderLayout());
+        equityContainer.setOpaque(false);
+        equityLabel = new JLabel("", SwingConstants.CENTER);
+        equityLabel.setFont(new Font("Roboto", Font.BOLD, 18));
+        equityLabel.setForeground(Color.WHITE);
+        equityContainer.add(equityLabel, BorderLayout.CENTER);
+        add(equityContainer, gbc);
 
         // Player Hand Panel
         gbc.gridy = 4;
@@ -153,15 +157,6 @@ public class UthGameAreaPanel extends JPanel {
         return playerHandPanel;
     }
 
-    /**
-     * Returns the player's hand.
-     *
-     * @return the {@code UthPlayerHand} instance
-     */
-    public UthPlayerHand getPlayerHand(){
-        return playerHandPanel.getHand();
-    }
-
     /**
      * Returns the panel displaying the dealer's hand.
      *
@@ -171,15 +166,6 @@ public class UthGameAreaPanel extends JPanel {
         return dealerHandPanel;
     }
 
-    /**
-     * Returns the dealer's hand.
-     *
-     * @return the {@code UthHand} instance representing the dealer's hand
-     */
-    public UthHand getDealerHand(){
-        return dealerHandPanel.getHand();
-    }
-
     /**
      * Returns the panel displaying the community cards.
      *
@@ -189,15 +175,6 @@ public class UthGameAreaPanel extends JPanel {
         return communityCardsPanel;
     }
 
-    /**
-     * Returns the list of community cards.
-     *
-     * @return a {@code List<UthCard>} containing the community cards
-     */
-    public List<UthCard> getCommunityCards(){
-        return communityCardsPanel.getCards();
-    }
-
     /* ======================
        Game Actions
        ====================== */
@@ -246,6 +223,23 @@ public class UthGameAreaPanel extends JPanel {
         dealerHandPanel.removeCards();
         communityCardsPanel.removeCards();
         playerHandPanel.removeCards();
+        clearEquityDisplay();
+    }
+
+    /**
+     * Displays the player's current equity against the dealer.
+     *
+     * @param equity the formatted equity to display
+     */
+    public void updateEquityDisplay(String equity){
+        equityLabel.setText(equity);
+    }
+
+    /**
+     * Hides the equity display.
+     */
+    public void clearEquityDisplay(){
+        equityLabel.setText("");
     }
 
     /* ======================
@@ -348,24 +342,55 @@ public class UthGameAreaPanel extends JPanel {
     }
 
     /* ======================
-         UI updates
+         Rendering
        ====================== */
 
     /**
-     * Updates the displayed total bet amount.
+     * Draws a snapshot of the round, updating only what changed since the last snapshot drawn.
+     * <p>
+     * Each bet display is rewritten when its amount changes, and the hand combinations and bet
+     * results are shown once, when the round is evaluated.
+     * </p>
      *
-     * @param bet the updated bet amount to display
+     * @param snapshot the latest snapshot of the round
      */
-    public void updateBetDisplay(int bet){
-        betPanel.updateBetDisplay(bet);
+    public void render(UthRoundSnapshot snapshot){
+        UthRoundSnapshot previous = rendered;
+        rendered = snapshot;
+
+        if (previous == null || previous.ante() != snapshot.ante()){
+            updateAnteDisplay(snapshot.ante());
+        }
+        if (previous == null || previous.blind() != snapshot.blind()){
+            updateBlindDisplay(snapshot.blind());
+        }
+        if (previous == null || previous.trips() != snapshot.trips()){
+            updateTripsDisplay(snapshot.trips());
+        }
+        if (previous == null || previous.play() != snapshot.play()){
+            updatePlayDisplay(snapshot.play());
+        }
+
+        if (snapshot.isEvaluated() && (previous == null || !previous.isEvaluated())){
+            playerHandPanel.displayHandCombination(snapshot.playerCombination());
+            dealerHandPanel.displayHandCombination(snapshot.dealerCombination());
+            displayResults(snapshot.state());
+            displayTripsMultiplier(snapshot.tripsState());
+            displayBlindMultiplier(snapshot.playerCombination());
+            displayAnteState(snapshot.dealerCombination());
+        }
     }
 
+    /* ======================
+         UI updates
+       ====================== */
+
     /**
      * Updates the displayed bet amount of the Ante bet.
      *
      * @param ante the updated the Ante amount to display
      */
-    public void updateAnteDisplay(int ante){
+    private void updateAnteDisplay(int ante){
         betPanel.updateAnteDisplay(ante);
     }
 
@@ -374,7 +399,7 @@ public class UthGameAreaPanel extends JPanel {
      *
      * @param blind the updated the Blind amount to display
      */
-    public void updateBlindDisplay(int blind){
+    private void updateBlindDisplay(int blind){
         betPanel.updateBlindDisplay(blind);
     }
 
@@ -383,7 +408,7 @@ public class UthGameAreaPanel extends JPanel {
      *
      * @param bet the updated Trips bet amount to display
      */
-    public void updateTripsDisplay(int bet){
+    private void updateTripsDisplay(int bet){
         betPanel.updateTripsDisplay(bet);
     }
 
@@ -392,7 +417,7 @@ public class UthGameAreaPanel extends JPanel {
      *
      * @param bet the updated Play bet amount to display
      */
-    public void updatePlayDisplay(int bet){
+    private void updatePlayDisplay(int bet){
         betPanel.updatePlayDisplay(bet);
     }
 
@@ -405,7 +430,7 @@ public class UthGameAreaPanel extends JPanel {
      *
      * @param state the {@code UthHandState} representing the outcome of the player's hand
      */
-    public void displayResults(UthHandState state){
+    private void displayResults(UthHandState state){
         betPanel.displayHandResult(state);
     }
 
@@ -414,7 +439,7 @@ public class UthGameAreaPanel extends JPanel {
      *
      * @param combination the {@code UthHandCombination} determining the blind multiplier
      */
-    public void displayBlindMultiplier(UthHandCombination combination){
+    private void displayBlindMultiplier(UthHandCombination combination){
         betPanel.displayBlindMultiplier(combination);
     }
 
@@ -423,7 +448,7 @@ public class UthGameAreaPanel extends JPanel {
      *
      * @param state the {@code UthTripsState} representing the Trips bet result
      */
-    public void displayTripsMultiplier(UthTripsState state){
+    private void displayTripsMultiplier(UthTripsState state){
         betPanel.displayTripsMultiplier(state);
     }
 
@@ -432,7 +457,7 @@ public class UthGameAreaPanel extends JPanel {
      *
      * @param combination the {@code UthHandCombination} representing the Trips bet result
      */
-    public void displayAnteState(UthHandCombination combination){
+    private void displayAnteState(UthHandCombination combination){
         betPanel.displayAnteState(combination);
     }
 
@@ -8,7 +8,7 @@ import org.daniel.elysium.models.chips.Chip;
 import org.daniel.elysium.ultimateTH.constants.UthHandCombination;
 import org.daniel.elysium.ultimateTH.constants.UthHandState;
 import org.daniel.elysium.ultimateTH.constants.UthTripsState;
-import org.daniel.elysium.ultimateTH.model.UthPlayerHand;
+import org.daniel.elysium.ultimateTH.model.UthRoundSnapshot;
 
 import javax.swing.*;
 import java.awt.*;
@@ -179,35 +179,31 @@ public class UthBetPanel extends JPanel implements BetCircle.SelectionListener{
        ====================== */
 
     /**
-     * Clears all Ante bet chips and updates the bet display.
+     * Clears all Ante bet chips.
      */
     public void clearAnteChips(){
         ante.clearChips();
-        updateBetDisplay(0);
     }
 
     /**
-     * Clears all Blind bet chips and updates the bet display.
+     * Clears all Blind bet chips.
      */
     public void clearBlindChips(){
         blind.clearChips();
-        updateBetDisplay(0);
     }
 
     /**
-     * Clears all Trips bet chips and updates the Trips bet display.
+     * Clears all Trips bet chips.
      */
     public void clearTripsChips(){
         trips.clearChips();
-        updateTripsDisplay(0);
     }
 
     /**
-     * Clears all Play bet chips and updates the Play bet display.
+     * Clears all Play bet chips.
      */
     public void clearPlayChips(){
         play.clearChips();
-        updatePlayDisplay(0);
     }
 
     /* ======================
@@ -257,10 +253,10 @@ public class UthBetPanel extends JPanel implements BetCircle.SelectionListener{
     /**
      * Processes the player's winnings and distributes chips accordingly.
      *
-     * @param hand the player's hand containing the bet details
+     * @param round the settled round containing the bet details
      * @param dealerQualifies {@code true} if the dealer qualifies for the ante payout, otherwise {@code false}
      */
-    public void payWin(UthPlayerHand hand, boolean dealerQualifies) {
+    public void payWin(UthRoundSnapshot round, boolean dealerQualifies) {
         List<Chip> playChips = new ArrayList<>(play.getChips());
         for (Chip chip : playChips) {
             play.addChip(chip);
@@ -275,8 +271,8 @@ public class UthBetPanel extends JPanel implements BetCircle.SelectionListener{
             clearAnteChips();
         }
 
-        if (hand.getEvaluatedHand().handCombination().getValue() > 0){
-            List<Chip> blindChips = new ArrayList<>(Chip.getChipCombination(hand.getBlind()));
+        if (round.playerCombination().getValue() > 0){
+            List<Chip> blindChips = new ArrayList<>(Chip.getChipCombination(round.blind()));
             blind.clearChips();
             for (Chip chip : blindChips) {
                 blind.addChip(chip);
@@ -287,11 +283,11 @@ public class UthBetPanel extends JPanel implements BetCircle.SelectionListener{
     /**
      * Processes and distributes winnings for the Trips side bet.
      *
-     * @param hand the player's hand containing the Trips bet details
+     * @param round the settled round containing the Trips bet details
      */
-    public void payTripsWin(UthPlayerHand hand){
-        if (hand.getTripsState().getValue() > 0){
-            List<Chip> tripsChips = new ArrayList<>(Chip.getChipCombination((hand.getTrips())));
+    public void payTripsWin(UthRoundSnapshot round){
+        if (round.tripsState().getValue() > 0){
+            List<Chip> tripsChips = new ArrayList<>(Chip.getChipCombination((round.trips())));
             trips.clearChips();
             for (Chip chip : tripsChips) {
                 trips.addChip(chip);
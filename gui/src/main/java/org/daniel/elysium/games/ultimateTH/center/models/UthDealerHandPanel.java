@@ -3,7 +3,7 @@ package org.daniel.elysium.games.ultimateTH.center.models;
 import org.daniel.elysium.assets.AssetManager;
 import org.daniel.elysium.assets.ResultAsset;
 import org.daniel.elysium.games.ultimateTH.models.UthCardUI;
-import org.daniel.elysium.ultimateTH.model.UthHand;
+import org.daniel.elysium.ultimateTH.constants.UthHandCombination;
 
 import javax.swing.*;
 import java.awt.*;
@@ -13,10 +13,10 @@ import java.awt.*;
  * <p>
  * This panel manages the dealer's cards, including dealing, exposing, and
  * removing cards. It also displays the dealer's hand combination as an overlay.
+ * The hand itself is kept by the game controller.
  * </p>
  */
 public class UthDealerHandPanel extends JPanel {
-    private UthHand hand;
     private Image overlayImage;
 
     /**
@@ -30,8 +30,6 @@ public class UthDealerHandPanel extends JPanel {
         setMinimumSize(size);
         setMaximumSize(size);
         setPreferredSize(size);
-
-        this.hand = new UthHand();
     }
 
     /* ======================
@@ -39,23 +37,13 @@ public class UthDealerHandPanel extends JPanel {
        ====================== */
 
     /**
-     * Retrieves the dealer's hand.
-     *
-     * @return the {@code UthHand} representing the dealer's hand
-     */
-    public UthHand getHand() {
-        return this.hand;
-    }
-
-    /**
-     * Adds a card to the dealer's hand in a face-down position.
+     * Shows a card dealt to the dealer in a face-down position.
      *
      * @param uthCardUI the card to be added
      */
     public void addCard(UthCardUI uthCardUI) {
         uthCardUI.setFaceDown();
         add(uthCardUI);
-        hand.dealCard(uthCardUI.getCard());
     }
 
     /**
@@ -70,11 +58,10 @@ public class UthDealerHandPanel extends JPanel {
     }
 
     /**
-     * Removes all cards from the dealer's hand and resets it.
+     * Removes all cards from the dealer's hand.
      */
     public void removeCards() {
         removeAll();
-        hand = new UthHand();
     }
 
     /* ======================
@@ -83,9 +70,11 @@ public class UthDealerHandPanel extends JPanel {
 
     /**
      * Displays the dealer's hand combination using an overlay image.
+     *
+     * @param combination the best combination of the dealer's hand
      */
-    public void displayHandCombination() {
-        switch (hand.getEvaluatedHand().handCombination()) {
+    public void displayHandCombination(UthHandCombination combination) {
+        switch (combination) {
             case ROYAL_FLUSH -> showOverlay(AssetManager.getScaledImage(ResultAsset.ROYAL_FLUSH, new Dimension(600, 200)));
             case STRAIGHT_FLUSH -> showOverlay(AssetManager.getScaledImage(ResultAsset.STRAIGHT_FLUSH, new Dimension(600, 200)));
             case QUADS -> showOverlay(AssetManager.getScaledImage(ResultAsset.QUADS, new Dimension(350, 200)));
@@ -3,7 +3,7 @@ package org.daniel.elysium.games.ultimateTH.center.models;
 import org.daniel.elysium.assets.AssetManager;
 import org.daniel.elysium.assets.ResultAsset;
 import org.daniel.elysium.games.ultimateTH.models.UthCardUI;
-import org.daniel.elysium.ultimateTH.model.UthPlayerHand;
+import org.daniel.elysium.ultimateTH.constants.UthHandCombination;
 
 import javax.swing.*;
 import java.awt.*;
@@ -11,12 +11,11 @@ import java.awt.*;
 /**
  * Represents the player's hand panel in Ultimate Texas Hold'em.
  * <p>
- * This panel manages the player's hand, including dealing, removing,
- * and displaying hand results as overlays.
+ * This panel shows the player's cards, including dealing, removing,
+ * and displaying hand results as overlays. The hand itself is kept by the game controller.
  * </p>
  */
 public class UthPlayerHandPanel extends JPanel {
-    private UthPlayerHand hand;
     private Image overlayImage;
 
     /**
@@ -30,8 +29,6 @@ public class UthPlayerHandPanel extends JPanel {
         setMinimumSize(size);
         setMaximumSize(size);
         setPreferredSize(size);
-
-        this.hand = new UthPlayerHand();
     }
 
     /* ======================
@@ -39,30 +36,19 @@ public class UthPlayerHandPanel extends JPanel {
        ====================== */
 
     /**
-     * Retrieves the player's hand.
-     *
-     * @return the {@code UthPlayerHand} representing the player's hand
-     */
-    public UthPlayerHand getHand() {
-        return hand;
-    }
-
-    /**
-     * Adds a card to the player's hand.
+     * Shows a card dealt to the player.
      *
      * @param uthCardUI the card to be added
      */
     public void addCard(UthCardUI uthCardUI) {
         add(uthCardUI);
-        hand.dealCard(uthCardUI.getCard());
     }
 
     /**
-     * Removes all cards from the player's hand and resets it.
+     * Removes all cards from the player's hand.
      */
     public void removeCards() {
         removeAll();
-        hand = new UthPlayerHand();
     }
 
     /* ======================
@@ -71,9 +57,11 @@ public class UthPlayerHandPanel extends JPanel {
 
     /**
      * Displays the player's hand combination using an overlay image.
+     *
+     * @param combination the best combination of the player's hand
      */
-    public void displayHandCombination() {
-        switch (hand.getEvaluatedHand().handCombination()) {
+    public void displayHandCombination(UthHandCombination combination) {
+        switch (combination) {
             case ROYAL_FLUSH -> showOverlay(AssetManager.getScaledImage(ResultAsset.ROYAL_FLUSH, new Dimension(600, 200)));
             case STRAIGHT_FLUSH -> showOverlay(AssetManager.getScaledImage(ResultAsset.STRAIGHT_FLUSH, new Dimension(600, 200)));
             case QUADS -> showOverlay(AssetManager.getScaledImage(ResultAsset.QUADS, new Dimension(350, 200)));
@@ -1,6 +1,7 @@
 package org.daniel.elysium.games.ultimateTH.models;
 
 import org.daniel.elysium.assets.Asset;
+import org.daniel.elysium.assets.CardAsset;
 import org.daniel.elysium.models.cards.UICard;
 import org.daniel.elysium.ultimateTH.model.UthCard;
 
@@ -22,7 +23,17 @@ public class UthCardUI extends UICard {
      */
     public UthCardUI(String rank, String suit, Asset icon) {
         super(rank, suit, icon);
-        card = new UthCard(rank, suit);
+        card = UthCard.of(rank, suit);
+    }
+
+    /**
+     * Creates the visual representation of a dealt card.
+     *
+     * @param card The logical card.
+     * @return A {@code UthCardUI} showing the card's face.
+     */
+    public static UthCardUI of(UthCard card) {
+        return new UthCardUI(card.getRank(), card.getSuit(), CardAsset.fromString(card.getSuit() + card.getRank()));
     }
 
     /**
@@ -3,6 +3,7 @@ package org.daniel.elysium.models.cards;
 import org.daniel.elysium.assets.Asset;
 import org.daniel.elysium.assets.AssetManager;
 import org.daniel.elysium.assets.CardAsset;
+import org.daniel.elysium.assets.CardAtlas;
 import org.daniel.elysium.models.Card;
 
 import javax.swing.*;
@@ -11,6 +12,7 @@ import java.awt.*;
 /**
  * Represents a visual representation of a card in the UI.
  * Each {@code UICard} is linked to a logical {@link Card} instance.
+ * Card faces and the back are drawn from the shared {@link CardAtlas} of the card size.
  */
 public class UICard extends JLabel {
 
@@ -18,7 +20,7 @@ public class UICard extends JLabel {
     private final Card card;
 
     /** The icon representing the front face of the card. */
-    private final ImageIcon icon;
+    private final Icon icon;
 
     /** The Asset representing the icon the card. */
     private final Asset asset;
@@ -35,8 +37,10 @@ public class UICard extends JLabel {
      */
     public UICard(String rank, String suit, Asset icon) {
         // Create logical backend card
-        this.card = new Card(rank, suit);
-        this.icon = AssetManager.getScaledIcon(icon, defaultDimension);
+        this.card = Card.of(rank, suit);
+        this.icon = icon instanceof CardAsset cardAsset
+                ? CardAtlas.forSize(defaultDimension).getIcon(cardAsset)
+                : AssetManager.getScaledIcon(icon, defaultDimension);
         this.asset = icon;
         setIcon(this.icon);
     }
@@ -88,7 +92,7 @@ public class UICard extends JLabel {
      * Sets the card to be face down, displaying a generic back cover.
      */
     public void setFaceDown() {
-        setIcon(AssetManager.getScaledIcon(CardAsset.BC, defaultDimension));
+        setIcon(CardAtlas.forSize(defaultDimension).getIcon(CardAsset.BC));
     }
 
     /**
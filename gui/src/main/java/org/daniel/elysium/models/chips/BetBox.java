@@ -12,13 +12,15 @@ import java.util.List;
  * and displays chips for player, banker, or tie bets.
  */
 public class BetBox extends JPanel {
+    /** The maximum number of chips a player can place in a bet box. */
+    public static final int MAX_USER_CHIPS = 10;
+
     private final String label;
     private final Color color;
     private boolean selected = false;
     private SelectionListener selectionListener;
 
     private final List<Chip> chips;
-    private final int maxUserChips = 10;
     private final int maxChips = 20;
 
     /**
@@ -126,7 +128,7 @@ public class BetBox extends JPanel {
      * @return The maximum number of chips allowed.
      */
     public int getMaxChips() {
-        return maxUserChips;
+        return MAX_USER_CHIPS;
     }
 
     /**
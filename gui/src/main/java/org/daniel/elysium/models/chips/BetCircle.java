@@ -12,8 +12,10 @@ import java.util.List;
  * This panel visually displays placed chips and ensures a limit on chip additions.
  */
 public class BetCircle extends JPanel {
+    /** The maximum number of chips a player can place in a bet circle. */
+    public static final int MAX_USER_CHIPS = 10;
+
     private final List<Chip> chips;
-    private final int maxUserChips = 10;
     private final int maxChips = 20;
     private final boolean visible;
     private String text;
@@ -71,7 +73,7 @@ public class BetCircle extends JPanel {
      * @return The maximum number of user-placed chips.
      */
     public int getMaxChips() {
-        return maxUserChips;
+        return MAX_USER_CHIPS;
     }
 
     /**
@@ -0,0 +1,105 @@
+package org.daniel.elysium.models.panels;
+
+import javax.swing.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Passes the snapshots and render commands sent by a game on to its panels on the Event Dispatch Thread.
+ * <p>
+ * Snapshots and commands may be sent from any thread, usually the game's loop, and run in the order
+ * they were sent. Consecutive snapshots with no command between them are drawn once, with the newest
+ * state, so a burst of changes, such as a whole round dealt in one step, is drawn once instead of
+ * once per change. Everything waiting is run by a single {@link SwingUtilities#invokeLater} call.
+ * </p>
+ *
+ * @param <T> the type of the snapshots
+ */
+public class SnapshotRenderer<T> implements Consumer<T> {
+
+    private final Consumer<? super T> render;
+    private final Queue<Object> pending = new ArrayDeque<>();
+    private Snapshot<T> lastSnapshot;
+    private boolean scheduled;
+
+    /**
+     * Creates a renderer drawing snapshots with the given panel method.
+     *
+     * @param render draws a snapshot, always called on the Event Dispatch Thread
+     */
+    public SnapshotRenderer(Consumer<? super T> render) {
+        this.render = render;
+    }
+
+    /**
+     * Queues a snapshot to be drawn, replacing the snapshot still waiting if nothing was queued after it.
+     *
+     * @param snapshot the published snapshot
+     */
+    @Override
+    public synchronized void accept(T snapshot) {
+        if (lastSnapshot != null) {
+            lastSnapshot.value = snapshot;
+        } else {
+            lastSnapshot = new Snapshot<>(snapshot);
+            pending.add(lastSnapshot);
+        }
+        schedule();
+    }
+
+    /**
+     * Queues a command changing the panels, to run after everything sent before it.
+     *
+     * @param command the command to run on the Event Dispatch Thread
+     */
+    public synchronized void post(Runnable command) {
+        lastSnapshot = null;
+        pending.add(command);
+        schedule();
+    }
+
+    /**
+     * Makes sure a drain is queued on the Event Dispatch Thread. Called while holding the lock.
+     */
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+            SwingUtilities.invokeLater(this::drain);
+        }
+    }
+
+    /**
+     * Runs everything waiting, in order.
+     */
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        List<Object> batch;
+        synchronized (this) {
+            batch = new ArrayList<>(pending);
+            pending.clear();
+            lastSnapshot = null;
+            scheduled = false;
+        }
+        for (Object item : batch) {
+            if (item instanceof Snapshot<?> snapshot) {
+                render.accept((T) snapshot.value);
+            } else {
+                ((Runnable) item).run();
+            }
+        }
+    }
+
+    /**
+     * A queued snapshot, replaced in place while it is the last thing waiting.
+     */
+    private static final class Snapshot<T> {
+        private T value;
+
+        private Snapshot(T value) {
+            this.value = value;
+        }
+    }
+}
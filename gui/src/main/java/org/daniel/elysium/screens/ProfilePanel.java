@@ -11,6 +11,7 @@ import org.daniel.elysium.elements.notifications.StyledNotificationDialog;
 import org.daniel.elysium.elements.panels.BackgroundPanel;
 import org.daniel.elysium.interfaces.Resettable;
 import org.daniel.elysium.user.database.UserDAO;
+import org.daniel.elysium.user.ledger.BalanceEventType;
 
 import javax.swing.*;
 import java.awt.*;
@@ -148,7 +149,7 @@ public class ProfilePanel extends JPanel implements Resettable {
         dialog.setVisible(true);
         if (dialog.isConfirmed()){
             UserDAO userDAO = new UserDAO();
-            userDAO.deleteUser(stateManager.getProfile().getName());
+            userDAO.deleteUserAsync(stateManager.getProfile().getName());
             stateManager.setProfile(null);
             stateManager.switchPanel("Login");
 
@@ -179,7 +180,7 @@ public class ProfilePanel extends JPanel implements Resettable {
      * and shows a notification dialog informing the user about the balance increase.
      */
     private void topUpBalance(){
-        stateManager.getProfile().increaseBalanceBy(10000);
+        stateManager.getProfile().increaseBalanceBy(10000, BalanceEventType.TOP_UP);
         StyledNotificationDialog dialog = new StyledNotificationDialog(stateManager.getFrame(), "Your balance has increased by 10000");
         dialog.setVisible(true);
         updateBalanceLabel();
@@ -0,0 +1,206 @@
+package org.daniel.elysium.server;
+
+import org.daniel.elysium.server.metrics.ServerMetrics;
+import org.daniel.elysium.server.protocol.Frames;
+import org.daniel.elysium.server.protocol.Opcode;
+import org.daniel.elysium.server.session.GameSession;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A selector thread serving a share of the server's connections.
+ * <p>
+ * Each connection is read, served and written on this thread only. Requests are served as soon as
+ * their frame is complete and the responses are gathered in the connection's output buffer, so a
+ * client pipelining requests gets its responses in a few large writes. When a client stops reading,
+ * its output buffer fills up and the loop stops serving it until the buffer drains, which bounds
+ * the memory of every connection.
+ * </p>
+ */
+class EventLoop implements Runnable {
+
+    /** Size of the input buffer of every connection. */
+    static final int INPUT_BUFFER_SIZE = 4 * 1024;
+
+    /** Size of the output buffer of every connection. */
+    static final int OUTPUT_BUFFER_SIZE = 16 * 1024;
+
+    private final Selector selector;
+    private final ServerMetrics metrics;
+    private final Queue<Connection> pending = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    EventLoop(ServerMetrics metrics) throws IOException {
+        this.selector = Selector.open();
+        this.metrics = metrics;
+    }
+
+    /**
+     * Hands a newly accepted connection to this loop.
+     */
+    void register(SocketChannel channel, GameSession session) {
+        pending.add(new Connection(channel, session));
+        selector.wakeup();
+    }
+
+    /**
+     * Stops the loop and closes its connections.
+     */
+    void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                registerPending();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    serve(key);
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            // The selector failed, so this loop's connections cannot be served any more
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                close(key);
+            }
+            Connection connection;
+            while ((connection = pending.poll()) != null) {
+                closeQuietly(connection.channel);
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // Nothing left to release
+            }
+        }
+    }
+
+    /* ======================
+       Connection Handling
+       ====================== */
+
+    /**
+     * Registers the connections accepted since the last wake-up.
+     */
+    private void registerPending() {
+        Connection connection;
+        while ((connection = pending.poll()) != null) {
+            try {
+                connection.channel.register(selector, SelectionKey.OP_READ, connection);
+                metrics.connectionOpened();
+            } catch (IOException e) {
+                closeQuietly(connection.channel);
+            }
+        }
+    }
+
+    /**
+     * Reads whatever arrived, serves every complete request and writes the responses.
+     */
+    private void serve(SelectionKey key) {
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                int read = connection.channel.read(connection.in);
+                if (read < 0) {
+                    close(key);
+                    return;
+                }
+                metrics.bytesRead(read);
+            }
+            boolean moreRequests;
+            do {
+                connection.in.flip();
+                try {
+                    moreRequests = serveRequests(connection);
+                } finally {
+                    connection.in.compact();
+                }
+
+                connection.out.flip();
+                metrics.bytesWritten(connection.channel.write(connection.out));
+                connection.out.compact();
+            } while (moreRequests && connection.out.position() == 0);
+
+            // Stop reading while responses are waiting, so a slow client cannot make the loop buffer without bound
+            key.interestOps(connection.out.position() > 0 ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        } catch (IOException | RuntimeException e) {
+            // A broken connection or a failing game only ends its own session, never the loop
+            close(key);
+        }
+    }
+
+    /**
+     * Serves complete requests while the output buffer has room for their responses.
+     *
+     * @return {@code true} if requests are left because the output buffer is full
+     */
+    private boolean serveRequests(Connection connection) throws IOException {
+        ByteBuffer in = connection.in;
+        ByteBuffer out = connection.out;
+        while (true) {
+            int length = Frames.nextFrameLength(in, Frames.MAX_REQUEST_SIZE);
+            if (length < 0) {
+                return false;
+            }
+            if (out.remaining() < Frames.MAX_RESPONSE_SIZE) {
+                return true;
+            }
+            long start = System.nanoTime();
+            int frameEnd = in.position() + Frames.LENGTH_SIZE + length;
+            Opcode opcode = Opcode.of(in.get(in.position() + Frames.LENGTH_SIZE));
+            ByteBuffer payload = in.slice(in.position() + Frames.HEADER_SIZE, length - 1);
+            boolean success = connection.session.handle(opcode, payload, out);
+            in.position(frameEnd);
+            metrics.requestServed(opcode, System.nanoTime() - start, success);
+        }
+    }
+
+    private void close(SelectionKey key) {
+        key.cancel();
+        closeQuietly(key.channel());
+        if (key.attachment() != null) {
+            key.attach(null);
+            metrics.connectionClosed();
+        }
+    }
+
+    static void closeQuietly(Channel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // The connection is gone either way
+        }
+    }
+
+    /**
+     * The channel, buffers and games of one client.
+     */
+    private static final class Connection {
+        private final SocketChannel channel;
+        private final GameSession session;
+        private final ByteBuffer in = ByteBuffer.allocate(INPUT_BUFFER_SIZE);
+        private final ByteBuffer out = ByteBuffer.allocate(OUTPUT_BUFFER_SIZE);
+
+        private Connection(SocketChannel channel, GameSession session) {
+            this.channel = channel;
+            this.session = session;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package org.daniel.elysium.server;
+
+import org.daniel.elysium.server.metrics.ServerMetrics;
+import org.daniel.elysium.server.session.GameSession;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the Blackjack, Baccarat and Ultimate Texas Hold'em engines to remote clients over TCP.
+ * <p>
+ * An acceptor thread takes new connections and spreads them over a fixed set of non-blocking
+ * {@link EventLoop}s, each a single thread with its own selector. Every connection gets its own
+ * {@link GameSession} that stays on one loop for its whole life, so thousands of sessions are served
+ * by a handful of threads without any locking. Requests and responses use the binary frames of
+ * {@link org.daniel.elysium.server.protocol.Frames}, and the server's throughput and latency are
+ * recorded in its {@link ServerMetrics}.
+ * </p>
+ */
+public class GameServer implements AutoCloseable {
+
+    /** Number of pending connections the operating system queues for the acceptor. */
+    public static final int ACCEPT_BACKLOG = 4096;
+
+    /** Milliseconds the acceptor waits after a failed accept before it tries again. */
+    public static final long ACCEPT_RETRY_DELAY_MS = 50;
+
+    private final InetSocketAddress address;
+    private final ServerMetrics metrics = new ServerMetrics();
+    private final EventLoop[] loops;
+    private final List<Thread> threads = new ArrayList<>();
+    private ServerSocketChannel serverChannel;
+    private int nextSessionId;
+
+    /**
+     * Creates a server that listens on the given address once started.
+     *
+     * @param address the address to listen on; port 0 picks a free port
+     * @param loops   the number of event loop threads
+     * @throws IOException if a selector cannot be opened
+     * @throws IllegalArgumentException if {@code loops} is not positive
+     */
+    public GameServer(InetSocketAddress address, int loops) throws IOException {
+        if (loops <= 0) {
+            throw new IllegalArgumentException("At least one event loop is required: " + loops);
+        }
+        this.address = address;
+        this.loops = new EventLoop[loops];
+        for (int i = 0; i < loops; i++) {
+            this.loops[i] = new EventLoop(metrics);
+        }
+    }
+
+    /**
+     * Binds the server and starts accepting connections.
+     *
+     * @throws IOException if the address cannot be bound
+     */
+    public void start() throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        serverChannel.bind(address, ACCEPT_BACKLOG);
+
+        for (int i = 0; i < loops.length; i++) {
+            startThread(loops[i], "server-loop-" + (i + 1));
+        }
+        startThread(this::acceptConnections, "server-acceptor");
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the bound port
+     * @throws IllegalStateException if the server has not been started
+     */
+    public int getPort() {
+        if (serverChannel == null) {
+            throw new IllegalStateException("The server has not been started");
+        }
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Returns the throughput and latency figures of this server.
+     *
+     * @return the server metrics
+     */
+    public ServerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Stops accepting connections, closes every open connection and waits for the threads to end.
+     */
+    @Override
+    public void close() {
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+        } catch (IOException ignored) {
+            // The acceptor stops either way
+        }
+        for (EventLoop loop : loops) {
+            loop.stop();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Accepts connections until the server channel is closed, handing them to the loops in turn.
+     */
+    private void acceptConnections() {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                // A failed accept must not stop the server, but a lasting error such as running out of
+                // file descriptors would spin the acceptor if it retried at once
+                try {
+                    Thread.sleep(ACCEPT_RETRY_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                continue;
+            }
+
+            try {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            } catch (IOException e) {
+                // The client reset its connection before it was set up
+                EventLoop.closeQuietly(channel);
+                continue;
+            }
+            int sessionId = nextSessionId++;
+            loops[Math.floorMod(sessionId, loops.length)].register(channel, new GameSession(sessionId));
+        }
+    }
+
+    private void startThread(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        threads.add(thread);
+    }
+}
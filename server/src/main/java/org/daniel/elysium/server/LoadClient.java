@@ -0,0 +1,420 @@
+package org.daniel.elysium.server;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.constants.BJTablePhase;
+import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.server.metrics.LatencyHistogram;
+import org.daniel.elysium.server.protocol.Frames;
+import org.daniel.elysium.server.protocol.Opcode;
+import org.daniel.elysium.server.protocol.ProtocolException;
+import org.daniel.elysium.server.session.UthGame;
+import org.daniel.elysium.ultimateTH.constants.UthGameStage;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives a game server with many simulated sessions and measures what the clients experience.
+ * <p>
+ * Every session opens its own connection and plays in a closed loop: a Blackjack round, a Baccarat
+ * bet, an Ultimate Texas Hold'em round and a ping, over and over, sending the next request as soon
+ * as the previous response arrives. The sessions are spread over a few selector threads, so thousands
+ * of them fit in one process. The round-trip time of every request is recorded, and the result holds
+ * the throughput and latency percentiles of the whole run.
+ * </p>
+ * <p>
+ * Usage: {@code LoadClient [host] [port] [sessions] [seconds]}.
+ * </p>
+ */
+public class LoadClient {
+
+    private final InetSocketAddress address;
+    private final int sessions;
+    private final int threads;
+
+    /**
+     * The outcome of a load run.
+     *
+     * @param sessions the number of sessions that took part
+     * @param requests the number of requests answered
+     * @param errors   the number of requests answered with an error, plus broken connections
+     * @param seconds  the duration of the run
+     * @param latency  the round-trip time of every answered request
+     */
+    public record LoadResult(int sessions, long requests, long errors, double seconds, LatencyHistogram latency) {
+
+        /**
+         * Returns the number of requests answered per second.
+         *
+         * @return the throughput
+         */
+        public double throughput() {
+            return requests / seconds;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d sessions | %d requests in %.1fs | %.0f req/s | %d errors%n  round trip %s",
+                    sessions, requests, seconds, throughput(), errors, latency);
+        }
+    }
+
+    /**
+     * Creates a load client.
+     *
+     * @param address  the address of the server
+     * @param sessions the number of concurrent sessions
+     * @param threads  the number of selector threads sharing the sessions
+     * @throws IllegalArgumentException if {@code sessions} or {@code threads} is not positive
+     */
+    public LoadClient(InetSocketAddress address, int sessions, int threads) {
+        if (sessions <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Sessions and threads must be positive: " + sessions + ", " + threads);
+        }
+        this.address = address;
+        this.sessions = sessions;
+        this.threads = Math.min(threads, sessions);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : ServerMain.DEFAULT_PORT;
+        int sessions = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        LoadClient client = new LoadClient(new InetSocketAddress(host, port), sessions, threads);
+        System.out.println("Running " + sessions + " sessions against " + host + ":" + port + " for " + seconds + "s");
+        System.out.println(client.run(seconds * 1000L));
+    }
+
+    /**
+     * Connects every session and plays until the given time has passed.
+     *
+     * @param millis the duration of the run
+     * @return the throughput and latency of the run
+     * @throws IOException if a session cannot connect
+     * @throws InterruptedException if the run is interrupted
+     */
+    public LoadResult run(long millis) throws IOException, InterruptedException {
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        List<Worker> workers = new ArrayList<>(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                int share = sessions / threads + (i < sessions % threads ? 1 : 0);
+                workers.add(new Worker(share, latency, errors));
+            }
+
+            long start = System.nanoTime();
+            long deadline = start + millis * 1_000_000;
+            List<Thread> running = new ArrayList<>(threads);
+            for (Worker worker : workers) {
+                Thread thread = new Thread(() -> worker.play(deadline), "load-client-" + (running.size() + 1));
+                thread.start();
+                running.add(thread);
+            }
+            for (Thread thread : running) {
+                thread.join();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return new LoadResult(sessions, latency.getCount(), errors.sum(), seconds, latency);
+        } finally {
+            for (Worker worker : workers) {
+                worker.close();
+            }
+        }
+    }
+
+    /* ======================
+       Workers
+       ====================== */
+
+    /**
+     * A selector thread playing a share of the sessions.
+     */
+    private final class Worker {
+        private final Selector selector = Selector.open();
+        private final LatencyHistogram latency;
+        private final LongAdder errors;
+
+        private Worker(int sessions, LatencyHistogram latency, LongAdder errors) throws IOException {
+            this.latency = latency;
+            this.errors = errors;
+            for (int i = 0; i < sessions; i++) {
+                SocketChannel channel = SocketChannel.open(address);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                channel.configureBlocking(false);
+                channel.register(selector, SelectionKey.OP_READ, new ClientSession(channel));
+            }
+        }
+
+        private void play(long deadline) {
+            try {
+                for (SelectionKey key : selector.keys()) {
+                    ((ClientSession) key.attachment()).sendNext(key);
+                }
+                while (System.nanoTime() < deadline && !selector.keys().isEmpty()) {
+                    selector.select(Math.max(1, (deadline - System.nanoTime()) / 1_000_000));
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        ClientSession session = (ClientSession) key.attachment();
+                        try {
+                            if (key.isWritable()) {
+                                session.flush(key);
+                            }
+                            if (key.isValid() && key.isReadable()) {
+                                session.receive(key);
+                            }
+                        } catch (IOException e) {
+                            errors.increment();
+                            key.cancel();
+                            key.channel().close();
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                errors.increment();
+            }
+        }
+
+        private void close() {
+            for (SelectionKey key : selector.keys()) {
+                try {
+                    key.channel().close();
+                } catch (IOException ignored) {
+                    // Closing anyway
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // Closing anyway
+            }
+        }
+
+        /**
+         * One simulated player, cycling through the games with a simple fixed strategy.
+         */
+        private final class ClientSession {
+            private static final int BLACKJACK = 0;
+            private static final int BACCARAT = 1;
+            private static final int UTH = 2;
+            private static final int PING = 3;
+
+            private final SocketChannel channel;
+            private final ByteBuffer in = ByteBuffer.allocate(EventLoop.OUTPUT_BUFFER_SIZE);
+            private final ByteBuffer out = ByteBuffer.allocate(Frames.MAX_REQUEST_SIZE);
+            private final List<List<Integer>> hands = new ArrayList<>();
+            private final List<Integer> dealerCards = new ArrayList<>();
+            private final List<Integer> holeCards = new ArrayList<>();
+            private int game = BLACKJACK;
+            private long sentAt;
+
+            private ClientSession(SocketChannel channel) {
+                this.channel = channel;
+            }
+
+            /**
+             * Sends the first request of the current game.
+             */
+            private void sendNext(SelectionKey key) throws IOException {
+                int frame;
+                switch (game) {
+                    case BLACKJACK -> {
+                        frame = Frames.begin(out, Opcode.BJ_BET);
+                        out.putInt(10);
+                    }
+                    case BACCARAT -> {
+                        BacHandType[] types = {BacHandType.BANKER, BacHandType.PLAYER, BacHandType.TIE};
+                        frame = Frames.begin(out, Opcode.BAC_BET);
+                        Frames.putU8(out, types[ThreadLocalRandom.current().nextInt(types.length)].ordinal());
+                        out.putInt(10);
+                    }
+                    case UTH -> {
+                        frame = Frames.begin(out, Opcode.UTH_ANTE);
+                        out.putInt(10);
+                        out.putInt(5);
+                    }
+                    default -> {
+                        frame = Frames.begin(out, Opcode.PING);
+                        out.putLong(System.nanoTime());
+                    }
+                }
+                Frames.end(out, frame);
+                send(key);
+            }
+
+            /**
+             * Sends a request with a single-byte payload.
+             */
+            private void send(SelectionKey key, Opcode opcode, int value) throws IOException {
+                int frame = Frames.begin(out, opcode);
+                Frames.putU8(out, value);
+                Frames.end(out, frame);
+                send(key);
+            }
+
+            private void send(SelectionKey key) throws IOException {
+                sentAt = System.nanoTime();
+                flush(key);
+            }
+
+            private void flush(SelectionKey key) throws IOException {
+                out.flip();
+                channel.write(out);
+                out.compact();
+                key.interestOps(out.position() > 0 ? SelectionKey.OP_WRITE | SelectionKey.OP_READ : SelectionKey.OP_READ);
+            }
+
+            /**
+             * Reads the response to the outstanding request and sends the next one.
+             */
+            private void receive(SelectionKey key) throws IOException {
+                if (channel.read(in) < 0) {
+                    throw new IOException("Connection closed by the server");
+                }
+                in.flip();
+                try {
+                    int length = Frames.nextFrameLength(in, EventLoop.OUTPUT_BUFFER_SIZE);
+                    if (length < 0) {
+                        return;
+                    }
+                    latency.record(System.nanoTime() - sentAt);
+                    int frameEnd = in.position() + Frames.LENGTH_SIZE + length;
+                    in.position(in.position() + Frames.LENGTH_SIZE);
+                    Opcode opcode = Opcode.of(Frames.getU8(in));
+                    ByteBuffer payload = in.slice(in.position(), frameEnd - in.position());
+                    in.position(frameEnd);
+                    respond(key, opcode, payload);
+                } finally {
+                    in.compact();
+                }
+            }
+
+            /**
+             * Decides on the next request from a response.
+             */
+            private void respond(SelectionKey key, Opcode opcode, ByteBuffer payload) throws IOException {
+                if (opcode == null) {
+                    throw new ProtocolException("Unknown response");
+                }
+                switch (opcode) {
+                    case BJ_STATE -> onBlackjackState(key, payload);
+                    case UTH_STATE -> onUthState(key, payload);
+                    case BAC_RESULT, PONG -> nextGame(key);
+                    case ERROR -> {
+                        errors.increment();
+                        nextGame(key);
+                    }
+                    default -> throw new ProtocolException("Unexpected response: " + opcode);
+                }
+            }
+
+            private void onBlackjackState(SelectionKey key, ByteBuffer payload) throws IOException {
+                BJTablePhase phase = BJTablePhase.values()[Frames.getU8(payload)];
+                int activeHand = Frames.getU8(payload);
+                int handCount = Frames.getU8(payload);
+                payload.getInt();
+                while (hands.size() < handCount) {
+                    hands.add(new ArrayList<>());
+                }
+                while (hands.size() > handCount) {
+                    hands.remove(hands.size() - 1);
+                }
+                int changes = Frames.getU8(payload);
+                for (int i = 0; i < changes; i++) {
+                    int target = Frames.getU8(payload);
+                    applyChange(target == Opcode.DEALER ? dealerCards : hands.get(target), payload);
+                }
+
+                switch (phase) {
+                    case INSURANCE -> send(key, Opcode.BJ_INSURE, 0);
+                    case PLAYING -> send(key, Opcode.BJ_ACTION, decide(hands.get(activeHand)).ordinal());
+                    default -> nextGame(key);
+                }
+            }
+
+            private void onUthState(SelectionKey key, ByteBuffer payload) throws IOException {
+                UthGameStage stage = UthGameStage.values()[Frames.getU8(payload)];
+                if (stage == UthGameStage.START) {
+                    holeCards.clear();
+                }
+                int changes = Frames.getU8(payload);
+                for (int i = 0; i < changes; i++) {
+                    int target = Frames.getU8(payload);
+                    applyChange(target == UthGame.PLAYER ? holeCards : new ArrayList<>(), payload);
+                }
+
+                switch (stage) {
+                    case START -> send(key, Opcode.UTH_DECISION,
+                            holeCards.get(0) % 13 == holeCards.get(1) % 13 ? 4 : 0);
+                    case FLOP -> send(key, Opcode.UTH_DECISION, 0);
+                    case RIVER -> send(key, Opcode.UTH_DECISION, 1);
+                    default -> nextGame(key);
+                }
+            }
+
+            private void nextGame(SelectionKey key) throws IOException {
+                game = (game + 1) % (PING + 1);
+                sendNext(key);
+            }
+
+            /**
+             * Hits below 17, splits Aces and Eights, and stands otherwise.
+             */
+            private BJAction decide(List<Integer> hand) {
+                if (hand.size() == 2 && hand.get(0) % 13 == hand.get(1) % 13
+                        && (hand.get(0) % 13 == 0 || hand.get(0) % 13 == 7)) {
+                    return BJAction.SPLIT;
+                }
+                return handValue(hand) < 17 ? BJAction.HIT : BJAction.STAND;
+            }
+
+            private int handValue(List<Integer> hand) {
+                int value = 0;
+                int aces = 0;
+                for (int code : hand) {
+                    int rank = code % 13;
+                    if (rank == 0) {
+                        value += 11;
+                        aces++;
+                    } else {
+                        value += Math.min(rank + 1, 10);
+                    }
+                }
+                while (value > 21 && aces > 0) {
+                    value -= 10;
+                    aces--;
+                }
+                return value;
+            }
+
+            /**
+             * Applies a card change written by {@link Frames#putCardChange}.
+             */
+            private void applyChange(List<Integer> cards, ByteBuffer payload) {
+                int kept = Frames.getU8(payload);
+                while (cards.size() > kept) {
+                    cards.remove(cards.size() - 1);
+                }
+                int count = Frames.getU8(payload);
+                for (int i = 0; i < count; i++) {
+                    cards.add(Frames.getU8(payload));
+                }
+            }
+        }
+    }
+}
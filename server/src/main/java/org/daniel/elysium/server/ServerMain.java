@@ -0,0 +1,44 @@
+package org.daniel.elysium.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the game server and prints its metrics at a fixed interval until the process ends.
+ * <p>
+ * Usage: {@code ServerMain [port] [loops]}, where port defaults to {@link #DEFAULT_PORT} and
+ * loops defaults to one event loop per available processor when omitted or 0.
+ * </p>
+ */
+public class ServerMain {
+
+    /** Port the server listens on when none is given. */
+    public static final int DEFAULT_PORT = 7777;
+
+    /** Seconds between two metric reports. */
+    public static final int REPORT_INTERVAL_SECONDS = 5;
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int loops = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        if (loops <= 0) {
+            loops = Runtime.getRuntime().availableProcessors();
+        }
+
+        GameServer server = new GameServer(new InetSocketAddress(port), loops);
+        server.start();
+        System.out.println("Elysium game server listening on port " + server.getPort() + " with " + loops + " event loops");
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(() -> System.out.print(server.getMetrics().report()),
+                REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            reporter.shutdownNow();
+            server.close();
+            System.out.print(server.getMetrics().report());
+        }, "server-shutdown"));
+    }
+}
@@ -0,0 +1,174 @@
+package org.daniel.elysium.server.metrics;
+
+import org.daniel.elysium.server.protocol.Opcode;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the throughput and latency figures of a running game server.
+ * <p>
+ * The event loops update the counters as they go, and the time spent serving each request is
+ * recorded per request type, measured from the moment a complete frame has been read until its
+ * response has been encoded. {@link #report()} summarizes everything and the rates since the
+ * previous report, which is enough to size hardware for a deployment.
+ * </p>
+ */
+public class ServerMetrics {
+
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final AtomicInteger connectionsActive = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final Map<Opcode, LatencyHistogram> latencies = new EnumMap<>(Opcode.class);
+
+    private long lastReportNanos = System.nanoTime();
+    private long lastRequests;
+    private long lastBytesIn;
+    private long lastBytesOut;
+
+    /**
+     * Creates empty metrics with a histogram for every request type.
+     */
+    public ServerMetrics() {
+        for (Opcode opcode : Opcode.values()) {
+            if (opcode.isRequest()) {
+                latencies.put(opcode, new LatencyHistogram());
+            }
+        }
+    }
+
+    /* ======================
+       Recording
+       ====================== */
+
+    /**
+     * Records a newly accepted connection.
+     */
+    public void connectionOpened() {
+        connectionsOpened.increment();
+        connectionsActive.incrementAndGet();
+    }
+
+    /**
+     * Records a closed connection.
+     */
+    public void connectionClosed() {
+        connectionsActive.decrementAndGet();
+    }
+
+    /**
+     * Records a served request.
+     *
+     * @param opcode  the type of the request
+     * @param nanos   the time spent serving it
+     * @param success {@code false} if it was answered with an error
+     */
+    public void requestServed(Opcode opcode, long nanos, boolean success) {
+        requests.increment();
+        if (!success) {
+            errors.increment();
+        }
+        latencies.get(opcode).record(nanos);
+    }
+
+    /**
+     * Records bytes read from the clients.
+     *
+     * @param bytes the number of bytes read
+     */
+    public void bytesRead(long bytes) {
+        bytesIn.add(bytes);
+    }
+
+    /**
+     * Records bytes written to the clients.
+     *
+     * @param bytes the number of bytes written
+     */
+    public void bytesWritten(long bytes) {
+        bytesOut.add(bytes);
+    }
+
+    /* ======================
+       Reporting
+       ====================== */
+
+    /**
+     * Returns the number of connections currently open.
+     *
+     * @return the active connection count
+     */
+    public int getActiveConnections() {
+        return connectionsActive.get();
+    }
+
+    /**
+     * Returns the number of requests served so far.
+     *
+     * @return the request count, including rejected requests
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of requests answered with an error.
+     *
+     * @return the error count
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the service time histogram of a request type.
+     *
+     * @param opcode the request type
+     * @return the histogram
+     * @throws IllegalArgumentException if the opcode is not a request
+     */
+    public LatencyHistogram getLatency(Opcode opcode) {
+        LatencyHistogram histogram = latencies.get(opcode);
+        if (histogram == null) {
+            throw new IllegalArgumentException("Not a request: " + opcode);
+        }
+        return histogram;
+    }
+
+    /**
+     * Summarizes the totals, the rates since the previous report and the service time of
+     * every request type that has been served.
+     *
+     * @return a multi-line report
+     */
+    public synchronized String report() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-9, (now - lastReportNanos) / 1e9);
+        long currentRequests = requests.sum();
+        long currentBytesIn = bytesIn.sum();
+        long currentBytesOut = bytesOut.sum();
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("connections: %d active, %d total | requests: %d (%d errors) | %.0f req/s"
+                        + " | in %.1f KB/s | out %.1f KB/s%n",
+                connectionsActive.get(), connectionsOpened.sum(), currentRequests, errors.sum(),
+                (currentRequests - lastRequests) / seconds,
+                (currentBytesIn - lastBytesIn) / seconds / 1024, (currentBytesOut - lastBytesOut) / seconds / 1024));
+        for (Map.Entry<Opcode, LatencyHistogram> entry : latencies.entrySet()) {
+            if (entry.getValue().getCount() > 0) {
+                report.append(String.format("  %-12s %s%n", entry.getKey(), entry.getValue()));
+            }
+        }
+
+        lastReportNanos = now;
+        lastRequests = currentRequests;
+        lastBytesIn = currentBytesIn;
+        lastBytesOut = currentBytesOut;
+        return report.toString();
+    }
+}
@@ -0,0 +1,218 @@
+package org.daniel.elysium.server.protocol;
+
+import org.daniel.elysium.models.Card;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Reads and writes the binary frames of the game protocol.
+ * <p>
+ * A frame is a {@code u16} length followed by a {@code u8} {@link Opcode} and its payload; the length
+ * counts the opcode and the payload. Frames are written straight into the connection's buffers, so
+ * encoding and decoding allocate nothing beyond the occasional error message.
+ * </p>
+ */
+public class Frames {
+
+    /** Size of the length prefix. */
+    public static final int LENGTH_SIZE = 2;
+
+    /** Size of the length prefix and the opcode. */
+    public static final int HEADER_SIZE = LENGTH_SIZE + 1;
+
+    /** Largest request a client may send; every request is far smaller. */
+    public static final int MAX_REQUEST_SIZE = 64;
+
+    /** Largest response the server writes, even for a Blackjack round with many split hands. */
+    public static final int MAX_RESPONSE_SIZE = 512;
+
+    /** Longest error message written, in bytes. */
+    private static final int MAX_MESSAGE_SIZE = 200;
+
+    /* ======================
+       Framing
+       ====================== */
+
+    /**
+     * Returns the length of the next frame if it has been received completely.
+     *
+     * @param in        a buffer in read mode, positioned at the start of a frame
+     * @param maxLength the largest frame length accepted
+     * @return the frame length, counting the opcode and the payload, or -1 if the frame is incomplete
+     * @throws ProtocolException if the length is zero or above {@code maxLength}
+     */
+    public static int nextFrameLength(ByteBuffer in, int maxLength) throws ProtocolException {
+        if (in.remaining() < LENGTH_SIZE) {
+            return -1;
+        }
+        int length = in.getShort(in.position()) & 0xFFFF;
+        if (length == 0 || length > maxLength) {
+            throw new ProtocolException("Invalid frame length: " + length);
+        }
+        return in.remaining() >= LENGTH_SIZE + length ? length : -1;
+    }
+
+    /**
+     * Starts a frame, leaving room for its length.
+     *
+     * @param out    the buffer to write to
+     * @param opcode the type of the frame
+     * @return the position of the frame, to be passed to {@link #end}
+     */
+    public static int begin(ByteBuffer out, Opcode opcode) {
+        int start = out.position();
+        out.putShort((short) 0);
+        out.put((byte) opcode.getCode());
+        return start;
+    }
+
+    /**
+     * Completes a frame by writing its length.
+     *
+     * @param out   the buffer written to
+     * @param start the position returned by {@link #begin}
+     */
+    public static void end(ByteBuffer out, int start) {
+        out.putShort(start, (short) (out.position() - start - LENGTH_SIZE));
+    }
+
+    /* ======================
+       Payload Values
+       ====================== */
+
+    /**
+     * Writes an unsigned byte.
+     *
+     * @param out   the buffer to write to
+     * @param value the value, between 0 and 255
+     */
+    public static void putU8(ByteBuffer out, int value) {
+        out.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned byte.
+     *
+     * @param in the buffer to read from
+     * @return the value, between 0 and 255
+     */
+    public static int getU8(ByteBuffer in) {
+        return in.get() & 0xFF;
+    }
+
+    /**
+     * Writes a card as its one-byte code.
+     *
+     * @param out  the buffer to write to
+     * @param card the card
+     */
+    public static void putCard(ByteBuffer out, Card card) {
+        out.put((byte) card.getCode());
+    }
+
+    /**
+     * Reads a card written by {@link #putCard}.
+     *
+     * @param in the buffer to read from
+     * @return the shared card with letter suits
+     * @throws ProtocolException if the code is not a card
+     */
+    public static Card getCard(ByteBuffer in) throws ProtocolException {
+        int code = getU8(in);
+        if (code >= Card.DECK_SIZE) {
+            throw new ProtocolException("Invalid card code: " + code);
+        }
+        return Card.of(code % Card.RANKS.size(), code / Card.RANKS.size(), false);
+    }
+
+    /**
+     * Writes a {@code u8} count followed by the cards.
+     *
+     * @param out   the buffer to write to
+     * @param cards the cards
+     */
+    public static void putCards(ByteBuffer out, List<? extends Card> cards) {
+        putU8(out, cards.size());
+        for (Card card : cards) {
+            putCard(out, card);
+        }
+    }
+
+    /**
+     * Writes the change from one list of cards to another, if there is one.
+     * A change is a {@code u8} target, the {@code u8} count of cards kept from the old list,
+     * and the new cards after them as written by {@link #putCards}. A reader truncates its copy
+     * to the kept cards, then appends the new ones.
+     *
+     * @param out    the buffer to write to
+     * @param target the target identifying the list
+     * @param before the cards the client knows of
+     * @param after  the current cards
+     * @return 1 if a change was written, 0 if the lists are equal
+     */
+    public static int putCardChange(ByteBuffer out, int target, List<? extends Card> before,
+                                    List<? extends Card> after) {
+        int kept = 0;
+        while (kept < before.size() && kept < after.size()
+                && before.get(kept).getCode() == after.get(kept).getCode()) {
+            kept++;
+        }
+        if (kept == before.size() && kept == after.size()) {
+            return 0;
+        }
+        putU8(out, target);
+        putU8(out, kept);
+        putCards(out, after.subList(kept, after.size()));
+        return 1;
+    }
+
+    /**
+     * Reserves the {@code u8} change count written before a list of card changes.
+     *
+     * @param out the buffer to write to
+     * @return the position of the count, to be passed to {@link #endCardChanges}
+     */
+    public static int beginCardChanges(ByteBuffer out) {
+        int position = out.position();
+        out.put((byte) 0);
+        return position;
+    }
+
+    /**
+     * Writes the number of card changes written since {@link #beginCardChanges}.
+     *
+     * @param out      the buffer written to
+     * @param position the position returned by {@link #beginCardChanges}
+     * @param changes  the number of changes
+     */
+    public static void endCardChanges(ByteBuffer out, int position, int changes) {
+        out.put(position, (byte) changes);
+    }
+
+    /**
+     * Writes a {@code u16} length followed by the UTF-8 bytes of a message, truncated if too long.
+     *
+     * @param out     the buffer to write to
+     * @param message the message
+     */
+    public static void putString(ByteBuffer out, String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_MESSAGE_SIZE);
+        out.putShort((short) length);
+        out.put(bytes, 0, length);
+    }
+
+    /**
+     * Reads a message written by {@link #putString}.
+     *
+     * @param in the buffer to read from
+     * @return the message
+     */
+    public static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort() & 0xFFFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,136 @@
+package org.daniel.elysium.server.protocol;
+
+/**
+ * Identifies the type of a frame exchanged between a client and the game server.
+ * <p>
+ * Requests have the high bit clear and are sent by the client; every request is answered by
+ * exactly one response, which has the high bit set. All numbers are big-endian and every card
+ * is a single byte holding its {@link org.daniel.elysium.models.Card#getCode() code}.
+ * </p>
+ */
+public enum Opcode {
+
+    /**
+     * Measures the round trip. Payload: {@code long} client timestamp.
+     */
+    PING(0x01),
+
+    /**
+     * Places a Blackjack bet and deals a new round. Payload: {@code int} amount.
+     */
+    BJ_BET(0x10),
+
+    /**
+     * Acts on the active Blackjack hand. Payload: {@code u8}
+     * {@link org.daniel.elysium.blackjack.constants.BJAction} ordinal.
+     */
+    BJ_ACTION(0x11),
+
+    /**
+     * Decides on Blackjack insurance. Payload: {@code u8} 1 to insure, 0 to decline.
+     */
+    BJ_INSURE(0x12),
+
+    /**
+     * Plays a complete Baccarat round. Payload: {@code u8}
+     * {@link org.daniel.elysium.baccarat.constants.BacHandType} ordinal, {@code int} amount.
+     */
+    BAC_BET(0x20),
+
+    /**
+     * Starts an Ultimate Texas Hold'em round. Payload: {@code int} ante, also placed as the blind,
+     * and {@code int} trips side bet, 0 for none.
+     */
+    UTH_ANTE(0x30),
+
+    /**
+     * Decides at the current Ultimate Texas Hold'em stage. Payload: {@code u8} play bet as a
+     * multiple of the ante, 0 to check or {@link #FOLD} to fold.
+     */
+    UTH_DECISION(0x31),
+
+    /**
+     * Answers a {@link #PING}. Payload: the {@code long} timestamp of the ping.
+     */
+    PONG(0x81),
+
+    /**
+     * The changes to a Blackjack round. Payload: {@code u8} phase ordinal, {@code u8} active hand or
+     * {@link #NONE}, {@code u8} hand count, {@code int} payout (valid once settled), then a {@code u8} count
+     * of card changes as written by {@link Frames#putCardChange}, where the dealer is target {@link #DEALER}.
+     * A settled round ends with one {@code u8} hand state ordinal per hand.
+     */
+    BJ_STATE(0x90),
+
+    /**
+     * The outcome of a Baccarat round. Payload: player cards and banker cards as written by
+     * {@link Frames#putCards}, {@code u8} winning hand type ordinal and {@code int} payout.
+     */
+    BAC_RESULT(0xA0),
+
+    /**
+     * The changes to an Ultimate Texas Hold'em round. Payload: {@code u8} stage ordinal, then a {@code u8}
+     * count of card changes as written by {@link Frames#putCardChange} for the targets player (0), community (1)
+     * and dealer (2). A state at the start stage begins a new round, so the client clears the cards
+     * of the previous one first. A finished round ends with a {@code u8} hand state ordinal and an
+     * {@code int} payout.
+     */
+    UTH_STATE(0xB0),
+
+    /**
+     * Rejects a request. Payload: {@code u8} opcode of the request and a message as written by
+     * {@link Frames#putString}.
+     */
+    ERROR(0xFF);
+
+    /** Placeholder for an absent index, such as the active hand between turns. */
+    public static final int NONE = 0xFF;
+
+    /** Target of the dealer's cards in a {@link #BJ_STATE} frame. */
+    public static final int DEALER = 0xFF;
+
+    /** Decision value of a fold in a {@link #UTH_DECISION} frame. */
+    public static final int FOLD = 0xFF;
+
+    private static final Opcode[] BY_CODE = new Opcode[256];
+
+    static {
+        for (Opcode opcode : values()) {
+            BY_CODE[opcode.code] = opcode;
+        }
+    }
+
+    private final int code;
+
+    Opcode(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the opcode with the given wire code.
+     *
+     * @param code the unsigned byte read from a frame
+     * @return the matching opcode, or {@code null} if the code is unknown
+     */
+    public static Opcode of(int code) {
+        return BY_CODE[code & 0xFF];
+    }
+
+    /**
+     * Returns the wire code of this opcode.
+     *
+     * @return the code, between 0 and 255
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Returns whether frames of this type are sent by the client.
+     *
+     * @return {@code true} for requests, {@code false} for responses
+     */
+    public boolean isRequest() {
+        return (code & 0x80) == 0;
+    }
+}
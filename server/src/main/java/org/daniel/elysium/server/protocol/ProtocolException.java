@@ -0,0 +1,18 @@
+package org.daniel.elysium.server.protocol;
+
+import java.io.IOException;
+
+/**
+ * Signals a frame that violates the wire protocol. The connection that sent it is closed.
+ */
+public class ProtocolException extends IOException {
+
+    /**
+     * Creates an exception with the given message.
+     *
+     * @param message the description of the violation
+     */
+    public ProtocolException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,79 @@
+package org.daniel.elysium.server.session;
+
+import org.daniel.elysium.baccarat.BaccaratGameEngine;
+import org.daniel.elysium.baccarat.constants.BacHandAction;
+import org.daniel.elysium.baccarat.constants.BacHandState;
+import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.baccarat.models.BacBetHand;
+import org.daniel.elysium.baccarat.models.BacCard;
+import org.daniel.elysium.baccarat.models.BacHand;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.models.Shoe;
+import org.daniel.elysium.server.protocol.Frames;
+import org.daniel.elysium.server.protocol.Opcode;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Plays Baccarat for one session, one complete round per request, following the same steps
+ * as the game: two cards each, the player's and then the banker's draw through
+ * {@link BaccaratGameEngine}, and the bet resolved by {@link BaccaratGameEngine#calculateResult}.
+ */
+public class BaccaratGame {
+
+    /** Number of decks in the shoe of each session. */
+    public static final int DECKS = 8;
+
+    private final Shoe<Card> shoe = Shoe.createShoe(DECKS, LetterDeck::new);
+
+    /**
+     * Plays a round on the requested bet and writes its outcome.
+     *
+     * @param in  the request payload
+     * @param out the buffer the outcome is written to
+     */
+    public void bet(ByteBuffer in, ByteBuffer out) {
+        int type = Frames.getU8(in);
+        int amount = in.getInt();
+        if (type >= BacHandType.values().length || BacHandType.values()[type] == BacHandType.UNDEFINED) {
+            throw new IllegalArgumentException("Unknown hand type: " + type);
+        }
+        if (amount <= 0) {
+            throw new IllegalArgumentException("A bet must be positive: " + amount);
+        }
+        if (shoe.needsReshuffle()) {
+            shoe.reshuffle();
+        }
+
+        BacBetHand betHand = new BacBetHand();
+        betHand.setHandType(BacHandType.values()[type]);
+        betHand.setBet(amount);
+
+        BacHand playerHand = new BacHand();
+        BacHand bankerHand = new BacHand();
+        for (int i = 0; i < 2; i++) {
+            playerHand.dealCard(BacCard.of(shoe.deal()));
+            bankerHand.dealCard(BacCard.of(shoe.deal()));
+        }
+        BaccaratGameEngine.evaluatePlayer(bankerHand, playerHand);
+        if (playerHand.getAction() == BacHandAction.DRAW) {
+            playerHand.dealCard(BacCard.of(shoe.deal()));
+        }
+        BaccaratGameEngine.evaluateBanker(bankerHand, playerHand);
+        if (bankerHand.getAction() == BacHandAction.DRAW) {
+            bankerHand.dealCard(BacCard.of(shoe.deal()));
+        }
+        BaccaratGameEngine.evaluateHands(bankerHand, playerHand);
+        BaccaratGameEngine.calculateResult(bankerHand, playerHand, betHand);
+
+        BacHandType winner = playerHand.getState() == BacHandState.WON ? BacHandType.PLAYER
+                : bankerHand.getState() == BacHandState.WON ? BacHandType.BANKER : BacHandType.TIE;
+        int start = Frames.begin(out, Opcode.BAC_RESULT);
+        Frames.putCards(out, playerHand.getHand());
+        Frames.putCards(out, bankerHand.getHand());
+        Frames.putU8(out, winner.ordinal());
+        out.putInt((int) betHand.getBet());
+        Frames.end(out, start);
+    }
+}
@@ -0,0 +1,122 @@
+package org.daniel.elysium.server.session;
+
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.constants.BJTablePhase;
+import org.daniel.elysium.blackjack.models.BJCard;
+import org.daniel.elysium.blackjack.table.BlackjackTable;
+import org.daniel.elysium.blackjack.table.HandSnapshot;
+import org.daniel.elysium.blackjack.table.SeatSnapshot;
+import org.daniel.elysium.blackjack.table.TableSnapshot;
+import org.daniel.elysium.server.protocol.Frames;
+import org.daniel.elysium.server.protocol.Opcode;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays Blackjack for one session at a single-seat {@link BlackjackTable}.
+ * <p>
+ * After every request the table's snapshot is compared with the last one sent, and only the
+ * card changes are written, so a hit costs a handful of bytes instead of the whole table.
+ * </p>
+ */
+public class BlackjackGame {
+
+    /** Number of decks in the shoe of each session. */
+    public static final int DECKS = 6;
+
+    /** Fraction of the shoe dealt before it is reshuffled. */
+    public static final double PENETRATION = 0.75;
+
+    private final BlackjackTable table;
+    private List<BJCard> sentDealerCards = List.of();
+    private List<List<BJCard>> sentHands = List.of();
+
+    /**
+     * Creates the Blackjack game of a session.
+     *
+     * @param sessionId the identifier of the session, used as the table identifier
+     */
+    public BlackjackGame(int sessionId) {
+        this.table = new BlackjackTable(sessionId, 1, DECKS, PENETRATION);
+    }
+
+    /**
+     * Places a bet and deals a new round.
+     *
+     * @param in  the request payload
+     * @param out the buffer the state is written to
+     */
+    public void bet(ByteBuffer in, ByteBuffer out) {
+        int amount = in.getInt();
+        if (table.getPhase() != BJTablePhase.SETTLED && table.getPhase() != BJTablePhase.BETTING) {
+            throw new IllegalStateException("A round is in progress");
+        }
+        table.placeBet(0, amount);
+        table.deal();
+        writeState(out);
+    }
+
+    /**
+     * Acts on the active hand.
+     *
+     * @param in  the request payload
+     * @param out the buffer the state is written to
+     */
+    public void act(ByteBuffer in, ByteBuffer out) {
+        int action = Frames.getU8(in);
+        if (action >= BJAction.values().length) {
+            throw new IllegalArgumentException("Unknown action: " + action);
+        }
+        table.act(0, BJAction.values()[action]);
+        writeState(out);
+    }
+
+    /**
+     * Decides on insurance.
+     *
+     * @param in  the request payload
+     * @param out the buffer the state is written to
+     */
+    public void insure(ByteBuffer in, ByteBuffer out) {
+        table.insure(0, Frames.getU8(in) != 0);
+        writeState(out);
+    }
+
+    /**
+     * Writes a {@link Opcode#BJ_STATE} frame with the changes since the previous one.
+     */
+    private void writeState(ByteBuffer out) {
+        TableSnapshot snapshot = table.snapshot();
+        SeatSnapshot seat = snapshot.seats().get(0);
+        List<HandSnapshot> hands = seat.hands();
+        boolean settled = snapshot.phase() == BJTablePhase.SETTLED;
+
+        int start = Frames.begin(out, Opcode.BJ_STATE);
+        Frames.putU8(out, snapshot.phase().ordinal());
+        Frames.putU8(out, snapshot.activeSeat() < 0 ? Opcode.NONE : snapshot.activeHand());
+        Frames.putU8(out, hands.size());
+        out.putInt(settled ? seat.payout() : 0);
+
+        int changesPosition = Frames.beginCardChanges(out);
+        int changes = Frames.putCardChange(out, Opcode.DEALER, sentDealerCards, snapshot.dealerCards());
+        List<List<BJCard>> handCards = new ArrayList<>(hands.size());
+        for (int i = 0; i < hands.size(); i++) {
+            List<BJCard> cards = hands.get(i).cards();
+            changes += Frames.putCardChange(out, i, i < sentHands.size() ? sentHands.get(i) : List.of(), cards);
+            handCards.add(cards);
+        }
+        Frames.endCardChanges(out, changesPosition, changes);
+
+        if (settled) {
+            for (HandSnapshot hand : hands) {
+                Frames.putU8(out, hand.state().ordinal());
+            }
+        }
+        Frames.end(out, start);
+
+        sentDealerCards = snapshot.dealerCards();
+        sentHands = handCards;
+    }
+}
@@ -0,0 +1,107 @@
+package org.daniel.elysium.server.session;
+
+import org.daniel.elysium.server.protocol.Frames;
+import org.daniel.elysium.server.protocol.Opcode;
+import org.daniel.elysium.server.protocol.ProtocolException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The games of one client connection.
+ * <p>
+ * A session is confined to the event loop serving its connection, so its games need no locking.
+ * Each game is created on the first request for it, which keeps idle sessions small. A request
+ * the rules do not allow is answered with an {@link Opcode#ERROR} frame and leaves the game
+ * unchanged; only malformed frames end the connection.
+ * </p>
+ */
+public class GameSession {
+
+    private final int sessionId;
+    private BlackjackGame blackjack;
+    private BaccaratGame baccarat;
+    private UthGame uth;
+
+    /**
+     * Creates a session.
+     *
+     * @param sessionId the identifier of the session
+     */
+    public GameSession(int sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Serves one request, writing exactly one response frame.
+     *
+     * @param opcode the type of the request
+     * @param in     the request payload, positioned at its start and limited to its end
+     * @param out    the buffer the response is written to, with at least {@link Frames#MAX_RESPONSE_SIZE} bytes free
+     * @return {@code true} if the request succeeded, {@code false} if it was answered with an error
+     * @throws ProtocolException if the frame is not a request or its payload is too short
+     */
+    public boolean handle(Opcode opcode, ByteBuffer in, ByteBuffer out) throws ProtocolException {
+        if (opcode == null || !opcode.isRequest()) {
+            throw new ProtocolException("Not a request: " + opcode);
+        }
+        int start = out.position();
+        try {
+            switch (opcode) {
+                case PING -> {
+                    long timestamp = in.getLong();
+                    int frame = Frames.begin(out, Opcode.PONG);
+                    out.putLong(timestamp);
+                    Frames.end(out, frame);
+                }
+                case BJ_BET -> blackjack().bet(in, out);
+                case BJ_ACTION -> blackjack().act(in, out);
+                case BJ_INSURE -> blackjack().insure(in, out);
+                case BAC_BET -> baccarat().bet(in, out);
+                case UTH_ANTE -> uth().ante(in, out);
+                case UTH_DECISION -> uth().decide(in, out);
+                default -> throw new ProtocolException("Not a request: " + opcode);
+            }
+            return true;
+        } catch (BufferUnderflowException e) {
+            throw new ProtocolException("Truncated " + opcode + " payload");
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            out.position(start);
+            int frame = Frames.begin(out, Opcode.ERROR);
+            Frames.putU8(out, opcode.getCode());
+            Frames.putString(out, String.valueOf(e.getMessage()));
+            Frames.end(out, frame);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the identifier of this session.
+     *
+     * @return the session identifier
+     */
+    public int getSessionId() {
+        return sessionId;
+    }
+
+    private BlackjackGame blackjack() {
+        if (blackjack == null) {
+            blackjack = new BlackjackGame(sessionId);
+        }
+        return blackjack;
+    }
+
+    private BaccaratGame baccarat() {
+        if (baccarat == null) {
+            baccarat = new BaccaratGame();
+        }
+        return baccarat;
+    }
+
+    private UthGame uth() {
+        if (uth == null) {
+            uth = new UthGame();
+        }
+        return uth;
+    }
+}
@@ -0,0 +1,157 @@
+package org.daniel.elysium.server.session;
+
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.models.LetterDeck;
+import org.daniel.elysium.models.Shoe;
+import org.daniel.elysium.server.protocol.Frames;
+import org.daniel.elysium.server.protocol.Opcode;
+import org.daniel.elysium.ultimateTH.UthEquityCalculator;
+import org.daniel.elysium.ultimateTH.UthGameEngine;
+import org.daniel.elysium.ultimateTH.constants.UthGameStage;
+import org.daniel.elysium.ultimateTH.constants.UthHandState;
+import org.daniel.elysium.ultimateTH.model.UthCard;
+import org.daniel.elysium.ultimateTH.model.UthHand;
+import org.daniel.elysium.ultimateTH.model.UthPlayerHand;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays Ultimate Texas Hold'em for one session, one hand against the dealer.
+ * <p>
+ * Each round is dealt from a freshly shuffled deck like the game itself. The player decides at
+ * the start, on the flop and on the river with the options of {@link UthGameEngine#getPlayerOptions};
+ * once a play bet is placed or the hand is folded, the rest of the board is exposed and the round is
+ * settled through {@link UthGameEngine}. Only the cards the player may see are sent, and only once.
+ * </p>
+ */
+public class UthGame {
+
+    /** Target of the player's cards in a {@link Opcode#UTH_STATE} frame. */
+    public static final int PLAYER = 0;
+
+    /** Target of the community cards in a {@link Opcode#UTH_STATE} frame. */
+    public static final int COMMUNITY = 1;
+
+    /** Target of the dealer's cards in a {@link Opcode#UTH_STATE} frame. */
+    public static final int DEALER = 2;
+
+    private final Shoe<Card> shoe = Shoe.createShoe(1, LetterDeck::new);
+    private final List<UthCard> communityCards = new ArrayList<>(5);
+    private UthPlayerHand playerHand;
+    private UthHand dealerHand;
+    private UthGameStage stage = UthGameStage.FINAL;
+    private int payout;
+
+    /**
+     * Places the ante, blind and trips bets and deals a new round.
+     *
+     * @param in  the request payload
+     * @param out the buffer the state is written to
+     */
+    public void ante(ByteBuffer in, ByteBuffer out) {
+        int ante = in.getInt();
+        int trips = in.getInt();
+        if (stage != UthGameStage.FINAL) {
+            throw new IllegalStateException("A round is in progress");
+        }
+        if (ante <= 0 || trips < 0) {
+            throw new IllegalArgumentException("Invalid bets: ante " + ante + ", trips " + trips);
+        }
+
+        // Every round is played from a freshly shuffled deck
+        shoe.reshuffle();
+        communityCards.clear();
+        for (int i = 0; i < 5; i++) {
+            communityCards.add(UthCard.of(shoe.deal()));
+        }
+        playerHand = new UthPlayerHand();
+        playerHand.setBet(ante);
+        playerHand.setTrips(trips);
+        playerHand.dealCard(UthCard.of(shoe.deal()));
+        playerHand.dealCard(UthCard.of(shoe.deal()));
+        dealerHand = new UthHand();
+        dealerHand.dealCard(UthCard.of(shoe.deal()));
+        dealerHand.dealCard(UthCard.of(shoe.deal()));
+        payout = 0;
+
+        stage = UthGameStage.START;
+        writeState(out, null);
+    }
+
+    /**
+     * Checks, places the play bet or folds at the current stage.
+     *
+     * @param in  the request payload
+     * @param out the buffer the state is written to
+     */
+    public void decide(ByteBuffer in, ByteBuffer out) {
+        int decision = Frames.getU8(in);
+        if (stage == UthGameStage.FINAL) {
+            throw new IllegalStateException("No round is in progress");
+        }
+        String option = decision == Opcode.FOLD ? "FOLD" : decision == 0 ? "CHECK" : "X" + decision;
+        if (!UthGameEngine.getPlayerOptions(stage).contains(option)) {
+            throw new IllegalStateException(option + " is not available at " + stage);
+        }
+
+        UthGameStage previous = stage;
+        if (decision == Opcode.FOLD) {
+            playerHand.setState(UthHandState.FOLD);
+            settle();
+        } else if (decision > 0) {
+            playerHand.setPlay(playerHand.getAnte() * decision);
+            settle();
+        } else {
+            stage = stage == UthGameStage.START ? UthGameStage.FLOP : UthGameStage.RIVER;
+        }
+        writeState(out, previous);
+    }
+
+    /**
+     * Exposes the whole board and resolves the round.
+     */
+    private void settle() {
+        stage = UthGameStage.FINAL;
+        UthGameEngine.evaluateHand(communityCards, playerHand);
+        UthGameEngine.evaluateHand(communityCards, dealerHand);
+        UthGameEngine.determineGameResults(playerHand, dealerHand);
+        UthGameEngine.processResults(playerHand, dealerHand);
+        UthGameEngine.evaluateTrips(playerHand);
+        if (playerHand.getState() != UthHandState.FOLD) {
+            payout = playerHand.getTrips() + playerHand.getAnte() + playerHand.getBlind() + playerHand.getPlay();
+        }
+    }
+
+    /**
+     * Writes a {@link Opcode#UTH_STATE} frame with the cards exposed since the previous stage.
+     *
+     * @param previous the stage before the request, or {@code null} for a new round,
+     *                 for which the client has already cleared the cards of the previous one
+     */
+    private void writeState(ByteBuffer out, UthGameStage previous) {
+        int start = Frames.begin(out, Opcode.UTH_STATE);
+        Frames.putU8(out, stage.ordinal());
+
+        int changesPosition = Frames.beginCardChanges(out);
+        int changes = 0;
+        if (previous == null) {
+            changes += Frames.putCardChange(out, PLAYER, List.of(), playerHand.getHand());
+        } else {
+            changes += Frames.putCardChange(out, COMMUNITY,
+                    UthEquityCalculator.visibleCommunityCards(communityCards, previous),
+                    UthEquityCalculator.visibleCommunityCards(communityCards, stage));
+        }
+        if (stage == UthGameStage.FINAL) {
+            changes += Frames.putCardChange(out, DEALER, List.of(), dealerHand.getHand());
+        }
+        Frames.endCardChanges(out, changesPosition, changes);
+
+        if (stage == UthGameStage.FINAL) {
+            Frames.putU8(out, playerHand.getState().ordinal());
+            out.putInt(payout);
+        }
+        Frames.end(out, start);
+    }
+}
@@ -0,0 +1,166 @@
+package org.daniel.elysium;
+
+import org.daniel.elysium.baccarat.constants.BacHandType;
+import org.daniel.elysium.blackjack.constants.BJAction;
+import org.daniel.elysium.blackjack.constants.BJTablePhase;
+import org.daniel.elysium.models.Card;
+import org.daniel.elysium.server.GameServer;
+import org.daniel.elysium.server.LoadClient;
+import org.daniel.elysium.server.metrics.LatencyHistogram;
+import org.daniel.elysium.server.protocol.Frames;
+import org.daniel.elysium.server.protocol.Opcode;
+import org.daniel.elysium.server.protocol.ProtocolException;
+import org.daniel.elysium.ultimateTH.constants.UthGameStage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+
+/**
+ * Test class for the game server: the frame format, the latency histogram, single requests over a
+ * socket and a loopback load run with many concurrent sessions.
+ */
+public class GameServerTest {
+
+    /**
+     * Sends one request frame and reads its response, returning the payload positioned after the opcode.
+     */
+    private ByteBuffer exchange(SocketChannel channel, Opcode opcode, Opcode expected, byte... payload)
+            throws IOException {
+        ByteBuffer request = ByteBuffer.allocate(Frames.MAX_REQUEST_SIZE);
+        int frame = Frames.begin(request, opcode);
+        request.put(payload);
+        Frames.end(request, frame);
+        request.flip();
+        while (request.hasRemaining()) {
+            channel.write(request);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(Frames.LENGTH_SIZE);
+        while (header.hasRemaining()) {
+            Assertions.assertTrue(channel.read(header) >= 0, "Connection closed");
+        }
+        ByteBuffer response = ByteBuffer.allocate(header.flip().getShort() & 0xFFFF);
+        while (response.hasRemaining()) {
+            Assertions.assertTrue(channel.read(response) >= 0, "Connection closed");
+        }
+        response.flip();
+        Assertions.assertEquals(expected, Opcode.of(Frames.getU8(response)));
+        return response;
+    }
+
+    private static byte[] intPayload(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Ensures that card changes keep the common prefix and carry only the new cards,
+     * and that frames longer than allowed are rejected.
+     */
+    @Test
+    public void cardChangesCarryOnlyNewCards() throws ProtocolException {
+        List<Card> before = List.of(Card.of("8", "S"), Card.of("8", "H"));
+        List<Card> after = List.of(Card.of("8", "S"), Card.of("3", "D"));
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        Assertions.assertEquals(0, Frames.putCardChange(buffer, 0, before, before));
+        Assertions.assertEquals(1, Frames.putCardChange(buffer, 0, before, after));
+        buffer.flip();
+        Assertions.assertEquals(0, Frames.getU8(buffer));
+        Assertions.assertEquals(1, Frames.getU8(buffer));
+        Assertions.assertEquals(1, Frames.getU8(buffer));
+        Assertions.assertEquals(Card.of("3", "D"), Frames.getCard(buffer));
+
+        ByteBuffer oversized = ByteBuffer.allocate(4).putShort((short) 1000).put((byte) 1).flip();
+        Assertions.assertThrows(ProtocolException.class,
+                () -> Frames.nextFrameLength(oversized, Frames.MAX_REQUEST_SIZE));
+    }
+
+    /**
+     * Verifies that the histogram reports percentiles within the precision of its buckets.
+     */
+    @Test
+    public void histogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        Assertions.assertEquals(1000, histogram.getCount());
+        Assertions.assertEquals(500_000, histogram.getPercentile(50), 500_000 * 0.13);
+        Assertions.assertEquals(990_000, histogram.getPercentile(99), 990_000 * 0.13);
+        Assertions.assertEquals(1_000_000, histogram.getPercentile(100));
+        Assertions.assertEquals(500_500, histogram.getMean(), 1);
+    }
+
+    /**
+     * Plays requests of every game over a single connection, including a rejected request
+     * that leaves the session usable.
+     */
+    @Test
+    public void servesEveryGameOverOneConnection() throws IOException {
+        try (GameServer server = new GameServer(new InetSocketAddress("localhost", 0), 1)) {
+            server.start();
+            try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", server.getPort()))) {
+                ByteBuffer pong = exchange(channel, Opcode.PING, Opcode.PONG,
+                        ByteBuffer.allocate(8).putLong(42).array());
+                Assertions.assertEquals(42, pong.getLong());
+
+                ByteBuffer state = exchange(channel, Opcode.BJ_BET, Opcode.BJ_STATE, intPayload(10));
+                BJTablePhase phase = BJTablePhase.values()[Frames.getU8(state)];
+                Assertions.assertNotEquals(BJTablePhase.BETTING, phase);
+                Frames.getU8(state);
+                Assertions.assertEquals(1, Frames.getU8(state));
+                state.getInt();
+                Assertions.assertEquals(2, Frames.getU8(state));
+
+                while (phase != BJTablePhase.SETTLED) {
+                    ByteBuffer error = exchange(channel, Opcode.BJ_BET, Opcode.ERROR, intPayload(10));
+                    Assertions.assertEquals(Opcode.BJ_BET.getCode(), Frames.getU8(error));
+                    state = phase == BJTablePhase.INSURANCE
+                            ? exchange(channel, Opcode.BJ_INSURE, Opcode.BJ_STATE, (byte) 0)
+                            : exchange(channel, Opcode.BJ_ACTION, Opcode.BJ_STATE, (byte) BJAction.STAND.ordinal());
+                    phase = BJTablePhase.values()[Frames.getU8(state)];
+                }
+
+                ByteBuffer result = exchange(channel, Opcode.BAC_BET, Opcode.BAC_RESULT,
+                        ByteBuffer.allocate(5).put((byte) BacHandType.PLAYER.ordinal()).putInt(10).array());
+                Assertions.assertTrue(Frames.getU8(result) >= 2);
+
+                ByteBuffer uth = exchange(channel, Opcode.UTH_ANTE, Opcode.UTH_STATE, intPayload(10, 0));
+                Assertions.assertEquals(UthGameStage.START.ordinal(), Frames.getU8(uth));
+                ByteBuffer fold = exchange(channel, Opcode.UTH_DECISION, Opcode.UTH_STATE, (byte) Opcode.FOLD);
+                Assertions.assertEquals(UthGameStage.FINAL.ordinal(), Frames.getU8(fold));
+            }
+            Assertions.assertTrue(server.getMetrics().getRequests() >= 6);
+        }
+    }
+
+    /**
+     * Drives the server with a thousand concurrent sessions over loopback and checks that every
+     * request is answered without errors and recorded on both sides.
+     */
+    @Test
+    public void loopbackLoad() throws IOException, InterruptedException {
+        try (GameServer server = new GameServer(new InetSocketAddress("localhost", 0), 2)) {
+            server.start();
+            LoadClient client = new LoadClient(new InetSocketAddress("localhost", server.getPort()), 1000, 2);
+
+            LoadClient.LoadResult result = client.run(1500);
+
+            Assertions.assertEquals(0, result.errors(), result.toString());
+            Assertions.assertTrue(result.requests() > 1000, result.toString());
+            Assertions.assertTrue(server.getMetrics().getRequests() >= result.requests());
+            Assertions.assertEquals(0, server.getMetrics().getErrors());
+            Assertions.assertTrue(server.getMetrics().getLatency(Opcode.BJ_ACTION).getCount() > 0);
+        }
+    }
+}